@@ -2,6 +2,8 @@ package com.skillparty.towerblox;
 
 import com.skillparty.towerblox.ui.GameWindow;
 import com.skillparty.towerblox.ui.components.ASCIILogo;
+import com.skillparty.towerblox.performance.StartupTimeline;
+import com.skillparty.towerblox.utils.AssetLoader;
 import javax.swing.SwingUtilities;
 
 /**
@@ -9,6 +11,9 @@ import javax.swing.SwingUtilities;
  */
 public class Main {
     public static void main(String[] args) {
+        // Disk and decode work starts first and overlaps with the intro and Swing startup
+        GameWindow.preloadAssets(AssetLoader.getDefault());
+        
         // Clear console and show professional ASCII logo
         clearConsole();
         showASCIIIntro();
@@ -22,6 +27,7 @@ public class Main {
                 // GameWindow shows MENU on construction; game starts on a real Play click
                 GameWindow gameWindow = new GameWindow();
                 gameWindow.setVisible(true);
+                StartupTimeline.getDefault().mark(StartupTimeline.WINDOW);
             } catch (Exception e) {
                 System.err.println("Error starting Tower Bloxx: " + e.getMessage());
                 e.printStackTrace();
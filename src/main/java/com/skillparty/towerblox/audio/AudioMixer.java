@@ -0,0 +1,310 @@
+package com.skillparty.towerblox.audio;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Software mixer writing every sound effect into a single SourceDataLine
+ *
+ * One Clip per sound meant overlapping sounds cut each other off, and every
+ * play() did seek and start work on the caller's thread. The mixer instead
+ * keeps the PCM of each sound in memory and a fixed pool of voices. A
+ * dedicated thread mixes the active voices block by block, with per-voice
+ * gain and a peak limiter on the sum. It writes the result through a small
+ * line buffer, so latency stays at a few milliseconds.
+ *
+ * play() only enqueues a command into a bounded lock-free queue (Vyukov's
+ * MPSC scheme over preallocated arrays), so callers never block or allocate.
+ * When no voice is playing the thread parks, and the next play() unparks it.
+ */
+public final class AudioMixer {
+
+    public static final int SAMPLE_RATE = 44100;
+    public static final int DEFAULT_VOICES = 16;
+    public static final int BLOCK_FRAMES = 256;           // ~5.8 ms per mixed block
+    private static final int LINE_BUFFER_FRAMES = 1024;   // ~23 ms of queued audio in the device
+    private static final int QUEUE_CAPACITY = 64;          // Power of two
+    private static final int STOP_ALL = -1;
+    private static final float LIMITER_RELEASE = 0.002f;   // Gain recovery per sample after a peak
+
+    private final short[][] sounds;
+    private final Voice[] voices;
+    private final float[] mixBuffer = new float[BLOCK_FRAMES];
+
+    // Command queue: many producers, the mixer thread consumes
+    private final int[] commandSounds = new int[QUEUE_CAPACITY];
+    private final float[] commandGains = new float[QUEUE_CAPACITY];
+    private final AtomicLongArray commandSequences = new AtomicLongArray(QUEUE_CAPACITY);
+    private final AtomicLong commandTail = new AtomicLong();
+    private long commandHead; // Mixer thread only
+
+    private float limiterGain = 1.0f;
+    private long voiceClock;           // Start order, for stealing the oldest voice
+    private final AtomicLong droppedCommands = new AtomicLong();
+    private volatile long stolenVoices;
+
+    private volatile Thread thread;
+    private volatile boolean waiting;
+    private SourceDataLine line;
+
+    /**
+     * A pooled voice: which sound it plays, where it is and how loud
+     */
+    private static final class Voice {
+        short[] pcm;
+        int position;
+        float gain;
+        long startedAt;
+
+        boolean isActive() {
+            return pcm != null;
+        }
+    }
+
+    /**
+     * Creates a mixer able to hold soundCount sounds, playing at most voiceCount at once
+     */
+    public AudioMixer(int soundCount, int voiceCount) {
+        if (voiceCount < 1) {
+            throw new IllegalArgumentException("Voice count must be positive: " + voiceCount);
+        }
+        this.sounds = new short[soundCount][];
+        this.voices = new Voice[voiceCount];
+        for (int i = 0; i < voiceCount; i++) {
+            voices[i] = new Voice();
+        }
+        for (int i = 0; i < QUEUE_CAPACITY; i++) {
+            commandSequences.set(i, i);
+        }
+    }
+
+    /**
+     * Preloads the 16-bit mono PCM of a sound; call before start()
+     */
+    public void setSound(int soundId, short[] pcm) {
+        sounds[soundId] = pcm;
+    }
+
+    /**
+     * Opens the output line and starts the mixer thread
+     */
+    public synchronized void start() throws LineUnavailableException {
+        if (thread != null) return;
+
+        AudioFormat format = new AudioFormat(SAMPLE_RATE, 16, 1, true, false);
+        line = AudioSystem.getSourceDataLine(format);
+        line.open(format, LINE_BUFFER_FRAMES * 2);
+        line.start();
+
+        Thread mixerThread = new Thread(this::run, "AudioMixer");
+        mixerThread.setDaemon(true);
+        mixerThread.setPriority(Thread.MAX_PRIORITY);
+        thread = mixerThread;
+        mixerThread.start();
+    }
+
+    /**
+     * Stops the mixer thread and closes the line
+     */
+    public synchronized void shutdown() {
+        Thread mixerThread = thread;
+        thread = null;
+        if (mixerThread != null) {
+            LockSupport.unpark(mixerThread);
+            try {
+                mixerThread.join(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (line != null) {
+            line.stop();
+            line.close();
+            line = null;
+        }
+    }
+
+    /**
+     * Queues a sound to start on the next mixed block. Lock-free and allocation-free; returns
+     * false if the queue is full and the request was dropped.
+     */
+    public boolean play(int soundId, float gain) {
+        if (soundId < 0 || soundId >= sounds.length || sounds[soundId] == null) {
+            return false;
+        }
+        return enqueue(soundId, Math.max(0.0f, Math.min(1.0f, gain)));
+    }
+
+    /**
+     * Queues silencing every voice
+     */
+    public void stopAll() {
+        enqueue(STOP_ALL, 0.0f);
+    }
+
+    private boolean enqueue(int soundId, float gain) {
+        long position = commandTail.get();
+        while (true) {
+            int index = (int) (position & (QUEUE_CAPACITY - 1));
+            long difference = commandSequences.get(index) - position;
+            if (difference == 0) {
+                if (commandTail.compareAndSet(position, position + 1)) {
+                    commandSounds[index] = soundId;
+                    commandGains[index] = gain;
+                    commandSequences.set(index, position + 1); // Publishes the slot to the mixer
+                    break;
+                }
+                position = commandTail.get();
+            } else if (difference < 0) {
+                droppedCommands.incrementAndGet();
+                return false;
+            } else {
+                position = commandTail.get();
+            }
+        }
+        if (waiting) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    /**
+     * Applies queued commands, starting voices; mixer thread only
+     */
+    private void drainCommands() {
+        while (true) {
+            int index = (int) (commandHead & (QUEUE_CAPACITY - 1));
+            if (commandSequences.get(index) != commandHead + 1) {
+                return;
+            }
+            int soundId = commandSounds[index];
+            float gain = commandGains[index];
+            commandSequences.set(index, commandHead + QUEUE_CAPACITY); // Frees the slot
+            commandHead++;
+
+            if (soundId == STOP_ALL) {
+                for (Voice voice : voices) {
+                    voice.pcm = null;
+                }
+            } else {
+                Voice voice = acquireVoice();
+                voice.pcm = sounds[soundId];
+                voice.position = 0;
+                voice.gain = gain;
+                voice.startedAt = voiceClock++;
+            }
+        }
+    }
+
+    /**
+     * A free voice, or the one that started longest ago when all of them are busy
+     */
+    private Voice acquireVoice() {
+        Voice oldest = voices[0];
+        for (Voice voice : voices) {
+            if (!voice.isActive()) {
+                return voice;
+            }
+            if (voice.startedAt < oldest.startedAt) {
+                oldest = voice;
+            }
+        }
+        stolenVoices++;
+        return oldest;
+    }
+
+    /**
+     * Mixes the next block of up to BLOCK_FRAMES frames into out (16-bit little-endian mono);
+     * returns the number of voices still playing. Mixer thread only (or tests without a line).
+     */
+    public int mixBlock(byte[] out, int frames) {
+        if (frames > BLOCK_FRAMES) {
+            throw new IllegalArgumentException("At most " + BLOCK_FRAMES + " frames per block: " + frames);
+        }
+        drainCommands();
+        Arrays.fill(mixBuffer, 0, frames, 0.0f);
+
+        int active = 0;
+        for (Voice voice : voices) {
+            if (!voice.isActive()) continue;
+            short[] pcm = voice.pcm;
+            int count = Math.min(frames, pcm.length - voice.position);
+            float gain = voice.gain;
+            for (int i = 0; i < count; i++) {
+                mixBuffer[i] += pcm[voice.position + i] * gain;
+            }
+            voice.position += count;
+            if (voice.position >= pcm.length) {
+                voice.pcm = null;
+            } else {
+                active++;
+            }
+        }
+
+        // Peak limiter: clamp gain down instantly on overs, recover slowly to avoid pumping
+        for (int i = 0; i < frames; i++) {
+            float sample = mixBuffer[i] * limiterGain;
+            float magnitude = Math.abs(sample);
+            if (magnitude > Short.MAX_VALUE) {
+                limiterGain *= Short.MAX_VALUE / magnitude;
+                sample = mixBuffer[i] * limiterGain;
+            } else if (limiterGain < 1.0f) {
+                limiterGain = Math.min(1.0f, limiterGain + LIMITER_RELEASE);
+            }
+            int value = Math.round(sample);
+            value = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, value));
+            out[i * 2] = (byte) value;
+            out[i * 2 + 1] = (byte) (value >> 8);
+        }
+        return active;
+    }
+
+    private void run() {
+        Thread self = Thread.currentThread();
+        byte[] block = new byte[BLOCK_FRAMES * 2];
+        while (thread == self) {
+            int active = mixBlock(block, BLOCK_FRAMES);
+            line.write(block, 0, block.length); // Blocks while the device buffer is full: paces the thread
+
+            if (active == 0 && isQueueEmpty()) {
+                waiting = true;
+                if (isQueueEmpty() && thread == self) {
+                    LockSupport.park(this); // Silent: no wakeups until the next play()
+                }
+                waiting = false;
+            }
+        }
+    }
+
+    private boolean isQueueEmpty() {
+        return commandSequences.get((int) (commandHead & (QUEUE_CAPACITY - 1))) != commandHead + 1;
+    }
+
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    public int getVoiceCount() {
+        return voices.length;
+    }
+
+    /**
+     * Commands dropped because the queue was full
+     */
+    public long getDroppedCommands() {
+        return droppedCommands.get();
+    }
+
+    /**
+     * Voices cut short to make room for a new sound
+     */
+    public long getStolenVoices() {
+        return stolenVoices;
+    }
+}
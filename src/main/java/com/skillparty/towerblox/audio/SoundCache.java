@@ -0,0 +1,116 @@
+package com.skillparty.towerblox.audio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Disk cache for synthesized PCM, keyed by a hash of the synthesis parameters
+ *
+ * Each sound is stored as raw 16-bit little-endian samples in a file named
+ * after the hash. That way, a change to the frequency, duration, sample rate
+ * or synthesizer version simply misses the cache. Loading memory-maps the file
+ * and copies the samples out in one bulk get. Files are written to a temporary
+ * name and then moved into place, so a crash mid-write never leaves a partial
+ * file behind.
+ */
+public final class SoundCache {
+    private static final String EXTENSION = ".pcm";
+
+    private final Path directory;
+
+    public SoundCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * ~/.towerblox/sound-cache, next to the high score data
+     */
+    public static Path defaultDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".towerblox", "sound-cache");
+    }
+
+    /**
+     * Stable key for a set of synthesis parameters
+     */
+    public static String key(Object... parameters) {
+        StringBuilder text = new StringBuilder();
+        for (Object parameter : parameters) {
+            text.append(parameter).append('|');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 16; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e); // Required on every JVM
+        }
+    }
+
+    /**
+     * Cached samples for the key, or null if they are missing or unreadable
+     */
+    public short[] load(String key) {
+        Path file = directory.resolve(key + EXTENSION);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0 || size % 2 != 0 || size > Integer.MAX_VALUE) {
+                return null; // Truncated or foreign file: synthesize again
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            short[] pcm = new short[(int) (size / 2)];
+            mapped.order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(pcm);
+            return pcm;
+        } catch (IOException e) {
+            System.err.println("Error reading cached sound " + key + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the samples for the key; failures only cost a cache miss next launch
+     */
+    public boolean store(String key, short[] pcm) {
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            ByteBuffer bytes = ByteBuffer.allocate(pcm.length * 2).order(ByteOrder.LITTLE_ENDIAN);
+            bytes.asShortBuffer().put(pcm);
+            temp = Files.createTempFile(directory, key, ".tmp");
+            Files.write(temp, bytes.array());
+            Files.move(temp, directory.resolve(key + EXTENSION),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error caching sound " + key + ": " + e.getMessage());
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Left for the next successful store to replace
+                }
+            }
+            return false;
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+}
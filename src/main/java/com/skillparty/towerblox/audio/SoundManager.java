@@ -1,121 +1,123 @@
 package com.skillparty.towerblox.audio;
 
-import javax.sound.sampled.*;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.HashMap;
-import java.util.Map;
+import javax.sound.sampled.LineUnavailableException;
+import java.util.Arrays;
 
 /**
  * Manages sound effects and audio playback for the game
+ *
+ * Sounds are synthesized once into PCM arrays and played through an {@link AudioMixer}:
+ * overlapping sounds mix instead of restarting each other, and playSound() is a lock-free
+ * enqueue that never blocks the calling thread.
+ *
+ * Loading is off the constructing thread's critical path. A background thread first tries
+ * the on-disk {@link SoundCache}, synthesizes any misses in parallel and stores them, then
+ * opens the output line. Sounds requested before that finishes are skipped.
  */
 public class SoundManager {
-    private Map<SoundType, AudioClip> soundEffects;
-    private float masterVolume = 0.7f;
-    private boolean soundEnabled = true;
+    private static final int SYNTH_VERSION = 1; // Bump when synthesizeTone() changes: invalidates the cache
     
-    public enum SoundType {
-        BLOCK_DROP,
-        BLOCK_LAND,
-        PERFECT_PLACEMENT,
-        MILESTONE_REACHED,
-        GAME_OVER,
-        MENU_SELECT
-    }
+    private final AudioMixer mixer;
+    private final SoundCache cache;
+    private final Thread loader;
+    private final Object lifecycleLock = new Object();
+    private boolean disposed; // Guarded by lifecycleLock
+    private volatile boolean loaded;
+    private volatile float masterVolume = 0.7f;
+    private volatile boolean soundEnabled = true;
     
-    /**
-     * Audio clip wrapper for sound effects
-     */
-    private static class AudioClip {
-        private Clip clip;
-        private FloatControl volumeControl;
-        
-        public AudioClip(Clip clip) {
-            this.clip = clip;
-            if (clip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                this.volumeControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-            }
-        }
+    // Simple synthetic tones since we don't have audio files
+    public enum SoundType {
+        BLOCK_DROP(200, 100),        // Low tone for drop
+        BLOCK_LAND(400, 150),        // Higher tone for land
+        PERFECT_PLACEMENT(800, 200), // High tone for perfect
+        MILESTONE_REACHED(600, 300), // Celebration tone
+        GAME_OVER(150, 500),         // Low tone for game over
+        MENU_SELECT(500, 100);       // Menu selection
         
-        public void play(float volume) {
-            if (clip != null) {
-                clip.setFramePosition(0);
-                if (volumeControl != null) {
-                    float gain = (float) (Math.log(Math.max(0.01f, volume)) / Math.log(10.0) * 20.0);
-                    gain = Math.max(volumeControl.getMinimum(), Math.min(gain, volumeControl.getMaximum()));
-                    volumeControl.setValue(gain);
-                }
-                clip.start();
-            }
-        }
+        final int frequency;
+        final int duration;
         
-        public void stop() {
-            if (clip != null && clip.isRunning()) {
-                clip.stop();
-            }
+        SoundType(int frequency, int duration) {
+            this.frequency = frequency;
+            this.duration = duration;
         }
     }
     
     public SoundManager() {
-        this.soundEffects = new HashMap<>();
-        loadSoundEffects();
+        this(new SoundCache(SoundCache.defaultDirectory()));
+    }
+    
+    public SoundManager(SoundCache cache) {
+        this.mixer = new AudioMixer(SoundType.values().length, AudioMixer.DEFAULT_VOICES);
+        this.cache = cache;
+        this.loader = new Thread(this::loadSoundEffects, "SoundLoader");
+        loader.setDaemon(true);
+        loader.start();
     }
     
     /**
-     * Loads all sound effects
+     * Loads all sound effects and opens the mixer's output line (runs on the loader thread)
      */
     private void loadSoundEffects() {
+        long start = System.nanoTime();
+        long cached = Arrays.stream(SoundType.values()).parallel()
+            .filter(this::loadSyntheticSound)
+            .count();
+        loaded = true; // Volatile write publishes the PCM stored above
+        
         try {
-            // Create simple synthetic sounds since we don't have audio files
-            loadSyntheticSound(SoundType.BLOCK_DROP, 200, 100); // Low tone for drop
-            loadSyntheticSound(SoundType.BLOCK_LAND, 400, 150); // Higher tone for land
-            loadSyntheticSound(SoundType.PERFECT_PLACEMENT, 800, 200); // High tone for perfect
-            loadSyntheticSound(SoundType.MILESTONE_REACHED, 600, 300); // Celebration tone
-            loadSyntheticSound(SoundType.GAME_OVER, 150, 500); // Low tone for game over
-            loadSyntheticSound(SoundType.MENU_SELECT, 500, 100); // Menu selection
-            
-            System.out.println("Sound effects loaded successfully");
-        } catch (Exception e) {
-            System.err.println("Failed to load sound effects: " + e.getMessage());
+            synchronized (lifecycleLock) {
+                if (disposed) {
+                    return; // Disposed while loading: opening the line now would leak it
+                }
+                mixer.start();
+            }
+            System.out.printf("🔊 Sound effects ready in %.1f ms (%d/%d from cache)%n",
+                (System.nanoTime() - start) / 1_000_000.0, cached, SoundType.values().length);
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            System.err.println("Failed to open audio output: " + e.getMessage());
             soundEnabled = false;
         }
     }
     
     /**
-     * Creates a synthetic sound effect
+     * Loads one sound from the cache, or synthesizes and caches it; returns whether it was cached
      */
-    private void loadSyntheticSound(SoundType type, int frequency, int duration) {
-        try {
-            int sampleRate = 44100;
-            int samples = (sampleRate * duration) / 1000;
-            byte[] buffer = new byte[samples * 2];
+    private boolean loadSyntheticSound(SoundType type) {
+        String key = SoundCache.key(SYNTH_VERSION, AudioMixer.SAMPLE_RATE, type.frequency, type.duration);
+        short[] pcm = cache.load(key);
+        boolean hit = pcm != null;
+        if (!hit) {
+            pcm = synthesizeTone(type.frequency, type.duration);
+            cache.store(key, pcm);
+        }
+        mixer.setSound(type.ordinal(), pcm);
+        return hit;
+    }
+    
+    /**
+     * Sine tone at 30% volume with a 10% fade in and out to avoid clicks
+     */
+    static short[] synthesizeTone(int frequency, int duration) {
+        int sampleRate = AudioMixer.SAMPLE_RATE;
+        int samples = (sampleRate * duration) / 1000;
+        short[] pcm = new short[samples];
+        
+        for (int i = 0; i < samples; i++) {
+            double angle = 2.0 * Math.PI * i * frequency / sampleRate;
+            short sample = (short) (Math.sin(angle) * 32767 * 0.3); // 30% volume
             
-            for (int i = 0; i < samples; i++) {
-                double angle = 2.0 * Math.PI * i * frequency / sampleRate;
-                short sample = (short) (Math.sin(angle) * 32767 * 0.3); // 30% volume
-                
-                // Apply envelope to avoid clicks
-                float envelope = 1.0f;
-                if (i < samples * 0.1) {
-                    envelope = (float) i / (samples * 0.1f);
-                } else if (i > samples * 0.9) {
-                    envelope = (float) (samples - i) / (samples * 0.1f);
-                }
-                sample = (short) (sample * envelope);
-                
-                buffer[i * 2] = (byte) (sample & 0xFF);
-                buffer[i * 2 + 1] = (byte) ((sample >> 8) & 0xFF);
+            // Apply envelope to avoid clicks
+            float envelope = 1.0f;
+            if (i < samples * 0.1) {
+                envelope = (float) i / (samples * 0.1f);
+            } else if (i > samples * 0.9) {
+                envelope = (float) (samples - i) / (samples * 0.1f);
             }
-            
-            AudioFormat format = new AudioFormat(sampleRate, 16, 1, true, false);
-            DataLine.Info info = new DataLine.Info(Clip.class, format);
-            Clip clip = (Clip) AudioSystem.getLine(info);
-            clip.open(format, buffer, 0, buffer.length);
-            
-            soundEffects.put(type, new AudioClip(clip));
-        } catch (LineUnavailableException e) {
-            System.err.println("Failed to create synthetic sound for " + type + ": " + e.getMessage());
+            pcm[i] = (short) (sample * envelope);
         }
+        return pcm;
     }
     
     /**
@@ -126,21 +128,13 @@ public class SoundManager {
     }
     
     /**
-     * Plays a sound effect with specified volume
+     * Plays a sound effect with specified volume; never blocks
      */
     public void playSound(SoundType type, float volume) {
-        if (!soundEnabled || !soundEffects.containsKey(type)) {
+        if (!soundEnabled || !loaded) {
             return;
         }
-        
-        try {
-            AudioClip audioClip = soundEffects.get(type);
-            if (audioClip != null) {
-                audioClip.play(volume * masterVolume);
-            }
-        } catch (Exception e) {
-            System.err.println("Error playing sound " + type + ": " + e.getMessage());
-        }
+        mixer.play(type.ordinal(), volume * masterVolume);
     }
     
     /**
@@ -178,23 +172,36 @@ public class SoundManager {
      * Stops all currently playing sounds
      */
     public void stopAllSounds() {
-        for (AudioClip clip : soundEffects.values()) {
-            if (clip != null) {
-                clip.stop();
-            }
-        }
+        mixer.stopAll();
+    }
+    
+    public AudioMixer getMixer() {
+        return mixer;
+    }
+    
+    /**
+     * Whether every sound is loaded (the output line may still be opening)
+     */
+    public boolean isLoaded() {
+        return loaded;
     }
     
     /**
-     * Cleanup resources
+     * Waits for background loading to finish, e.g. before a test plays sounds
+     */
+    public boolean awaitLoaded(long timeoutMillis) throws InterruptedException {
+        loader.join(timeoutMillis);
+        return loaded;
+    }
+    
+    /**
+     * Cleanup resources; safe while the loader is still running, which then never opens the line
      */
     public void dispose() {
-        stopAllSounds();
-        for (AudioClip clip : soundEffects.values()) {
-            if (clip != null && clip.clip != null) {
-                clip.clip.close();
-            }
+        synchronized (lifecycleLock) {
+            disposed = true;
+            soundEnabled = false;
+            mixer.shutdown();
         }
-        soundEffects.clear();
     }
-}
\ No newline at end of file
+}
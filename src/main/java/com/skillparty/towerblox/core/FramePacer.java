@@ -0,0 +1,189 @@
+package com.skillparty.towerblox.core;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Precise frame pacer for loops that run at a fixed rate
+ *
+ * Deadlines are absolute (epoch + n * period, computed in integer nanoseconds),
+ * so a late frame never shifts the ones after it and the average rate is exact:
+ * 60 FPS really is 60 Hz, not the 62.5 Hz of a 16 ms timer. Waiting is hybrid:
+ * Thread.sleep() for the bulk, parkNanos() closer in and a short spin for the
+ * last stretch, which keeps jitter well under a millisecond without burning a core.
+ *
+ * Lateness against each deadline is tracked as jitter statistics. Frames that
+ * overrun by more than a whole period are counted as missed and the schedule is
+ * re-anchored instead of bursting to catch up.
+ *
+ * @author joseAlejandro
+ */
+public class FramePacer {
+
+    public static final int BATTERY_SAVER_FPS = 30;
+    public static final int STANDARD_FPS = 60;
+    public static final int HIGH_REFRESH_FPS = 120;
+    public static final int GAMING_FPS = 144;
+
+    private static final int MIN_FPS = 1;
+    private static final int MAX_FPS = 1000;
+
+    // Below these margins the pacer stops sleeping/parking and moves to the next strategy
+    private static final long SLEEP_MARGIN_NANOS = 2_000_000L;  // Thread.sleep overshoots by ~1-2 ms
+    private static final long SPIN_THRESHOLD_NANOS = 200_000L;  // Spin for the final 0.2 ms
+
+    private final GameClock clock;
+    private volatile int targetFps; // Requested rate, may be changed from any thread
+
+    // Schedule, owned by the thread calling awaitNextFrame()
+    private int activeFps;
+    private long epoch;
+    private long frameIndex;
+    private volatile boolean started;
+
+    // Jitter statistics (nanoseconds of lateness past each deadline)
+    private long frameCount;
+    private long missedFrames;
+    private double meanJitter;
+    private double jitterM2; // Welford running sum of squared deviations
+    private long maxJitter;
+    private long lastJitter;
+
+    public FramePacer(int targetFps) {
+        this(targetFps, GameClock.getDefault());
+    }
+
+    public FramePacer(int targetFps, GameClock clock) {
+        this.clock = clock;
+        setTargetFps(targetFps);
+    }
+
+    /**
+     * Changes the target rate. Safe from any thread: the pacing thread picks it up
+     * between frames and restarts the schedule from there.
+     */
+    public void setTargetFps(int fps) {
+        if (fps < MIN_FPS || fps > MAX_FPS) {
+            throw new IllegalArgumentException("Target FPS must be between " + MIN_FPS + " and " + MAX_FPS + ": " + fps);
+        }
+        this.targetFps = fps;
+        this.started = false;
+    }
+
+    public int getTargetFps() {
+        return targetFps;
+    }
+
+    /**
+     * Target frame period in nanoseconds (rounded; deadlines themselves are exact)
+     */
+    public long getPeriodNanos() {
+        return 1_000_000_000L / targetFps;
+    }
+
+    /**
+     * Blocks until the next frame deadline and returns the real time it woke up at.
+     * The first call after construction or a rate change only anchors the schedule.
+     * Meant to be called from a single pacing thread.
+     */
+    public long awaitNextFrame() throws InterruptedException {
+        long now = clock.realNanoTime();
+        int fps = targetFps;
+        if (fps != activeFps) {
+            activeFps = fps;
+            started = false;
+        }
+        if (!started) {
+            epoch = now;
+            frameIndex = 0;
+            started = true;
+            return now;
+        }
+
+        frameIndex++;
+        long deadline = deadlineOf(frameIndex);
+
+        // Overran by more than a period: count the missed frames and re-anchor
+        if (now - deadline >= 1_000_000_000L / activeFps) {
+            long behind = (now - epoch) * activeFps / 1_000_000_000L;
+            recordMissed(behind - frameIndex + 1);
+            frameIndex = behind + 1;
+            deadline = deadlineOf(frameIndex);
+        }
+
+        waitUntil(deadline);
+
+        long woke = clock.realNanoTime();
+        recordJitter(woke - deadline);
+        return woke;
+    }
+
+    private long deadlineOf(long index) {
+        // Exact integer math: index * 1e9 / fps without accumulating rounding error
+        return epoch + index * 1_000_000_000L / activeFps;
+    }
+
+    private void waitUntil(long deadline) throws InterruptedException {
+        long remaining = deadline - clock.realNanoTime();
+
+        if (remaining > SLEEP_MARGIN_NANOS) {
+            long sleepNanos = remaining - SLEEP_MARGIN_NANOS;
+            Thread.sleep(sleepNanos / 1_000_000L, (int) (sleepNanos % 1_000_000L));
+        }
+
+        while ((remaining = deadline - clock.realNanoTime()) > SPIN_THRESHOLD_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+
+        while (deadline - clock.realNanoTime() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private synchronized void recordMissed(long frames) {
+        missedFrames += frames;
+    }
+
+    private synchronized void recordJitter(long jitter) {
+        frameCount++;
+        lastJitter = jitter;
+        maxJitter = Math.max(maxJitter, jitter);
+
+        double delta = jitter - meanJitter;
+        meanJitter += delta / frameCount;
+        jitterM2 += delta * (jitter - meanJitter);
+    }
+
+    /**
+     * Clears the jitter statistics (the schedule keeps running)
+     */
+    public synchronized void resetStats() {
+        frameCount = 0;
+        missedFrames = 0;
+        meanJitter = 0;
+        jitterM2 = 0;
+        maxJitter = 0;
+        lastJitter = 0;
+    }
+
+    public synchronized long getFrameCount() { return frameCount; }
+    public synchronized long getMissedFrames() { return missedFrames; }
+    public synchronized long getLastJitterNanos() { return lastJitter; }
+    public synchronized long getMaxJitterNanos() { return maxJitter; }
+    public synchronized double getAverageJitterNanos() { return meanJitter; }
+
+    public synchronized double getJitterStdDevNanos() {
+        return frameCount > 1 ? Math.sqrt(jitterM2 / (frameCount - 1)) : 0.0;
+    }
+
+    /**
+     * One-line summary for debug output
+     */
+    public synchronized String getStatsSummary() {
+        return String.format("%d FPS target | jitter avg %.3f ms, max %.3f ms, sd %.3f ms | missed %d/%d",
+                targetFps, meanJitter / 1_000_000.0, maxJitter / 1_000_000.0,
+                getJitterStdDevNanos() / 1_000_000.0, missedFrames, frameCount + missedFrames);
+    }
+}
@@ -0,0 +1,348 @@
+package com.skillparty.towerblox.core;
+
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * One frame scheduler shared by every loop and timer in the game
+ *
+ * Panels and loops register as clients instead of running their own timer
+ * threads. A single daemon thread paces frames with a {@link FramePacer} at the
+ * highest rate any active client wants, and each client is ticked at its own
+ * rate. A client is idle while its idle condition holds (hidden panel, paused
+ * frame already on screen, paused loop). When every client is idle, or the
+ * scheduler is suspended because the window is minimized or unfocused, the
+ * thread blocks with no timeout, so it costs no wakeups. The only exception is
+ * a pending delayed task, which sleeps until its due time. wake() resumes
+ * immediately. Input handlers call wake(), and for a short linger time after
+ * each wake the clients are checked every frame. A state change that lands just
+ * after the input event is therefore still noticed.
+ *
+ * Client actions and delayed tasks run on the scheduler thread; Swing clients
+ * hand off to the EDT themselves (see ui.PacedTimer).
+ *
+ * @author joseAlejandro
+ */
+public final class FrameScheduler {
+
+    private static final long LINGER_NANOS = 250_000_000L; // Keep polling this long after wake()
+
+    // Paces on its own System.nanoTime() clock: the default GameClock may be a test's manual
+    // clock at the moment this class loads, and the shared scheduler lives for the whole JVM
+    private static final FrameScheduler defaultScheduler = new FrameScheduler(new GameClock());
+
+    /**
+     * A registered client, ticked at its own rate while it is not idle
+     */
+    public final class Registration {
+        private final String name;
+        private final Runnable action;
+        private final BooleanSupplier idle;
+        private volatile int targetFps;
+        private volatile boolean cancelled;
+        private long nextDue; // Owned by the scheduler thread
+        private volatile long frames; // Written only by the scheduler thread
+
+        private Registration(String name, int targetFps, BooleanSupplier idle, Runnable action) {
+            this.name = name;
+            this.targetFps = validateFps(targetFps);
+            this.idle = idle;
+            this.action = action;
+        }
+
+        public void setTargetFps(int fps) {
+            this.targetFps = validateFps(fps);
+            wake();
+        }
+
+        public int getTargetFps() {
+            return targetFps;
+        }
+
+        /**
+         * Asks the scheduler to re-check this client now, e.g. after its idle condition changed
+         */
+        public void wake() {
+            FrameScheduler.this.wake();
+        }
+
+        public void cancel() {
+            cancelled = true;
+            clients.remove(this);
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Frames this client has been ticked
+         */
+        public long getFrameCount() {
+            return frames;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        private boolean wantsFrame() {
+            if (cancelled || suspended) {
+                return false;
+            }
+            try {
+                return !idle.getAsBoolean();
+            } catch (RuntimeException e) {
+                System.err.println("❌ Idle check failed for " + name + ": " + e.getMessage());
+                return true;
+            }
+        }
+
+        private void tick(long now, long slack) {
+            if (!wantsFrame()) {
+                nextDue = now; // Tick on the first frame after becoming active again
+                return;
+            }
+            if (now - nextDue < -slack) {
+                return; // Slower than the scheduler, not due yet
+            }
+            long period = 1_000_000_000L / targetFps;
+            nextDue = now - nextDue >= period ? now + period : nextDue + period;
+            frames++;
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                System.err.println("❌ Frame action failed for " + name + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static final class DelayedTask {
+        final long due;
+        final Runnable task;
+
+        DelayedTask(long due, Runnable task) {
+            this.due = due;
+            this.task = task;
+        }
+    }
+
+    private final GameClock clock;
+    private final FramePacer pacer;
+    private final List<Registration> clients = new CopyOnWriteArrayList<>();
+    private final PriorityQueue<DelayedTask> tasks = new PriorityQueue<>((a, b) -> Long.compare(a.due, b.due));
+    private final Object lock = new Object();
+
+    private Thread thread;            // Guarded by lock
+    private boolean wakeRequested;    // Guarded by lock
+    private volatile long lingerUntil;
+    private volatile boolean suspended;
+    private volatile long wakeups;
+    private volatile long idleSleeps;
+
+    public FrameScheduler(GameClock clock) {
+        this.clock = clock;
+        this.pacer = new FramePacer(FramePacer.STANDARD_FPS, clock);
+    }
+
+    public static FrameScheduler getDefault() {
+        return defaultScheduler;
+    }
+
+    /**
+     * Registers a client. The action runs on the scheduler thread at up to targetFps
+     * while idle returns false; idle is polled from the scheduler thread, so it must be
+     * cheap and thread-safe.
+     */
+    public Registration register(String name, int targetFps, BooleanSupplier idle, Runnable action) {
+        Registration registration = new Registration(name, targetFps, idle, action);
+        clients.add(registration);
+        ensureStarted();
+        wake();
+        return registration;
+    }
+
+    /**
+     * Runs a one-shot task on the scheduler thread after the delay, like a non-repeating Swing Timer
+     */
+    public void schedule(long delayMillis, Runnable task) {
+        synchronized (lock) {
+            tasks.add(new DelayedTask(clock.realNanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis), task));
+            lock.notifyAll();
+        }
+        ensureStarted();
+    }
+
+    /**
+     * Resumes ticking now and keeps checking the clients for a short while. Cheap enough
+     * to call on every input event.
+     */
+    public void wake() {
+        lingerUntil = clock.realNanoTime() + LINGER_NANOS;
+        synchronized (lock) {
+            wakeRequested = true;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Stops ticking every client (delayed tasks still run), e.g. while the window is minimized
+     */
+    public void setSuspended(boolean suspended) {
+        this.suspended = suspended;
+        if (!suspended) {
+            wake();
+        }
+    }
+
+    public boolean isSuspended() {
+        return suspended;
+    }
+
+    /**
+     * Stops the scheduler thread; it restarts on the next register() or schedule()
+     */
+    public void shutdown() {
+        synchronized (lock) {
+            if (thread != null) {
+                thread.interrupt();
+                thread = null;
+            }
+        }
+    }
+
+    private static int validateFps(int fps) {
+        if (fps < 1 || fps > 1000) {
+            throw new IllegalArgumentException("Target FPS must be between 1 and 1000: " + fps);
+        }
+        return fps;
+    }
+
+    private void ensureStarted() {
+        synchronized (lock) {
+            if (thread == null) {
+                thread = new Thread(this::run, "FrameScheduler");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+    }
+
+    private void run() {
+        Thread self = Thread.currentThread();
+        try {
+            while (isCurrent(self)) {
+                runDueTasks();
+
+                int fps = activeFps();
+                if (fps == 0) {
+                    if (clock.realNanoTime() - lingerUntil >= 0 || suspended) {
+                        sleepUntilWoken(self);
+                        continue;
+                    }
+                    fps = FramePacer.STANDARD_FPS; // Lingering after a wake-up: poll the idle conditions
+                }
+                if (pacer.getTargetFps() != fps) {
+                    pacer.setTargetFps(fps);
+                }
+
+                long now = pacer.awaitNextFrame();
+                wakeups++;
+                long slack = pacer.getPeriodNanos() / 2;
+                for (Registration client : clients) {
+                    client.tick(now, slack);
+                }
+            }
+        } catch (InterruptedException e) {
+            // Shut down
+        }
+    }
+
+    private boolean isCurrent(Thread self) {
+        synchronized (lock) {
+            return thread == self;
+        }
+    }
+
+    /**
+     * Highest rate among clients that want frames, 0 when all of them are idle
+     */
+    private int activeFps() {
+        int fps = 0;
+        for (Registration client : clients) {
+            if (client.wantsFrame()) {
+                fps = Math.max(fps, client.targetFps);
+            }
+        }
+        return fps;
+    }
+
+    private void runDueTasks() {
+        while (true) {
+            DelayedTask next;
+            synchronized (lock) {
+                next = tasks.peek();
+                if (next == null || next.due - clock.realNanoTime() > 0) {
+                    return;
+                }
+                tasks.poll();
+            }
+            try {
+                next.task.run();
+            } catch (RuntimeException e) {
+                System.err.println("❌ Scheduled task failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Blocks until wake() or the next delayed task is due, with no periodic wakeups
+     */
+    private void sleepUntilWoken(Thread self) throws InterruptedException {
+        synchronized (lock) {
+            while (!wakeRequested && thread == self) {
+                DelayedTask next = tasks.peek();
+                if (next == null) {
+                    lock.wait();
+                } else {
+                    long remaining = next.due - clock.realNanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                }
+            }
+            wakeRequested = false;
+        }
+        idleSleeps++;
+        pacer.setTargetFps(pacer.getTargetFps()); // Re-anchor so the first frame after waking is immediate
+    }
+
+    /**
+     * The pacer behind every client, including its jitter statistics
+     */
+    public FramePacer getFramePacer() {
+        return pacer;
+    }
+
+    /**
+     * Frames the scheduler thread has woken up for
+     */
+    public long getWakeups() {
+        return wakeups;
+    }
+
+    /**
+     * Times the scheduler went to sleep because every client was idle
+     */
+    public long getIdleSleeps() {
+        return idleSleeps;
+    }
+
+    public int getClientCount() {
+        return clients.size();
+    }
+}
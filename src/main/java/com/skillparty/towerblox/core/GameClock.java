@@ -0,0 +1,150 @@
+package com.skillparty.towerblox.core;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Single source of time for the whole game
+ *
+ * Game time is monotonic and nanosecond based, stops while paused and runs
+ * faster or slower with the time scale, so pause/resume, slow motion and
+ * fast forward apply to every subsystem at once. Real time (unscaled, never
+ * paused) is also exposed for performance measurements.
+ *
+ * Subsystems read the shared default clock; tests install a clock backed by
+ * a {@link ManualTimeSource} to drive time deterministically without sleeping.
+ *
+ * @author joseAlejandro
+ */
+public class GameClock {
+
+    private static volatile GameClock defaultClock = new GameClock();
+
+    private final LongSupplier source;
+
+    // Game time = gameBase + (source - realBase) * timeScale while running
+    private long realBase;
+    private long gameBase;
+    private double timeScale = 1.0;
+    private boolean paused;
+
+    /**
+     * Creates a clock driven by System.nanoTime()
+     */
+    public GameClock() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a clock driven by the given nanosecond source
+     */
+    public GameClock(LongSupplier source) {
+        this.source = source;
+        this.realBase = source.getAsLong();
+        this.gameBase = 0;
+    }
+
+    /**
+     * Shared clock used by subsystems that are not handed one explicitly
+     */
+    public static GameClock getDefault() {
+        return defaultClock;
+    }
+
+    public static void setDefault(GameClock clock) {
+        defaultClock = clock != null ? clock : new GameClock();
+    }
+
+    /**
+     * Game time in nanoseconds since the clock was created
+     */
+    public synchronized long nanoTime() {
+        if (paused) {
+            return gameBase;
+        }
+        return gameBase + (long) ((source.getAsLong() - realBase) * timeScale);
+    }
+
+    /**
+     * Game time in milliseconds
+     */
+    public long millis() {
+        return nanoTime() / 1_000_000L;
+    }
+
+    /**
+     * Game time in seconds
+     */
+    public double seconds() {
+        return nanoTime() / 1_000_000_000.0;
+    }
+
+    /**
+     * Real monotonic time in nanoseconds, unaffected by pause and time scale
+     */
+    public long realNanoTime() {
+        return source.getAsLong();
+    }
+
+    /**
+     * Freezes game time. Has no effect if already paused.
+     */
+    public synchronized void pause() {
+        if (!paused) {
+            gameBase = nanoTime();
+            paused = true;
+        }
+    }
+
+    /**
+     * Resumes game time exactly where it stopped
+     */
+    public synchronized void resume() {
+        if (paused) {
+            realBase = source.getAsLong();
+            paused = false;
+        }
+    }
+
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Sets how fast game time runs relative to real time (1.0 = normal,
+     * 0.5 = slow motion, 2.0 = fast forward)
+     */
+    public synchronized void setTimeScale(double scale) {
+        if (scale < 0 || Double.isNaN(scale)) {
+            throw new IllegalArgumentException("Time scale must be >= 0: " + scale);
+        }
+        if (!paused) {
+            gameBase = nanoTime();
+            realBase = source.getAsLong();
+        }
+        timeScale = scale;
+    }
+
+    public synchronized double getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Hand-driven nanosecond source for deterministic tests
+     */
+    public static class ManualTimeSource implements LongSupplier {
+        private long nanos;
+
+        @Override
+        public long getAsLong() {
+            return nanos;
+        }
+
+        public void advanceNanos(long delta) {
+            nanos += delta;
+        }
+
+        public void advanceMillis(long delta) {
+            nanos += delta * 1_000_000L;
+        }
+    }
+}
@@ -1,8 +1,5 @@
 package com.skillparty.towerblox.core;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -20,15 +17,20 @@ public class GameLoop {
     private static final long OPTIMAL_TIME = 1_000_000_000 / TARGET_FPS; // nanoseconds
     private static final int MAX_FRAME_SKIP = 5;
     private static final double INTERPOLATION_ALPHA = 0.8;
+    private static final long METRICS_INTERVAL_NANOS = 1_000_000_000L;
     
     // Loop control
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final AtomicBoolean paused = new AtomicBoolean(false);
-    private ScheduledExecutorService executor;
+    private final FrameScheduler scheduler;
+    private FrameScheduler.Registration registration;
+    private volatile int targetFps = TARGET_FPS;
+    private final GameClock clock;
     
     // Timing management
     private final AtomicLong lastUpdateTime = new AtomicLong();
     private final AtomicLong deltaAccumulator = new AtomicLong();
+    private long lastFrameRealTime;
     private volatile double currentFPS = 0;
     private volatile double averageFPS = 0;
     private long frameCount = 0;
@@ -36,6 +38,8 @@ public class GameLoop {
     // Performance monitoring
     private long updateDuration = 0;
     private long renderDuration = 0;
+    private final AtomicLong busyNanos = new AtomicLong(); // Update + render time in the current metrics window
+    private long metricsWindowStart;
     private double cpuUsage = 0;
     private long memoryUsage = 0;
     
@@ -63,8 +67,17 @@ public class GameLoop {
      * Constructs a new game loop
      */
     public GameLoop(UpdateCallback update, RenderCallback render) {
+        this(update, render, GameClock.getDefault());
+    }
+    
+    /**
+     * Constructs a game loop driven by the given clock
+     */
+    public GameLoop(UpdateCallback update, RenderCallback render, GameClock clock) {
         this.updateCallback = update;
         this.renderCallback = render;
+        this.clock = clock;
+        this.scheduler = FrameScheduler.getDefault();
     }
     
     /**
@@ -72,16 +85,16 @@ public class GameLoop {
      */
     public void start() {
         if (running.compareAndSet(false, true)) {
-            lastUpdateTime.set(System.nanoTime());
-            executor = Executors.newScheduledThreadPool(2);
-            
-            // Main game loop with fixed timestep and interpolation
-            executor.scheduleAtFixedRate(this::gameLoopCycle, 0, 16, TimeUnit.MILLISECONDS);
+            lastUpdateTime.set(clock.nanoTime());
+            lastFrameRealTime = clock.realNanoTime();
+            metricsWindowStart = lastFrameRealTime;
+            busyNanos.set(0);
             
-            // Performance monitoring thread
-            executor.scheduleAtFixedRate(this::updatePerformanceMetrics, 0, 1, TimeUnit.SECONDS);
+            // Cycles run on the shared frame scheduler (fixed timestep, interpolated rendering);
+            // while paused the loop is idle and costs no wakeups
+            registration = scheduler.register("GameLoop", targetFps, paused::get, this::gameLoopCycle);
             
-            System.out.println("🎮 Professional Game Loop Started - Target: " + TARGET_FPS + " FPS");
+            System.out.println("🎮 Professional Game Loop Started - Target: " + targetFps + " FPS");
         }
     }
     
@@ -93,16 +106,20 @@ public class GameLoop {
             return;
         }
         
-        long currentTime = System.nanoTime();
+        // Game time feeds the simulation (pause and time scale apply), real time feeds the FPS counter
+        long currentTime = clock.nanoTime();
         long elapsed = currentTime - lastUpdateTime.get();
         lastUpdateTime.set(currentTime);
+        long frameStart = clock.realNanoTime();
+        long realElapsed = frameStart - lastFrameRealTime;
+        lastFrameRealTime = frameStart;
         
         deltaAccumulator.addAndGet(elapsed);
         
         // Fixed timestep with frame skipping
         int loops = 0;
         while (deltaAccumulator.get() >= OPTIMAL_TIME && loops < MAX_FRAME_SKIP) {
-            long updateStart = System.nanoTime();
+            long updateStart = clock.realNanoTime();
             
             // Update game logic with fixed delta
             double deltaSeconds = OPTIMAL_TIME / 1_000_000_000.0;
@@ -110,27 +127,36 @@ public class GameLoop {
                 updateCallback.update(deltaSeconds);
             }
             
-            updateDuration = System.nanoTime() - updateStart;
+            updateDuration = clock.realNanoTime() - updateStart;
             deltaAccumulator.addAndGet(-OPTIMAL_TIME);
             loops++;
         }
         
         // Render with interpolation for smooth visuals
-        long renderStart = System.nanoTime();
-        double interpolation = deltaAccumulator.get() / (double) OPTIMAL_TIME;
+        long renderStart = clock.realNanoTime();
+        double interpolation = Math.min(1.0, deltaAccumulator.get() / (double) OPTIMAL_TIME);
         
         if (renderCallback != null) {
             renderCallback.render(interpolation);
         }
         
-        renderDuration = System.nanoTime() - renderStart;
+        long frameEnd = clock.realNanoTime();
+        renderDuration = frameEnd - renderStart;
+        busyNanos.addAndGet(frameEnd - frameStart);
         
         // Update FPS counter
         frameCount++;
-        currentFPS = 1_000_000_000.0 / elapsed;
+        if (realElapsed > 0) {
+            currentFPS = 1_000_000_000.0 / realElapsed;
+        }
         
         // Calculate rolling average FPS
         averageFPS = averageFPS * 0.95 + currentFPS * 0.05;
+        
+        // Once a second, on this same thread instead of a dedicated monitoring thread
+        if (frameEnd - metricsWindowStart >= METRICS_INTERVAL_NANOS) {
+            updatePerformanceMetrics();
+        }
     }
     
     /**
@@ -140,9 +166,13 @@ public class GameLoop {
         Runtime runtime = Runtime.getRuntime();
         memoryUsage = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024); // MB
         
-        // Estimate CPU usage based on frame timings
-        double totalFrameTime = (updateDuration + renderDuration) / 1_000_000.0; // ms
-        cpuUsage = Math.min(100, (totalFrameTime / 16.67) * 100); // percentage of 60 FPS frame
+        // Share of the last window the loop thread spent updating and rendering
+        long now = clock.realNanoTime();
+        long window = now - metricsWindowStart;
+        if (window > 0) {
+            cpuUsage = Math.min(100, busyNanos.getAndSet(0) * 100.0 / window);
+            metricsWindowStart = now;
+        }
         
         if (performanceCallback != null) {
             performanceCallback.onPerformanceUpdate(averageFPS, cpuUsage, memoryUsage);
@@ -154,6 +184,7 @@ public class GameLoop {
      */
     public void pause() {
         paused.set(true);
+        clock.pause();
         System.out.println("⏸️ Game Loop Paused");
     }
     
@@ -162,7 +193,10 @@ public class GameLoop {
      */
     public void resume() {
         paused.set(false);
-        lastUpdateTime.set(System.nanoTime());
+        clock.resume();
+        lastUpdateTime.set(clock.nanoTime());
+        lastFrameRealTime = clock.realNanoTime();
+        scheduler.wake();
         System.out.println("▶️ Game Loop Resumed");
     }
     
@@ -171,15 +205,9 @@ public class GameLoop {
      */
     public void stop() {
         if (running.compareAndSet(true, false)) {
-            if (executor != null) {
-                executor.shutdown();
-                try {
-                    if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
-                        executor.shutdownNow();
-                    }
-                } catch (InterruptedException e) {
-                    executor.shutdownNow();
-                }
+            if (registration != null) {
+                registration.cancel();
+                registration = null;
             }
             System.out.println("⏹️ Game Loop Stopped");
         }
@@ -227,6 +255,38 @@ public class GameLoop {
         return paused.get();
     }
     
+    /**
+     * Sets the loop rate (e.g. FramePacer.BATTERY_SAVER_FPS or GAMING_FPS).
+     * The simulation keeps its fixed 60 Hz step; only rendering frequency changes.
+     */
+    public void setTargetFps(int fps) {
+        FrameScheduler.Registration current = registration;
+        if (current != null) {
+            current.setTargetFps(fps);
+        } else if (fps < 1 || fps > 1000) {
+            throw new IllegalArgumentException("Target FPS must be between 1 and 1000: " + fps);
+        }
+        targetFps = fps;
+    }
+    
+    public int getTargetFps() {
+        return targetFps;
+    }
+    
+    /**
+     * Gets the frame pacer of the shared scheduler, including its jitter statistics
+     */
+    public FramePacer getFramePacer() {
+        return scheduler.getFramePacer();
+    }
+    
+    /**
+     * Gets the clock driving this loop
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+    
     /**
      * Gets total frame count
      */
@@ -0,0 +1,95 @@
+package com.skillparty.towerblox.core;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Lock-free queue of timestamped input events
+ *
+ * Key handlers post events stamped with the game clock at the moment of the press;
+ * the simulation drains them on its own tick, so an action can be evaluated at the
+ * exact instant the player pressed the key instead of wherever the last tick left
+ * the world. Any thread may post, a single simulation thread consumes.
+ *
+ * @author joseAlejandro
+ */
+public class InputEventQueue {
+
+    /**
+     * A key press, the game-clock instant it happened at and its latency trace ID
+     */
+    public static final class InputEvent {
+        private final int keyCode;
+        private final long timestampNanos;
+        private final long traceId;
+
+        public InputEvent(int keyCode, long timestampNanos, long traceId) {
+            this.keyCode = keyCode;
+            this.timestampNanos = timestampNanos;
+            this.traceId = traceId;
+        }
+
+        public int getKeyCode() { return keyCode; }
+        public long getTimestampNanos() { return timestampNanos; }
+        public long getTraceId() { return traceId; }
+    }
+
+    /** Trace ID for events that are not being traced */
+    public static final long NO_TRACE = -1L;
+
+    private final ConcurrentLinkedQueue<InputEvent> events = new ConcurrentLinkedQueue<>();
+    private final GameClock clock;
+
+    public InputEventQueue() {
+        this(GameClock.getDefault());
+    }
+
+    public InputEventQueue(GameClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Posts a key press stamped with the current game time
+     */
+    public void post(int keyCode) {
+        post(keyCode, clock.nanoTime(), NO_TRACE);
+    }
+
+    /**
+     * Posts a key press that happened at the given game time
+     */
+    public void post(int keyCode, long timestampNanos) {
+        post(keyCode, timestampNanos, NO_TRACE);
+    }
+
+    /**
+     * Posts a key press stamped with the current game time, carrying a latency trace ID
+     */
+    public void postTraced(int keyCode, long traceId) {
+        post(keyCode, clock.nanoTime(), traceId);
+    }
+
+    public void post(int keyCode, long timestampNanos, long traceId) {
+        events.offer(new InputEvent(keyCode, timestampNanos, traceId));
+    }
+
+    /**
+     * Removes and returns the oldest event that happened at or before the given
+     * game time, or null if there is none yet. Later events stay queued for the
+     * tick that covers them.
+     */
+    public InputEvent pollUntil(long simulationTimeNanos) {
+        InputEvent head = events.peek();
+        if (head == null || head.timestampNanos > simulationTimeNanos) {
+            return null;
+        }
+        return events.poll();
+    }
+
+    public void clear() {
+        events.clear();
+    }
+
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+}
@@ -1,5 +1,6 @@
 package com.skillparty.towerblox.core;
 
+import com.skillparty.towerblox.performance.EngineMBeans;
 import com.skillparty.towerblox.physics.PhysicsEngine;
 import com.skillparty.towerblox.physics.CraneSystem;
 import com.skillparty.towerblox.physics.BlockSystem;
@@ -114,6 +115,8 @@ public class TowerBloxxGame extends JPanel implements KeyListener {
             currentFPS = fps;
             memoryUsage = memory;
         });
+        EngineMBeans.registerLoop(gameLoop::getCurrentFPS, gameLoop::getCPUUsage,
+            gameLoop::getTargetFps, gameLoop::setTargetFps, gameLoop.getFramePacer());
     }
     
     /**
@@ -437,11 +440,9 @@ public class TowerBloxxGame extends JPanel implements KeyListener {
         // Update tower height
         towerHeight++;
         
-        // Spawn next block after a brief delay (non-blocking: never sleep the EDT)
+        // Spawn next block after a brief delay, on the scheduler thread that also runs update()
         currentBlock = null;
-        Timer spawnTimer = new Timer(500, e -> spawnNewBlock());
-        spawnTimer.setRepeats(false);
-        spawnTimer.start();
+        FrameScheduler.getDefault().schedule(500, this::spawnNewBlock);
     }
     
     /**
@@ -1,5 +1,6 @@
 package com.skillparty.towerblox.effects;
 
+import com.skillparty.towerblox.core.GameClock;
 import com.skillparty.towerblox.game.physics.Block;
 import java.awt.*;
 
@@ -19,7 +20,7 @@ public class AdvancedFeaturesManager {
     public AdvancedFeaturesManager() {
         this.particleSystem = new ParticleSystem();
         this.enabled = true;
-        this.lastFrameTime = System.currentTimeMillis();
+        this.lastFrameTime = GameClock.getDefault().realNanoTime() / 1_000_000L;
     }
     
     /**
@@ -39,10 +40,17 @@ public class AdvancedFeaturesManager {
      * Render all advanced features
      */
     public void render(Graphics2D g2d) {
+        render(g2d, 1.0);
+    }
+    
+    /**
+     * Render all advanced features interpolated between the last two updates
+     */
+    public void render(Graphics2D g2d, double interpolation) {
         if (!enabled) return;
         
         // Render particle effects
-        particleSystem.render(g2d);
+        particleSystem.render(g2d, interpolation);
     }
     
     /**
@@ -119,7 +127,7 @@ public class AdvancedFeaturesManager {
      */
     private void updatePerformanceMetrics() {
         frameCount++;
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.getDefault().realNanoTime() / 1_000_000L; // Measured in real time
         
         if (currentTime - lastFrameTime >= 1000) { // Update every second
             averageFPS = frameCount * 1000.0 / (currentTime - lastFrameTime);
@@ -1,8 +1,12 @@
 package com.skillparty.towerblox.effects;
 
+import com.skillparty.towerblox.core.GameClock;
 import com.skillparty.towerblox.game.physics.Block;
+import com.skillparty.towerblox.performance.GameEvents;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
+import java.util.ArrayDeque;
+import java.util.Iterator;
 import java.util.Random;
 
 /**
@@ -44,13 +48,71 @@ public class BlockDropAnimation {
     
     private Random random = new Random();
     
+    // Pool compartido: sólo hay unas pocas animaciones vivas a la vez (el bloque que cae),
+    // así que los bloques ya asentados devuelven la suya aquí en lugar de retenerla
+    private static final int MAX_POOLED_ANIMATIONS = 8;
+    private static final ArrayDeque<BlockDropAnimation> ANIMATION_POOL = new ArrayDeque<>();
+    
+    // Sombra y estela son lo más caro de pintar; la calidad de render puede apagarlas
+    private static volatile boolean shadowEffectsEnabled = true;
+    
+    /**
+     * Obtiene una animación del pool compartido (o crea una nueva) preparada para el bloque
+     */
+    public static BlockDropAnimation obtain(Block block) {
+        BlockDropAnimation animation = ANIMATION_POOL.pollFirst();
+        if (animation == null) {
+            return new BlockDropAnimation(block);
+        }
+        animation.reset(block);
+        return animation;
+    }
+    
+    /**
+     * Devuelve una animación al pool compartido, liberando sus partículas y su rastro
+     */
+    public static void recycle(BlockDropAnimation animation) {
+        if (animation == null) return;
+        animation.reset(null);
+        if (ANIMATION_POOL.size() < MAX_POOLED_ANIMATIONS) {
+            ANIMATION_POOL.addFirst(animation);
+        }
+    }
+    
+    public static void setShadowEffectsEnabled(boolean enabled) {
+        shadowEffectsEnabled = enabled;
+    }
+    
+    public static boolean isShadowEffectsEnabled() {
+        return shadowEffectsEnabled;
+    }
+    
+    public static int getPooledAnimationCount() {
+        return ANIMATION_POOL.size();
+    }
+    
     public BlockDropAnimation(Block block) {
+        // Inicializar efectos
+        this.trailEffect = new TrailEffect();
+        this.shadowEffect = new ShadowEffect();
+        this.squashEffect = new SquashEffect();
+        this.impactParticles = new ImpactParticleSystem();
+        
+        reset(block);
+    }
+    
+    /**
+     * Reinicia la animación para una nueva caída, reutilizando los efectos ya creados
+     * (los bloques reciclados por BlockPool no vuelven a asignar memoria)
+     */
+    public void reset(Block block) {
         this.block = block;
         this.velocityY = 0;
         this.accelerationY = GRAVITY;
         this.rotation = 0;
         this.rotationSpeed = (random.nextDouble() - 0.5) * 3.0; // Rotación más pronunciada
         this.hasLanded = false;
+        this.bounceVelocity = 0;
         this.bounceCount = 0;
         
         // Inicializar efectos físicos mejorados
@@ -58,11 +120,18 @@ public class BlockDropAnimation {
         this.wobblePhase = random.nextDouble() * Math.PI * 2; // Fase aleatoria
         this.impactIntensity = 0.0;
         
-        // Inicializar efectos
-        this.trailEffect = new TrailEffect();
-        this.shadowEffect = new ShadowEffect();
-        this.squashEffect = new SquashEffect();
-        this.impactParticles = new ImpactParticleSystem();
+        trailEffect.clear();
+        shadowEffect.clear();
+        squashEffect.clear();
+        impactParticles.clear();
+        impactParticles.recordEvents = true;
+    }
+    
+    /**
+     * Si los impactos se notifican a JFR; Block lo apaga en las partidas simuladas (calentamiento del JIT)
+     */
+    public void setRecordEvents(boolean recordEvents) {
+        impactParticles.recordEvents = recordEvents;
     }
     
     public void update(double deltaTime) {
@@ -113,11 +182,21 @@ public class BlockDropAnimation {
     }
     
     public void render(Graphics2D g2d, double cameraY) {
-        // Renderizar sombra primero
-        shadowEffect.render(g2d, cameraY);
-        
-        // Renderizar trail del bloque
-        trailEffect.render(g2d, cameraY);
+        render(g2d, cameraY, 0, 0);
+    }
+    
+    /**
+     * Pinta el bloque desplazado (posición interpolada entre pasos) sin tocar su posición;
+     * estela, sombra y partículas ya guardan sus propias coordenadas
+     */
+    public void render(Graphics2D g2d, double cameraY, double offsetX, double offsetY) {
+        if (shadowEffectsEnabled) {
+            // Renderizar sombra primero
+            shadowEffect.render(g2d, cameraY);
+            
+            // Renderizar trail del bloque
+            trailEffect.render(g2d, cameraY);
+        }
         
         // Guardar transformación original
         AffineTransform originalTransform = g2d.getTransform();
@@ -127,8 +206,8 @@ public class BlockDropAnimation {
         double scaleY = squashEffect.getScaleY();
         
         // Calcular centro del bloque para rotación
-        double centerX = block.getX() + block.getWidth() / 2.0;
-        double centerY = block.getY() + block.getHeight() / 2.0 - cameraY;
+        double centerX = block.getX() + offsetX + block.getWidth() / 2.0;
+        double centerY = block.getY() + offsetY + block.getHeight() / 2.0 - cameraY;
         
         // Aplicar transformaciones
         g2d.translate(centerX, centerY);
@@ -235,57 +314,33 @@ public class BlockDropAnimation {
         return hasLanded;
     }
     
-    // Clase interna para efecto de rastro
+    // Clase interna para efecto de rastro (ring buffer primitivo, sin asignaciones por frame)
     private static class TrailEffect {
-        private java.util.List<TrailPoint> points = new java.util.ArrayList<>();
         private static final int MAX_POINTS = 8;
+        private static final long MAX_AGE_MS = 500;
+        private static final Color[] TINTS = TrailBuffer.createTints(255, 255, 255, 100);
+        private static final BasicStroke STROKE = new BasicStroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
         
-        private static class TrailPoint {
-            double x, y;
-            long time;
-            float alpha;
-            
-            TrailPoint(double x, double y, long time) {
-                this.x = x; this.y = y; this.time = time;
-                this.alpha = 1.0f;
-            }
+        private final TrailBuffer points = new TrailBuffer(MAX_POINTS);
+        
+        void clear() {
+            points.clear();
         }
         
         public void update(double deltaTime, double x, double y, double velocity) {
+            long now = GameClock.getDefault().millis();
+            
             // Agregar nuevo punto solo si hay movimiento significativo
             if (velocity > 50) {
-                points.add(0, new TrailPoint(x, y, System.currentTimeMillis()));
+                points.add(x, y, now);
             }
             
             // Remover puntos antiguos
-            points.removeIf(p -> System.currentTimeMillis() - p.time > 500);
-            
-            // Limitar número de puntos
-            while (points.size() > MAX_POINTS) {
-                points.remove(points.size() - 1);
-            }
-            
-            // Actualizar alpha de los puntos
-            for (int i = 0; i < points.size(); i++) {
-                TrailPoint p = points.get(i);
-                float age = (System.currentTimeMillis() - p.time) / 500.0f;
-                p.alpha = Math.max(0, 1.0f - age);
-            }
+            points.expire(now, MAX_AGE_MS);
         }
         
         public void render(Graphics2D g2d, double cameraY) {
-            for (int i = 1; i < points.size(); i++) {
-                TrailPoint p1 = points.get(i - 1);
-                TrailPoint p2 = points.get(i);
-                
-                float alpha = Math.min(p1.alpha, p2.alpha);
-                if (alpha <= 0) continue;
-                
-                g2d.setColor(new Color(255, 255, 255, Math.min(255, Math.max(0, (int)(alpha * 100)))));
-                g2d.setStroke(new BasicStroke(3 * alpha));
-                g2d.drawLine((int)p1.x, (int)(p1.y - cameraY), 
-                           (int)p2.x, (int)(p2.y - cameraY));
-            }
+            points.render(g2d, cameraY, GameClock.getDefault().millis(), MAX_AGE_MS, TINTS, STROKE);
         }
     }
     
@@ -293,6 +348,10 @@ public class BlockDropAnimation {
     private static class ShadowEffect {
         private double shadowOpacity = 0.3;
         
+        void clear() {
+            shadowOpacity = 0.3;
+        }
+        
         public void update(double deltaTime, Block block, double velocity) {
             // La sombra es más intensa cuanto más rápido cae el bloque
             shadowOpacity = 0.2 + (velocity / TERMINAL_VELOCITY) * 0.3;
@@ -311,10 +370,17 @@ public class BlockDropAnimation {
         private boolean impactTriggered = false;
         private long impactTime = 0;
         
+        void clear() {
+            scaleX = 1.0;
+            scaleY = 1.0;
+            impactTriggered = false;
+            impactTime = 0;
+        }
+        
         public void update(double deltaTime, double velocity, boolean hasLanded) {
             if (impactTriggered && hasLanded) {
                 // Efecto de squash en el impacto
-                long elapsed = System.currentTimeMillis() - impactTime;
+                long elapsed = GameClock.getDefault().millis() - impactTime;
                 if (elapsed < 200) {
                     double t = elapsed / 200.0;
                     // Squash effect: más ancho, menos alto
@@ -335,7 +401,7 @@ public class BlockDropAnimation {
         
         public void triggerImpact() {
             impactTriggered = true;
-            impactTime = System.currentTimeMillis();
+            impactTime = GameClock.getDefault().millis();
         }
         
         public double getScaleX() { return scaleX; }
@@ -346,6 +412,30 @@ public class BlockDropAnimation {
     private static class ImpactParticleSystem {
         private java.util.List<Particle> particles = new java.util.ArrayList<>();
         private Random random = new Random();
+        private boolean recordEvents = true;
+        
+        // Partículas muertas compartidas entre todos los sistemas de impacto
+        private static final int MAX_POOLED_PARTICLES = 256;
+        private static final ArrayDeque<Particle> PARTICLE_POOL = new ArrayDeque<>();
+        
+        void clear() {
+            for (Particle p : particles) {
+                recycleParticle(p);
+            }
+            particles.clear();
+        }
+        
+        private static Particle obtainParticle() {
+            Particle p = PARTICLE_POOL.pollFirst();
+            return p != null ? p : new Particle();
+        }
+        
+        private static void recycleParticle(Particle p) {
+            if (PARTICLE_POOL.size() < MAX_POOLED_PARTICLES) {
+                p.color = null;
+                PARTICLE_POOL.addFirst(p);
+            }
+        }
         
         private static class Particle {
             double x, y, vx, vy;
@@ -353,7 +443,7 @@ public class BlockDropAnimation {
             long life, maxLife;
             double size;
             
-            Particle(double x, double y, double vx, double vy, Color color, long maxLife) {
+            void set(double x, double y, double vx, double vy, Color color, long maxLife) {
                 this.x = x; this.y = y; this.vx = vx; this.vy = vy;
                 this.color = color; this.maxLife = maxLife;
                 this.life = maxLife;
@@ -375,12 +465,27 @@ public class BlockDropAnimation {
                     Math.min(255, 150 + random.nextInt(105)),
                     Math.min(255, 100 + random.nextInt(55)));
                 
-                particles.add(new Particle(x, y, vx, vy, color, 1000 + random.nextInt(500)));
+                Particle p = obtainParticle();
+                p.set(x, y, vx, vy, color, 1000 + random.nextInt(500));
+                particles.add(p);
+            }
+            
+            // Saturación = parte del pool compartido que está en uso
+            if (recordEvents) {
+                GameEvents.particleBurst("impact", particleCount,
+                        MAX_POOLED_PARTICLES - PARTICLE_POOL.size(), MAX_POOLED_PARTICLES);
             }
         }
         
         public void update(double deltaTime) {
-            particles.removeIf(p -> p.life <= 0);
+            Iterator<Particle> it = particles.iterator();
+            while (it.hasNext()) {
+                Particle p = it.next();
+                if (p.life <= 0) {
+                    it.remove();
+                    recycleParticle(p);
+                }
+            }
             
             for (Particle p : particles) {
                 p.x += p.vx * deltaTime;
@@ -8,6 +8,7 @@ import java.awt.*;
  */
 public class Particle {
     private float x, y;
+    private float prevX, prevY; // Position before the last update, for interpolated rendering
     private float velocityX, velocityY;
     private float life, maxLife;
     private Color color;
@@ -35,6 +36,8 @@ public class Particle {
                     Color color, float life, float size, ParticleType type) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.velocityX = velocityX;
         this.velocityY = velocityY;
         this.color = color;
@@ -54,6 +57,9 @@ public class Particle {
         
         float dt = (float) deltaTime;
         
+        prevX = x;
+        prevY = y;
+        
         // Update position
         x += velocityX * dt;
         y += velocityY * dt;
@@ -78,8 +84,18 @@ public class Particle {
      * Render the particle
      */
     public void render(Graphics2D g2d) {
+        render(g2d, 1.0f);
+    }
+    
+    /**
+     * Render the particle blended between its previous and current position
+     */
+    public void render(Graphics2D g2d, float interpolation) {
         if (!active) return;
         
+        float x = prevX + (this.x - prevX) * interpolation;
+        float y = prevY + (this.y - prevY) * interpolation;
+        
         // Calculate alpha based on remaining life
         float alpha = Math.max(0, Math.min(1, life / maxLife));
         
@@ -96,24 +112,24 @@ public class Particle {
         // Render based on particle type
         switch (type) {
             case SPARK:
-                renderSpark(g2d);
+                renderSpark(g2d, x, y);
                 break;
             case FIREWORK:
-                renderFirework(g2d);
+                renderFirework(g2d, x, y);
                 break;
             case SMOKE:
-                renderSmoke(g2d);
+                renderSmoke(g2d, x, y);
                 break;
             case DUST:
-                renderDust(g2d);
+                renderDust(g2d, x, y);
                 break;
             case STAR:
-                renderStar(g2d);
+                renderStar(g2d, x, y);
                 break;
         }
     }
     
-    private void renderSpark(Graphics2D g2d) {
+    private void renderSpark(Graphics2D g2d, float x, float y) {
         // Render as a small bright line
         int length = (int)(size * 3);
         g2d.setStroke(new BasicStroke(2));
@@ -122,25 +138,25 @@ public class Particle {
                     (int)(y - velocityY * 0.1f));
     }
     
-    private void renderFirework(Graphics2D g2d) {
+    private void renderFirework(Graphics2D g2d, float x, float y) {
         // Render as a bright circle
         int diameter = (int)size;
         g2d.fillOval((int)x - diameter/2, (int)y - diameter/2, diameter, diameter);
     }
     
-    private void renderSmoke(Graphics2D g2d) {
+    private void renderSmoke(Graphics2D g2d, float x, float y) {
         // Render as a soft circle
         int diameter = (int)(size * (1.5f - life / maxLife)); // Grows over time
         g2d.fillOval((int)x - diameter/2, (int)y - diameter/2, diameter, diameter);
     }
     
-    private void renderDust(Graphics2D g2d) {
+    private void renderDust(Graphics2D g2d, float x, float y) {
         // Render as small squares
         int size = (int)this.size;
         g2d.fillRect((int)x - size/2, (int)y - size/2, size, size);
     }
     
-    private void renderStar(Graphics2D g2d) {
+    private void renderStar(Graphics2D g2d, float x, float y) {
         // Render as a 4-pointed star
         int[] xPoints = {(int)x, (int)(x + size/2), (int)x, (int)(x - size/2)};
         int[] yPoints = {(int)(y - size), (int)y, (int)(y + size), (int)y};
@@ -10,7 +10,7 @@ import java.util.List;
 public class ParticlePool {
     private final List<Particle> availableParticles;
     private final List<Particle> activeParticles;
-    private final int maxPoolSize;
+    private int maxPoolSize;
     
     public ParticlePool(int maxPoolSize) {
         this.maxPoolSize = maxPoolSize;
@@ -76,6 +76,19 @@ public class ParticlePool {
         return new ArrayList<>(activeParticles);
     }
     
+    /**
+     * Changes the particle cap. Spare particles above the new cap are dropped; active
+     * ones beyond it finish their life and are recycled as usual. Call from the thread
+     * that updates the pool.
+     */
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = Math.max(1, maxPoolSize);
+        int spare = Math.max(0, this.maxPoolSize - activeParticles.size());
+        while (availableParticles.size() > spare) {
+            availableParticles.remove(availableParticles.size() - 1);
+        }
+    }
+    
     /**
      * Get pool statistics
      */
@@ -1,5 +1,8 @@
 package com.skillparty.towerblox.effects;
 
+import com.skillparty.towerblox.core.GameClock;
+import com.skillparty.towerblox.performance.GameEvents;
+
 import java.awt.*;
 import java.util.Random;
 
@@ -11,6 +14,8 @@ public class ParticleSystem {
     private final ParticlePool particlePool;
     private final Random random;
     private boolean enabled;
+    private volatile int requestedMaxParticles; // Applied by update(), so other threads may set it
+    private boolean recordEvents = true;
     
     // Performance settings
     private static final int MAX_PARTICLES = 500;
@@ -21,6 +26,7 @@ public class ParticleSystem {
     
     public ParticleSystem() {
         this.particlePool = new ParticlePool(MAX_PARTICLES);
+        this.requestedMaxParticles = MAX_PARTICLES;
         this.random = new Random();
         this.enabled = true;
     }
@@ -72,6 +78,8 @@ public class ParticleSystem {
                 particle.init(x, y, velocityX, velocityY, Color.YELLOW, 2.0f, 8, Particle.ParticleType.STAR);
             }
         }
+        
+        recordBurst("explosion", particleCount + (intensity >= 2 ? 5 : 0));
     }
     
     /**
@@ -131,6 +139,8 @@ public class ParticleSystem {
             
             particle.init(x + random.nextInt(40) - 20, y, velocityX, velocityY, starColor, 3.0f, 8, Particle.ParticleType.STAR);
         }
+        
+        recordBurst("fireworks", 4 * (FIREWORK_PARTICLE_COUNT + 8) + 15);
     }
     
     /**
@@ -145,7 +155,7 @@ public class ParticleSystem {
             if (particle == null) break;
             
             // Upward and slightly random movement with wind effect
-            float velocityX = (random.nextFloat() - 0.5f) * 30 + (float)Math.sin(System.currentTimeMillis() * 0.001) * 10;
+            float velocityX = (random.nextFloat() - 0.5f) * 30 + (float)Math.sin(GameClock.getDefault().millis() * 0.001) * 10;
             float velocityY = -15 - random.nextFloat() * 25; // Stronger upward motion
             
             // Varied gray smoke colors with some transparency effect
@@ -172,6 +182,8 @@ public class ParticleSystem {
             
             particle.init(x + random.nextInt(15) - 7, y, velocityX, velocityY, dustColor, 0.8f, 4, Particle.ParticleType.DUST);
         }
+        
+        recordBurst("smoke", SMOKE_PARTICLE_COUNT + 3);
     }
     
     /**
@@ -198,12 +210,25 @@ public class ParticleSystem {
             
             particle.init(x, y, velocityX, velocityY, dustColor, life, size, Particle.ParticleType.DUST);
         }
+        
+        recordBurst("dust", DUST_PARTICLE_COUNT);
+    }
+    
+    /**
+     * Reports a spawned effect to Flight Recorder (no-op unless it is recording)
+     */
+    private void recordBurst(String effect, int count) {
+        if (!recordEvents) return;
+        GameEvents.particleBurst(effect, count, particlePool.getActiveCount(), particlePool.getMaxPoolSize());
     }
     
     /**
      * Update all particles
      */
     public void update(double deltaTime) {
+        if (requestedMaxParticles != particlePool.getMaxPoolSize()) {
+            particlePool.setMaxPoolSize(requestedMaxParticles);
+        }
         if (!enabled) return;
         particlePool.updateAndCleanup(deltaTime);
     }
@@ -212,6 +237,13 @@ public class ParticleSystem {
      * Render all active particles
      */
     public void render(Graphics2D g2d) {
+        render(g2d, 1.0);
+    }
+    
+    /**
+     * Render all active particles blended between their last two updates
+     */
+    public void render(Graphics2D g2d, double interpolation) {
         if (!enabled) return;
         
         // Save original rendering hints
@@ -222,7 +254,7 @@ public class ParticleSystem {
         
         // Render all active particles
         for (Particle particle : particlePool.getActiveParticles()) {
-            particle.render(g2d);
+            particle.render(g2d, (float) interpolation);
         }
         
         // Restore original rendering hints
@@ -282,10 +314,28 @@ public class ParticleSystem {
         return enabled;
     }
     
+    /**
+     * Whether bursts are reported to Flight Recorder; off for simulated games such as the JIT warm-up
+     */
+    public void setRecordEvents(boolean recordEvents) {
+        this.recordEvents = recordEvents;
+    }
+    
     public int getActiveParticleCount() {
         return particlePool.getActiveCount();
     }
     
+    /**
+     * Caps the number of live particles; takes effect on the next update()
+     */
+    public void setMaxParticles(int maxParticles) {
+        this.requestedMaxParticles = Math.max(1, maxParticles);
+    }
+    
+    public int getMaxParticles() {
+        return requestedMaxParticles;
+    }
+    
     public void clear() {
         particlePool.clear();
     }
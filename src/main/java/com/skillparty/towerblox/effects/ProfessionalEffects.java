@@ -1,5 +1,7 @@
 package com.skillparty.towerblox.effects;
 
+import com.skillparty.towerblox.core.GameClock;
+
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.util.ArrayList;
@@ -39,7 +41,7 @@ public class ProfessionalEffects {
         public VisualEffect(double x, double y, long duration) {
             this.x = x;
             this.y = y;
-            this.startTime = System.currentTimeMillis();
+            this.startTime = GameClock.getDefault().millis();
             this.duration = duration;
             this.expired = false;
         }
@@ -48,11 +50,11 @@ public class ProfessionalEffects {
         public abstract void render(Graphics2D g2d);
         
         public boolean isExpired() {
-            return expired || (System.currentTimeMillis() - startTime) > duration;
+            return expired || (GameClock.getDefault().millis() - startTime) > duration;
         }
         
         protected double getProgress() {
-            return Math.min(1.0, (System.currentTimeMillis() - startTime) / (double)duration);
+            return Math.min(1.0, (GameClock.getDefault().millis() - startTime) / (double)duration);
         }
     }
     
@@ -0,0 +1,103 @@
+package com.skillparty.towerblox.effects;
+
+import java.awt.*;
+import java.awt.geom.Path2D;
+
+/**
+ * Fixed-capacity ring buffer of trail samples (x, y, time) stored in primitive arrays.
+ * Adding a sample overwrites the oldest one when full and expiring old samples only
+ * moves the head, so a falling block's trail never allocates. Rendering builds a single
+ * reused Path2D and strokes it once with a pre-tinted color.
+ */
+public class TrailBuffer {
+    private static final int TINT_LEVELS = 16;
+
+    private final double[] xs;
+    private final double[] ys;
+    private final long[] times;
+    private int head; // Index of the oldest sample
+    private int size;
+
+    private final Path2D.Double path = new Path2D.Double();
+
+    public TrailBuffer(int capacity) {
+        this.xs = new double[capacity];
+        this.ys = new double[capacity];
+        this.times = new long[capacity];
+    }
+
+    /**
+     * Appends a sample, overwriting the oldest one when the buffer is full
+     */
+    public void add(double x, double y, long time) {
+        int index;
+        if (size == xs.length) {
+            index = head;
+            head = (head + 1) % xs.length;
+        } else {
+            index = (head + size) % xs.length;
+            size++;
+        }
+        xs[index] = x;
+        ys[index] = y;
+        times[index] = time;
+    }
+
+    /**
+     * Drops samples older than maxAgeMs
+     */
+    public void expire(long now, long maxAgeMs) {
+        while (size > 0 && now - times[head] > maxAgeMs) {
+            head = (head + 1) % xs.length;
+            size--;
+        }
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    public int size() { return size; }
+    public int capacity() { return xs.length; }
+    public boolean isEmpty() { return size == 0; }
+
+    // Index 0 is the oldest sample, size() - 1 the newest
+    public double getX(int i) { return xs[(head + i) % xs.length]; }
+    public double getY(int i) { return ys[(head + i) % xs.length]; }
+    public long getTime(int i) { return times[(head + i) % xs.length]; }
+
+    /**
+     * Strokes the whole trail as one polyline. Opacity follows the age of the newest
+     * sample, picked from a pre-tinted table so no Color is created per frame.
+     */
+    public void render(Graphics2D g2d, double cameraY, long now, long maxAgeMs,
+                       Color[] tints, Stroke stroke) {
+        if (size < 2) return;
+
+        double freshness = 1.0 - (now - getTime(size - 1)) / (double) maxAgeMs;
+        int level = (int) Math.round(freshness * (tints.length - 1));
+        if (level <= 0) return;
+
+        path.reset();
+        path.moveTo(getX(0), getY(0) - cameraY);
+        for (int i = 1; i < size; i++) {
+            path.lineTo(getX(i), getY(i) - cameraY);
+        }
+
+        g2d.setColor(tints[Math.min(level, tints.length - 1)]);
+        g2d.setStroke(stroke);
+        g2d.draw(path);
+    }
+
+    /**
+     * Builds the pre-tinted color table used by render(), from transparent up to maxAlpha
+     */
+    public static Color[] createTints(int red, int green, int blue, int maxAlpha) {
+        Color[] tints = new Color[TINT_LEVELS];
+        for (int i = 0; i < TINT_LEVELS; i++) {
+            tints[i] = new Color(red, green, blue, maxAlpha * i / (TINT_LEVELS - 1));
+        }
+        return tints;
+    }
+}
@@ -1,10 +1,12 @@
 package com.skillparty.towerblox.game;
 
+import com.skillparty.towerblox.core.GameClock;
 import com.skillparty.towerblox.game.physics.Block;
 import com.skillparty.towerblox.game.physics.Crane;
 import com.skillparty.towerblox.game.physics.Tower;
 import com.skillparty.towerblox.game.camera.CameraSystem;
 import com.skillparty.towerblox.performance.PerformanceMonitor;
+import com.skillparty.towerblox.rendering.RenderingEngine;
 import com.skillparty.towerblox.utils.BlockPool;
 
 import java.awt.*;
@@ -33,7 +35,9 @@ public class EnhancedGameEngine implements KeyListener {
     
     // Enhanced features
     private Map<String, Object> enhancements = new HashMap<>();
-    private long lastUpdateTime = System.currentTimeMillis();
+    private GameClock clock;
+    private long lastUpdateNanos;
+    private long carriedNanos = 0; // Sub-millisecond remainder passed on to the next frame
     private double deltaTime = 0;
     
     // Visual enhancements
@@ -44,9 +48,12 @@ public class EnhancedGameEngine implements KeyListener {
     private static final int GAME_WIDTH = 1280;
     private static final int GAME_HEIGHT = 720;
     private static final int GROUND_LEVEL = GAME_HEIGHT - 80;
+    private static final int REDUCED_EFFECTS = 10; // Ambient effects kept at qualities without shadows
     
     public EnhancedGameEngine(GameEngine originalEngine) {
         this.originalEngine = originalEngine;
+        this.clock = originalEngine != null ? originalEngine.getClock() : GameClock.getDefault();
+        this.lastUpdateNanos = clock.nanoTime();
         initializeEnhancements();
         
         System.out.println("🚀 ===== ENHANCED GAME ENGINE 2025 INITIALIZED =====");
@@ -65,8 +72,8 @@ public class EnhancedGameEngine implements KeyListener {
         // Initialize performance monitoring
         performanceMonitor = new PerformanceMonitor();
         
-        // Initialize object pooling
-        blockPool = new BlockPool(100, 300);
+        // Share the original engine's block pool so its statistics reflect real gameplay
+        blockPool = originalEngine != null ? originalEngine.getBlockPool() : new BlockPool(100, 300);
         
         // Store original methods for compatibility
         enhancements.put("originalUpdate", originalEngine);
@@ -80,11 +87,13 @@ public class EnhancedGameEngine implements KeyListener {
      */
     public void update() {
         // Calculate delta time
-        long currentTime = System.currentTimeMillis();
-        deltaTime = (currentTime - lastUpdateTime) / 1000.0;
+        long currentTime = clock.nanoTime();
+        long elapsedNanos = currentTime - lastUpdateNanos;
+        deltaTime = elapsedNanos / 1_000_000_000.0;
         deltaTime = Math.min(deltaTime, 1.0 / 30.0); // Cap at 30 FPS minimum
-        long deltaTimeMs = currentTime - lastUpdateTime;
-        lastUpdateTime = currentTime;
+        long deltaTimeMs = (elapsedNanos + carriedNanos) / 1_000_000L;
+        carriedNanos = (elapsedNanos + carriedNanos) % 1_000_000L;
+        lastUpdateNanos = currentTime;
         
         // Update performance monitoring
         performanceMonitor.update();
@@ -145,15 +154,21 @@ public class EnhancedGameEngine implements KeyListener {
     }
     
     private void optimizePerformance() {
-        double fps = performanceMonitor.getCurrentFPS();
-        
-        if (fps < 25) {
-            // Reduce visual effects
-            if (effects.size() > 10) {
-                effects.subList(0, effects.size() / 2).clear();
-            }
-            System.out.println("⚡ Performance optimization: Reduced effects");
+        // The engine's quality governor picks the level; ambient effects follow it
+        if (originalEngine != null && !originalEngine.getRenderQuality().shadows
+                && effects.size() > REDUCED_EFFECTS) {
+            effects.subList(0, effects.size() - REDUCED_EFFECTS).clear();
+        }
+    }
+    
+    /**
+     * Enhanced render with the loop's interpolation factor between the last two updates
+     */
+    public void render(Graphics2D g2d, double interpolation) {
+        if (originalEngine != null) {
+            originalEngine.setRenderAlpha(interpolation);
         }
+        render(g2d);
     }
     
     /**
@@ -161,7 +176,9 @@ public class EnhancedGameEngine implements KeyListener {
      */
     public void render(Graphics2D g2d) {
         // Enable high-quality rendering
-        enableProfessionalRendering(g2d);
+        RenderingEngine.RenderQuality quality = originalEngine != null
+                ? originalEngine.beginFrameQuality() : RenderingEngine.RenderQuality.HIGH;
+        enableProfessionalRendering(g2d, quality);
         
         // Apply camera transformation
         AffineTransform originalTransform = g2d.getTransform();
@@ -190,8 +207,9 @@ public class EnhancedGameEngine implements KeyListener {
         }
     }
     
-    private void enableProfessionalRendering(Graphics2D g2d) {
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    private void enableProfessionalRendering(Graphics2D g2d, RenderingEngine.RenderQuality quality) {
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                quality.antialiasing ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
         g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
         g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
@@ -245,7 +263,7 @@ public class EnhancedGameEngine implements KeyListener {
     private void renderAmbientParticles(Graphics2D g2d) {
         // Floating dust particles in sunlight
         g2d.setColor(new Color(255, 255, 200, 50));
-        long time = System.currentTimeMillis();
+        long time = clock.millis();
         
         for (int i = 0; i < 20; i++) {
             double x = (Math.sin(time * 0.001 + i) * 200) + GAME_WIDTH / 2.0;
@@ -346,7 +364,11 @@ public class EnhancedGameEngine implements KeyListener {
         y += lineHeight;
         g2d.drawString(String.format("Frame Count: %d", performanceMonitor.getFrameCount()), GAME_WIDTH - 340, y);
         y += lineHeight;
-        g2d.drawString(String.format("Block Pool: %d/%d", blockPool.getUsedCount(), blockPool.getTotalCount()), GAME_WIDTH - 340, y);
+        g2d.drawString(String.format("Frame p95/p99: %.1f/%.1f ms", performanceMonitor.getFrameTimePercentileMillis(95),
+                       performanceMonitor.getFrameTimePercentileMillis(99)), GAME_WIDTH - 340, y);
+        y += lineHeight;
+        g2d.drawString(String.format("Block Pool: %d/%d (%.0f%% hits)", blockPool.getUsedCount(),
+                       blockPool.getTotalCount(), blockPool.getHitRate() * 100), GAME_WIDTH - 340, y);
         y += lineHeight;
         g2d.drawString(String.format("Camera X: %.1f", camera.getX()), GAME_WIDTH - 340, y);
         y += lineHeight;
@@ -464,6 +486,8 @@ public class EnhancedGameEngine implements KeyListener {
         System.out.println("  Pool Used: " + blockPool.getUsedCount());
         System.out.println("  Pool Available: " + blockPool.getAvailableCount());
         System.out.println("  Pool Total: " + blockPool.getTotalCount());
+        System.out.println("  Pool Hits/Misses: " + blockPool.getHitCount() + "/" + blockPool.getMissCount() +
+                           String.format(" (%.0f%% hit rate)", blockPool.getHitRate() * 100));
         System.out.println("  Pool Health: " + (blockPool.isLow() ? "LOW ⚠️" : "HEALTHY ✅"));
         System.out.println("Camera System:");
         System.out.println("  Position: " + String.format("(%.1f, %.1f)", camera.getX(), camera.getY()));
@@ -1,14 +1,29 @@
 package com.skillparty.towerblox.game;
 
+import com.skillparty.towerblox.core.GameClock;
+import com.skillparty.towerblox.core.InputEventQueue;
+import com.skillparty.towerblox.performance.FrameProfiler;
+import com.skillparty.towerblox.performance.GameEvents;
+import com.skillparty.towerblox.performance.LatencyTracer;
+import com.skillparty.towerblox.performance.QualityGovernor;
+import com.skillparty.towerblox.rendering.RenderingEngine;
 import com.skillparty.towerblox.game.physics.Block;
 import com.skillparty.towerblox.game.physics.Crane;
+import com.skillparty.towerblox.game.physics.CraneTrajectoryPredictor;
 import com.skillparty.towerblox.game.physics.Tower;
 import com.skillparty.towerblox.score.ScoreManager;
 import com.skillparty.towerblox.score.ScoreStorage;
 import com.skillparty.towerblox.score.HighScore;
 import com.skillparty.towerblox.ui.components.CityBackground;
+import com.skillparty.towerblox.ui.components.DigitAtlas;
+import com.skillparty.towerblox.ui.components.FontManager;
+import com.skillparty.towerblox.ui.components.HudWidget;
+import com.skillparty.towerblox.ui.components.TextLabel;
 import com.skillparty.towerblox.effects.AdvancedFeaturesManager;
+import com.skillparty.towerblox.effects.BlockDropAnimation;
 import com.skillparty.towerblox.audio.SoundManager;
+import com.skillparty.towerblox.utils.AssetLoader;
+import com.skillparty.towerblox.utils.BlockPool;
 
 import java.awt.Color;
 import java.awt.Font;
@@ -18,6 +33,7 @@ import java.awt.FontMetrics;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * Main game engine that manages the game loop, state transitions, and core gameplay
@@ -26,15 +42,28 @@ public class GameEngine implements KeyListener {
     // Game constants
     private static final int TARGET_FPS = 60;
     private static final long FRAME_TIME = 1000 / TARGET_FPS; // milliseconds per frame
+    private static final long FRAME_TIME_NANOS = FRAME_TIME * 1_000_000L;
+    private static final int MAX_UPDATES_PER_FRAME = 5; // Beyond this the simulation slows down instead of spiralling
     private static final int GAME_WIDTH = 1280;
     private static final int GAME_HEIGHT = 720;
     private static final int GROUND_LEVEL = GAME_HEIGHT - 50;
     
+    // Silueta de aterrizaje: se pinta cada frame, así que no se crea nada al dibujarla
+    private static final Color GHOST_FILL = new Color(255, 255, 255, 40);
+    private static final Color GHOST_OUTLINE = new Color(255, 255, 255, 110);
+    private static final BasicStroke GHOST_STROKE = new BasicStroke(1);
+    
+    // Names under which Main preloads what the constructor would otherwise load in line
+    private static final String SCORES_ASSET = "engine.scores";
+    private static final String CITY_ASSET = "engine.city";
+    private static final String PATTERNS_ASSET = "engine.patterns";
+    
     // Game state
     private GameState currentState;
     private DifficultyLevel currentDifficulty;
     private boolean running;
     private boolean paused;
+    private GameClock clock;
     
     // Game objects
     private Tower tower;
@@ -44,15 +73,21 @@ public class GameEngine implements KeyListener {
     private Random random;
     private CityBackground cityBackground;
     private AdvancedFeaturesManager advancedFeatures;
-    private SoundManager soundManager;
+    private final SoundManager soundManager; // Null in a headless or silent engine
+    private final boolean headless;
     private MovementRecorder movementRecorder;
+    private BlockPool blockPool;
     
     // Professional gameplay enhancement systems
     private GameplayEnhancer gameplayEnhancer;
     private GameFeedbackSystem feedbackSystem;
     
+    // Analytical landing prediction (timing HUD, landing ghost, AI players)
+    private CraneTrajectoryPredictor landingPredictor;
+    
     // Camera system for following the tower
     private double cameraY = 0; // Camera offset (negative values move view up)
+    private double prevCameraY = 0; // Camera offset at the start of the last update, for interpolation
     private double targetCameraY = 0; // Target camera position for smooth movement
     private static final int CAMERA_TRIGGER_HEIGHT = 7; // Start moving camera at floor 7 (earlier)
     private static final double CAMERA_SMOOTH_FACTOR = 0.12; // How smoothly camera follows (increased for faster response)
@@ -60,10 +95,18 @@ public class GameEngine implements KeyListener {
     private long cameraActivationTime = 0; // When camera was activated
     
     // Timing
-    private long lastUpdateTime;
+    private long lastUpdateTime; // Game clock nanoseconds
+    private InputEventQueue inputQueue; // Timestamped key presses, drained by the simulation tick
+    private LatencyTracer latencyTracer; // Input-to-photon stages for drops
+    private FrameProfiler profiler; // Per-phase tick durations
+    private volatile RenderingEngine.RenderQuality renderQuality = RenderingEngine.RenderQuality.HIGH; // Requested from any thread
+    private RenderingEngine.RenderQuality appliedQuality; // What the current frame is drawn with (paint thread only)
+    private final QualityGovernor qualityGovernor = new QualityGovernor();
     private long gameStartTime;
     private int frameCount;
+    private long fpsWindowStart;
     private double fps;
+    private double renderAlpha = 1.0; // How far the display is between the last two updates (0-1)
     
     // Game mechanics
     private boolean blockDropped;
@@ -73,10 +116,74 @@ public class GameEngine implements KeyListener {
     // Lives system
     private int lives;
     private static final int MAX_LIVES = 3;
+
+    // HUD text: fonts, labels and digits are built once; the per-frame path allocates nothing
+    private static final Font HUD_FONT = FontManager.getInstance().getFont("Arial", Font.BOLD, 16);
+    private static final Font HUD_SMALL_FONT = FontManager.getInstance().getFont("Arial", Font.BOLD, 12);
+    private static final Font HUD_HINT_FONT = FontManager.getInstance().getFont("Arial", Font.BOLD, 14);
+    private static final Font HUD_TINY_FONT = FontManager.getInstance().getFont("Arial", Font.PLAIN, 10);
+    private static final Color HUD_PANEL_COLOR = new Color(0, 0, 0, 150);
+    private static final Color[] MINIMAP_COLORS = {Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN};
+    private static final String[] PATTERN_NAMES = {"STEADY", "ACCELERATING", "ERRATIC", "PRECISION", "CHAOTIC", "EXTREME"};
+    private static final TextLabel SCORE_LABEL = new TextLabel(HUD_FONT, "Score: ");
+    private static final TextLabel HEIGHT_LABEL = new TextLabel(HUD_FONT, "Height: ");
+    private static final TextLabel LIVES_LABEL = new TextLabel(HUD_FONT, "Lives: ");
+    private static final TextLabel SPEED_LABEL = new TextLabel(HUD_SMALL_FONT, "Speed: ");
+    private static final TextLabel RANGE_LABEL = new TextLabel(HUD_SMALL_FONT, "Range: ");
+    private static final TextLabel PERFECT_LABEL = new TextLabel(HUD_SMALL_FONT, "PERFECT!");
+    private static final TextLabel TIMING_LABEL = new TextLabel(HUD_SMALL_FONT, "TIMING");
+    private static final TextLabel MINIMAP_LABEL = new TextLabel(HUD_TINY_FONT, "Tower");
+    private static final TextLabel CONTROLS_LABEL = new TextLabel(HUD_HINT_FONT,
+            "SPACE = Drop Block | P = Pause | ESC = Menu | M = Movement Recorder");
+    private static final TextLabel[] PATTERN_LABELS = new TextLabel[PATTERN_NAMES.length];
+    static {
+        for (int i = 0; i < PATTERN_NAMES.length; i++) {
+            PATTERN_LABELS[i] = new TextLabel(HUD_SMALL_FONT, "Pattern: " + PATTERN_NAMES[i]);
+        }
+    }
+    private static final DigitAtlas HUD_DIGITS = FontManager.getInstance().getDigits(HUD_FONT, Color.WHITE);
+    private static final DigitAtlas HUD_SMALL_DIGITS = FontManager.getInstance().getDigits(HUD_SMALL_FONT, Color.YELLOW);
     
     // Callbacks for UI updates
     private GameStateListener stateListener;
     
+    // Gameplay events: the tick only publishes; effects and listeners drain at frame end, audio on its own thread
+    private static final int EVENT_RING_CAPACITY = 256;
+    private final GameplayEventBus eventBus = new GameplayEventBus(EVENT_RING_CAPACITY);
+    private GameplayEventBus.Subscription audioSubscription; // Owns the "GameAudio" thread; closed by dispose()
+    
+    // Retained HUD: each widget keeps its image and is repainted only when the events below change it
+    private static final int MINIMAP_BLOCKS = 20;
+    private final HudWidget statusWidget = new HudWidget(250, 120, this::paintStatusPanel);
+    private final HudWidget minimapWidget = new HudWidget(60, 240, this::paintTowerMinimap);
+    private final GameStateListener hudInvalidator = new GameStateListener() {
+        @Override
+        public void onStateChanged(GameState newState) {
+            statusWidget.invalidate();
+            minimapWidget.invalidate();
+        }
+        
+        @Override
+        public void onScoreChanged(int newScore) {
+            statusWidget.invalidate();
+        }
+        
+        @Override
+        public void onGameOver(String reason, int finalScore) {
+        }
+        
+        @Override
+        public void onBlockPlaced(int score, int combo) {
+            statusWidget.invalidate();
+            minimapWidget.invalidate();
+        }
+        
+        @Override
+        public void onLivesChanged(int lives) {
+            statusWidget.invalidate();
+        }
+    };
+    
     /**
      * Interface for listening to game state changes
      */
@@ -85,17 +192,59 @@ public class GameEngine implements KeyListener {
         void onScoreChanged(int newScore);
         void onGameOver(String reason, int finalScore);
         void onBlockPlaced(int score, int combo);
+        default void onLivesChanged(int lives) { }
+    }
+
+    /**
+     * Starts loading the saved scores, city skyline and movement patterns in the background so the
+     * next engine created picks them up instead of loading them on the EDT
+     */
+    public static void preloadAssets(AssetLoader loader) {
+        loader.preload(SCORES_ASSET, ScoreStorage::new);
+        loader.preload(CITY_ASSET, () -> new CityBackground(GAME_WIDTH, GAME_HEIGHT, GROUND_LEVEL));
+        loader.preload(PATTERNS_ASSET, MovementRecorder::new);
     }
 
     /**
      * Creates a new game engine
      */
     public GameEngine() {
+        this(new SoundManager());
+    }
+    
+    /**
+     * Creates a game engine that plays through the given sound manager, or silently when it is
+     * null; tests pass one backed by a temporary cache so they never write to the player's
+     */
+    public GameEngine(SoundManager soundManager) {
+        this(false, soundManager);
+    }
+    
+    /**
+     * Engine for background work such as the JIT warm-up: no sound, no movement recorder, its own
+     * profiler and tracer, no console summaries, and it leaves the shared clock and the preloaded
+     * assets alone. Its profiler, particle system and dropped blocks don't emit JFR events, and
+     * neither do its landings or game overs, so a recording only shows frames that were played.
+     */
+    public static GameEngine createHeadless() {
+        return new GameEngine(true, null);
+    }
+    
+    private GameEngine(boolean headless, SoundManager soundManager) {
+        this.headless = headless;
+        this.soundManager = soundManager;
         this.currentState = GameState.MENU;
         this.running = false;
         this.paused = false;
+        this.clock = GameClock.getDefault();
+        if (!headless) {
+            this.clock.resume(); // The engine owns pause state; a new engine starts unpaused
+        }
+        this.inputQueue = new InputEventQueue(clock);
+        this.latencyTracer = headless ? new LatencyTracer(clock) : LatencyTracer.getDefault();
+        this.profiler = headless ? new FrameProfiler(clock, false) : FrameProfiler.getDefault();
         this.random = new Random();
-        this.scoreStorage = new ScoreStorage();
+        this.scoreStorage = headless ? new ScoreStorage() : AssetLoader.getDefault().take(SCORES_ASSET, ScoreStorage::new);
         
         initializeGame();
     }
@@ -108,20 +257,33 @@ public class GameEngine implements KeyListener {
         this.crane = new Crane(GAME_WIDTH / 2, 50, GAME_WIDTH);
         this.currentDifficulty = DifficultyLevel.NORMAL;
         this.scoreManager = new ScoreManager(currentDifficulty);
-        this.cityBackground = new CityBackground(GAME_WIDTH, GAME_HEIGHT, GROUND_LEVEL);
+        this.cityBackground = headless ? new CityBackground(GAME_WIDTH, GAME_HEIGHT, GROUND_LEVEL)
+            : AssetLoader.getDefault().take(CITY_ASSET, () -> new CityBackground(GAME_WIDTH, GAME_HEIGHT, GROUND_LEVEL));
         this.advancedFeatures = new AdvancedFeaturesManager();
-        this.soundManager = new SoundManager();
-        this.movementRecorder = new MovementRecorder();
+        advancedFeatures.getParticleSystem().setRecordEvents(!headless);
+        if (!headless) {
+            this.movementRecorder = AssetLoader.getDefault().take(PATTERNS_ASSET, MovementRecorder::new);
+        }
+        this.blockPool = new BlockPool(32, 512);
+        tower.setRemovedBlockHandler(blockPool::release); // Blocks that fall off go back to the pool
         
         // Initialize professional gameplay systems
         this.gameplayEnhancer = new GameplayEnhancer();
         this.feedbackSystem = new GameFeedbackSystem();
+        this.landingPredictor = new CraneTrajectoryPredictor();
+        
+        eventBus.subscribeFrame(this::applyGameplayEvent);
+        if (soundManager != null) {
+            audioSubscription = eventBus.subscribeAsync("GameAudio", this::playGameplaySounds);
+        }
         
-        System.out.println("🎮 MovementRecorder creado en GameEngine");
-        System.out.println("🎯 Professional gameplay systems initialized");
+        if (!headless) {
+            System.out.println("🎮 MovementRecorder creado en GameEngine");
+            System.out.println("🎯 Professional gameplay systems initialized");
+        }
         
         // Conectar el MovementRecorder con la grúa
-        if (crane != null) {
+        if (crane != null && movementRecorder != null) {
             crane.setMovementRecorder(movementRecorder);
             System.out.println("🏗️ MovementRecorder conectado a la grúa");
         }
@@ -139,13 +301,27 @@ public class GameEngine implements KeyListener {
         frameCount = 0;
         fps = 0;
         lives = MAX_LIVES;
+        inputQueue.clear();
         
         // Reset camera
         cameraY = 0;
+        prevCameraY = 0;
         targetCameraY = 0;
         cameraActivated = false;
         cameraActivationTime = 0;
         
+        // Hand every block of the previous game back to the pool
+        if (blockPool != null) {
+            if (tower != null) {
+                for (Block block : tower.getBlocks()) {
+                    blockPool.release(block);
+                }
+            }
+            if (crane != null) {
+                blockPool.release(crane.getCurrentBlock());
+            }
+        }
+        
         if (tower != null) tower.reset();
         if (crane != null) crane.reset();
         if (scoreManager != null) scoreManager.reset();
@@ -169,6 +345,7 @@ public class GameEngine implements KeyListener {
         // Apply difficulty settings
         if (crane != null) {
             crane.setSpeed(crane.getBaseSpeed() * difficulty.getSpeedMultiplier());
+            landingPredictor.refresh(crane, tower, GROUND_LEVEL);
         }
         
         // Enable advanced features if available
@@ -177,13 +354,13 @@ public class GameEngine implements KeyListener {
         }
         
         this.currentState = GameState.PLAYING;
-        this.gameStartTime = System.currentTimeMillis();
+        this.gameStartTime = clock.millis();
         
-        if (stateListener != null) {
-            stateListener.onStateChanged(currentState);
-        }
+        notifyListeners(listener -> listener.onStateChanged(GameState.PLAYING));
         
-        System.out.println("New game started - Difficulty: " + difficulty.getDisplayName());
+        if (!headless) {
+            System.out.println("New game started - Difficulty: " + difficulty.getDisplayName());
+        }
     }
 
     /**
@@ -192,40 +369,80 @@ public class GameEngine implements KeyListener {
     public void gameLoop() {
         if (!running) {
             running = true;
-            lastUpdateTime = System.currentTimeMillis();
+            lastUpdateTime = clock.nanoTime();
+            fpsWindowStart = lastUpdateTime;
         }
         
-        long currentTime = System.currentTimeMillis();
-        long deltaTime = currentTime - lastUpdateTime;
+        long currentTime = clock.nanoTime();
         
-        if (deltaTime >= FRAME_TIME) {
-            update(deltaTime);
+        // Fixed-step simulation; rendering may run faster and interpolates in between
+        int updates = 0;
+        while (currentTime - lastUpdateTime >= FRAME_TIME_NANOS && updates < MAX_UPDATES_PER_FRAME) {
+            update(FRAME_TIME, lastUpdateTime + FRAME_TIME_NANOS);
+            lastUpdateTime += FRAME_TIME_NANOS;
+            updates++;
             
             // Calculate FPS
             frameCount++;
             if (frameCount % 60 == 0) {
-                fps = 1000.0 / deltaTime;
+                fps = 60 * 1_000_000_000.0 / Math.max(1, currentTime - fpsWindowStart);
+                fpsWindowStart = currentTime;
             }
-            
-            lastUpdateTime = currentTime;
         }
+        
+        if (updates > 0) {
+            eventBus.drainFrame();
+            latencyTracer.markPending(LatencyTracer.Stage.SNAPSHOT_PUBLISH);
+        }
+        
+        // Under heavy load drop the backlog rather than trying to catch up
+        if (currentTime - lastUpdateTime >= FRAME_TIME_NANOS) {
+            lastUpdateTime = currentTime - FRAME_TIME_NANOS + 1;
+        }
+        
+        renderAlpha = Math.max(0.0, Math.min(1.0, (currentTime - lastUpdateTime) / (double) FRAME_TIME_NANOS));
     }
 
     /**
      * Updates game state
      */
     public void update(long deltaTime) {
-        if (paused || currentState != GameState.PLAYING) {
+        update(deltaTime, clock.nanoTime());
+        eventBus.drainFrame();
+        latencyTracer.markPending(LatencyTracer.Stage.SNAPSHOT_PUBLISH);
+    }
+    
+    /**
+     * Updates game state for the step that ends at the given game time
+     */
+    private void update(long deltaTime, long simulationTimeNanos) {
+        if (currentState != GameState.PLAYING) {
+            inputQueue.clear();
+            return;
+        }
+        if (paused) {
             return;
         }
         
+        // Remember where everything was so render() can blend towards the new state
+        prevCameraY = cameraY;
+        renderAlpha = 1.0;
+        
         // Update game objects
+        long t = profiler.start();
         if (crane != null) {
             crane.update(deltaTime);
+            landingPredictor.refresh(crane, tower, GROUND_LEVEL);
+            t = profiler.lap(FrameProfiler.Phase.CRANE, t);
+            
+            processQueuedInput(deltaTime, simulationTimeNanos);
+            t = profiler.lap(FrameProfiler.Phase.INPUT, t);
             
             // Update the current block if it exists and is dropped
             Block currentBlock = crane.getCurrentBlock();
             if (currentBlock != null && currentBlock.isDropped()) {
+                currentBlock.capturePreviousPosition();
+                
                 // Use enhanced animation update instead of basic update (trail/wobble while falling;
                 // the actual landing/impact is decided authoritatively by checkBlockLanding() below)
                 double deltaTimeSeconds = deltaTime / 1000.0;
@@ -238,6 +455,7 @@ public class GameEngine implements KeyListener {
                     advancedFeatures.onBlockFalling(blockCenterX, blockBottomY);
                 }
             }
+            t = profiler.lap(FrameProfiler.Phase.FALLING_BLOCK, t);
         }
         
         if (tower != null) {
@@ -248,21 +466,25 @@ public class GameEngine implements KeyListener {
                 triggerGameOver("Tower collapsed!");
             }
         }
+        t = profiler.lap(FrameProfiler.Phase.TOWER, t);
         
         // Update professional city background
         if (cityBackground != null) {
             cityBackground.update();
         }
+        t = profiler.lap(FrameProfiler.Phase.BACKGROUND, t);
         
         // Update advanced features (particle effects, etc.)
         if (advancedFeatures != null) {
             advancedFeatures.update(deltaTime / 1000.0); // Convert to seconds
         }
+        t = profiler.lap(FrameProfiler.Phase.PARTICLES, t);
         
         // Update professional feedback system
         if (feedbackSystem != null) {
             feedbackSystem.update(deltaTime);
         }
+        profiler.lap(FrameProfiler.Phase.FEEDBACK, t);
         
         // Update camera system
         updateCamera();
@@ -286,10 +508,56 @@ public class GameEngine implements KeyListener {
         }
     }
 
+    /**
+     * Applies the key presses that happened up to the end of this step. A drop is
+     * evaluated at the crane phase of the press itself, not of the tick boundary.
+     */
+    private void processQueuedInput(long deltaTime, long simulationTimeNanos) {
+        InputEventQueue.InputEvent event;
+        while ((event = inputQueue.pollUntil(simulationTimeNanos)) != null) {
+            if (event.getKeyCode() != KeyEvent.VK_SPACE || blockDropped || crane.isReadyForNewBlock()) {
+                continue;
+            }
+            
+            // Crane motion is only known for this step, so never look further back than it
+            long lagNanos = Math.max(0, Math.min(deltaTime * 1_000_000L, simulationTimeNanos - event.getTimestampNanos()));
+            crane.dropBlock(lagNanos / 1_000_000_000.0);
+            latencyTracer.mark(event.getTraceId(), LatencyTracer.Stage.SIMULATION_CONSUME);
+            
+            // Play drop sound
+            if (soundManager != null) {
+                soundManager.playSound(SoundManager.SoundType.BLOCK_DROP);
+            }
+        }
+    }
+    
+    /**
+     * Queues a drop pressed at the given game time; the next simulation step applies it
+     */
+    public void queueDrop(long timestampNanos) {
+        inputQueue.post(KeyEvent.VK_SPACE, timestampNanos);
+    }
+
     /**
      * Renders the game with camera transformation
      */
     public void render(Graphics2D g2d) {
+        renderScene(g2d);
+        renderHud(g2d);
+    }
+    
+    /**
+     * Whether renderScene() draws anything this frame
+     */
+    public boolean isSceneVisible() {
+        return currentState == GameState.PLAYING;
+    }
+    
+    /**
+     * Renders the world (background, tower, crane, particles) covering GAME_WIDTH x GAME_HEIGHT.
+     * Safe to draw into a lower-resolution buffer: nothing here is text.
+     */
+    public void renderScene(Graphics2D g2d) {
         if (currentState != GameState.PLAYING) {
             return;
         }
@@ -297,17 +565,21 @@ public class GameEngine implements KeyListener {
         // Save original screen transform
         var originalTransform = g2d.getTransform();
         
+        // Blend moving state between the last two fixed updates
+        double alpha = renderAlpha;
+        double renderCameraY = prevCameraY + (cameraY - prevCameraY) * alpha;
+        
         // 1. Render dynamic parallax background in screen space (0, 0, GAME_WIDTH, GAME_HEIGHT)
         if (cityBackground != null) {
             int towerHeight = tower != null ? tower.getHeight() : 0;
-            cityBackground.render(g2d, towerHeight, cameraY);
+            cityBackground.render(g2d, towerHeight, renderCameraY);
         } else {
             g2d.setColor(new Color(135, 206, 235)); // Fallback sky blue
             g2d.fillRect(0, 0, GAME_WIDTH, GAME_HEIGHT);
         }
         
         // 2. Apply camera transformation for world objects (Tower, Crane, Blocks, Particles)
-        g2d.translate(0, cameraY);
+        g2d.translate(0, renderCameraY);
         
         // Render game objects (they will be affected by camera)
         if (tower != null) {
@@ -315,22 +587,32 @@ public class GameEngine implements KeyListener {
         }
         
         if (crane != null) {
-            crane.render(g2d);
+            renderLandingGhost(g2d);
+            crane.render(g2d, alpha);
             
             // Render the falling block if it exists and is dropped (with enhanced animation)
             Block currentBlock = crane.getCurrentBlock();
             if (currentBlock != null && currentBlock.isDropped()) {
-                currentBlock.renderWithAnimation(g2d, cameraY);
+                currentBlock.renderWithAnimation(g2d, renderCameraY, alpha);
             }
         }
         
         // Render advanced features (particle effects, etc.) - affected by camera
         if (advancedFeatures != null) {
-            advancedFeatures.render(g2d);
+            advancedFeatures.render(g2d, alpha);
         }
         
         // Restore original transform for UI elements (UI should not move with camera)
         g2d.setTransform(originalTransform);
+    }
+    
+    /**
+     * Renders feedback text and the in-game HUD; drawn at native resolution so text stays crisp
+     */
+    public void renderHud(Graphics2D g2d) {
+        if (currentState != GameState.PLAYING) {
+            return;
+        }
         
         // Render professional feedback system (with screen shake and effects)
         if (feedbackSystem != null) {
@@ -341,67 +623,99 @@ public class GameEngine implements KeyListener {
         renderGameUI(g2d);
     }
 
+    /**
+     * Dibuja la silueta del bloque donde caería si se soltara ahora
+     */
+    private void renderLandingGhost(Graphics2D g2d) {
+        Block carried = crane.getCurrentBlock();
+        if (carried == null || carried.isDropped()) {
+            return;
+        }
+        
+        double landingX = landingPredictor.predictLandingCenterX(crane) - carried.getWidth() / 2.0;
+        double landingY = landingPredictor.getLandingSurfaceY() - carried.getHeight();
+        
+        g2d.setColor(GHOST_FILL);
+        g2d.fillRect((int)landingX, (int)landingY, (int)carried.getWidth(), (int)carried.getHeight());
+        g2d.setColor(GHOST_OUTLINE);
+        g2d.setStroke(GHOST_STROKE);
+        g2d.drawRect((int)landingX, (int)landingY, (int)carried.getWidth(), (int)carried.getHeight());
+    }
+
     /**
      * Renderiza UI del juego con información de desafío mejorada
      */
     private void renderGameUI(Graphics2D g2d) {
-        // Información esencial con mejor visibilidad
-        g2d.setFont(new Font("Arial", Font.BOLD, 16));
-        g2d.setColor(Color.WHITE);
+        // Panel de estado retenido: solo se repinta cuando un evento lo invalida
+        statusWidget.render(g2d, 5, 5);
+        
+        // NUEVO: Indicador de timing perfecto (cambia cada frame, se dibuja en modo inmediato)
+        renderTimingIndicator(g2d);
         
+        // NUEVO: Mini-mapa de la torre
+        if (!tower.isEmpty()) {
+            minimapWidget.invalidateIfChanged(minimapKey());
+            minimapWidget.render(g2d, GAME_WIDTH - 65, 70);
+        }
+        
+        // Controles mejorados
+        g2d.setColor(Color.WHITE);
+        CONTROLS_LABEL.draw(g2d, GAME_WIDTH / 2 - 200, GAME_HEIGHT - 20);
+    }
+    
+    /**
+     * Panel de puntuación, altura, vidas y desafío, en coordenadas del widget
+     */
+    private void paintStatusPanel(Graphics2D g2d, int width, int height) {
         // Fondo semi-transparente para mejor legibilidad
-        g2d.setColor(new Color(0, 0, 0, 150));
-        g2d.fillRoundRect(5, 5, 250, 120, 10, 10);
+        g2d.setColor(HUD_PANEL_COLOR);
+        g2d.fillRoundRect(0, 0, width, height, 10, 10);
         
+        // Información esencial: etiquetas cacheadas + dígitos del atlas (sin Strings por frame)
         g2d.setColor(Color.WHITE);
-        g2d.drawString("Score: " + scoreManager.getCurrentScore(), 15, 25);
-        g2d.drawString("Height: " + tower.getHeight() + "/163", 15, 45);
+        int x = (int) SCORE_LABEL.draw(g2d, 10, 20);
+        HUD_DIGITS.drawInt(g2d, scoreManager.getCurrentScore(), x, 20);
+        x = (int) HEIGHT_LABEL.draw(g2d, 10, 40);
+        x = HUD_DIGITS.drawInt(g2d, tower.getHeight(), x, 40);
+        x = HUD_DIGITS.drawChar(g2d, '/', x, 40);
+        HUD_DIGITS.drawInt(g2d, 163, x, 40);
         
         // Vidas con iconos visuales
-        g2d.drawString("Lives: ", 15, 65);
+        LIVES_LABEL.draw(g2d, 10, 60);
         for (int i = 0; i < MAX_LIVES; i++) {
             g2d.setColor(i < lives ? Color.RED : Color.DARK_GRAY);
-            g2d.fillOval(80 + i * 20, 55, 12, 12);
+            g2d.fillOval(75 + i * 20, 50, 12, 12);
         }
         
         // NUEVO: Información de desafío
         g2d.setColor(Color.YELLOW);
-        g2d.setFont(new Font("Arial", Font.BOLD, 12));
         
         // Patrón de movimiento actual
-        String pattern = getMovementPatternName(tower.getHeight());
-        g2d.drawString("Pattern: " + pattern, 15, 85);
+        PATTERN_LABELS[getMovementPatternIndex(tower.getHeight())].draw(g2d, 10, 80);
         
         // Velocidad actual
         double speedMultiplier = crane.getSpeed() / crane.getBaseSpeed();
-        g2d.drawString(String.format("Speed: %.1fx", speedMultiplier), 15, 100);
+        x = (int) SPEED_LABEL.draw(g2d, 10, 95);
+        x = HUD_SMALL_DIGITS.drawFixed(g2d, speedMultiplier, 1, x, 95);
+        HUD_SMALL_DIGITS.drawChar(g2d, 'x', x, 95);
         
         // Rango de movimiento
         double rangePercent = (crane.getSwingRange() / (GAME_WIDTH * 0.3)) * 100;
-        g2d.drawString(String.format("Range: %.0f%%", rangePercent), 15, 115);
-        
-        // NUEVO: Indicador de timing perfecto
-        renderTimingIndicator(g2d);
-        
-        // NUEVO: Mini-mapa de la torre
-        renderTowerMinimap(g2d);
-        
-        // Controles mejorados
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 14));
-        g2d.drawString("SPACE = Drop Block | P = Pause | ESC = Menu | M = Movement Recorder", GAME_WIDTH / 2 - 200, GAME_HEIGHT - 20);
+        x = (int) RANGE_LABEL.draw(g2d, 10, 110);
+        x = HUD_SMALL_DIGITS.drawFixed(g2d, rangePercent, 0, x, 110);
+        HUD_SMALL_DIGITS.drawChar(g2d, '%', x, 110);
     }
     
     /**
-     * Obtiene el nombre del patrón de movimiento actual
+     * Obtiene el índice del patrón de movimiento actual en PATTERN_NAMES
      */
-    private String getMovementPatternName(int towerHeight) {
-        if (towerHeight <= 10) return "STEADY";
-        if (towerHeight <= 25) return "ACCELERATING";
-        if (towerHeight <= 50) return "ERRATIC";
-        if (towerHeight <= 75) return "PRECISION";
-        if (towerHeight <= 100) return "CHAOTIC";
-        return "EXTREME";
+    private int getMovementPatternIndex(int towerHeight) {
+        if (towerHeight <= 10) return 0;
+        if (towerHeight <= 25) return 1;
+        if (towerHeight <= 50) return 2;
+        if (towerHeight <= 75) return 3;
+        if (towerHeight <= 100) return 4;
+        return 5;
     }
     
     /**
@@ -413,13 +727,12 @@ public class GameEngine implements KeyListener {
         int y = 30;
         
         // Fondo
-        g2d.setColor(new Color(0, 0, 0, 150));
+        g2d.setColor(HUD_PANEL_COLOR);
         g2d.fillRoundRect(x - 10, y - 20, 140, 40, 8, 8);
         
-        // Calcular si estamos en zona de timing perfecto
-        double craneX = crane.getX();
-        double centerX = GAME_WIDTH / 2.0;
-        double distance = Math.abs(craneX - centerX);
+        // Calcular si estamos en zona de timing perfecto (según el punto de aterrizaje previsto)
+        double offset = landingPredictor.predictOffset(crane);
+        double distance = Math.min(Math.abs(offset), crane.getSwingRange());
         double maxDistance = crane.getSwingRange();
         
         // Zona perfecta es el 20% central
@@ -430,8 +743,7 @@ public class GameEngine implements KeyListener {
         g2d.fillOval(x, y - 10, 20, 20);
         
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 12));
-        g2d.drawString(inPerfectZone ? "PERFECT!" : "TIMING", x + 25, y);
+        (inPerfectZone ? PERFECT_LABEL : TIMING_LABEL).draw(g2d, x + 25, y);
         
         // Barra de precisión
         int barWidth = 80;
@@ -448,8 +760,8 @@ public class GameEngine implements KeyListener {
         g2d.fillRect(perfectStart, barY, perfectWidth, 4);
         
         // Posición actual
-        int currentPos = barX + (int)((distance / maxDistance) * (barWidth / 2));
-        if (craneX < centerX) currentPos = barX + barWidth / 2 - (int)((distance / maxDistance) * (barWidth / 2));
+        int currentPos;
+        if (offset < 0) currentPos = barX + barWidth / 2 - (int)((distance / maxDistance) * (barWidth / 2));
         else currentPos = barX + barWidth / 2 + (int)((distance / maxDistance) * (barWidth / 2));
         
         g2d.setColor(Color.YELLOW);
@@ -457,18 +769,41 @@ public class GameEngine implements KeyListener {
     }
     
     /**
-     * Renderiza un mini-mapa de la torre
+     * Clave del mini-mapa: altura y nivel de estabilidad de los bloques visibles
+     * La estabilidad se recalcula sin eventos, así que el widget compara esta clave cada frame.
+     */
+    private long minimapKey() {
+        int towerHeight = tower.getHeight();
+        long key = towerHeight;
+        for (int i = Math.max(0, towerHeight - MINIMAP_BLOCKS); i < towerHeight; i++) {
+            key = key * 5 + getMinimapLevel(tower.getBlock(i).getStability());
+        }
+        return key;
+    }
+    
+    /**
+     * Nivel de color del bloque en el mini-mapa, de 0 (rojo) a 3 (verde)
+     */
+    private static int getMinimapLevel(double stability) {
+        if (stability >= 0.9) return 3;
+        if (stability >= 0.7) return 2;
+        if (stability >= 0.5) return 1;
+        return 0;
+    }
+    
+    /**
+     * Renderiza un mini-mapa de la torre, en coordenadas del widget
      */
-    private void renderTowerMinimap(Graphics2D g2d) {
+    private void paintTowerMinimap(Graphics2D g2d, int width, int height) {
         if (tower.isEmpty()) return;
         
-        int mapX = GAME_WIDTH - 60;
-        int mapY = 100;
+        int mapX = 5;
+        int mapY = 30;
         int mapWidth = 50;
         int mapHeight = 200;
         
         // Fondo del mini-mapa
-        g2d.setColor(new Color(0, 0, 0, 150));
+        g2d.setColor(HUD_PANEL_COLOR);
         g2d.fillRoundRect(mapX - 5, mapY - 5, mapWidth + 10, mapHeight + 10, 8, 8);
         
         // Borde
@@ -478,22 +813,14 @@ public class GameEngine implements KeyListener {
         
         // Dibujar bloques de la torre (últimos 20)
         int towerHeight = tower.getHeight();
-        int startBlock = Math.max(0, towerHeight - 20);
+        int startBlock = Math.max(0, towerHeight - MINIMAP_BLOCKS);
         
         for (int i = startBlock; i < towerHeight; i++) {
-            int blockY = mapY + mapHeight - ((i - startBlock + 1) * (mapHeight / 20));
+            int blockY = mapY + mapHeight - ((i - startBlock + 1) * (mapHeight / MINIMAP_BLOCKS));
             
             // Color según estabilidad del bloque
-            Block block = tower.getBlocks().get(i);
-            double stability = block.getStability();
-            Color blockColor;
-            if (stability >= 0.9) blockColor = Color.GREEN;
-            else if (stability >= 0.7) blockColor = Color.YELLOW;
-            else if (stability >= 0.5) blockColor = Color.ORANGE;
-            else blockColor = Color.RED;
-            
-            g2d.setColor(blockColor);
-            g2d.fillRect(mapX + 5, blockY, mapWidth - 10, mapHeight / 20 - 1);
+            g2d.setColor(MINIMAP_COLORS[getMinimapLevel(tower.getBlock(i).getStability())]);
+            g2d.fillRect(mapX + 5, blockY, mapWidth - 10, mapHeight / MINIMAP_BLOCKS - 1);
         }
         
         // Indicador de posición de la grúa
@@ -502,8 +829,7 @@ public class GameEngine implements KeyListener {
         
         // Etiqueta
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.PLAIN, 10));
-        g2d.drawString("Tower", mapX, mapY - 20);
+        MINIMAP_LABEL.draw(g2d, mapX, mapY - 20);
     }
 
     /**
@@ -538,11 +864,6 @@ public class GameEngine implements KeyListener {
             blockDropped = true;
             currentBlock.makeStable();
             currentBlock.triggerImpactSquash();
-
-            // Play landing sound
-            if (soundManager != null) {
-                soundManager.playSound(SoundManager.SoundType.BLOCK_LAND);
-            }
             
             // Add to tower
             Block previousTop = tower.getTopBlock();
@@ -567,10 +888,11 @@ public class GameEngine implements KeyListener {
             
             // Professional gameplay analysis and feedback
             GameplayEnhancer.GameplayFeedback feedback = gameplayEnhancer.analyzeBlockPlacement(
-                currentBlock, previousTop, tower, crane, System.currentTimeMillis()
+                currentBlock, previousTop, tower, crane, clock.millis()
             );
             
             // Calculate enhanced score using existing ScoreManager method
+            int scoreBefore = scoreManager.getCurrentScore();
             int points = scoreManager.addBlockScore(currentBlock, previousTop);
 
             if (currentBlock.isGlass()) {
@@ -584,53 +906,15 @@ public class GameEngine implements KeyListener {
                 scoreManager.addBonusPoints(feedback.score - points);
             }
             
-            // Professional visual feedback
-            int blockCenterX = (int)(currentBlock.getX() + currentBlock.getWidth() / 2);
-            int blockTopY = (int)currentBlock.getY();
-            
-            if (feedbackSystem != null) {
-                feedbackSystem.addPlacementFeedback(blockCenterX, blockTopY - 30, feedback);
-            }
-            
-            // Enhanced audio feedback based on quality
-            if (soundManager != null) {
-                switch (feedback.quality) {
-                    case PERFECT:
-                        soundManager.playSound(SoundManager.SoundType.PERFECT_PLACEMENT);
-                        break;
-                    case EXCELLENT:
-                    case GOOD:
-                        soundManager.playSound(SoundManager.SoundType.BLOCK_LAND);
-                        break;
-                    default:
-                        // Basic landing sound for lower quality placements
-                        break;
-                }
-                
-                // Special combo sound
-                if (feedback.isCombo && feedback.comboCount >= 5) {
-                    soundManager.playSound(SoundManager.SoundType.MILESTONE_REACHED);
-                }
+            if (!headless) {
+                GameEvents.blockLanded(newHeight, feedback.alignmentPercentage, feedback.quality.name(),
+                        scoreManager.getCurrentScore() - scoreBefore);
             }
             
-            // Legacy effects system (keeping for compatibility)
-            if (advancedFeatures != null) {
-                if (feedback.quality == GameplayEnhancer.PlacementQuality.PERFECT) {
-                    advancedFeatures.onPerfectBlockPlacement(blockCenterX, blockTopY, currentBlock);
-                } else if (feedback.quality == GameplayEnhancer.PlacementQuality.GOOD || 
-                          feedback.quality == GameplayEnhancer.PlacementQuality.EXCELLENT) {
-                    advancedFeatures.onGoodBlockPlacement(blockCenterX, blockTopY, currentBlock);
-                }
-                
-                // Height transitions and milestones
-                advancedFeatures.onHeightTransition(blockCenterX, blockTopY, newHeight, previousHeight);
-                
-                if (newHeight % 10 == 0) {
-                    advancedFeatures.onMilestoneReached(blockCenterX, blockTopY - 50, newHeight);
-                }
-            }
+            int blockCenterX = (int)(currentBlock.getX() + currentBlock.getWidth() / 2);
+            int blockTopY = (int)currentBlock.getY();
             
-            // Adaptive difficulty adjustment based on player performance
+            // Adaptive difficulty adjustment based on player performance (gameplay state, stays in the tick)
             if (gameplayEnhancer != null) {
                 double suggestedSpeedMultiplier = gameplayEnhancer.suggestSpeedMultiplier(
                     crane.getSpeed(), tower.getHeight()
@@ -642,10 +926,25 @@ public class GameEngine implements KeyListener {
                 crane.setSpeed(adjustedSpeed);
             }
             
-            // Notify listeners with enhanced information
-            if (stateListener != null) {
-                stateListener.onScoreChanged(scoreManager.getCurrentScore());
-                stateListener.onBlockPlaced(points, Math.max(feedback.comboCount, scoreManager.getCurrentCombo()));
+            // Feedback, effects, sounds and listeners run off the tick (see applyGameplayEvent)
+            GameplayEventBus.Event landed = eventBus.claim(GameplayEventBus.Type.BLOCK_LANDED);
+            landed.block = currentBlock;
+            landed.feedback = feedback;
+            landed.x = blockCenterX;
+            landed.y = blockTopY;
+            landed.floor = newHeight;
+            landed.previousHeight = previousHeight;
+            landed.points = points;
+            landed.score = scoreManager.getCurrentScore();
+            landed.combo = Math.max(feedback.comboCount, scoreManager.getCurrentCombo());
+            eventBus.publish();
+            
+            if (newHeight % 10 == 0) {
+                GameplayEventBus.Event milestone = eventBus.claim(GameplayEventBus.Type.MILESTONE);
+                milestone.x = blockCenterX;
+                milestone.y = blockTopY;
+                milestone.floor = newHeight;
+                eventBus.publish();
             }
             
             // Remove the block from crane after it's been added to tower
@@ -665,7 +964,8 @@ public class GameEngine implements KeyListener {
         lives--;
         blockDropped = true;
         
-        // Remove the lost block from crane
+        // Remove the lost block from crane and recycle it
+        blockPool.release(crane.getCurrentBlock());
         crane.setCurrentBlock(null);
         
         // Block lost
@@ -677,9 +977,9 @@ public class GameEngine implements KeyListener {
             blockDropped = false;
             
             // Notify listeners about life lost
-            if (stateListener != null) {
-                // We can extend the interface later to handle life changes
-            }
+            GameplayEventBus.Event lost = eventBus.claim(GameplayEventBus.Type.BLOCK_LOST);
+            lost.lives = lives;
+            eventBus.publish();
         }
     }
 
@@ -692,6 +992,7 @@ public class GameEngine implements KeyListener {
         
         // Adjust crane speed based on tower height for progressive difficulty
         adjustCraneSpeed();
+        statusWidget.invalidate(); // Speed and range shown in the HUD were just retuned
         
         int towerHeight = tower != null ? tower.getHeight() : 0;
         
@@ -706,7 +1007,8 @@ public class GameEngine implements KeyListener {
         int width = getBlockWidthForType(blockType);
         int height = getBlockHeightForType(blockType);
         
-        Block newBlock = new Block(crane.getX() - width/2, crane.getY() + 60, width, height, blockColor, blockType);
+        Block newBlock = blockPool.acquire(crane.getX() - width/2, crane.getY() + 60, width, height, blockColor, blockType);
+        newBlock.setRecordEvents(!headless);
         crane.setCurrentBlock(newBlock);
         
         // DESHABILITADO: No reproducir patrones automáticamente en el juego principal
@@ -733,7 +1035,9 @@ public class GameEngine implements KeyListener {
             double newSpeed = baseSpeed * speedMultiplier;
             crane.setSpeed(newSpeed);
             
-            System.out.println("🏗️ Speed adjusted: " + String.format("%.2f", newSpeed) + " (Height: " + towerHeight + ")");
+            if (!headless) {
+                System.out.println("🏗️ Speed adjusted: " + String.format("%.2f", newSpeed) + " (Height: " + towerHeight + ")");
+            }
         }
     }
     
@@ -909,7 +1213,7 @@ public class GameEngine implements KeyListener {
         if (towerHeight >= 3) { // Reducido de 7 a 3
             if (!cameraActivated) {
                 cameraActivated = true;
-                cameraActivationTime = System.currentTimeMillis();
+                cameraActivationTime = clock.millis();
             }
             
             // NUEVO: Sistema de cámara predictiva que anticipa el movimiento
@@ -1078,19 +1382,21 @@ public class GameEngine implements KeyListener {
         gameOverReason = reason;
         
         int finalScore = scoreManager.calculateFinalScore();
+        if (!headless) {
+            GameEvents.gameOver(reason, tower != null ? tower.getHeight() : 0, finalScore);
+        }
         
         // Check if score qualifies for high score table
         boolean qualifies = scoreStorage.qualifiesForHighScore(finalScore);
         
-        if (stateListener != null) {
-            stateListener.onGameOver(reason, finalScore);
-        }
+        GameplayEventBus.Event gameOver = eventBus.claim(GameplayEventBus.Type.GAME_OVER);
+        gameOver.reason = reason;
+        gameOver.score = finalScore;
+        eventBus.publish();
         
         this.currentState = GameState.GAME_OVER;
-        
-        // Play game over sound
-        if (soundManager != null) {
-            soundManager.playSound(SoundManager.SoundType.GAME_OVER);
+        if (headless) {
+            return; // Simulated games leave no trace in the console
         }
         
         System.out.println("Game Over: " + reason);
@@ -1108,6 +1414,7 @@ public class GameEngine implements KeyListener {
      */
     public void endGame(String reason) {
         triggerGameOver(reason);
+        eventBus.drainFrame(); // Called outside a frame: deliver now
     }
 
     /**
@@ -1131,12 +1438,9 @@ public class GameEngine implements KeyListener {
     public void keyPressed(KeyEvent e) {
         switch (e.getKeyCode()) {
             case KeyEvent.VK_SPACE:
-                if (currentState == GameState.PLAYING && crane != null && !blockDropped) {
-                    crane.dropBlock();
-                    // Play drop sound
-                    if (soundManager != null) {
-                        soundManager.playSound(SoundManager.SoundType.BLOCK_DROP);
-                    }
+                if (currentState == GameState.PLAYING && !paused && crane != null && !blockDropped) {
+                    // Stamped now, released by the simulation at this exact crane phase
+                    inputQueue.postTraced(KeyEvent.VK_SPACE, latencyTracer.begin());
                 }
                 break;
                 
@@ -1169,27 +1473,122 @@ public class GameEngine implements KeyListener {
     // Game control methods
     public void pauseGame() {
         paused = true;
+        clock.pause();
     }
 
     public void resumeGame() {
         paused = false;
+        clock.resume();
     }
 
     public void togglePause() {
-        paused = !paused;
+        if (paused) {
+            resumeGame();
+        } else {
+            pauseGame();
+        }
     }
 
     public void returnToMenu() {
         currentState = GameState.MENU;
-        if (stateListener != null) {
-            stateListener.onStateChanged(currentState);
-        }
+        notifyListeners(listener -> listener.onStateChanged(GameState.MENU));
     }
 
     public void showHighScores() {
         currentState = GameState.HIGH_SCORES;
+        notifyListeners(listener -> listener.onStateChanged(GameState.HIGH_SCORES));
+    }
+    
+    /**
+     * Frame subscriber: placement feedback, effects and UI listeners, run on the producer
+     * thread at the end of the frame
+     */
+    private void applyGameplayEvent(GameplayEventBus.Event event) {
+        switch (event.type) {
+            case BLOCK_LANDED: {
+                GameplayEnhancer.PlacementQuality quality = event.feedback.quality;
+                if (feedbackSystem != null) {
+                    feedbackSystem.addPlacementFeedback(event.x, event.y - 30, event.feedback);
+                }
+                if (advancedFeatures != null) {
+                    if (quality == GameplayEnhancer.PlacementQuality.PERFECT) {
+                        advancedFeatures.onPerfectBlockPlacement(event.x, event.y, event.block);
+                    } else if (quality == GameplayEnhancer.PlacementQuality.GOOD ||
+                              quality == GameplayEnhancer.PlacementQuality.EXCELLENT) {
+                        advancedFeatures.onGoodBlockPlacement(event.x, event.y, event.block);
+                    }
+                    advancedFeatures.onHeightTransition(event.x, event.y, event.floor, event.previousHeight);
+                }
+                int score = event.score;
+                int points = event.points;
+                int combo = event.combo;
+                notifyListeners(listener -> {
+                    listener.onScoreChanged(score);
+                    listener.onBlockPlaced(points, combo);
+                });
+                break;
+            }
+            case MILESTONE:
+                if (advancedFeatures != null) {
+                    advancedFeatures.onMilestoneReached(event.x, event.y - 50, event.floor);
+                }
+                break;
+            case BLOCK_LOST: {
+                int remaining = event.lives;
+                notifyListeners(listener -> listener.onLivesChanged(remaining));
+                break;
+            }
+            case GAME_OVER: {
+                String reason = event.reason;
+                int finalScore = event.score;
+                notifyListeners(listener -> listener.onGameOver(reason, finalScore));
+                break;
+            }
+        }
+    }
+    
+    /**
+     * Async subscriber on the audio thread: starting clips can block on the mixer, so it never
+     * happens inside the tick
+     */
+    private void playGameplaySounds(GameplayEventBus.Event event) {
+        if (soundManager == null) {
+            return;
+        }
+        switch (event.type) {
+            case BLOCK_LANDED:
+                soundManager.playSound(SoundManager.SoundType.BLOCK_LAND);
+                switch (event.feedback.quality) {
+                    case PERFECT:
+                        soundManager.playSound(SoundManager.SoundType.PERFECT_PLACEMENT);
+                        break;
+                    case EXCELLENT:
+                    case GOOD:
+                        soundManager.playSound(SoundManager.SoundType.BLOCK_LAND);
+                        break;
+                    default:
+                        // Basic landing sound for lower quality placements
+                        break;
+                }
+                if (event.feedback.isCombo && event.feedback.comboCount >= 5) {
+                    soundManager.playSound(SoundManager.SoundType.MILESTONE_REACHED);
+                }
+                break;
+            case GAME_OVER:
+                soundManager.playSound(SoundManager.SoundType.GAME_OVER);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    /**
+     * Delivers an event to the HUD widgets first, then to the UI listener
+     */
+    private void notifyListeners(Consumer<GameStateListener> event) {
+        event.accept(hudInvalidator);
         if (stateListener != null) {
-            stateListener.onStateChanged(currentState);
+            event.accept(stateListener);
         }
     }
 
@@ -1197,6 +1596,22 @@ public class GameEngine implements KeyListener {
         running = false;
     }
 
+    /**
+     * Stops the engine for good: ends the audio subscriber thread and releases the sound output.
+     * Anything that creates an engine and then drops it (a replaced window, tests) calls this,
+     * otherwise the parked audio thread keeps the whole engine reachable.
+     */
+    public void dispose() {
+        stopEngine();
+        if (audioSubscription != null) {
+            audioSubscription.close();
+            audioSubscription = null;
+        }
+        if (soundManager != null) {
+            soundManager.dispose();
+        }
+    }
+
     // Getters
     public GameState getCurrentState() { return currentState; }
     public DifficultyLevel getCurrentDifficulty() { return currentDifficulty; }
@@ -1204,13 +1619,70 @@ public class GameEngine implements KeyListener {
     public boolean isPaused() { return paused; }
     public ScoreManager getScoreManager() { return scoreManager; }
     public MovementRecorder getMovementRecorder() { return movementRecorder; }
+    public BlockPool getBlockPool() { return blockPool; }
+    public GameClock getClock() { return clock; }
+    public LatencyTracer getLatencyTracer() { return latencyTracer; }
+    public GameplayEventBus getEventBus() { return eventBus; }
+    public FrameProfiler getProfiler() { return profiler; }
+    public AdvancedFeaturesManager getAdvancedFeatures() { return advancedFeatures; }
+    public RenderingEngine.RenderQuality getRenderQuality() { return renderQuality; }
+    
+    /**
+     * Sets the render quality; safe from any thread, the next paint picks it up whole
+     */
+    public void setRenderQuality(RenderingEngine.RenderQuality quality) {
+        if (quality == null) {
+            throw new IllegalArgumentException("Render quality cannot be null");
+        }
+        this.renderQuality = quality;
+    }
+    
+    /**
+     * Applies the requested quality in one step before a paint and returns it for the whole frame.
+     * Call once at the start of each paint so no frame mixes two quality levels.
+     */
+    public RenderingEngine.RenderQuality beginFrameQuality() {
+        RenderingEngine.RenderQuality quality = renderQuality;
+        if (quality != appliedQuality) {
+            if (cityBackground != null) {
+                cityBackground.setOptionalLayers(quality.backgroundLayers);
+            }
+            if (advancedFeatures != null) {
+                advancedFeatures.getParticleSystem().setMaxParticles(quality.particleCap);
+            }
+            BlockDropAnimation.setShadowEffectsEnabled(quality.shadows);
+            if (appliedQuality != null) {
+                System.out.println("🎚️ Render quality: " + appliedQuality + " -> " + quality);
+            }
+            appliedQuality = quality;
+        }
+        return quality;
+    }
+    
+    /**
+     * Feeds one profiler window to the quality governor, which may request a new level
+     */
+    public void governQuality(FrameProfiler.Snapshot window, double frameBudgetMillis) {
+        if (currentState != GameState.PLAYING || paused) {
+            return; // Menus and pause don't reflect gameplay cost
+        }
+        RenderingEngine.RenderQuality current = renderQuality;
+        RenderingEngine.RenderQuality next = qualityGovernor.evaluate(window, frameBudgetMillis, current);
+        if (next != current) {
+            setRenderQuality(next);
+        }
+    }
+    
+    public QualityGovernor getQualityGovernor() { return qualityGovernor; }
     public ScoreStorage getScoreStorage() { return scoreStorage; }
     public Tower getTower() { return tower; }
     public Crane getCrane() { return crane; }
+    public CraneTrajectoryPredictor getLandingPredictor() { return landingPredictor; }
     public String getGameOverReason() { return gameOverReason; }
     public double getFPS() { return fps; }
+    public double getRenderAlpha() { return renderAlpha; }
     public long getGameTime() { 
-        return currentState == GameState.PLAYING ? System.currentTimeMillis() - gameStartTime : 0; 
+        return currentState == GameState.PLAYING ? clock.millis() - gameStartTime : 0; 
     }
     
     public int getLives() { return lives; }
@@ -1219,4 +1691,11 @@ public class GameEngine implements KeyListener {
     public void setStateListener(GameStateListener listener) {
         this.stateListener = listener;
     }
+    
+    /**
+     * Sets the interpolation factor for the next render when an external loop drives updates
+     */
+    public void setRenderAlpha(double alpha) {
+        this.renderAlpha = Math.max(0.0, Math.min(1.0, alpha));
+    }
 }
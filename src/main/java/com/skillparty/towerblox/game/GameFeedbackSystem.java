@@ -1,5 +1,7 @@
 package com.skillparty.towerblox.game;
 
+import com.skillparty.towerblox.core.GameClock;
+
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.util.ArrayList;
@@ -36,7 +38,7 @@ public class GameFeedbackSystem {
         public FeedbackEffect(double x, double y, long duration) {
             this.x = x;
             this.y = y;
-            this.startTime = System.currentTimeMillis();
+            this.startTime = GameClock.getDefault().millis();
             this.duration = duration;
             this.expired = false;
         }
@@ -45,11 +47,11 @@ public class GameFeedbackSystem {
         public abstract void render(Graphics2D g2d);
         
         public boolean isExpired() {
-            return expired || (System.currentTimeMillis() - startTime) > duration;
+            return expired || (GameClock.getDefault().millis() - startTime) > duration;
         }
         
         protected double getProgress() {
-            return Math.min(1.0, (System.currentTimeMillis() - startTime) / (double)duration);
+            return Math.min(1.0, (GameClock.getDefault().millis() - startTime) / (double)duration);
         }
     }
     
@@ -123,7 +125,7 @@ public class GameFeedbackSystem {
         public void update(long deltaTime) {
             if (!active) return;
             
-            long elapsed = System.currentTimeMillis() - startTime;
+            long elapsed = GameClock.getDefault().millis() - startTime;
             if (elapsed >= duration) {
                 active = false;
                 currentOffsetX = 0;
@@ -167,7 +169,7 @@ public class GameFeedbackSystem {
         public void updateCombo(int combo) {
             if (combo > 1) {
                 this.currentCombo = combo;
-                this.comboStartTime = System.currentTimeMillis();
+                this.comboStartTime = GameClock.getDefault().millis();
                 this.visible = true;
             } else {
                 this.visible = false;
@@ -177,7 +179,7 @@ public class GameFeedbackSystem {
         public void render(Graphics2D g2d, int screenWidth, int screenHeight) {
             if (!visible) return;
             
-            long elapsed = System.currentTimeMillis() - comboStartTime;
+            long elapsed = GameClock.getDefault().millis() - comboStartTime;
             if (elapsed > COMBO_DISPLAY_DURATION) {
                 visible = false;
                 return;
@@ -1,5 +1,6 @@
 package com.skillparty.towerblox.game;
 
+import com.skillparty.towerblox.core.GameClock;
 import com.skillparty.towerblox.game.physics.Block;
 import com.skillparty.towerblox.game.physics.Tower;
 import com.skillparty.towerblox.utils.Constants;
@@ -158,7 +159,7 @@ public class GameOverManager {
         if (!gameOverTriggered) {
             gameOverTriggered = true;
             gameOverReason = reason;
-            gameOverTime = System.currentTimeMillis();
+            gameOverTime = GameClock.getDefault().millis();
             
             System.out.println("Game Over: " + reason.getMessage());
         }
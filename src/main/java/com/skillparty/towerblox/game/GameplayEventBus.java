@@ -0,0 +1,342 @@
+package com.skillparty.towerblox.game;
+
+import com.skillparty.towerblox.game.physics.Block;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gameplay event bus backed by a preallocated single-producer ring buffer
+ *
+ * The simulation tick publishes typed events (a block landed or was lost, a
+ * milestone, game over) instead of calling the sound, effects and UI code
+ * itself. Publishing only fills a reused slot and advances a sequence, with no
+ * locks and no allocation. Subscribers consume the events later, on one of two
+ * paths:
+ * - frame subscribers are drained by the producer thread at the end of the
+ *   frame with drainFrame(), after all simulation steps have run;
+ * - async subscribers get their own daemon thread, which parks while there is
+ *   nothing to read.
+ *
+ * Each subscriber has its own cursor. The producer never overwrites a slot that
+ * a frame subscriber has not read yet. If the ring is full, the event is
+ * dropped and counted rather than blocking the tick. Frame subscribers read the
+ * slot itself; it gets reused, so they must copy whatever they need before
+ * onEvent() returns.
+ *
+ * Async subscribers are lossy and never hold the producer back. A stalled
+ * audio thread must not make the UI miss a game over. Each async subscriber
+ * copies the slot into its own event and checks the slot's stamp afterwards.
+ * If the producer lapped it meanwhile, the copy is discarded and the
+ * subscriber skips ahead to the oldest event still in the ring, counting what
+ * it missed.
+ */
+public final class GameplayEventBus {
+
+    public enum Type { BLOCK_LANDED, BLOCK_LOST, MILESTONE, GAME_OVER }
+
+    /**
+     * One reusable ring slot; only the fields of its type are meaningful
+     */
+    public static final class Event {
+        public Type type;
+        public long sequence;
+        public Block block;                              // BLOCK_LANDED
+        public GameplayEnhancer.GameplayFeedback feedback; // BLOCK_LANDED
+        public int x;
+        public int y;
+        public int floor;                                // BLOCK_LANDED, MILESTONE
+        public int previousHeight;                       // BLOCK_LANDED
+        public int points;                               // BLOCK_LANDED
+        public int score;                                // BLOCK_LANDED, GAME_OVER (final score)
+        public int combo;                                // BLOCK_LANDED
+        public int lives;                                // BLOCK_LOST
+        public String reason;                            // GAME_OVER
+        private volatile long stamp = -1;                // Published sequence, or WRITING while being refilled
+
+        private void copyFrom(Event other) {
+            type = other.type;
+            sequence = other.sequence;
+            block = other.block;
+            feedback = other.feedback;
+            x = other.x;
+            y = other.y;
+            floor = other.floor;
+            previousHeight = other.previousHeight;
+            points = other.points;
+            score = other.score;
+            combo = other.combo;
+            lives = other.lives;
+            reason = other.reason;
+        }
+
+        private void clear(Type newType) {
+            type = newType;
+            block = null;
+            feedback = null;
+            x = y = floor = previousHeight = points = score = combo = lives = 0;
+            reason = null;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Subscriber {
+        void onEvent(Event event);
+    }
+
+    /**
+     * A subscriber and its read cursor (the last sequence it consumed)
+     */
+    public final class Subscription {
+        private final Subscriber subscriber;
+        private final AtomicLong cursor;
+        private final Thread thread;
+        private final Event copy; // Async only: what onEvent() sees, safe from the producer
+        private volatile boolean waiting;
+        private volatile boolean closed;
+        private volatile long skippedEvents;
+
+        private Subscription(Subscriber subscriber, String threadName) {
+            this.subscriber = subscriber;
+            this.cursor = new AtomicLong(published.get());
+            if (threadName != null) {
+                thread = new Thread(this::runAsync, threadName);
+                thread.setDaemon(true);
+                copy = new Event();
+            } else {
+                thread = null;
+                copy = null;
+            }
+        }
+
+        /**
+         * Delivers every event published since the last drain; returns how many
+         */
+        private int drain() {
+            long available = published.get();
+            long next = cursor.get() + 1;
+            int count = 0;
+            for (; next <= available; next++) {
+                try {
+                    subscriber.onEvent(ring[(int) (next & mask)]);
+                } catch (RuntimeException e) {
+                    System.err.println("❌ Gameplay event subscriber failed: " + e.getMessage());
+                }
+                cursor.lazySet(next); // Frees the slot for the producer
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Async drain: copies each slot and validates its stamp, skipping whatever the producer
+         * overwrote before it could be read
+         */
+        private int drainLossy() {
+            int count = 0;
+            long next = cursor.get() + 1;
+            long available;
+            while (next <= (available = published.get())) {
+                long oldest = available - ring.length + 1;
+                if (next < oldest) {
+                    skippedEvents += oldest - next; // Lapped while stalled
+                    next = oldest;
+                }
+                Event slot = ring[(int) (next & mask)];
+                boolean intact = slot.stamp == next;
+                if (intact) {
+                    copy.copyFrom(slot);
+                    VarHandle.acquireFence(); // Field reads above complete before the stamp is read again
+                    intact = slot.stamp == next;
+                }
+                if (intact) {
+                    try {
+                        subscriber.onEvent(copy);
+                    } catch (RuntimeException e) {
+                        System.err.println("❌ Gameplay event subscriber failed: " + e.getMessage());
+                    }
+                    count++;
+                } else {
+                    skippedEvents++; // Refilled by the producer during the copy
+                }
+                cursor.lazySet(next);
+                next++;
+            }
+            return count;
+        }
+
+        private void runAsync() {
+            while (!closed) {
+                if (drainLossy() == 0) {
+                    waiting = true;
+                    if (cursor.get() == published.get() && !closed) {
+                        LockSupport.park(this);
+                    }
+                    waiting = false;
+                }
+            }
+        }
+
+        private void wakeIfWaiting() {
+            if (waiting) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        public void close() {
+            closed = true;
+            removeSubscription(this);
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        public long getLag() {
+            return published.get() - cursor.get();
+        }
+
+        /**
+         * Events an async subscriber missed because it fell a whole ring behind
+         */
+        public long getSkippedEvents() {
+            return skippedEvents;
+        }
+    }
+
+    private final Event[] ring;
+    private final int mask;
+    private static final long WRITING = -2;
+    private final AtomicLong published = new AtomicLong(-1);
+    private final Event overflow = new Event(); // Handed out when the ring is full; never published
+    private volatile Subscription[] frameSubscribers = new Subscription[0];
+    private volatile Subscription[] asyncSubscribers = new Subscription[0];
+
+    // Producer state
+    private long claimed = -1;
+    private boolean claimOverflowed;
+    private long droppedEvents;
+
+    /**
+     * Creates a bus holding up to capacity unread events, rounded up to a power of two
+     */
+    public GameplayEventBus(int capacity) {
+        if (capacity < 1 || capacity > (1 << 20)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^20: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.ring = new Event[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new Event();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds a subscriber drained by the producer thread on drainFrame()
+     */
+    public synchronized Subscription subscribeFrame(Subscriber subscriber) {
+        Subscription subscription = new Subscription(subscriber, null);
+        frameSubscribers = append(frameSubscribers, subscription);
+        return subscription;
+    }
+
+    /**
+     * Adds a subscriber with its own daemon thread, for work such as audio or I/O
+     */
+    public synchronized Subscription subscribeAsync(String threadName, Subscriber subscriber) {
+        Subscription subscription = new Subscription(subscriber, threadName);
+        asyncSubscribers = append(asyncSubscribers, subscription);
+        subscription.thread.start();
+        return subscription;
+    }
+
+    private static Subscription[] append(Subscription[] subscriptions, Subscription added) {
+        Subscription[] grown = Arrays.copyOf(subscriptions, subscriptions.length + 1);
+        grown[subscriptions.length] = added;
+        return grown;
+    }
+
+    private synchronized void removeSubscription(Subscription subscription) {
+        frameSubscribers = Arrays.stream(frameSubscribers).filter(s -> s != subscription).toArray(Subscription[]::new);
+        asyncSubscribers = Arrays.stream(asyncSubscribers).filter(s -> s != subscription).toArray(Subscription[]::new);
+    }
+
+    /**
+     * Claims the next slot and resets it to the given type. Producer thread only; fill
+     * the slot, then call publish(). If a frame subscriber would lose an unread event,
+     * the returned slot is a scratch event that publish() discards.
+     */
+    public Event claim(Type type) {
+        long next = claimed + 1;
+        if (next - minimumCursor() > ring.length) {
+            claimOverflowed = true;
+            overflow.clear(type);
+            return overflow;
+        }
+        claimOverflowed = false;
+        claimed = next;
+        Event event = ring[(int) (next & mask)];
+        event.stamp = WRITING;
+        VarHandle.storeStoreFence(); // An async reader sees WRITING before any of the new fields
+        event.clear(type);
+        event.sequence = next;
+        return event;
+    }
+
+    /**
+     * Makes the last claimed event visible to subscribers and wakes idle async ones
+     */
+    public void publish() {
+        if (claimOverflowed) {
+            claimOverflowed = false;
+            if (droppedEvents++ == 0) {
+                System.err.println("⚠️ Gameplay event ring full, dropping events (capacity " + ring.length + ")");
+            }
+            return;
+        }
+        ring[(int) (claimed & mask)].stamp = claimed;
+        published.set(claimed);
+        for (Subscription subscription : asyncSubscribers) {
+            subscription.wakeIfWaiting();
+        }
+    }
+
+    /**
+     * Delivers pending events to the frame subscribers; call on the producer thread at frame end
+     */
+    public int drainFrame() {
+        int delivered = 0;
+        for (Subscription subscription : frameSubscribers) {
+            delivered += subscription.drain();
+        }
+        return delivered;
+    }
+
+    /**
+     * Oldest sequence a frame subscriber still needs; async subscribers don't count, they skip
+     */
+    private long minimumCursor() {
+        long minimum = claimed;
+        for (Subscription subscription : frameSubscribers) {
+            minimum = Math.min(minimum, subscription.cursor.get());
+        }
+        return minimum;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    public long getPublishedCount() {
+        return published.get() + 1;
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+}
@@ -1,5 +1,7 @@
 package com.skillparty.towerblox.game;
 
+import com.skillparty.towerblox.core.GameClock;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.io.*;
@@ -49,7 +51,7 @@ public class MovementRecorder {
             this.frames = new ArrayList<>(frames);
             this.totalDuration = frames.isEmpty() ? 0 : 
                                frames.get(frames.size() - 1).timestamp - frames.get(0).timestamp;
-            this.createdTime = System.currentTimeMillis();
+            this.createdTime = System.currentTimeMillis(); // Wall-clock creation date, not game time
         }
         
         public boolean isEmpty() {
@@ -103,7 +105,7 @@ public class MovementRecorder {
         this.isRecording = true;
         this.currentPatternName = patternName;
         this.currentRecording.clear();
-        this.recordingStartTime = System.currentTimeMillis();
+        this.recordingStartTime = GameClock.getDefault().millis();
         
         System.out.println("🔴 Iniciando grabación: " + patternName);
     }
@@ -151,7 +153,7 @@ public class MovementRecorder {
         double normalizedY = (craneY - minY) / (maxY - minY);
         normalizedY = Math.max(0.0, Math.min(1.0, normalizedY));
         
-        long timestamp = System.currentTimeMillis() - recordingStartTime;
+        long timestamp = GameClock.getDefault().millis() - recordingStartTime;
         
         MovementFrame frame = new MovementFrame(timestamp, normalizedX, normalizedY, isDropping, speed);
         currentRecording.add(frame);
@@ -168,7 +170,7 @@ public class MovementRecorder {
         this.isReplaying = true;
         this.currentReplayPattern = pattern;
         this.currentReplayFrame = 0;
-        this.replayStartTime = System.currentTimeMillis();
+        this.replayStartTime = GameClock.getDefault().millis();
         
         System.out.println("▶️ Reproduciendo: " + pattern.name);
     }
@@ -215,7 +217,7 @@ public class MovementRecorder {
             return null;
         }
         
-        long elapsed = System.currentTimeMillis() - replayStartTime;
+        long elapsed = GameClock.getDefault().millis() - replayStartTime;
         
         // Buscar el frame apropiado
         while (currentReplayFrame < currentReplayPattern.frames.size()) {
@@ -356,7 +358,7 @@ public class MovementRecorder {
     public MovementPattern getCurrentReplayPattern() { return currentReplayPattern; }
     public int getRecordingFrameCount() { return currentRecording.size(); }
     public long getRecordingDuration() { 
-        return isRecording ? System.currentTimeMillis() - recordingStartTime : 0; 
+        return isRecording ? GameClock.getDefault().millis() - recordingStartTime : 0; 
     }
     
     /**
@@ -368,7 +370,7 @@ public class MovementRecorder {
                                currentPatternName, currentRecording.size(), 
                                getRecordingDuration() / 1000.0);
         } else if (isReplaying && currentReplayPattern != null) {
-            long elapsed = System.currentTimeMillis() - replayStartTime;
+            long elapsed = GameClock.getDefault().millis() - replayStartTime;
             return String.format("▶️ Reproduciendo: %s (%.1fs/%.1fs)", 
                                currentReplayPattern.name, elapsed / 1000.0, 
                                currentReplayPattern.totalDuration / 1000.0);
@@ -1,5 +1,7 @@
 package com.skillparty.towerblox.game.camera;
 
+import com.skillparty.towerblox.core.GameClock;
+
 import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 
@@ -110,7 +112,7 @@ public class CameraSystem {
     public void shake(double intensity, long duration) {
         this.shakeIntensity = intensity;
         this.shakeDuration = duration;
-        this.shakeStartTime = System.currentTimeMillis();
+        this.shakeStartTime = GameClock.getDefault().millis();
     }
     
     /**
@@ -118,7 +120,7 @@ public class CameraSystem {
      */
     private void updateShake() {
         if (shakeIntensity > 0) {
-            long elapsed = System.currentTimeMillis() - shakeStartTime;
+            long elapsed = GameClock.getDefault().millis() - shakeStartTime;
             if (elapsed < shakeDuration) {
                 // Decrease intensity over time
                 double progress = (double) elapsed / shakeDuration;
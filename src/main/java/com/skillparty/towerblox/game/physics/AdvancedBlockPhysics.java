@@ -1,7 +1,11 @@
 package com.skillparty.towerblox.game.physics;
 
+import com.skillparty.towerblox.core.GameClock;
+import com.skillparty.towerblox.effects.TrailBuffer;
+
 import java.awt.*;
 import java.awt.geom.AffineTransform;
+import java.util.ArrayDeque;
 
 /**
  * Advanced physics system for blocks in Tower Bloxx 2025
@@ -19,6 +23,14 @@ public class AdvancedBlockPhysics {
     private static final double MIN_VELOCITY = 0.05;
     private static final double MAX_FALL_SPEED = 15.0;
     private static final double WOBBLE_FACTOR = 0.02;
+    private static final int MAX_TRAIL_POINTS = 8;
+    private static final long TRAIL_MAX_AGE_MS = 500;
+    private static final Color[] TRAIL_TINTS = TrailBuffer.createTints(255, 255, 255, 100);
+    private static final BasicStroke TRAIL_STROKE = new BasicStroke(4.0f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+    
+    // Shared pool for transient trail state; settled blocks give theirs back
+    private static final int MAX_POOLED_TRAILS = 8;
+    private static final ArrayDeque<TrailBuffer> TRAIL_POOL = new ArrayDeque<>();
     
     /**
      * Advanced block physics state
@@ -34,8 +46,8 @@ public class AdvancedBlockPhysics {
         public double wobble = 0;
         public long landingTime = 0;
         
-        // Trail effect
-        public java.util.List<TrailPoint> trail = new java.util.ArrayList<>();
+        // Trail effect, borrowed from a shared pool while falling (null once settled)
+        public TrailBuffer trail;
         
         // Impact effect
         public boolean showImpact = false;
@@ -43,22 +55,6 @@ public class AdvancedBlockPhysics {
         public double impactIntensity = 0;
     }
     
-    /**
-     * Trail point for visual effects
-     */
-    public static class TrailPoint {
-        public double x, y;
-        public long time;
-        public double alpha;
-        
-        public TrailPoint(double x, double y) {
-            this.x = x;
-            this.y = y;
-            this.time = System.currentTimeMillis();
-            this.alpha = 1.0;
-        }
-    }
-    
     /**
      * Update block physics with advanced calculations
      */
@@ -77,7 +73,7 @@ public class AdvancedBlockPhysics {
             physics.velocityY = Math.min(physics.velocityY, MAX_FALL_SPEED);
             
             // Add slight wobble during fall
-            physics.wobble = Math.sin(System.currentTimeMillis() * 0.01) * WOBBLE_FACTOR;
+            physics.wobble = Math.sin(GameClock.getDefault().millis() * 0.01) * WOBBLE_FACTOR;
             physics.velocityX += physics.wobble;
             
             // Update rotation during fall
@@ -106,6 +102,21 @@ public class AdvancedBlockPhysics {
             physics.velocityX = 0;
             physics.velocityY = 0;
             physics.angularVelocity *= 0.1; // Slow rotation to stop
+            releaseTransientState(physics);
+        }
+    }
+    
+    /**
+     * Returns the trail buffer to the shared pool, leaving only the state a resting block
+     * needs (the impact flash clears itself once its 200ms have elapsed)
+     */
+    public static void releaseTransientState(PhysicsState physics) {
+        if (physics.trail != null) {
+            physics.trail.clear();
+            if (TRAIL_POOL.size() < MAX_POOLED_TRAILS) {
+                TRAIL_POOL.addFirst(physics.trail);
+            }
+            physics.trail = null;
         }
     }
     
@@ -134,7 +145,7 @@ public class AdvancedBlockPhysics {
             // Impact visual effect
             if (impactVelocity > 1.0) {
                 physics.showImpact = true;
-                physics.impactTime = System.currentTimeMillis();
+                physics.impactTime = GameClock.getDefault().millis();
                 physics.impactIntensity = impactVelocity;
             }
             
@@ -195,7 +206,7 @@ public class AdvancedBlockPhysics {
         
         // Very subtle breathing effect for life-like appearance
         if (physics.landingTime > 0) {
-            long timeSinceLanding = System.currentTimeMillis() - physics.landingTime;
+            long timeSinceLanding = GameClock.getDefault().millis() - physics.landingTime;
             if (timeSinceLanding < 2000) { // 2 seconds of settling
                 double settleFactor = 1.0 - (timeSinceLanding / 2000.0);
                 physics.wobble = Math.sin(timeSinceLanding * 0.005) * 0.5 * settleFactor;
@@ -208,28 +219,25 @@ public class AdvancedBlockPhysics {
      */
     private static void addTrailPoint(Block block, PhysicsState physics) {
         if (physics.velocityY > 2.0) { // Only add trail when moving fast
-            physics.trail.add(new TrailPoint(
-                block.getX() + block.getWidth() / 2,
-                block.getY() + block.getHeight() / 2
-            ));
-            
-            // Limit trail length
-            if (physics.trail.size() > 8) {
-                physics.trail.remove(0);
+            if (physics.trail == null) {
+                TrailBuffer pooled = TRAIL_POOL.pollFirst();
+                physics.trail = pooled != null ? pooled : new TrailBuffer(MAX_TRAIL_POINTS);
             }
+            
+            // The ring buffer overwrites its oldest sample, which limits trail length
+            physics.trail.add(block.getX() + block.getWidth() / 2,
+                              block.getY() + block.getHeight() / 2,
+                              GameClock.getDefault().millis());
         }
     }
     
     /**
-     * Update trail alpha for fading effect
+     * Expire trail samples older than the fade window
      */
     private static void updateTrail(PhysicsState physics) {
-        long currentTime = System.currentTimeMillis();
-        physics.trail.removeIf(point -> {
-            long age = currentTime - point.time;
-            point.alpha = Math.max(0, 1.0 - (age / 500.0)); // Fade over 500ms
-            return point.alpha <= 0;
-        });
+        if (physics.trail == null) return;
+        
+        physics.trail.expire(GameClock.getDefault().millis(), TRAIL_MAX_AGE_MS); // Fade over 500ms
     }
     
     /**
@@ -262,32 +270,20 @@ public class AdvancedBlockPhysics {
     }
     
     /**
-     * Render trail effect
+     * Render trail effect as a single polyline
      */
     private static void renderTrail(Graphics2D g2d, PhysicsState physics) {
-        if (physics.trail.isEmpty()) return;
-        
-        g2d.setStroke(new BasicStroke(2.0f));
+        if (physics.trail == null || physics.trail.isEmpty()) return;
         
-        for (int i = 0; i < physics.trail.size(); i++) {
-            TrailPoint point = physics.trail.get(i);
-            
-            // Trail color with fading alpha
-            Color trailColor = new Color(255, 255, 255, 
-                (int)(point.alpha * 100 * (i + 1) / physics.trail.size()));
-            g2d.setColor(trailColor);
-            
-            // Draw trail point
-            int size = (int)(4 * point.alpha * (i + 1) / physics.trail.size());
-            g2d.fillOval((int)(point.x - size/2), (int)(point.y - size/2), size, size);
-        }
+        physics.trail.render(g2d, 0, GameClock.getDefault().millis(), TRAIL_MAX_AGE_MS,
+                             TRAIL_TINTS, TRAIL_STROKE);
     }
     
     /**
      * Render impact effect
      */
     private static void renderImpactEffect(Graphics2D g2d, Block block, PhysicsState physics) {
-        long elapsed = System.currentTimeMillis() - physics.impactTime;
+        long elapsed = GameClock.getDefault().millis() - physics.impactTime;
         if (elapsed > 200) { // 200ms impact effect
             physics.showImpact = false;
             return;
@@ -337,6 +333,7 @@ public class AdvancedBlockPhysics {
         physics.isFalling = false;
         physics.velocityX = 0;
         physics.velocityY = 0;
-        physics.landingTime = System.currentTimeMillis();
+        physics.landingTime = GameClock.getDefault().millis();
+        releaseTransientState(physics);
     }
 }
@@ -1,5 +1,6 @@
 package com.skillparty.towerblox.game.physics;
 
+import com.skillparty.towerblox.core.GameClock;
 import com.skillparty.towerblox.effects.BlockDropAnimation;
 import java.awt.Color;
 import java.awt.Graphics2D;
@@ -10,9 +11,7 @@ import java.awt.RenderingHints;
 import java.awt.geom.AffineTransform;
 import java.awt.Font;
 import java.awt.FontMetrics;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.util.Arrays;
 
 /**
  * Represents a building floor block in the Tower Bloxx game
@@ -20,17 +19,22 @@ import java.util.Random;
  */
 public class Block {
     private double x, y;
+    private double prevX, prevY; // Position at the start of the last simulation step
     private double width, height;
     private double velocityX, velocityY;
     private Color color;
     private boolean isStable;
     private boolean isDropped;
     private BlockType blockType;
-    private List<Window> windows;
+    private Window[] windows = new Window[0]; // Grown on demand, reused by reinit()
+    private int windowCount;
     private boolean hasBalcony;
     private boolean hasAntenna;
-    private BlockDropAnimation dropAnimation;
+    private BlockDropAnimation dropAnimation; // Borrowed from a shared pool while dropping, returned on settle()
+    private boolean animating;
+    private boolean recordEvents = true; // Off for blocks of a simulated (headless) game
     private long impactTime = -1; // Set on landing; drives a brief squash-and-settle render effect
+    private int poolSlot = -1; // Intrusive index owned by BlockPool
 
     // Physics constants
     private static final double GRAVITY = 0.5;
@@ -51,19 +55,22 @@ public class Block {
         MAGNETIC       // Magnetic balancer block (snaps to center)
     }
     
+    private static final Color WINDOW_LIGHT = new Color(255, 255, 150, 200);
+    private static final Color PENTHOUSE_WINDOW_LIGHT = new Color(255, 215, 0, 180); // Golden light
+    
     // Window class for building floors
     private static class Window {
         int x, y, width, height;
         boolean isLit;
         Color lightColor;
         
-        Window(int x, int y, int width, int height) {
+        void set(int x, int y, int width, int height, Color lightColor) {
             this.x = x;
             this.y = y;
             this.width = width;
             this.height = height;
             this.isLit = Math.random() > 0.4; // 60% chance of being lit
-            this.lightColor = new Color(255, 255, 150, 200);
+            this.lightColor = lightColor;
         }
         
         void render(Graphics2D g2d, int blockX, int blockY) {
@@ -104,8 +111,20 @@ public class Block {
      * Creates a new block with specified type
      */
     public Block(double x, double y, double width, double height, Color color, BlockType blockType) {
+        reinit(x, y, width, height, color, blockType);
+    }
+    
+    /**
+     * Resets every field so the block is indistinguishable from a freshly constructed one.
+     * Windows are reused and any drop animation goes back to the shared pool, so a
+     * warmed-up block reinitializes without allocating.
+     */
+    public void reinit(double x, double y, double width, double height, Color color, BlockType blockType) {
+        settle();
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.width = width;
         this.height = height;
         this.color = color;
@@ -114,7 +133,6 @@ public class Block {
         this.velocityY = 0;
         this.isStable = false;
         this.isDropped = false;
-        this.windows = new ArrayList<>();
         this.hasBalcony = Math.random() > 0.7; // 30% chance
         this.hasAntenna = blockType == BlockType.PENTHOUSE && Math.random() > 0.5;
         
@@ -125,6 +143,8 @@ public class Block {
      * Generates windows based on block type and size
      */
     private void generateWindows() {
+        windowCount = 0;
+        
         if (blockType == BlockType.FOUNDATION) {
             return; // Foundation has no windows
         }
@@ -165,7 +185,7 @@ public class Block {
                     // Store RELATIVE positions, not absolute
                     int wx = col * (windowWidth + spacing) + spacing;
                     int wy = row * (windowHeight + spacing) + spacing;
-                    windows.add(new Window(wx, wy, windowWidth, windowHeight));
+                    addWindow(wx, wy, windowWidth, windowHeight, WINDOW_LIGHT);
                 }
             }
         }
@@ -181,7 +201,7 @@ public class Block {
                 // Store RELATIVE positions, not absolute
                 int wx = col * (windowWidth + spacing) + spacing;
                 int wy = row * (windowHeight + spacing) + spacing;
-                windows.add(new Window(wx, wy, windowWidth, windowHeight));
+                addWindow(wx, wy, windowWidth, windowHeight, WINDOW_LIGHT);
             }
         }
     }
@@ -196,7 +216,7 @@ public class Block {
             // Store RELATIVE positions, not absolute
             int wx = col * (largeWindowWidth + spacing) + spacing;
             int wy = spacing;
-            windows.add(new Window(wx, wy, largeWindowWidth, largeWindowHeight));
+            addWindow(wx, wy, largeWindowWidth, largeWindowHeight, WINDOW_LIGHT);
         }
     }
     
@@ -210,16 +230,35 @@ public class Block {
             // Store RELATIVE positions, not absolute
             int wx = col * (luxuryWidth + spacing) + spacing;
             int wy = spacing;
-            Window window = new Window(wx, wy, luxuryWidth, luxuryHeight);
-            window.lightColor = new Color(255, 215, 0, 180); // Golden light
-            windows.add(window);
+            addWindow(wx, wy, luxuryWidth, luxuryHeight, PENTHOUSE_WINDOW_LIGHT);
+        }
+    }
+    
+    /**
+     * Takes the next window slot, only allocating when this block has never held this many
+     */
+    private void addWindow(int wx, int wy, int windowWidth, int windowHeight, Color lightColor) {
+        if (windowCount == windows.length) {
+            windows = Arrays.copyOf(windows, Math.max(8, windows.length * 2));
         }
+        Window window = windows[windowCount];
+        if (window == null) {
+            window = new Window();
+            windows[windowCount] = window;
+        }
+        window.set(wx, wy, windowWidth, windowHeight, lightColor);
+        windowCount++;
     }
 
     /**
      * Updates the block's physics (gravity, velocity, position)
      */
     public void update() {
+        // Once the landing squash has played out nothing transient is needed any more
+        if (impactTime >= 0 && impactProgress() >= 1.0) {
+            settle();
+        }
+        
         if (isDropped && !isStable) {
             // Apply gravity
             velocityY += GRAVITY;
@@ -245,8 +284,18 @@ public class Block {
      * Renders the block as a building floor with appropriate details
      */
     public void render(Graphics2D g2d) {
-        int blockX = (int)x;
-        int blockY = (int)y;
+        render(g2d, 0, 0);
+    }
+
+    /**
+     * Renders the block shifted by the given offset without moving it, e.g. to draw it at an
+     * interpolated position between two simulation steps
+     */
+    public void render(Graphics2D g2d, double offsetX, double offsetY) {
+        double drawX = x + offsetX;
+        double drawY = y + offsetY;
+        int blockX = (int)drawX;
+        int blockY = (int)drawY;
         int blockWidth = (int)width;
         int blockHeight = (int)height;
 
@@ -259,8 +308,8 @@ public class Block {
         double scaleY = getImpactScaleY();
         if (scaleX != 1.0 || scaleY != 1.0) {
             originalTransform = g2d.getTransform();
-            double pivotX = x + width / 2.0;
-            double pivotY = y + height;
+            double pivotX = drawX + width / 2.0;
+            double pivotY = drawY + height;
             g2d.translate(pivotX, pivotY);
             g2d.scale(scaleX, scaleY);
             g2d.translate(-pivotX, -pivotY);
@@ -298,8 +347,8 @@ public class Block {
         }
         
         // Render windows with correct positioning
-        for (Window window : windows) {
-            window.render(g2d, blockX, blockY);
+        for (int i = 0; i < windowCount; i++) {
+            windows[i].render(g2d, blockX, blockY);
         }
         
         // Render additional features
@@ -509,12 +558,12 @@ public class Block {
      * the block's position in the same frame it touches down.
      */
     public void triggerImpactSquash() {
-        impactTime = System.currentTimeMillis();
+        impactTime = GameClock.getDefault().millis();
     }
 
     private double impactProgress() {
         if (impactTime < 0) return 1.0;
-        double elapsed = System.currentTimeMillis() - impactTime;
+        double elapsed = GameClock.getDefault().millis() - impactTime;
         return Math.min(1.0, elapsed / IMPACT_SQUASH_DURATION_MS);
     }
 
@@ -528,6 +577,26 @@ public class Block {
         return t >= 1.0 ? 1.0 : 1.0 - 0.2 * (1.0 - t);
     }
 
+    /**
+     * Returns the drop animation (trail, shadow, squash and impact particles) to the
+     * shared pool and clears the squash bookkeeping, leaving only static block data.
+     */
+    public void settle() {
+        if (dropAnimation != null) {
+            BlockDropAnimation.recycle(dropAnimation);
+            dropAnimation = null;
+        }
+        animating = false;
+        impactTime = -1;
+    }
+    
+    /**
+     * True when the block holds no transient animation state
+     */
+    public boolean isSettled() {
+        return dropAnimation == null && impactTime < 0;
+    }
+
     public void makeStable() {
         isStable = true;
         velocityX = 0;
@@ -540,22 +609,26 @@ public class Block {
     public void drop() {
         isDropped = true;
         
-        // Initialize advanced drop animation
+        // Borrow an advanced drop animation from the shared pool
         if (dropAnimation == null) {
-            dropAnimation = new BlockDropAnimation(this);
+            dropAnimation = BlockDropAnimation.obtain(this);
+        } else {
+            dropAnimation.reset(this);
         }
+        dropAnimation.setRecordEvents(recordEvents);
+        animating = true;
     }
     
     /**
      * Updates block physics with advanced drop animation
      */
     public void updateWithAnimation(double deltaTime) {
-        if (dropAnimation != null && isDropped) {
+        if (animating && isDropped) {
             dropAnimation.update(deltaTime);
             
             // Check if animation is complete
             if (dropAnimation.isAnimationComplete()) {
-                dropAnimation = null; // Clean up animation
+                animating = false;
             }
         } else {
             // Use original physics update for non-dropping blocks
@@ -563,15 +636,42 @@ public class Block {
         }
     }
     
+    /**
+     * Remembers the current position as the start of the next simulation step
+     */
+    public void capturePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+    
+    /**
+     * Renders with animation at a position blended between the previous and the current
+     * simulation step (alpha 0 = previous, 1 = current)
+     */
+    public void renderWithAnimation(Graphics2D g2d, double cameraY, double alpha) {
+        if (alpha >= 1.0) {
+            renderWithAnimation(g2d, cameraY);
+            return;
+        }
+        
+        // Only the drawing is shifted; x and y stay the simulation's, whoever reads them
+        double back = 1.0 - alpha;
+        renderWithAnimation(g2d, cameraY, (prevX - x) * back, (prevY - y) * back);
+    }
+    
     /**
      * Renders block with advanced animation effects
      */
     public void renderWithAnimation(Graphics2D g2d, double cameraY) {
-        if (dropAnimation != null && isDropped) {
-            dropAnimation.render(g2d, cameraY);
+        renderWithAnimation(g2d, cameraY, 0, 0);
+    }
+    
+    private void renderWithAnimation(Graphics2D g2d, double cameraY, double offsetX, double offsetY) {
+        if (animating && isDropped) {
+            dropAnimation.render(g2d, cameraY, offsetX, offsetY);
         } else {
             // Use original render method
-            render(g2d);
+            render(g2d, offsetX, offsetY);
         }
     }
     
@@ -579,7 +679,7 @@ public class Block {
      * Triggers landing animation when block hits ground or another block
      */
     public void triggerLanding(double groundY) {
-        if (dropAnimation != null) {
+        if (animating) {
             dropAnimation.triggerLanding(groundY);
         }
     }
@@ -628,6 +728,7 @@ public class Block {
         return blockType;
     }
     public void setColor(Color color) { this.color = color; }
+    public void setRecordEvents(boolean recordEvents) { this.recordEvents = recordEvents; }
     
     public boolean isStable() { return isStable; }
     public boolean isDropped() { return isDropped; }
@@ -761,5 +862,9 @@ public class Block {
     }
     
     public BlockType getBlockType() { return blockType; }
+    
+    // Reserved for BlockPool's O(1) release
+    public int getPoolSlot() { return poolSlot; }
+    public void setPoolSlot(int poolSlot) { this.poolSlot = poolSlot; }
     public void setBlockType(BlockType blockType) { this.blockType = blockType; }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.skillparty.towerblox.game.physics;
 
+import com.skillparty.towerblox.core.GameClock;
 import com.skillparty.towerblox.utils.Constants;
 import com.skillparty.towerblox.game.MovementRecorder;
 import java.awt.Graphics2D;
@@ -16,6 +17,7 @@ import java.awt.RenderingHints;
 public class Crane {
     // Basic position and movement
     private double x, y;
+    private double prevX; // X at the start of the last update, for interpolated rendering
     private double speed;
     private double baseSpeed;
     private int gameWidth;
@@ -42,11 +44,15 @@ public class Crane {
     // Claw open/close animation (release + grab sequences)
     private final CraneAnimation animation = new CraneAnimation();
     private static final double DEFAULT_DROP_ZONE_WIDTH = 50.0;
+
+    // Horizontal pixels per second for each unit of speed
+    private static final double PIXELS_PER_SPEED_UNIT = 100.0;
     
     public Crane(double startX, double startY, int gameWidth) {
         this.gameWidth = gameWidth;
         this.centerX = gameWidth / 2.0;
         this.x = centerX;
+        this.prevX = centerX;
         this.y = startY;
         
         // Optimized movement setup - FASTER AND SHORTER RANGE
@@ -74,11 +80,13 @@ public class Crane {
      * SIMPLE UPDATE - JUST MOVE LEFT AND RIGHT
      */
     public void update(long deltaTime) {
+        prevX = x;
+        
         // Convert to seconds
         double dt = deltaTime / 1000.0;
         
         // Optimized pendulum movement - FASTER AND SMOOTHER
-        double movement = speed * dt * 100; // Increased to 100 pixels per second base
+        double movement = getHorizontalVelocity() * dt; // 100 pixels per second per speed unit
         
         if (movingRight) {
             x += movement;
@@ -108,6 +116,14 @@ public class Crane {
      * PROFESSIONAL CRANE RENDER - CLEAN AND POLISHED
      */
     public void render(Graphics2D g2d) {
+        render(g2d, x, 0);
+    }
+    
+    /**
+     * Draws the trolley at drawX and the carried block shifted by blockOffsetX, leaving the
+     * simulated positions untouched
+     */
+    private void render(Graphics2D g2d, double drawX, double blockOffsetX) {
         // Enable antialiasing for smooth graphics
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2d.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
@@ -126,10 +142,10 @@ public class Crane {
         renderCraneMast(g2d);
         
         // 3. TROLLEY - Moving part with smooth animation
-        renderTrolley(g2d);
+        renderTrolley(g2d, drawX);
         
         // 4. CABLE AND HOOK - Realistic physics
-        renderCableAndHook(g2d);
+        renderCableAndHook(g2d, drawX);
         
         // 5. COUNTERWEIGHT - Realistic balance
         renderCounterweight(g2d, armStartX);
@@ -139,8 +155,23 @@ public class Crane {
         
         // Render current block if it exists and hasn't been dropped
         if (currentBlock != null && !currentBlock.isDropped()) {
-            currentBlock.render(g2d);
+            currentBlock.render(g2d, blockOffsetX, 0);
+        }
+    }
+    
+    /**
+     * Renders the crane (and the block it carries) blended between the previous and the
+     * current update: alpha 0 draws the previous position, 1 the current one
+     */
+    public void render(Graphics2D g2d, double alpha) {
+        if (alpha >= 1.0 || prevX == x) {
+            render(g2d);
+            return;
         }
+        
+        // The carried block follows the trolley, so both shift by the same offset
+        double offset = (prevX - x) * (1.0 - alpha);
+        render(g2d, x + offset, offset);
     }
     
     private void renderCraneArm(Graphics2D g2d, int armStartX, int armEndX) {
@@ -185,9 +216,9 @@ public class Crane {
         g2d.drawLine((int)centerX, (int)y, (int)centerX, (int)(y - 60));
     }
     
-    private void renderTrolley(Graphics2D g2d) {
+    private void renderTrolley(Graphics2D g2d, double drawX) {
         // Trolley with 3D effect
-        int trolleyX = (int)x - 12;
+        int trolleyX = (int)drawX - 12;
         int trolleyY = (int)y - 8;
         int trolleyW = 24;
         int trolleyH = 16;
@@ -214,30 +245,30 @@ public class Crane {
         g2d.fillRoundRect(trolleyX + 2, trolleyY + 2, trolleyW - 4, 4, 3, 3);
     }
     
-    private void renderCableAndHook(Graphics2D g2d) {
+    private void renderCableAndHook(Graphics2D g2d, double drawX) {
         // Calculate cable swing with smooth animation
-        double swingAmount = Math.sin(System.currentTimeMillis() * 0.003) * 3; // Subtle oscillation
-        if (Math.abs(x - centerX) > swingRange * 0.8) {
+        double swingAmount = Math.sin(GameClock.getDefault().millis() * 0.003) * 3; // Subtle oscillation
+        if (Math.abs(drawX - centerX) > swingRange * 0.8) {
             swingAmount += movingRight ? 2 : -2; // Extra swing at extremes
         }
         
-        double hookX = x + swingAmount;
+        double hookX = drawX + swingAmount;
         double hookY = y + hookLength + 25;
         
         // Cable shadow
         g2d.setColor(new Color(0, 0, 0, 30));
         g2d.setStroke(new BasicStroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-        g2d.drawLine((int)x + 1, (int)(y + 8) + 1, (int)hookX + 1, (int)hookY + 1);
+        g2d.drawLine((int)drawX + 1, (int)(y + 8) + 1, (int)hookX + 1, (int)hookY + 1);
         
         // Main cable
         g2d.setColor(new Color(64, 64, 64)); // Dark gray
         g2d.setStroke(new BasicStroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-        g2d.drawLine((int)x, (int)(y + 8), (int)hookX, (int)hookY);
+        g2d.drawLine((int)drawX, (int)(y + 8), (int)hookX, (int)hookY);
         
         // Cable highlight
         g2d.setColor(new Color(128, 128, 128)); // Light gray
         g2d.setStroke(new BasicStroke(1));
-        g2d.drawLine((int)x - 1, (int)(y + 8), (int)hookX - 1, (int)hookY);
+        g2d.drawLine((int)drawX - 1, (int)(y + 8), (int)hookX - 1, (int)hookY);
         
         // Hook with 3D effect
         int hookW = 16, hookH = 10;
@@ -304,6 +335,71 @@ public class Crane {
         System.out.println("🎯 Block dropped at position: " + x + ", y: " + getClawY());
     }
     
+    /**
+     * Drop the current block from where the crane was the given number of seconds ago,
+     * so a key press between two ticks releases at the exact phase it was made at
+     */
+    public void dropBlock(double secondsAgo) {
+        if (currentBlock == null || currentBlock.isDropped()) {
+            return;
+        }
+        
+        if (secondsAgo > 0) {
+            currentBlock.setX(getXAt(-secondsAgo) - currentBlock.getWidth() / 2.0);
+        }
+        dropBlock();
+    }
+    
+    /**
+     * Crane X the given number of seconds from now (negative looks back), following the
+     * triangle-wave sweep between minX and maxX that update() integrates
+     */
+    public double getXAt(double secondsFromNow) {
+        double period = getSwingPeriod();
+        if (period <= 0) {
+            return x;
+        }
+        return getXAtPhase(getPhase() + secondsFromNow / period);
+    }
+    
+    /**
+     * Current swing phase in [0, 1): the first half sweeps left to right, the second half back
+     */
+    public double getPhase() {
+        return phaseOf(x, movingRight);
+    }
+    
+    /**
+     * Swing phase at which the crane passes the given X while moving in the given direction
+     */
+    public double phaseOf(double atX, boolean rightward) {
+        double span = maxX - minX;
+        if (span <= 0) {
+            return 0.0;
+        }
+        double t = Math.max(0.0, Math.min(1.0, (atX - minX) / span));
+        double phase = rightward ? t * 0.5 : 1.0 - t * 0.5;
+        return phase >= 1.0 ? 0.0 : phase;
+    }
+    
+    /**
+     * Crane X at the given swing phase; phases outside [0, 1) wrap around
+     */
+    public double getXAtPhase(double phase) {
+        double p = phase - Math.floor(phase);
+        double u = p < 0.5 ? p * 2.0 : (1.0 - p) * 2.0;
+        return minX + u * (maxX - minX);
+    }
+    
+    /**
+     * Seconds for one full swing there and back, or 0 when the crane can't move
+     */
+    public double getSwingPeriod() {
+        double span = maxX - minX;
+        double velocity = getHorizontalVelocity();
+        return span > 0 && velocity > 0 ? 2.0 * span / velocity : 0.0;
+    }
+    
     /**
      * Set the current block being carried
      */
@@ -322,6 +418,7 @@ public class Crane {
      */
     public void reset() {
         this.x = centerX;
+        this.prevX = centerX;
         this.speed = baseSpeed;
         this.movingRight = true;
         this.currentBlock = null;
@@ -373,11 +470,13 @@ public class Crane {
     public double getSpeed() { return speed; }
     public double getBaseSpeed() { return baseSpeed; }
     public double getSwingRange() { return swingRange; }
+    public double getCenterX() { return centerX; }
+    public double getHorizontalVelocity() { return speed * PIXELS_PER_SPEED_UNIT; }
     public Block getCurrentBlock() { return currentBlock; }
     public boolean isMovingRight() { return movingRight; }
     
     // SIMPLE SETTERS
-    public void setX(double x) { this.x = Math.max(0, Math.min(gameWidth, x)); }
+    public void setX(double x) { this.x = Math.max(0, Math.min(gameWidth, x)); this.prevX = this.x; }
     public void setY(double y) { this.y = y; }
     public void setMovingRight(boolean movingRight) { this.movingRight = movingRight; }
     public void setMovementRecorder(MovementRecorder recorder) { this.movementRecorder = recorder; }
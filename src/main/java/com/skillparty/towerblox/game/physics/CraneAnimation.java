@@ -1,5 +1,6 @@
 package com.skillparty.towerblox.game.physics;
 
+import com.skillparty.towerblox.core.GameClock;
 import com.skillparty.towerblox.utils.Constants;
 import java.awt.Graphics2D;
 import java.awt.Color;
@@ -310,7 +311,7 @@ public class CraneAnimation {
         g2d.setColor(Color.YELLOW);
         g2d.setStroke(new BasicStroke(1));
         
-        long time = System.currentTimeMillis();
+        long time = GameClock.getDefault().millis();
         for (int i = 0; i < 6; i++) {
             double angle = (time / 100.0 + i * Math.PI / 3) % (2 * Math.PI);
             int sparkX = x + (int) (Math.cos(angle) * 8);
@@ -384,7 +385,7 @@ public class CraneAnimation {
      */
     public void addPause(int pauseDuration) {
         isPaused = true;
-        pauseEndTime = System.currentTimeMillis() + pauseDuration;
+        pauseEndTime = GameClock.getDefault().millis() + pauseDuration;
     }
     
     /**
@@ -392,7 +393,7 @@ public class CraneAnimation {
      */
     private boolean checkPause() {
         if (isPaused) {
-            long currentTime = System.currentTimeMillis();
+            long currentTime = GameClock.getDefault().millis();
             if (currentTime >= pauseEndTime) {
                 isPaused = false;
                 pauseEndTime = 0;
@@ -0,0 +1,94 @@
+package com.skillparty.towerblox.game.physics;
+
+/**
+ * Answers "where would the block land if dropped now?" without simulating the fall.
+ *
+ * The crane sweeps a triangle wave between centerX - swingRange and centerX + swingRange,
+ * so one full swing is described by a phase in [0, 1); the phase math lives in {@link Crane}.
+ * The block falls straight down and the drop animation's sideways drift and wobble are
+ * random with zero mean, so the expected landing X is the release X and the fall time
+ * doesn't move it. What's cached here is the tower target and the swing period, only
+ * re-derived when the crane speed, swing range or tower height changes, which keeps every
+ * query O(1) for the HUD, the landing ghost and AI players.
+ */
+public class CraneTrajectoryPredictor {
+
+    // Cache key
+    private double cachedSpeed = Double.NaN;
+    private double cachedRange = Double.NaN;
+    private int cachedHeight = -1;
+
+    // Derived swing and target parameters
+    private double periodSeconds;
+    private double targetCenterX;
+    private double landingSurfaceY;
+    private int rebuildCount = 0;
+
+    /**
+     * Re-derives the swing period and tower target if the crane speed, swing range or tower
+     * height changed since the last call. Cheap enough to call every tick.
+     *
+     * @return true if anything was re-derived
+     */
+    public boolean refresh(Crane crane, Tower tower, int groundLevel) {
+        int height = tower != null ? tower.getHeight() : 0;
+        if (crane.getSpeed() == cachedSpeed && crane.getSwingRange() == cachedRange && height == cachedHeight) {
+            return false;
+        }
+
+        cachedSpeed = crane.getSpeed();
+        cachedRange = crane.getSwingRange();
+        cachedHeight = height;
+        periodSeconds = crane.getSwingPeriod();
+
+        Block top = tower != null ? tower.getTopBlock() : null;
+        if (top != null) {
+            targetCenterX = top.getX() + top.getWidth() / 2.0;
+            landingSurfaceY = top.getY();
+        } else {
+            targetCenterX = crane.getCenterX();
+            landingSurfaceY = groundLevel;
+        }
+
+        rebuildCount++;
+        return true;
+    }
+
+    /**
+     * Expected landing center X if the block were dropped right now
+     */
+    public double predictLandingCenterX(Crane crane) {
+        return crane.getX();
+    }
+
+    /**
+     * Signed distance between the predicted landing center and the top of the tower
+     */
+    public double predictOffset(Crane crane) {
+        return predictLandingCenterX(crane) - targetCenterX;
+    }
+
+    /**
+     * Seconds the crane needs to travel from one phase to another
+     */
+    public double secondsBetween(double fromPhase, double toPhase) {
+        double delta = toPhase - fromPhase;
+        delta -= Math.floor(delta);
+        return delta * periodSeconds;
+    }
+
+    /**
+     * Seconds until a drop would land centered on the tower top. Used by AI players.
+     */
+    public double secondsUntilAligned(Crane crane) {
+        double current = crane.getPhase();
+        double rightward = secondsBetween(current, crane.phaseOf(targetCenterX, true));
+        double leftward = secondsBetween(current, crane.phaseOf(targetCenterX, false));
+        return Math.min(rightward, leftward);
+    }
+
+    public double getPeriodSeconds() { return periodSeconds; }
+    public double getTargetCenterX() { return targetCenterX; }
+    public double getLandingSurfaceY() { return landingSurfaceY; }
+    public int getRebuildCount() { return rebuildCount; }
+}
@@ -1,5 +1,7 @@
 package com.skillparty.towerblox.game.physics;
 
+import com.skillparty.towerblox.core.GameClock;
+
 /**
  * Sistema de movimiento auténtico de la grúa del Tower Bloxx 2005
  * Replica fielmente el comportamiento pendular del juego original
@@ -46,7 +48,7 @@ public class StandardCraneMovement {
         this.angularSpeed = baseAngularSpeed;
         this.currentPattern = MovementPattern.CLASSIC_PENDULUM;
         this.movingClockwise = true;
-        this.lastUpdateTime = System.currentTimeMillis();
+        this.lastUpdateTime = GameClock.getDefault().millis();
     }
     
     /**
@@ -71,7 +73,7 @@ public class StandardCraneMovement {
      * Actualiza la posición del péndulo
      */
     public double[] updatePosition(long deltaTime) {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = GameClock.getDefault().millis();
         double dt = (currentTime - lastUpdateTime) / 1000.0; // Convertir a segundos
         lastUpdateTime = currentTime;
         
@@ -117,7 +119,7 @@ public class StandardCraneMovement {
                 
             case VARIABLE_SPEED:
                 // Velocidad que cambia con el tiempo
-                long time = System.currentTimeMillis();
+                long time = GameClock.getDefault().millis();
                 double timeVariation = Math.sin(time * 0.001) * 0.5;
                 return 1.0 + timeVariation + Math.cos(currentAngle) * SPEED_VARIATION;
                 
@@ -128,13 +130,13 @@ public class StandardCraneMovement {
             case EXPERT_CHALLENGE:
                 // Movimiento errático y desafiante
                 double chaos = Math.sin(currentAngle * 3) * 0.4;
-                double timeChao = Math.cos(System.currentTimeMillis() * 0.003) * 0.3;
+                double timeChao = Math.cos(GameClock.getDefault().millis() * 0.003) * 0.3;
                 return 1.2 + chaos + timeChao;
                 
             case MASTER_LEVEL:
                 // Movimiento extremadamente desafiante
                 double masterChaos = Math.sin(currentAngle * 5) * 0.6;
-                double masterTime = Math.sin(System.currentTimeMillis() * 0.005) * 0.4;
+                double masterTime = Math.sin(GameClock.getDefault().millis() * 0.005) * 0.4;
                 double masterAccel = Math.pow(Math.abs(Math.cos(currentAngle)), 2) * 0.8;
                 return 1.5 + masterChaos + masterTime + masterAccel;
                 
@@ -164,7 +166,7 @@ public class StandardCraneMovement {
     public void reset() {
         currentAngle = 0;
         movingClockwise = true;
-        lastUpdateTime = System.currentTimeMillis();
+        lastUpdateTime = GameClock.getDefault().millis();
     }
     
     /**
@@ -1,17 +1,26 @@
 package com.skillparty.towerblox.game.physics;
 
+import com.skillparty.towerblox.ui.components.FontManager;
+import com.skillparty.towerblox.ui.components.HudWidget;
 import com.skillparty.towerblox.utils.Constants;
 import java.awt.Graphics2D;
 import java.awt.Color;
+import java.awt.Font;
 import java.awt.geom.AffineTransform;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Represents the tower of blocks with stability calculations and collision detection
  */
 public class Tower {
+    private static final int STABILITY_BAR_WIDTH = 100;
+    private static final int STABILITY_BAR_HEIGHT = 10;
+    private static final Font STABILITY_FONT = FontManager.getInstance().getFont("Dialog", Font.PLAIN, 12);
+    
     private List<Block> blocks;
+    private Consumer<Block> removedBlockHandler; // Gets blocks that fell off, e.g. to return them to a pool
     private int gameWidth;
     private int groundLevel;
     private double instabilityScore;
@@ -23,6 +32,10 @@ public class Tower {
     private double averageAlignment;
     private int perfectAlignments;
     
+    // Stability bar cached as an image; repainted only when the value it shows changes
+    private final HudWidget stabilityWidget =
+            new HudWidget(STABILITY_BAR_WIDTH + 45, 32, this::paintStabilityIndicator);
+    
     public Tower(int gameWidth, int groundLevel) {
         this.gameWidth = gameWidth;
         this.groundLevel = groundLevel;
@@ -35,6 +48,13 @@ public class Tower {
         this.perfectAlignments = 0;
     }
     
+    /**
+     * Sets who receives the blocks removeFailedBlocks() drops from the tower
+     */
+    public void setRemovedBlockHandler(Consumer<Block> handler) {
+        this.removedBlockHandler = handler;
+    }
+    
     /**
      * Adds a block to the tower
      */
@@ -90,11 +110,25 @@ public class Tower {
     private void renderStabilityIndicator(Graphics2D g2d) {
         if (blocks.isEmpty()) return;
         
+        // Stability drifts every update without an event, so compare what the bar would show
+        double stability = Math.max(0, Math.min(1, 1.0 - instabilityScore));
+        int fillWidth = (int) (STABILITY_BAR_WIDTH * stability);
+        int level = stability > 0.7 ? 2 : stability > 0.4 ? 1 : 0;
+        stabilityWidget.invalidateIfChanged(fillWidth * 10_000L + Math.round(stability * 100) * 10 + level);
+        stabilityWidget.render(g2d, gameWidth - STABILITY_BAR_WIDTH - 20, 150 - 20);
+    }
+    
+    /**
+     * Paints the stability bar, its label and percentage in widget coordinates
+     */
+    private void paintStabilityIndicator(Graphics2D g2d, int width, int height) {
         // Stability bar
-        int barWidth = 100;
-        int barHeight = 10;
-        int barX = gameWidth - barWidth - 20;
-        int barY = 150;
+        int barWidth = STABILITY_BAR_WIDTH;
+        int barHeight = STABILITY_BAR_HEIGHT;
+        int barX = 0;
+        int barY = 20;
+        
+        g2d.setFont(STABILITY_FONT);
         
         // Background
         g2d.setColor(Color.DARK_GRAY);
@@ -247,11 +281,17 @@ public class Tower {
      * Removes blocks that have fallen too far or are no longer part of the tower
      */
     private void removeFailedBlocks() {
-        blocks.removeIf(block -> 
-            block.getY() > groundLevel + 200 || // Fallen too far below ground
-            block.getX() + block.getWidth() < 0 || // Off screen left
-            block.getX() > gameWidth // Off screen right
-        );
+        for (int i = blocks.size() - 1; i >= 0; i--) {
+            Block block = blocks.get(i);
+            if (block.getY() > groundLevel + 200 || // Fallen too far below ground
+                block.getX() + block.getWidth() < 0 || // Off screen left
+                block.getX() > gameWidth) { // Off screen right
+                blocks.remove(i);
+                if (removedBlockHandler != null) {
+                    removedBlockHandler.accept(block);
+                }
+            }
+        }
     }
     
     /**
@@ -371,6 +411,13 @@ public class Tower {
         return new ArrayList<>(blocks); // Return copy to prevent external modification
     }
     
+    /**
+     * Gets one block by index (0 is the base) without copying the list like getBlocks()
+     */
+    public Block getBlock(int index) {
+        return blocks.get(index);
+    }
+    
     public int getHeight() {
         return blocks.size();
     }
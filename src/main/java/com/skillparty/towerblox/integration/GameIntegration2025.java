@@ -108,7 +108,7 @@ public class GameIntegration2025 extends JPanel implements KeyListener {
                 backGraphics.fillRect(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
                 
                 // Render through enhanced engine
-                enhancedEngine.render(backGraphics);
+                enhancedEngine.render(backGraphics, interpolation);
                 
                 // Repaint to screen
                 repaint();
@@ -243,6 +243,9 @@ public class GameIntegration2025 extends JPanel implements KeyListener {
                     @Override
                     public void windowClosing(WindowEvent e) {
                         gameIntegration.stopGame();
+                        if (gameIntegration.getOriginalEngine() != null) {
+                            gameIntegration.getOriginalEngine().dispose();
+                        }
                         System.out.println("👋 Thank you for playing Tower Bloxx 2025!");
                         System.exit(0);
                     }
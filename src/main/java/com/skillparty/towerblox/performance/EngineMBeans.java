@@ -0,0 +1,320 @@
+package com.skillparty.towerblox.performance;
+
+import com.skillparty.towerblox.core.FramePacer;
+import com.skillparty.towerblox.effects.BlockDropAnimation;
+import com.skillparty.towerblox.effects.ParticleSystem;
+import com.skillparty.towerblox.game.GameEngine;
+import com.skillparty.towerblox.game.physics.Tower;
+import com.skillparty.towerblox.rendering.RenderingEngine;
+import com.skillparty.towerblox.utils.BlockPool;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * MBeans de plataforma para vigilar y ajustar el juego en caliente
+ *
+ * Registra bajo el dominio com.skillparty.towerblox los beans Loop, Pools,
+ * Particles, Tower, FramePhases y Quality, visibles desde VisualVM o JConsole.
+ * Solo se pueden escribir los valores que el juego aplica entre frames (FPS
+ * objetivo, tope de partículas, nivel de calidad y si el gobernador de calidad
+ * está activo), así que cambiarlos desde el
+ * hilo de JMX nunca deja un frame a medias.
+ *
+ * @author joseAlejandro
+ */
+public final class EngineMBeans {
+    public static final String DOMAIN = "com.skillparty.towerblox";
+
+    private EngineMBeans() {
+    }
+
+    public interface LoopMXBean {
+        double getCurrentFPS();
+        double getCPUUsage();
+        long getMemoryUsageMB();
+        int getTargetFps();
+        void setTargetFps(int fps);
+        long getPacedFrames();
+        long getMissedFrames();
+        double getAverageJitterMillis();
+        double getMaxJitterMillis();
+        void resetPacerStats();
+    }
+
+    public interface PoolsMXBean {
+        int getBlocksInUse();
+        int getBlocksAvailable();
+        int getBlockPoolCapacity();
+        double getBlockPoolHitRate();
+        boolean isBlockPoolLow();
+        int getPooledDropAnimations();
+    }
+
+    public interface ParticlesMXBean {
+        int getActiveParticles();
+        int getParticleCap();
+        void setParticleCap(int cap);
+        boolean isParticleEffectsEnabled();
+    }
+
+    public interface TowerMXBean {
+        String getGameState();
+        int getHeight();
+        int getBlockCount();
+        double getStabilityPercent();
+        int getScore();
+        int getLives();
+    }
+
+    public interface FramePhasesMXBean {
+        double getWindowSeconds();
+        Map<String, Long> getCounts();
+        Map<String, Double> getP50Millis();
+        Map<String, Double> getP95Millis();
+        Map<String, Double> getP99Millis();
+        Map<String, Double> getMaxMillis();
+        void resetWindow();
+    }
+
+    public interface QualityMXBean {
+        String getQualityLevel();
+        void setQualityLevel(String level);
+        String[] getQualityLevels();
+        boolean isAdaptive();
+        void setAdaptive(boolean adaptive);
+        double getEstimatedFrameCostMillis();
+    }
+
+    /**
+     * Registra los beans del bucle de render (FPS, CPU, memoria y el pacer). El FPS objetivo se
+     * lee y escribe en el cliente del FrameScheduler: el pacer es compartido y el scheduler lo
+     * reajusta cada frame al cliente más exigente, así que solo se usa para sus estadísticas.
+     */
+    public static void registerLoop(DoubleSupplier fps, DoubleSupplier cpuPercent,
+                                    IntSupplier targetFps, IntConsumer setTargetFps, FramePacer pacer) {
+        register("Loop", new Loop(fps, cpuPercent, targetFps, setTargetFps, pacer));
+    }
+
+    /**
+     * Registra los beans del motor: pools, partículas, torre, fases del frame y calidad
+     */
+    public static void registerEngine(GameEngine engine) {
+        register("Pools", new Pools(engine));
+        register("Particles", new Particles(engine));
+        register("Tower", new TowerStats(engine));
+        register("FramePhases", new FramePhases(engine.getProfiler()));
+        register("Quality", new Quality(engine));
+    }
+
+    public static ObjectName nameOf(String type) throws JMException {
+        return new ObjectName(DOMAIN + ":type=" + type);
+    }
+
+    private static void register(String type, Object bean) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = nameOf(type);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name); // A new game window replaces the previous one
+            }
+            server.registerMBean(bean, name);
+        } catch (JMException | SecurityException e) {
+            System.err.println("Warning: Could not register " + type + " MBean: " + e.getMessage());
+        }
+    }
+
+    private static final class Loop implements LoopMXBean {
+        private final DoubleSupplier fps;
+        private final DoubleSupplier cpuPercent;
+        private final IntSupplier targetFps;
+        private final IntConsumer setTargetFps;
+        private final FramePacer pacer;
+
+        Loop(DoubleSupplier fps, DoubleSupplier cpuPercent, IntSupplier targetFps, IntConsumer setTargetFps,
+             FramePacer pacer) {
+            this.fps = fps;
+            this.cpuPercent = cpuPercent;
+            this.targetFps = targetFps;
+            this.setTargetFps = setTargetFps;
+            this.pacer = pacer;
+        }
+
+        @Override public double getCurrentFPS() { return fps.getAsDouble(); }
+        @Override public double getCPUUsage() { return cpuPercent.getAsDouble(); }
+
+        @Override
+        public long getMemoryUsageMB() {
+            Runtime runtime = Runtime.getRuntime();
+            return (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        }
+
+        @Override public int getTargetFps() { return targetFps.getAsInt(); }
+        @Override public void setTargetFps(int fps) { setTargetFps.accept(fps); }
+        @Override public long getPacedFrames() { return pacer.getFrameCount(); }
+        @Override public long getMissedFrames() { return pacer.getMissedFrames(); }
+        @Override public double getAverageJitterMillis() { return pacer.getAverageJitterNanos() / 1_000_000.0; }
+        @Override public double getMaxJitterMillis() { return pacer.getMaxJitterNanos() / 1_000_000.0; }
+        @Override public void resetPacerStats() { pacer.resetStats(); }
+    }
+
+    private static final class Pools implements PoolsMXBean {
+        private final BlockPool blockPool;
+
+        Pools(GameEngine engine) {
+            this.blockPool = engine.getBlockPool();
+        }
+
+        @Override public int getBlocksInUse() { return blockPool.getUsedCount(); }
+        @Override public int getBlocksAvailable() { return blockPool.getAvailableCount(); }
+        @Override public int getBlockPoolCapacity() { return blockPool.getTotalCount(); }
+        @Override public double getBlockPoolHitRate() { return blockPool.getHitRate(); }
+        @Override public boolean isBlockPoolLow() { return blockPool.isLow(); }
+        @Override public int getPooledDropAnimations() { return BlockDropAnimation.getPooledAnimationCount(); }
+    }
+
+    private static final class Particles implements ParticlesMXBean {
+        private final GameEngine engine;
+
+        Particles(GameEngine engine) {
+            this.engine = engine;
+        }
+
+        private ParticleSystem particles() {
+            return engine.getAdvancedFeatures() != null ? engine.getAdvancedFeatures().getParticleSystem() : null;
+        }
+
+        @Override
+        public int getActiveParticles() {
+            ParticleSystem particles = particles();
+            return particles != null ? particles.getActiveParticleCount() : 0;
+        }
+
+        @Override
+        public int getParticleCap() {
+            ParticleSystem particles = particles();
+            return particles != null ? particles.getMaxParticles() : 0;
+        }
+
+        @Override
+        public void setParticleCap(int cap) {
+            if (cap < 1) {
+                throw new IllegalArgumentException("Particle cap must be positive: " + cap);
+            }
+            ParticleSystem particles = particles();
+            if (particles != null) {
+                particles.setMaxParticles(cap);
+            }
+        }
+
+        @Override
+        public boolean isParticleEffectsEnabled() {
+            ParticleSystem particles = particles();
+            return particles != null && particles.isEnabled();
+        }
+    }
+
+    private static final class TowerStats implements TowerMXBean {
+        private final GameEngine engine;
+
+        TowerStats(GameEngine engine) {
+            this.engine = engine;
+        }
+
+        @Override public String getGameState() { return String.valueOf(engine.getCurrentState()); }
+
+        @Override
+        public int getHeight() {
+            Tower tower = engine.getTower();
+            return tower != null ? tower.getHeight() : 0;
+        }
+
+        @Override
+        public int getBlockCount() {
+            Tower tower = engine.getTower();
+            return tower != null ? tower.getBlocks().size() : 0;
+        }
+
+        @Override
+        public double getStabilityPercent() {
+            Tower tower = engine.getTower();
+            return tower != null ? tower.getStabilityPercentage() : 100.0;
+        }
+
+        @Override
+        public int getScore() {
+            return engine.getScoreManager() != null ? engine.getScoreManager().getCurrentScore() : 0;
+        }
+
+        @Override public int getLives() { return engine.getLives(); }
+    }
+
+    private static final class FramePhases implements FramePhasesMXBean {
+        private final FrameProfiler profiler;
+
+        FramePhases(FrameProfiler profiler) {
+            this.profiler = profiler;
+        }
+
+        @Override public double getWindowSeconds() { return profiler.snapshotTotals().getWindowSeconds(); }
+
+        @Override
+        public Map<String, Long> getCounts() {
+            FrameProfiler.Snapshot snapshot = profiler.snapshotTotals();
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+                counts.put(phase.getLabel(), snapshot.getCount(phase));
+            }
+            return counts;
+        }
+
+        @Override public Map<String, Double> getP50Millis() { return percentiles(50); }
+        @Override public Map<String, Double> getP95Millis() { return percentiles(95); }
+        @Override public Map<String, Double> getP99Millis() { return percentiles(99); }
+        @Override public Map<String, Double> getMaxMillis() { return percentiles(100); }
+
+        @Override public void resetWindow() { profiler.resetTotals(); } // The overlay's per-second window is left alone
+
+        private Map<String, Double> percentiles(double p) {
+            FrameProfiler.Snapshot snapshot = profiler.snapshotTotals();
+            Map<String, Double> values = new LinkedHashMap<>();
+            for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+                LatencyHistogram histogram = snapshot.get(phase);
+                values.put(phase.getLabel(), p >= 100 ? histogram.getMaxMillis() : histogram.getPercentileMillis(p));
+            }
+            return values;
+        }
+    }
+
+    private static final class Quality implements QualityMXBean {
+        private final GameEngine engine;
+
+        Quality(GameEngine engine) {
+            this.engine = engine;
+        }
+
+        @Override public String getQualityLevel() { return engine.getRenderQuality().name(); }
+
+        @Override
+        public void setQualityLevel(String level) {
+            engine.setRenderQuality(RenderingEngine.RenderQuality.valueOf(level.trim().toUpperCase()));
+        }
+
+        @Override
+        public String[] getQualityLevels() {
+            return Arrays.stream(RenderingEngine.RenderQuality.values()).map(Enum::name).toArray(String[]::new);
+        }
+
+        @Override public boolean isAdaptive() { return engine.getQualityGovernor().isEnabled(); }
+        @Override public void setAdaptive(boolean adaptive) { engine.getQualityGovernor().setEnabled(adaptive); }
+        @Override public double getEstimatedFrameCostMillis() { return engine.getQualityGovernor().getLastFrameCostMillis(); }
+    }
+}
@@ -0,0 +1,224 @@
+package com.skillparty.towerblox.performance;
+
+import com.skillparty.towerblox.core.GameClock;
+
+/**
+ * Perfilador de fases del frame con un histograma log-lineal por fase
+ *
+ * Cada fase del tick (entrada, grúa, bloque en caída, torre, fondo, partículas,
+ * feedback) y del pintado (HUD, pintado, presentación) registra su duración sin
+ * reservar memoria. Los consumidores piden un {@link Snapshot}: una copia
+ * coherente de todas las fases tomada bajo el mismo lock, opcionalmente
+ * reiniciando la ventana para tener estadísticas por intervalo.
+ *
+ * Aparte de la ventana (que el overlay de GamePanel reinicia cada segundo) hay
+ * un acumulado que solo se reinicia con resetTotals(). Lo usa el MBean
+ * FramePhases, así JMX ve histogramas de toda la sesión.
+ *
+ * Cada fase registrada se emite también como evento FramePhase de JFR, salvo
+ * en perfiladores creados con recordEvents=false (el motor headless del
+ * calentamiento), cuyos frames simulados no deben aparecer en una grabación.
+ *
+ * Uso típico, encadenando fases:
+ * <pre>
+ *   long t = profiler.start();
+ *   crane.update(dt);
+ *   t = profiler.lap(FrameProfiler.Phase.CRANE, t);
+ * </pre>
+ *
+ * @author joseAlejandro
+ */
+public class FrameProfiler {
+
+    /**
+     * Fases medidas, en el orden en que ocurren dentro de un frame
+     */
+    public enum Phase {
+        INPUT("Input"),
+        CRANE("Crane"),
+        FALLING_BLOCK("Falling block"),
+        TOWER("Tower"),
+        BACKGROUND("Background"),
+        PARTICLES("Particles"),
+        FEEDBACK("Feedback"),
+        HUD("HUD"),
+        PAINT("Paint"),
+        PRESENT("Present");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private static volatile FrameProfiler defaultProfiler = new FrameProfiler();
+
+    private final GameClock clock; // null = el GameClock por defecto vigente
+    private final boolean recordEvents;
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+    private final LatencyHistogram[] totals = new LatencyHistogram[PHASES.length];
+    private long windowStart;
+    private long totalsStart;
+
+    public FrameProfiler() {
+        this(null);
+    }
+
+    public FrameProfiler(GameClock clock) {
+        this(clock, true);
+    }
+
+    public FrameProfiler(GameClock clock, boolean recordEvents) {
+        this.clock = clock;
+        this.recordEvents = recordEvents;
+        for (int i = 0; i < PHASES.length; i++) {
+            histograms[i] = new LatencyHistogram();
+            totals[i] = new LatencyHistogram();
+        }
+        this.windowStart = now();
+        this.totalsStart = windowStart;
+    }
+
+    public static FrameProfiler getDefault() {
+        return defaultProfiler;
+    }
+
+    public static void setDefault(FrameProfiler profiler) {
+        defaultProfiler = profiler;
+    }
+
+    private long now() {
+        return (clock != null ? clock : GameClock.getDefault()).realNanoTime();
+    }
+
+    /**
+     * Marca de tiempo real para empezar a medir
+     */
+    public long start() {
+        return now();
+    }
+
+    /**
+     * Registra la fase desde startNanos hasta ahora y devuelve ahora, para encadenar fases
+     */
+    public long lap(Phase phase, long startNanos) {
+        long end = now();
+        record(phase, end - startNanos);
+        return end;
+    }
+
+    public void record(Phase phase, long nanos) {
+        synchronized (this) {
+            histograms[phase.ordinal()].record(nanos);
+            totals[phase.ordinal()].record(nanos);
+        }
+        if (recordEvents) {
+            GameEvents.framePhase(phase.getLabel(), nanos);
+        }
+    }
+
+    /**
+     * Copia coherente de todas las fases desde el último reinicio de ventana
+     */
+    public Snapshot snapshot() {
+        Snapshot snapshot = new Snapshot();
+        copyInto(snapshot, false);
+        return snapshot;
+    }
+
+    /**
+     * Copia coherente de la ventana actual y empieza una nueva
+     */
+    public Snapshot snapshotAndReset() {
+        Snapshot snapshot = new Snapshot();
+        copyInto(snapshot, true);
+        return snapshot;
+    }
+
+    /**
+     * Igual que snapshot()/snapshotAndReset() pero reutilizando una copia existente
+     */
+    public synchronized void copyInto(Snapshot snapshot, boolean resetWindow) {
+        long time = now();
+        for (int i = 0; i < PHASES.length; i++) {
+            snapshot.histograms[i].copyFrom(histograms[i]);
+            if (resetWindow) {
+                histograms[i].reset();
+            }
+        }
+        snapshot.windowNanos = time - windowStart;
+        if (resetWindow) {
+            windowStart = time;
+        }
+    }
+
+    public synchronized void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        windowStart = now();
+    }
+
+    /**
+     * Copia coherente del acumulado desde el último resetTotals(); no lo toca el reinicio de ventana
+     */
+    public synchronized Snapshot snapshotTotals() {
+        Snapshot snapshot = new Snapshot();
+        for (int i = 0; i < PHASES.length; i++) {
+            snapshot.histograms[i].copyFrom(totals[i]);
+        }
+        snapshot.windowNanos = now() - totalsStart;
+        return snapshot;
+    }
+
+    public synchronized void resetTotals() {
+        for (LatencyHistogram histogram : totals) {
+            histogram.reset();
+        }
+        totalsStart = now();
+    }
+
+    /**
+     * Estadísticas congeladas de todas las fases para una ventana de tiempo
+     */
+    public static class Snapshot {
+        private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+        private long windowNanos;
+
+        public Snapshot() {
+            for (int i = 0; i < PHASES.length; i++) {
+                histograms[i] = new LatencyHistogram();
+            }
+        }
+
+        public LatencyHistogram get(Phase phase) { return histograms[phase.ordinal()]; }
+        public long getCount(Phase phase) { return get(phase).getCount(); }
+        public double getP50Millis(Phase phase) { return get(phase).getPercentileMillis(50); }
+        public double getP95Millis(Phase phase) { return get(phase).getPercentileMillis(95); }
+        public double getP99Millis(Phase phase) { return get(phase).getPercentileMillis(99); }
+        public double getMaxMillis(Phase phase) { return get(phase).getMaxMillis(); }
+        public double getWindowSeconds() { return windowNanos / 1_000_000_000.0; }
+
+        /**
+         * Una línea por fase con p50/p95/p99/max, para overlays y logs
+         */
+        public String[] toLines() {
+            String[] lines = new String[PHASES.length + 1];
+            lines[0] = String.format("Frame phases (%.1fs window)   p50    p95    p99    max ms", getWindowSeconds());
+            for (int i = 0; i < PHASES.length; i++) {
+                LatencyHistogram h = histograms[i];
+                lines[i + 1] = String.format("%-14s %6.2f %6.2f %6.2f %6.2f", PHASES[i].getLabel(),
+                        h.getPercentileMillis(50), h.getPercentileMillis(95),
+                        h.getPercentileMillis(99), h.getMaxMillis());
+            }
+            return lines;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.skillparty.towerblox.performance;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Eventos de Java Flight Recorder propios del juego
+ *
+ * Permiten cruzar en JDK Mission Control las pausas de GC, los picos de
+ * asignación y la compilación JIT con lo que estaba pasando en la partida.
+ * Los helpers estáticos solo rellenan y confirman el evento si JFR lo está
+ * grabando; sin grabación la comprobación es prácticamente gratis y el JIT
+ * elimina la asignación del evento.
+ *
+ * Para grabar: java -XX:StartFlightRecording=filename=towerblox.jfr -jar tower-bloxx.jar
+ *
+ * @author joseAlejandro
+ */
+public final class GameEvents {
+
+    private GameEvents() {
+    }
+
+    @Name("com.skillparty.towerblox.FramePhase")
+    @Label("Frame Phase")
+    @Category({"Tower Bloxx", "Frame"})
+    @Description("Duration of one phase of a simulation tick or a paint")
+    @StackTrace(false)
+    public static class FramePhase extends Event {
+        @Label("Phase")
+        public String phase;
+
+        @Label("Phase Duration")
+        @Timespan(Timespan.NANOSECONDS)
+        public long phaseDuration;
+    }
+
+    @Name("com.skillparty.towerblox.BlockLanded")
+    @Label("Block Landed")
+    @Category({"Tower Bloxx", "Gameplay"})
+    @Description("A block landed on the tower")
+    @StackTrace(false)
+    public static class BlockLanded extends Event {
+        @Label("Floor")
+        public int floor;
+
+        @Label("Alignment")
+        @Percentage
+        public double alignment;
+
+        @Label("Quality")
+        public String quality;
+
+        @Label("Score")
+        public int score;
+    }
+
+    @Name("com.skillparty.towerblox.ParticleBurst")
+    @Label("Particle Burst")
+    @Category({"Tower Bloxx", "Effects"})
+    @Description("A particle effect was spawned")
+    @StackTrace(false)
+    public static class ParticleBurst extends Event {
+        @Label("Effect")
+        public String effect;
+
+        @Label("Particle Count")
+        public int count;
+
+        @Label("Pool Saturation")
+        @Percentage
+        public double poolSaturation;
+    }
+
+    @Name("com.skillparty.towerblox.ScoreSave")
+    @Label("Score Save")
+    @Category({"Tower Bloxx", "I/O"})
+    @Description("High score table written to disk")
+    public static class ScoreSave extends Event {
+        @Label("Bytes Written")
+        @DataAmount
+        public long bytes;
+    }
+
+    @Name("com.skillparty.towerblox.GameOver")
+    @Label("Game Over")
+    @Category({"Tower Bloxx", "Gameplay"})
+    @Description("A game ended")
+    @StackTrace(false)
+    public static class GameOver extends Event {
+        @Label("Reason")
+        public String reason;
+
+        @Label("Tower Height")
+        public int height;
+
+        @Label("Final Score")
+        public int score;
+    }
+
+    public static void framePhase(String phase, long nanos) {
+        FramePhase event = new FramePhase();
+        if (event.shouldCommit()) {
+            event.phase = phase;
+            event.phaseDuration = nanos;
+            event.commit();
+        }
+    }
+
+    public static void blockLanded(int floor, double alignment, String quality, int score) {
+        BlockLanded event = new BlockLanded();
+        if (event.shouldCommit()) {
+            event.floor = floor;
+            event.alignment = alignment;
+            event.quality = quality;
+            event.score = score;
+            event.commit();
+        }
+    }
+
+    public static void particleBurst(String effect, int count, int activeParticles, int poolSize) {
+        ParticleBurst event = new ParticleBurst();
+        if (event.shouldCommit()) {
+            event.effect = effect;
+            event.count = count;
+            event.poolSaturation = poolSize > 0 ? Math.min(1.0, activeParticles / (double) poolSize) : 0.0;
+            event.commit();
+        }
+    }
+
+    public static void gameOver(String reason, int height, int score) {
+        GameOver event = new GameOver();
+        if (event.shouldCommit()) {
+            event.reason = reason;
+            event.height = height;
+            event.score = score;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.skillparty.towerblox.performance;
+
+import com.skillparty.towerblox.core.GameClock;
+import com.skillparty.towerblox.game.DifficultyLevel;
+import com.skillparty.towerblox.game.GameEngine;
+import com.skillparty.towerblox.game.GameState;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Calentamiento del JIT mientras el menú está en pantalla
+ *
+ * Un hilo de baja prioridad simula unas miles de actualizaciones de una
+ * partida sin ventana (motor headless, sin sonido) y pinta la escena en un
+ * BufferedImage desechable. Así Block, Tower, el sistema de partículas y
+ * GameEngine.update llegan compilados por C1/C2 al primer frame real en lugar
+ * de interpretarse durante los primeros segundos de juego. Se detiene en
+ * cuanto el jugador empieza una partida.
+ *
+ * El motor headless comparte con el real los pools estáticos (animaciones,
+ * partículas de impacto, estelas) y las etiquetas del HUD. Cada tick corre
+ * dentro de tickLock y stop() espera a que termine el que está en curso, así
+ * que cuando la partida real arranca el calentamiento ya no toca nada.
+ *
+ * Con -Dtowerblox.jit.report=true escucha además los eventos jdk.Compilation
+ * de JFR y cuenta los métodos del juego compilados en nivel 4 (C2). Arrancar
+ * y cerrar el stream cuesta de decenas de ms a más de un segundo, por eso es
+ * opcional y nunca ocurre en el EDT ni en el hilo del FrameScheduler. JFR
+ * entrega los eventos en bloques de aproximadamente un segundo, así que la
+ * cifra es un mínimo.
+ *
+ * @author joseAlejandro
+ */
+public final class JitWarmup {
+
+    public static final int DEFAULT_TICKS = 3000;
+    public static final String REPORT_PROPERTY = "towerblox.jit.report";
+    private static final long TICK_MILLIS = 16;
+    private static final int RENDER_EVERY = 4; // ~750 frames fuera de pantalla para 3000 ticks
+    private static final int DROP_EVERY = 45;
+    private static final int FRAME_WIDTH = 1280;  // Área de juego de GameEngine
+    private static final int FRAME_HEIGHT = 720;
+    private static final int C2_LEVEL = 4;
+    private static final String GAME_PACKAGE = "com.skillparty.towerblox.";
+
+    private static final JitWarmup defaultWarmup = new JitWarmup(DEFAULT_TICKS, Boolean.getBoolean(REPORT_PROPERTY));
+
+    private final int ticks;
+    private final boolean reportCompilations;
+    private final Object tickLock = new Object();
+    private final Set<String> c2Methods = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopped;
+    private volatile int completedTicks;
+    private volatile int completedRenders;
+    private Thread thread;
+    private RecordingStream compilations;
+    private boolean reported;
+
+    public JitWarmup(int ticks) {
+        this(ticks, false);
+    }
+
+    public JitWarmup(int ticks, boolean reportCompilations) {
+        this.ticks = ticks;
+        this.reportCompilations = reportCompilations;
+    }
+
+    public static JitWarmup getDefault() {
+        return defaultWarmup;
+    }
+
+    /**
+     * Arranca el calentamiento en segundo plano; no hace nada si ya arrancó o si ya empezó una partida
+     */
+    public synchronized void start(Supplier<GameEngine> engineFactory) {
+        if (stopped || thread != null) {
+            return;
+        }
+        thread = new Thread(() -> run(engineFactory), "JitWarmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Termina el calentamiento: espera como mucho al tick en curso (un update y un pintado), y a
+     * partir de aquí el hilo ya no toca estado compartido con la partida real
+     */
+    public void stop() {
+        stopped = true;
+        synchronized (tickLock) {
+            // Solo sincroniza con el tick en vuelo; el siguiente verá stopped y saldrá
+        }
+    }
+
+    private void run(Supplier<GameEngine> engineFactory) {
+        if (reportCompilations) {
+            watchCompilations();
+        }
+        long start = System.nanoTime();
+        BufferedImage frame = null;
+        Graphics2D g2d = null;
+        try {
+            GameEngine engine = engineFactory.get();
+            frame = new BufferedImage(FRAME_WIDTH, FRAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+            g2d = frame.createGraphics();
+
+            for (int i = 0; i < ticks; i++) {
+                synchronized (tickLock) {
+                    if (stopped) {
+                        break;
+                    }
+                    if (engine.getCurrentState() != GameState.PLAYING) {
+                        engine.startNewGame(DifficultyLevel.NORMAL);
+                    }
+                    if (i % DROP_EVERY == DROP_EVERY - 1) {
+                        engine.queueDrop(GameClock.getDefault().nanoTime());
+                    }
+                    engine.update(TICK_MILLIS);
+                    completedTicks = i + 1;
+
+                    if (i % RENDER_EVERY == 0) {
+                        engine.render(g2d);
+                        completedRenders++;
+                    }
+                }
+            }
+            engine.stopEngine();
+        } catch (RuntimeException e) {
+            // Calentar es opcional: un fallo aquí nunca debe afectar al juego
+            System.err.println("JIT warm-up aborted: " + e.getMessage());
+        } finally {
+            if (g2d != null) {
+                g2d.dispose();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        StartupTimeline.getDefault().recordTask("JIT warm-up", elapsed, Thread.currentThread().getName());
+        System.out.printf("🔥 JIT warm-up %s: %d ticks, %d renders in %.0f ms%n",
+                stopped ? "stopped" : "finished", completedTicks, completedRenders, elapsed / 1_000_000.0);
+    }
+
+    /**
+     * Cuenta en segundo plano los métodos del juego que C2 compila; corre en el hilo del
+     * calentamiento porque crear el stream tarda. Sin JFR no hay informe.
+     */
+    private void watchCompilations() {
+        RecordingStream stream;
+        try {
+            stream = new RecordingStream();
+            stream.enable("jdk.Compilation").withThreshold(Duration.ZERO);
+            stream.onEvent("jdk.Compilation", event -> {
+                RecordedMethod method = event.getValue("method");
+                if (event.getShort("compileLevel") == C2_LEVEL && event.getBoolean("succeded")
+                        && method != null && method.getType().getName().startsWith(GAME_PACKAGE)) {
+                    c2Methods.add(method.getType().getName() + "." + method.getName() + method.getDescriptor());
+                }
+            });
+            stream.startAsync();
+        } catch (RuntimeException e) {
+            System.err.println("JIT warm-up: compilation events unavailable (" + e.getMessage() + ")");
+            return;
+        }
+        synchronized (this) {
+            if (!reported) {
+                compilations = stream;
+                return;
+            }
+        }
+        stream.close(); // El primer frame llegó antes de que el stream estuviera listo
+    }
+
+    /**
+     * Imprime cuántos métodos llegaron a C2 (-1 si el informe está desactivado o no hubo stream);
+     * se llama una vez, en el primer frame de juego. El stream se cierra en otro hilo: cerrarlo
+     * cuesta milisegundos que no pueden salir del EDT.
+     */
+    public int report() {
+        RecordingStream stream;
+        synchronized (this) {
+            reported = true;
+            stream = compilations;
+            compilations = null;
+        }
+        if (stream == null) {
+            return -1;
+        }
+        Thread closer = new Thread(stream::close, "JitWarmup-report");
+        closer.setDaemon(true);
+        closer.start();
+        int count = c2Methods.size();
+        System.out.println("🔥 " + count + " game methods reached C2 before the first frame");
+        return count;
+    }
+
+    public int getCompletedTicks() {
+        return completedTicks;
+    }
+
+    public int getCompletedRenders() {
+        return completedRenders;
+    }
+
+    public int getC2MethodCount() {
+        return c2Methods.size();
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Espera a que termine el hilo de calentamiento (para pruebas)
+     */
+    public boolean awaitFinished(long timeoutMillis) throws InterruptedException {
+        Thread running;
+        synchronized (this) {
+            running = thread;
+        }
+        if (running == null) {
+            return true;
+        }
+        running.join(timeoutMillis);
+        return !running.isAlive();
+    }
+}
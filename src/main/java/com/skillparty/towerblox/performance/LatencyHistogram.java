@@ -0,0 +1,118 @@
+package com.skillparty.towerblox.performance;
+
+import java.util.Arrays;
+
+/**
+ * Histograma de latencias log-lineal (estilo HDR), con resolución de 1 µs
+ *
+ * Por debajo de 32 µs cada microsegundo tiene su cubeta; por encima, cada potencia
+ * de dos se divide en 32 sub-cubetas, así que el error relativo es como mucho ~3%
+ * desde microsegundos hasta minutos con menos de 900 cubetas. Registrar es O(1) y
+ * no reserva memoria, así que puede alimentarse desde el bucle del juego. No es
+ * thread-safe: el dueño sincroniza.
+ *
+ * @author joseAlejandro
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;      // 32
+    private static final int MAX_VALUE_BITS = 31;                      // ~35 minutos en µs
+    private static final long MAX_VALUE_MICROS = (1L << MAX_VALUE_BITS) - 1;
+
+    public static final int BUCKET_COUNT = SUB_BUCKETS * (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1);
+
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Registra una muestra (valores negativos cuentan como 0)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[indexOf(value / 1000L)]++;
+        count++;
+        totalNanos += value;
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    static int indexOf(long micros) {
+        long v = Math.min(micros, MAX_VALUE_MICROS);
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(v)) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS * (shift + 1) + (int) ((v >>> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * Límite inferior de una cubeta en nanosegundos
+     */
+    public static long getBucketLowerNanos(int index) {
+        if (index < SUB_BUCKETS) {
+            return index * 1000L;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        return ((long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift) * 1000L;
+    }
+
+    /**
+     * Límite superior (exclusivo) de una cubeta en nanosegundos
+     */
+    public static long getBucketUpperNanos(int index) {
+        if (index < SUB_BUCKETS) {
+            return (index + 1) * 1000L;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        return ((long) (SUB_BUCKETS + index % SUB_BUCKETS + 1) << shift) * 1000L;
+    }
+
+    /**
+     * Percentil en milisegundos (p entre 0 y 100), usando el límite superior de la cubeta
+     */
+    public double getPercentileMillis(double p) {
+        if (count == 0) return 0.0;
+
+        long target = Math.max(1, (long) Math.ceil(count * Math.max(0.0, Math.min(100.0, p)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= target) {
+                return Math.min(getBucketUpperNanos(i), maxNanos) / 1_000_000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    public long getCount() { return count; }
+    public double getMeanMillis() { return count > 0 ? totalNanos / (double) count / 1_000_000.0 : 0.0; }
+    public double getMaxMillis() { return maxNanos / 1_000_000.0; }
+    public long getBucket(int index) { return buckets[index]; }
+
+    /**
+     * Copia el contenido de otro histograma (sin reservar memoria)
+     */
+    public void copyFrom(LatencyHistogram other) {
+        System.arraycopy(other.buckets, 0, buckets, 0, BUCKET_COUNT);
+        count = other.count;
+        totalNanos = other.totalNanos;
+        maxNanos = other.maxNanos;
+    }
+
+    public void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    /**
+     * Resumen de una línea: n, media, p50/p95/p99 y máximo en ms
+     */
+    public String getSummary() {
+        return String.format("n=%d avg %.2f p50 %.2f p95 %.2f p99 %.2f max %.2f ms",
+                count, getMeanMillis(), getPercentileMillis(50), getPercentileMillis(95),
+                getPercentileMillis(99), getMaxMillis());
+    }
+}
@@ -0,0 +1,282 @@
+package com.skillparty.towerblox.performance;
+
+import com.skillparty.towerblox.core.GameClock;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Trazador de latencia entrada-a-pantalla (input-to-photon)
+ *
+ * Cada pulsación recibe un ID de traza al despacharse en AWT y se marca en cada
+ * etapa del camino hasta la pantalla: consumo en la simulación, publicación del
+ * estado, inicio del pintado y presentación (Toolkit.sync). Al presentarse, el
+ * tiempo de cada tramo y el total van a histogramas que se ven en el overlay
+ * y pueden volcarse a un archivo para comparar cambios del bucle o del render.
+ *
+ * Las etapas de frame (publicación, pintado, presentación) se marcan para todas
+ * las trazas que esperan en ellas, así que el render no necesita conocer IDs.
+ * Todas las marcas usan tiempo real del GameClock.
+ *
+ * @author joseAlejandro
+ */
+public class LatencyTracer {
+
+    /**
+     * Etapas en el orden en que las atraviesa una pulsación
+     */
+    public enum Stage {
+        DISPATCH("AWT dispatch"),
+        SIMULATION_CONSUME("Sim consume"),
+        SNAPSHOT_PUBLISH("Snapshot publish"),
+        PAINT_START("Paint start"),
+        PRESENT("Present");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    public static final long NO_TRACE = -1L;
+
+    private static final int MAX_OPEN_TRACES = 32;
+    private static final long TRACE_TIMEOUT_NANOS = 2_000_000_000L; // Trazas abandonadas (p. ej. pausa)
+    private static final long UNSET = Long.MIN_VALUE;
+    private static final Stage[] STAGES = Stage.values();
+
+    private static volatile LatencyTracer defaultTracer = new LatencyTracer();
+
+    private final GameClock clock; // null = el GameClock por defecto vigente
+
+    // Trazas abiertas: slot -> ID y marca de tiempo por etapa
+    private final long[] traceIds = new long[MAX_OPEN_TRACES];
+    private final long[][] stamps = new long[MAX_OPEN_TRACES][STAGES.length];
+    private volatile int openTraces = 0;
+    private long nextTraceId = 1;
+
+    // stageHistograms[i] mide el tramo de la etapa i-1 a la etapa i (el índice 0 no se usa)
+    private final LatencyHistogram[] stageHistograms = new LatencyHistogram[STAGES.length];
+    private final LatencyHistogram totalHistogram = new LatencyHistogram();
+    private long completedTraces = 0;
+    private long abandonedTraces = 0;
+
+    public LatencyTracer() {
+        this(null);
+    }
+
+    public LatencyTracer(GameClock clock) {
+        this.clock = clock;
+        Arrays.fill(traceIds, NO_TRACE);
+        for (int i = 1; i < STAGES.length; i++) {
+            stageHistograms[i] = new LatencyHistogram();
+        }
+    }
+
+    public static LatencyTracer getDefault() {
+        return defaultTracer;
+    }
+
+    public static void setDefault(LatencyTracer tracer) {
+        defaultTracer = tracer;
+    }
+
+    private long now() {
+        return (clock != null ? clock : GameClock.getDefault()).realNanoTime();
+    }
+
+    /**
+     * Abre una traza en la etapa DISPATCH y devuelve su ID. Si no quedan huecos
+     * se descarta la traza más antigua.
+     */
+    public synchronized long begin() {
+        long timestamp = now();
+        int slot = -1;
+        long oldest = Long.MAX_VALUE;
+        for (int i = 0; i < MAX_OPEN_TRACES; i++) {
+            if (traceIds[i] == NO_TRACE) {
+                slot = i;
+                break;
+            }
+            if (stamps[i][0] < oldest) {
+                oldest = stamps[i][0];
+                slot = i;
+            }
+        }
+
+        if (traceIds[slot] != NO_TRACE) {
+            closeSlot(slot);
+            abandonedTraces++;
+        }
+
+        long id = nextTraceId++;
+        traceIds[slot] = id;
+        Arrays.fill(stamps[slot], UNSET);
+        stamps[slot][Stage.DISPATCH.ordinal()] = timestamp;
+        openTraces++;
+        return id;
+    }
+
+    /**
+     * Marca una etapa de una traza concreta (se ignora si la traza ya no existe
+     * o si todavía no pasó por la etapa anterior)
+     */
+    public void mark(long traceId, Stage stage) {
+        if (traceId == NO_TRACE || openTraces == 0) return;
+
+        synchronized (this) {
+            for (int i = 0; i < MAX_OPEN_TRACES; i++) {
+                if (traceIds[i] == traceId) {
+                    advance(i, stage, now());
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Marca una etapa para todas las trazas que la están esperando. Sin trazas
+     * abiertas es una lectura volátil, así que puede llamarse en cada frame.
+     */
+    public void markPending(Stage stage) {
+        if (openTraces == 0) return;
+
+        synchronized (this) {
+            long timestamp = now();
+            for (int i = 0; i < MAX_OPEN_TRACES; i++) {
+                if (traceIds[i] == NO_TRACE) continue;
+
+                if (timestamp - stamps[i][0] > TRACE_TIMEOUT_NANOS) {
+                    closeSlot(i);
+                    abandonedTraces++;
+                } else {
+                    advance(i, stage, timestamp);
+                }
+            }
+        }
+    }
+
+    /**
+     * True si hay trazas esperando a ser presentadas
+     */
+    public boolean hasOpenTraces() {
+        return openTraces > 0;
+    }
+
+    private void advance(int slot, Stage stage, long timestamp) {
+        int s = stage.ordinal();
+        if (s == 0 || stamps[slot][s] != UNSET || stamps[slot][s - 1] == UNSET) {
+            return;
+        }
+
+        stamps[slot][s] = timestamp;
+        stageHistograms[s].record(timestamp - stamps[slot][s - 1]);
+
+        if (stage == Stage.PRESENT) {
+            totalHistogram.record(timestamp - stamps[slot][0]);
+            completedTraces++;
+            closeSlot(slot);
+        }
+    }
+
+    private void closeSlot(int slot) {
+        traceIds[slot] = NO_TRACE;
+        openTraces--;
+    }
+
+    // Getters
+    public synchronized LatencyHistogram getStageHistogram(Stage stage) {
+        if (stage.ordinal() == 0) {
+            throw new IllegalArgumentException("DISPATCH starts the trace and has no histogram");
+        }
+        return stageHistograms[stage.ordinal()];
+    }
+
+    public synchronized LatencyHistogram getTotalHistogram() { return totalHistogram; }
+    public synchronized long getCompletedTraces() { return completedTraces; }
+    public synchronized long getAbandonedTraces() { return abandonedTraces; }
+
+    /**
+     * Descarta las trazas abiertas y vacía los histogramas
+     */
+    public synchronized void reset() {
+        Arrays.fill(traceIds, NO_TRACE);
+        openTraces = 0;
+        for (int i = 1; i < STAGES.length; i++) {
+            stageHistograms[i].reset();
+        }
+        totalHistogram.reset();
+        completedTraces = 0;
+        abandonedTraces = 0;
+    }
+
+    /**
+     * Líneas de resumen para el overlay: total y un tramo por etapa
+     */
+    public synchronized List<String> getSummaryLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Input->photon (%d traces, %d abandoned)", completedTraces, abandonedTraces));
+        lines.add("Total  " + totalHistogram.getSummary());
+        for (int i = 1; i < STAGES.length; i++) {
+            lines.add(STAGES[i].getLabel() + "  " + stageHistograms[i].getSummary());
+        }
+        return lines;
+    }
+
+    /**
+     * Vuelca el resumen y las cubetas no vacías de cada histograma a un archivo de texto
+     */
+    public synchronized void dump(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("# Tower Bloxx input-to-photon latency - " + LocalDateTime.now());
+            for (String line : getSummaryLines()) {
+                out.println("# " + line);
+            }
+
+            out.println("stage,bucket_start_ms,bucket_end_ms,count");
+            writeBuckets(out, "total", totalHistogram);
+            for (int i = 1; i < STAGES.length; i++) {
+                writeBuckets(out, STAGES[i].name().toLowerCase(), stageHistograms[i]);
+            }
+        }
+    }
+
+    /**
+     * Vuelca a ~/.towerblox/latency/latency-&lt;fecha&gt;.csv y devuelve la ruta
+     */
+    public Path dump() throws IOException {
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path file = Paths.get(System.getProperty("user.home"), ".towerblox", "latency", "latency-" + stamp + ".csv");
+        dump(file);
+        return file;
+    }
+
+    private void writeBuckets(PrintWriter out, String name, LatencyHistogram histogram) {
+        for (int b = 0; b < LatencyHistogram.BUCKET_COUNT; b++) {
+            long n = histogram.getBucket(b);
+            if (n == 0) continue;
+
+            out.printf(Locale.ROOT, "%s,%.3f,%.3f,%d%n", name,
+                    LatencyHistogram.getBucketLowerNanos(b) / 1_000_000.0,
+                    LatencyHistogram.getBucketUpperNanos(b) / 1_000_000.0, n);
+        }
+    }
+}
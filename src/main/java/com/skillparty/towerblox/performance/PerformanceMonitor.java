@@ -1,5 +1,7 @@
 package com.skillparty.towerblox.performance;
 
+import com.skillparty.towerblox.core.GameClock;
+
 /**
  * Monitor de performance del juego para detectar problemas
  * y optimizar el rendimiento
@@ -7,12 +9,15 @@ package com.skillparty.towerblox.performance;
  * @author joseAlejandro
  */
 public class PerformanceMonitor {
-    private long lastFrameTime = System.nanoTime();
+    private long lastFrameTime = GameClock.getDefault().realNanoTime();
     private double currentFPS = 0.0;
     private double averageFPS = 0.0;
     private long frameCount = 0;
     private double totalFrameTime = 0.0;
     
+    // Distribución de tiempos de frame de la ventana actual (la media esconde los tirones)
+    private final LatencyHistogram frameTimes = new LatencyHistogram();
+    
     // Umbral de FPS para mostrar advertencias
     private static final double LOW_FPS_THRESHOLD = 30.0;
     private static final double TARGET_FPS = 60.0;
@@ -21,10 +26,11 @@ public class PerformanceMonitor {
      * Actualiza las métricas de performance
      */
     public void update() {
-        long currentTime = System.nanoTime();
+        long currentTime = GameClock.getDefault().realNanoTime();
         double deltaTime = (currentTime - lastFrameTime) / 1_000_000_000.0; // Convertir a segundos
         
         if (deltaTime > 0) {
+            frameTimes.record(currentTime - lastFrameTime);
             currentFPS = 1.0 / deltaTime;
             frameCount++;
             totalFrameTime += deltaTime;
@@ -61,6 +67,27 @@ public class PerformanceMonitor {
         return frameCount;
     }
     
+    /**
+     * Percentil del tiempo de frame en ms desde el último resetWindow() (p entre 0 y 100)
+     */
+    public double getFrameTimePercentileMillis(double p) {
+        return frameTimes.getPercentileMillis(p);
+    }
+    
+    /**
+     * Peor tiempo de frame en ms de la ventana actual
+     */
+    public double getMaxFrameTimeMillis() {
+        return frameTimes.getMaxMillis();
+    }
+    
+    /**
+     * Empieza una nueva ventana de tiempos de frame (los FPS promedio se mantienen)
+     */
+    public void resetWindow() {
+        frameTimes.reset();
+    }
+    
     /**
      * Verifica si el performance es aceptable
      */
@@ -76,7 +103,8 @@ public class PerformanceMonitor {
         totalFrameTime = 0.0;
         currentFPS = 0.0;
         averageFPS = 0.0;
-        lastFrameTime = System.nanoTime();
+        frameTimes.reset();
+        lastFrameTime = GameClock.getDefault().realNanoTime();
     }
     
     /**
@@ -89,11 +117,14 @@ public class PerformanceMonitor {
             "   Average FPS: %.2f%n" +
             "   Target FPS: %.0f%n" +
             "   Total Frames: %d%n" +
+            "   Frame time p50/p95/p99/max: %.2f / %.2f / %.2f / %.2f ms%n" +
             "   Status: %s%n",
             currentFPS,
             averageFPS,
             TARGET_FPS,
             frameCount,
+            frameTimes.getPercentileMillis(50), frameTimes.getPercentileMillis(95),
+            frameTimes.getPercentileMillis(99), frameTimes.getMaxMillis(),
             isPerformanceGood() ? "✅ Good" : "⚠️ Needs optimization"
         );
     }
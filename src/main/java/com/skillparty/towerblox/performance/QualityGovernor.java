@@ -0,0 +1,120 @@
+package com.skillparty.towerblox.performance;
+
+import com.skillparty.towerblox.rendering.RenderingEngine.RenderQuality;
+
+/**
+ * Gobernador de calidad adaptativa guiado por el presupuesto de frame
+ *
+ * Una vez por ventana del {@link FrameProfiler} estima el coste p95 de un frame
+ * (la suma de los p95 de cada fase, una cota superior conservadora) y lo compara
+ * con el presupuesto del pacer. Baja un peldaño de {@link RenderQuality} tras
+ * {@link #DOWNGRADE_WINDOWS} ventanas seguidas por encima del 90% del presupuesto
+ * y sube uno tras {@link #UPGRADE_WINDOWS} ventanas por debajo del 55%. La banda
+ * entre ambos umbrales y el enfriamiento tras cada cambio evitan oscilar entre
+ * dos niveles. El gobernador solo decide; quien lo llama aplica el nivel entre
+ * frames.
+ *
+ * @author joseAlejandro
+ */
+public class QualityGovernor {
+    public static final double DOWNGRADE_RATIO = 0.90;
+    public static final double UPGRADE_RATIO = 0.55;
+    public static final int DOWNGRADE_WINDOWS = 2;
+    public static final int UPGRADE_WINDOWS = 5;
+    public static final int COOLDOWN_WINDOWS = 3;
+    public static final long MIN_FRAMES = 10; // Menos frames (menú, pausa) no dicen nada del coste
+
+    private volatile boolean enabled = true;
+    private volatile RenderQuality floor = RenderQuality.LOW;
+    private volatile RenderQuality ceiling = RenderQuality.HIGH;
+
+    private int overBudgetWindows;
+    private int underBudgetWindows;
+    private int cooldownWindows;
+    private double lastFrameCostMillis;
+
+    /**
+     * Evalúa una ventana de fases y devuelve la calidad a usar (la actual si no hay cambio)
+     */
+    public synchronized RenderQuality evaluate(FrameProfiler.Snapshot window, double budgetMillis,
+                                               RenderQuality current) {
+        if (window.getCount(FrameProfiler.Phase.PAINT) < MIN_FRAMES) {
+            return current;
+        }
+        return evaluate(estimateFrameCostMillis(window), budgetMillis, current);
+    }
+
+    /**
+     * Igual que evaluate(Snapshot, ...) con el coste p95 del frame ya calculado
+     */
+    public synchronized RenderQuality evaluate(double frameCostMillis, double budgetMillis,
+                                               RenderQuality current) {
+        lastFrameCostMillis = frameCostMillis;
+        if (!enabled || budgetMillis <= 0) {
+            return current;
+        }
+        if (cooldownWindows > 0) {
+            cooldownWindows--;
+            return current;
+        }
+
+        if (frameCostMillis > budgetMillis * DOWNGRADE_RATIO) {
+            underBudgetWindows = 0;
+            if (++overBudgetWindows >= DOWNGRADE_WINDOWS && current.compareTo(floor) > 0) {
+                return changeTo(current.lower());
+            }
+        } else if (frameCostMillis < budgetMillis * UPGRADE_RATIO) {
+            overBudgetWindows = 0;
+            if (++underBudgetWindows >= UPGRADE_WINDOWS && current.compareTo(ceiling) < 0) {
+                return changeTo(current.higher());
+            }
+        } else {
+            overBudgetWindows = 0;
+            underBudgetWindows = 0;
+        }
+        return current;
+    }
+
+    private RenderQuality changeTo(RenderQuality next) {
+        overBudgetWindows = 0;
+        underBudgetWindows = 0;
+        cooldownWindows = COOLDOWN_WINDOWS;
+        return next;
+    }
+
+    /**
+     * Coste p95 estimado de un frame: suma de los p95 de las fases medidas
+     */
+    public static double estimateFrameCostMillis(FrameProfiler.Snapshot window) {
+        double total = 0;
+        for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+            if (window.getCount(phase) > 0) {
+                total += window.getP95Millis(phase);
+            }
+        }
+        return total;
+    }
+
+    public synchronized void reset() {
+        overBudgetWindows = 0;
+        underBudgetWindows = 0;
+        cooldownWindows = 0;
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public RenderQuality getFloor() { return floor; }
+    public RenderQuality getCeiling() { return ceiling; }
+    public synchronized double getLastFrameCostMillis() { return lastFrameCostMillis; }
+
+    /**
+     * Limita los peldaños que puede recorrer el gobernador
+     */
+    public void setRange(RenderQuality floor, RenderQuality ceiling) {
+        if (floor == null || ceiling == null || floor.compareTo(ceiling) > 0) {
+            throw new IllegalArgumentException("Invalid quality range: " + floor + " - " + ceiling);
+        }
+        this.floor = floor;
+        this.ceiling = ceiling;
+    }
+}
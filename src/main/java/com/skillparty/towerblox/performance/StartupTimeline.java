@@ -0,0 +1,107 @@
+package com.skillparty.towerblox.performance;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Línea de tiempo del arranque: hitos y duración de cada tarea de carga
+ *
+ * Los tiempos se miden desde el arranque de la JVM (se suma el uptime en el
+ * momento de cargar la clase), así "tiempo hasta la ventana" incluye también
+ * el arranque de la propia JVM. Cada hito se registra solo la primera vez, de
+ * modo que llamar a mark() en cada pintado cuesta una lectura volátil.
+ *
+ * @author joseAlejandro
+ */
+public final class StartupTimeline {
+
+    public static final String WINDOW = "Window visible";
+    public static final String MENU = "Menu painted";
+    public static final String FIRST_GAME_FRAME = "First game frame";
+
+    private static final StartupTimeline defaultTimeline = new StartupTimeline();
+
+    private final long originNanos;
+    private final long jvmUptimeMillis;
+    private final Map<String, Long> marks = new LinkedHashMap<>();
+    private final List<String> tasks = new ArrayList<>();
+    private volatile boolean firstGameFrame;
+
+    public StartupTimeline() {
+        this.originNanos = System.nanoTime();
+        this.jvmUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+
+    public static StartupTimeline getDefault() {
+        return defaultTimeline;
+    }
+
+    /**
+     * Milisegundos desde el arranque de la JVM
+     */
+    public double elapsedMillis() {
+        return jvmUptimeMillis + (System.nanoTime() - originNanos) / 1_000_000.0;
+    }
+
+    /**
+     * Registra un hito la primera vez que ocurre; devuelve true si fue esta llamada
+     */
+    public boolean mark(String milestone) {
+        if (FIRST_GAME_FRAME.equals(milestone) && firstGameFrame) {
+            return false; // Ruta rápida: se llama en cada frame pintado
+        }
+        long now = System.nanoTime();
+        synchronized (this) {
+            if (marks.containsKey(milestone)) {
+                return false;
+            }
+            marks.put(milestone, now);
+        }
+        if (FIRST_GAME_FRAME.equals(milestone)) {
+            firstGameFrame = true;
+        }
+        System.out.printf("⏱️ %s at %.0f ms%n", milestone, toMillis(now));
+        return true;
+    }
+
+    /**
+     * Anota cuánto tardó una tarea de carga y en qué hilo corrió
+     */
+    public synchronized void recordTask(String task, long nanos, String thread) {
+        tasks.add(String.format(Locale.ROOT, "%s %.1f ms (%s)", task, nanos / 1_000_000.0, thread));
+    }
+
+    /**
+     * Milisegundos desde el arranque de la JVM hasta el hito, o -1 si aún no ocurrió
+     */
+    public synchronized double getMarkMillis(String milestone) {
+        Long nanos = marks.get(milestone);
+        return nanos != null ? toMillis(nanos) : -1;
+    }
+
+    public synchronized boolean hasMark(String milestone) {
+        return marks.containsKey(milestone);
+    }
+
+    private double toMillis(long nanos) {
+        return jvmUptimeMillis + (nanos - originNanos) / 1_000_000.0;
+    }
+
+    /**
+     * Resumen de hitos y tareas para la consola
+     */
+    public synchronized String getSummary() {
+        StringBuilder summary = new StringBuilder("⏱️ Startup timeline (since JVM start):");
+        for (Map.Entry<String, Long> mark : marks.entrySet()) {
+            summary.append(String.format("%n   %-18s %7.0f ms", mark.getKey(), toMillis(mark.getValue())));
+        }
+        for (String task : tasks) {
+            summary.append("\n   · ").append(task);
+        }
+        return summary.toString();
+    }
+}
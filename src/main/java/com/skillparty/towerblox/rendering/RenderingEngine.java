@@ -1,5 +1,7 @@
 package com.skillparty.towerblox.rendering;
 
+import com.skillparty.towerblox.core.GameClock;
+
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.util.ArrayList;
@@ -228,24 +230,37 @@ public class RenderingEngine {
     }
     
     /**
-     * Render quality settings
+     * Render quality settings, ordered from cheapest to richest so they form a ladder
      */
     public enum RenderQuality {
-        LOW(false, false, false, 0.5f),
-        MEDIUM(true, false, false, 0.75f),
-        HIGH(true, true, false, 1.0f),
-        ULTRA(true, true, true, 1.0f);
+        LOW(false, false, false, 0.5f, 100, 1),
+        MEDIUM(true, false, false, 0.75f, 250, 2),
+        HIGH(true, true, false, 1.0f, 500, 3),
+        ULTRA(true, true, true, 1.0f, 500, 3);
         
         public final boolean antialiasing;
-        public final boolean shadows;
+        public final boolean shadows;          // Drop shadows and glow trails
         public final boolean particles;
         public final float resolutionScale;
+        public final int particleCap;
+        public final int backgroundLayers;     // Optional parallax layers: clouds, skyscrapers, stars
         
-        RenderQuality(boolean aa, boolean shadows, boolean particles, float scale) {
+        RenderQuality(boolean aa, boolean shadows, boolean particles, float scale,
+                      int particleCap, int backgroundLayers) {
             this.antialiasing = aa;
             this.shadows = shadows;
             this.particles = particles;
             this.resolutionScale = scale;
+            this.particleCap = particleCap;
+            this.backgroundLayers = backgroundLayers;
+        }
+        
+        public RenderQuality lower() {
+            return this == LOW ? LOW : values()[ordinal() - 1];
+        }
+        
+        public RenderQuality higher() {
+            return this == ULTRA ? ULTRA : values()[ordinal() + 1];
         }
     }
     
@@ -273,7 +288,7 @@ public class RenderingEngine {
      * Main render method
      */
     public void render(Graphics2D g) {
-        long startTime = System.nanoTime();
+        long startTime = GameClock.getDefault().realNanoTime();
         
         // Reset statistics
         objectsRendered = 0;
@@ -295,7 +310,7 @@ public class RenderingEngine {
         }
         
         // Calculate render time
-        renderTime = (System.nanoTime() - startTime) / 1_000_000; // Convert to ms
+        renderTime = (GameClock.getDefault().realNanoTime() - startTime) / 1_000_000; // Convert to ms
     }
     
     /**
@@ -1,6 +1,7 @@
 package com.skillparty.towerblox.score;
 
 import com.skillparty.towerblox.game.DifficultyLevel;
+import com.skillparty.towerblox.performance.GameEvents;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -160,6 +161,8 @@ public class ScoreStorage {
      * Saves high scores to file with backup
      */
     public void saveScores() {
+        GameEvents.ScoreSave event = new GameEvents.ScoreSave();
+        event.begin();
         try {
             // Create backup of existing file
             if (Files.exists(scoresPath)) {
@@ -174,6 +177,11 @@ public class ScoreStorage {
                 oos.flush();
             }
             
+            if (event.shouldCommit()) {
+                event.bytes = Files.size(scoresPath);
+                event.commit();
+            }
+            
             System.out.println("High scores saved successfully");
             
         } catch (IOException e) {
@@ -1,18 +1,31 @@
 package com.skillparty.towerblox.ui;
 
+import com.skillparty.towerblox.core.FramePacer;
+import com.skillparty.towerblox.core.GameClock;
 import com.skillparty.towerblox.game.GameEngine;
+import com.skillparty.towerblox.performance.FrameProfiler;
+import com.skillparty.towerblox.performance.JitWarmup;
+import com.skillparty.towerblox.performance.LatencyTracer;
+import com.skillparty.towerblox.performance.StartupTimeline;
+import com.skillparty.towerblox.rendering.RenderingEngine;
+import com.skillparty.towerblox.ui.components.DigitAtlas;
+import com.skillparty.towerblox.ui.components.FontManager;
+import com.skillparty.towerblox.ui.components.HudWidget;
+import com.skillparty.towerblox.ui.components.TextLabel;
 import com.skillparty.towerblox.ui.components.TowerVisualizationPanel;
 import com.skillparty.towerblox.effects.ProfessionalEffects;
 import com.skillparty.towerblox.game.physics.Tower;
 import com.skillparty.towerblox.game.physics.Block;
-// import com.skillparty.towerblox.ui.components.FontManager;
 import com.skillparty.towerblox.utils.Constants;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -22,8 +35,87 @@ import java.util.List;
 public class GamePanel extends JPanel implements KeyListener {
     private static final long serialVersionUID = 1L;
     
+    // HUD text: fonts, static labels and digit atlases are built once, so painting the
+    // cards every frame neither derives fonts nor formats Strings
+    private static final FontManager FONTS = FontManager.getInstance();
+    private static final Font STATS_TITLE_FONT = FONTS.getFont("SansSerif", Font.BOLD, 10);
+    private static final Font STATS_VALUE_FONT = FONTS.getFont("SansSerif", Font.BOLD, 18);
+    private static final Font PROGRESS_FONT = FONTS.getFont("SF Pro Display", Font.PLAIN, 10);
+    private static final Font CARD_TITLE_FONT = FONTS.getFont("SF Pro Display", Font.BOLD, 18);
+    private static final Font STATUS_TITLE_FONT = FONTS.getFont("SF Pro Display", Font.BOLD, 16);
+    private static final Font CARD_LABEL_FONT = FONTS.getFont("SF Pro Display", Font.BOLD, 14);
+    private static final Font CARD_VALUE_FONT = FONTS.getFont("SF Pro Display", Font.BOLD, 12);
+    private static final Font CARD_HINT_FONT = FONTS.getFont("SF Pro Display", Font.PLAIN, 12);
+    private static final Font CARD_SMALL_FONT = FONTS.getFont("SF Pro Display", Font.PLAIN, 11);
+    private static final Font MODE_FONT = FONTS.getFont("Arial", Font.BOLD, 14);
+    private static final Font EFFECT_FONT = FONTS.getFont(Font.SANS_SERIF, Font.BOLD, 18);
+    private static final Font OVERLAY_TITLE_FONT = FONTS.getFont(Font.SANS_SERIF, Font.BOLD, 24);
+    private static final Font OVERLAY_FONT = FONTS.getFont(Font.SANS_SERIF, Font.PLAIN, 16);
+    private static final Font PERF_OVERLAY_FONT = FONTS.getFont(Font.MONOSPACED, Font.PLAIN, 11);
+    
+    private static final Color SLATE_TEXT = new Color(148, 163, 184);
+    private static final Color GRAY_TEXT = new Color(156, 163, 175);
+    private static final Color MUTED_TEXT = new Color(107, 114, 128);
+    private static final Color[] STABILITY_COLORS = {
+        new Color(239, 68, 68),   // Red - Critical
+        new Color(249, 115, 22),  // Orange - Poor
+        new Color(251, 191, 36),  // Yellow - Fair
+        new Color(59, 130, 246),  // Blue - Good
+        new Color(34, 197, 94)    // Green - Excellent
+    };
+    private static final String[] STABILITY_NAMES = {"CRITICAL", "POOR", "FAIR", "GOOD", "EXCELLENT"};
+    private static final Color[] COMBO_COLORS = {
+        new Color(34, 197, 94),   // Green - Good
+        new Color(59, 130, 246),  // Blue - Great
+        new Color(168, 85, 247)   // Purple - Amazing
+    };
+    
+    private static final TextLabel STATS_TITLE = new TextLabel(STATS_TITLE_FONT, "ESTADO DE TORRE");
+    private static final TextLabel FLOORS_LABEL = new TextLabel(STATS_VALUE_FONT, " PISOS");
+    private static final TextLabel STABILITY_PERCENT_LABEL = new TextLabel(STATS_TITLE_FONT, "ESTABILIDAD: ");
+    private static final TextLabel TOWER_STATUS_TITLE = new TextLabel(CARD_TITLE_FONT, "🏗️ TOWER STATUS");
+    private static final TextLabel OVERALL_STABILITY_LABEL = new TextLabel(CARD_LABEL_FONT, "Overall Stability:");
+    private static final TextLabel LAST_BLOCK_LABEL = new TextLabel(CARD_VALUE_FONT, "Last Block:");
+    private static final TextLabel GAME_STATUS_TITLE = new TextLabel(STATUS_TITLE_FONT, "❤️ GAME STATUS");
+    private static final TextLabel LIVES_LABEL = new TextLabel(CARD_LABEL_FONT, "Lives:");
+    private static final TextLabel FPS_LABEL = new TextLabel(CARD_SMALL_FONT, "FPS: ");
+    private static final TextLabel TIME_LABEL = new TextLabel(CARD_SMALL_FONT, "  |  Time: ");
+    private static final TextLabel COMBO_HINT_LABEL = new TextLabel(CARD_HINT_FONT, "Perfect placement for combo!");
+    private static final TextLabel COMBO_LABEL = new TextLabel(CARD_LABEL_FONT, "COMBO x");
+    private static final TextLabel SCORE_BONUS_LABEL = new TextLabel(CARD_SMALL_FONT, "% Score Bonus");
+    private static final TextLabel MODE_LABEL = new TextLabel(MODE_FONT, "TOWER BLOXX 2005 MODE");
+    private static final TextLabel[] STABILITY_LABELS = new TextLabel[STABILITY_NAMES.length];
+    static {
+        for (int i = 0; i < STABILITY_NAMES.length; i++) {
+            STABILITY_LABELS[i] = new TextLabel(CARD_VALUE_FONT, " " + STABILITY_NAMES[i]);
+        }
+    }
+    
+    private static final DigitAtlas FLOORS_DIGITS = FONTS.getDigits(STATS_VALUE_FONT, Color.WHITE);
+    private static final DigitAtlas STATS_DIGITS = FONTS.getDigits(STATS_TITLE_FONT, SLATE_TEXT);
+    private static final DigitAtlas PROGRESS_DIGITS = FONTS.getDigits(PROGRESS_FONT, Color.WHITE);
+    private static final DigitAtlas STABILITY_DIGITS = FONTS.getDigits(CARD_VALUE_FONT, Color.WHITE);
+    private static final DigitAtlas PERF_DIGITS = FONTS.getDigits(CARD_SMALL_FONT, MUTED_TEXT);
+    private static final DigitAtlas BONUS_DIGITS = FONTS.getDigits(CARD_SMALL_FONT, GRAY_TEXT);
+    private static final DigitAtlas[] STATUS_DIGITS = new DigitAtlas[STABILITY_COLORS.length];
+    private static final DigitAtlas[] COMBO_DIGITS = new DigitAtlas[COMBO_COLORS.length];
+    static {
+        for (int i = 0; i < STABILITY_COLORS.length; i++) {
+            STATUS_DIGITS[i] = FONTS.getDigits(CARD_VALUE_FONT, STABILITY_COLORS[i]);
+        }
+        for (int i = 0; i < COMBO_COLORS.length; i++) {
+            COMBO_DIGITS[i] = FONTS.getDigits(CARD_LABEL_FONT, COMBO_COLORS[i]);
+        }
+    }
+    
+    // Retained HUD cards: blitted every frame, repainted only on game events or when a shown value changes.
+    // The margin leaves room for the 2.5px borders, which straddle the card edge.
+    private static final int CARD_MARGIN = 2;
+    private final HudWidget statsCard = new HudWidget(240 + 2 * CARD_MARGIN, 90 + 2 * CARD_MARGIN, this::paintStatsCard);
+    private final HudWidget towerCard = new HudWidget(300 + 2 * CARD_MARGIN + 3, 140 + 2 * CARD_MARGIN + 3, this::paintTowerProgressCard);
+    private final HudWidget statusCard = new HudWidget(280 + 2 * CARD_MARGIN + 3, 100 + 2 * CARD_MARGIN + 3, this::paintGameStatusCard);
+    
     private GameWindow parentWindow;
-    // private FontManager fontManager;
     private GameEngine gameEngine;
     private TowerVisualizationPanel towerVisualizationPanel;
     
@@ -40,11 +132,20 @@ public class GamePanel extends JPanel implements KeyListener {
     
     // Pause overlay
     private boolean showPauseOverlay = false;
+    // Set once a full frame with the pause overlay is on screen; nothing moves until unpaused
+    private volatile boolean pauseFramePainted = false;
+    
+    // Frame phase and input-to-photon latency overlay (F1), latency dumped to a file with F5
+    private boolean showPerformanceOverlay = false;
     
     // Performance monitoring
+    private PacedTimer renderTimer;
     private long lastRenderTime = 0;
-    private int frameCount = 0;
     private double renderFPS = 0;
+    private double frameBusyPercent = 0;
+    private final FrameProfiler.Snapshot phaseSnapshot = new FrameProfiler.Snapshot();
+    private String[] phaseLines = new String[0];
+    private BufferedImage sceneBuffer; // World rendered at the internal resolution, reused across frames
     
     /**
      * Visual effect for score display
@@ -55,25 +156,28 @@ public class GamePanel extends JPanel implements KeyListener {
         long startTime;
         Color color;
         
+        TextLabel label;
+        
         ScoreEffect(int x, int y, int score, Color color) {
             this.x = x;
             this.y = y;
             this.score = score;
             this.color = color;
-            this.startTime = System.currentTimeMillis();
+            this.label = new TextLabel(EFFECT_FONT, "+" + score);
+            this.startTime = GameClock.getDefault().millis();
         }
         
         boolean isExpired() {
-            return System.currentTimeMillis() - startTime > 2000; // 2 seconds
+            return GameClock.getDefault().millis() - startTime > 2000; // 2 seconds
         }
         
         float getAlpha() {
-            long elapsed = System.currentTimeMillis() - startTime;
+            long elapsed = GameClock.getDefault().millis() - startTime;
             return Math.max(0, 1.0f - elapsed / 2000.0f);
         }
         
         int getCurrentY() {
-            long elapsed = System.currentTimeMillis() - startTime;
+            long elapsed = GameClock.getDefault().millis() - startTime;
             return y - (int)(elapsed / 10); // Move up over time
         }
     }
@@ -90,15 +194,15 @@ public class GamePanel extends JPanel implements KeyListener {
             this.x = x;
             this.y = y;
             this.combo = combo;
-            this.startTime = System.currentTimeMillis();
+            this.startTime = GameClock.getDefault().millis();
         }
         
         boolean isExpired() {
-            return System.currentTimeMillis() - startTime > 1500; // 1.5 seconds
+            return GameClock.getDefault().millis() - startTime > 1500; // 1.5 seconds
         }
         
         float getScale() {
-            long elapsed = System.currentTimeMillis() - startTime;
+            long elapsed = GameClock.getDefault().millis() - startTime;
             if (elapsed < 300) {
                 return 1.0f + (elapsed / 300.0f) * 0.5f; // Scale up
             } else {
@@ -107,7 +211,7 @@ public class GamePanel extends JPanel implements KeyListener {
         }
         
         float getAlpha() {
-            long elapsed = System.currentTimeMillis() - startTime;
+            long elapsed = GameClock.getDefault().millis() - startTime;
             return Math.max(0, 1.0f - elapsed / 1500.0f);
         }
     }
@@ -138,18 +242,64 @@ public class GamePanel extends JPanel implements KeyListener {
     }
     
     /**
-     * Sets up the rendering timer (Synchronized 60 FPS)
+     * Sets up the paced render timer. It ticks at the display refresh rate; the engine
+     * still simulates at a fixed 60 Hz and interpolates the frames in between.
      */
     private void setupTimer() {
-        Timer renderTimer = new Timer(16, e -> { // ~60 FPS - Single synchronized loop
+        int refreshRate = detectRefreshRate();
+        renderTimer = new PacedTimer("GamePanel-Render", refreshRate, this, this::isPauseFrameCurrent, () -> {
             if (gameEngine != null) {
-                gameEngine.gameLoop(); // Update game logic
+                gameEngine.gameLoop(); // Fixed-step game logic (runs only when a step is due)
                 repaint(); // Render
                 updateEffects();
                 updatePerformanceStats();
             }
         });
         renderTimer.start();
+        System.out.println("🖥️ Render timer: " + refreshRate + " Hz");
+    }
+    
+    /**
+     * Whether the paused frame already on screen is still valid. The render timer then idles
+     * until input arrives; key presses and Swing's own damage still repaint the panel.
+     * Polled from the scheduler thread: pauseFramePainted is read first (volatile).
+     */
+    private boolean isPauseFrameCurrent() {
+        return pauseFramePainted && gameEngine != null && !showPerformanceOverlay && !gameOverShown
+                && (gameEngine.isPaused() || showPauseOverlay);
+    }
+    
+    /**
+     * Changes the render rate, e.g. FramePacer.BATTERY_SAVER_FPS to save power
+     */
+    public void setTargetFps(int fps) {
+        renderTimer.setTargetFps(fps);
+    }
+    
+    public int getTargetFps() {
+        return renderTimer.getTargetFps();
+    }
+    
+    public FramePacer getFramePacer() {
+        return renderTimer.getPacer();
+    }
+    
+    /**
+     * Refresh rate of the screen showing the game, clamped to 60-144 Hz
+     */
+    private int detectRefreshRate() {
+        try {
+            GraphicsConfiguration config = getGraphicsConfiguration();
+            GraphicsDevice device = config != null ? config.getDevice()
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
+            int rate = device.getDisplayMode().getRefreshRate();
+            if (rate != DisplayMode.REFRESH_RATE_UNKNOWN) {
+                return Math.max(60, Math.min(144, rate));
+            }
+        } catch (UnsupportedOperationException e) { // Includes HeadlessException
+            // Fall through to the default
+        }
+        return 60;
     }
     
     /**
@@ -196,6 +346,27 @@ public class GamePanel extends JPanel implements KeyListener {
      */
     public void updateScore(int newScore) {
         this.currentScore = newScore;
+        statsCard.invalidate();
+    }
+    
+    /**
+     * Refreshes the lives shown in the status card after a block is lost
+     */
+    public void showLifeLost(int remainingLives) {
+        statusCard.invalidate();
+    }
+    
+    /**
+     * Pauses a running game when the window is minimized or loses focus, so the render
+     * timer can idle instead of simulating a game nobody is watching
+     */
+    public void pauseForInactiveWindow() {
+        if (gameEngine != null && gameEngine.isSceneVisible() && !gameEngine.isPaused() && !gameOverShown) {
+            gameEngine.pauseGame();
+            showPauseOverlay = true;
+            pauseFramePainted = false;
+            repaint();
+        }
     }
     
     /**
@@ -211,6 +382,8 @@ public class GamePanel extends JPanel implements KeyListener {
      * Shows visual effect when a block is placed
      */
     public void showBlockPlacedEffect(int score, int combo) {
+        invalidateHudCards();
+        
         if (gameEngine != null && gameEngine.getCrane() != null) {
             int x = (int) gameEngine.getCrane().getX();
             int y = (int) gameEngine.getCrane().getY() + 100;
@@ -270,30 +443,70 @@ public class GamePanel extends JPanel implements KeyListener {
      * Updates performance statistics
      */
     private void updatePerformanceStats() {
-        long currentTime = System.currentTimeMillis();
-        frameCount++;
+        long currentTime = GameClock.getDefault().realNanoTime() / 1_000_000L; // Real time: FPS ignores pause and time scale
         
         if (currentTime - lastRenderTime >= 1000) { // Update every second
-            renderFPS = frameCount * 1000.0 / (currentTime - lastRenderTime);
-            frameCount = 0;
+            // One-second window of phase timings; FPS counts frames actually painted, not timer ticks
+            FrameProfiler.getDefault().copyInto(phaseSnapshot, true);
+            renderFPS = phaseSnapshot.getCount(FrameProfiler.Phase.PAINT) / Math.max(0.001, phaseSnapshot.getWindowSeconds());
+            phaseLines = phaseSnapshot.toLines();
+            frameBusyPercent = busyPercent(phaseSnapshot);
             lastRenderTime = currentTime;
+            statusCard.invalidate(); // Shows the FPS just measured
+            
+            // Adaptive quality: the engine applies any new level before the next paint
+            if (gameEngine != null) {
+                gameEngine.governQuality(phaseSnapshot, 1000.0 / renderTimer.getTargetFps());
+            }
         }
     }
     
+    /**
+     * Share of the window spent in measured tick and paint phases
+     */
+    private static double busyPercent(FrameProfiler.Snapshot snapshot) {
+        double busyMillis = 0;
+        for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+            busyMillis += snapshot.get(phase).getMeanMillis() * snapshot.getCount(phase);
+        }
+        double windowMillis = snapshot.getWindowSeconds() * 1000.0;
+        return windowMillis > 0 ? Math.min(100.0, busyMillis * 100.0 / windowMillis) : 0.0;
+    }
+    
+    public double getRenderFPS() {
+        return renderFPS;
+    }
+    
+    public double getFrameBusyPercent() {
+        return frameBusyPercent;
+    }
+    
     @Override
     protected void paintComponent(Graphics g) {
+        LatencyTracer tracer = LatencyTracer.getDefault();
+        tracer.markPending(LatencyTracer.Stage.PAINT_START);
+        FrameProfiler profiler = FrameProfiler.getDefault();
+        long paintStart = profiler.start();
+        long hudNanos = 0;
+        
         super.paintComponent(g);
         
         Graphics2D g2d = (Graphics2D) g.create();
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        RenderingEngine.RenderQuality quality = gameEngine != null
+                ? gameEngine.beginFrameQuality() : RenderingEngine.RenderQuality.HIGH;
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                quality.antialiasing ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
         g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
         
         if (gameEngine != null) {
-            // Render game
-            gameEngine.render(g2d);
+            // Render game: world at the internal resolution, HUD at native resolution
+            renderScene(g2d, quality);
+            gameEngine.renderHud(g2d);
             
             // Render UI overlays
+            long hudStart = profiler.start();
             renderGameUI(g2d);
+            hudNanos = profiler.start() - hudStart;
             renderEffects(g2d);
             
             // Render professional effects (with camera transformation)
@@ -308,19 +521,123 @@ public class GamePanel extends JPanel implements KeyListener {
                 g2d.setTransform(originalTransform);
             }
             
-            if (gameEngine.isPaused() || showPauseOverlay) {
+            long overlayStart = profiler.start();
+            if (showPerformanceOverlay) {
+                renderPerformanceOverlay(g2d, tracer);
+            }
+            
+            boolean pausedFrame = gameEngine.isPaused() || showPauseOverlay;
+            if (pausedFrame) {
                 renderPauseOverlay(g2d);
             }
+            Rectangle clip = g.getClipBounds();
+            if (clip == null || clip.contains(0, 0, getWidth(), getHeight())) {
+                pauseFramePainted = pausedFrame; // Only a full-panel paint makes the whole frame current
+            }
             
             if (gameOverShown) {
                 renderGameOverOverlay(g2d);
             }
+            hudNanos += profiler.start() - overlayStart;
+            
+            if (gameEngine.isSceneVisible() && StartupTimeline.getDefault().mark(StartupTimeline.FIRST_GAME_FRAME)) {
+                System.out.println(StartupTimeline.getDefault().getSummary());
+                JitWarmup.getDefault().report();
+            }
         } else {
             // No game engine - show loading
             renderLoadingScreen(g2d);
         }
         
         g2d.dispose();
+        long presentStart = profiler.start();
+        profiler.record(FrameProfiler.Phase.HUD, hudNanos);
+        profiler.record(FrameProfiler.Phase.PAINT, presentStart - paintStart - hudNanos);
+        
+        // Flush the frame to the display before stamping traces as presented
+        Toolkit.getDefaultToolkit().sync();
+        profiler.lap(FrameProfiler.Phase.PRESENT, presentStart);
+        tracer.markPending(LatencyTracer.Stage.PRESENT);
+    }
+    
+    /**
+     * Renders the world, through a lower-resolution buffer when the quality's internal
+     * scale is below the device's pixel density. Fill cost drops with the buffer area and
+     * the buffer is upscaled once; the HUD is drawn afterwards at native resolution.
+     */
+    private void renderScene(Graphics2D g2d, RenderingEngine.RenderQuality quality) {
+        double deviceScale = g2d.getTransform().getScaleX(); // 2.0 on a HiDPI screen
+        if (quality.resolutionScale >= deviceScale || !gameEngine.isSceneVisible()) {
+            gameEngine.renderScene(g2d);
+            return;
+        }
+        
+        int width = Math.max(1, Math.round(Constants.GAME_WIDTH * quality.resolutionScale));
+        int height = Math.max(1, Math.round(Constants.GAME_HEIGHT * quality.resolutionScale));
+        if (sceneBuffer == null || sceneBuffer.getWidth() != width || sceneBuffer.getHeight() != height) {
+            sceneBuffer = createSceneBuffer(width, height);
+        }
+        
+        Graphics2D bufferGraphics = sceneBuffer.createGraphics();
+        try {
+            bufferGraphics.setRenderingHints(g2d.getRenderingHints());
+            bufferGraphics.scale(width / (double) Constants.GAME_WIDTH, height / (double) Constants.GAME_HEIGHT);
+            gameEngine.renderScene(bufferGraphics);
+        } finally {
+            bufferGraphics.dispose();
+        }
+        
+        Object interpolation = g2d.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(sceneBuffer, 0, 0, Constants.GAME_WIDTH, Constants.GAME_HEIGHT, null);
+        if (interpolation != null) {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        }
+    }
+    
+    /**
+     * Opaque image in the screen's native format, so the upscale blit needs no conversion
+     */
+    private BufferedImage createSceneBuffer(int width, int height) {
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        if (config != null) {
+            return config.createCompatibleImage(width, height, Transparency.OPAQUE);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+    
+    /**
+     * Renders the frame phase table and input-to-photon latency histograms (bottom-right)
+     */
+    private void renderPerformanceOverlay(Graphics2D g2d, LatencyTracer tracer) {
+        List<String> lines = new ArrayList<>(Arrays.asList(phaseLines));
+        lines.addAll(tracer.getSummaryLines());
+        g2d.setFont(PERF_OVERLAY_FONT);
+        FontMetrics fm = g2d.getFontMetrics();
+        
+        int width = 0;
+        for (String line : lines) {
+            width = Math.max(width, fm.stringWidth(line));
+        }
+        int lineHeight = fm.getHeight();
+        int boxWidth = width + 20;
+        int boxHeight = (lines.size() + 1) * lineHeight + 20;
+        int boxX = getWidth() - boxWidth - 20;
+        int boxY = getHeight() - boxHeight - 20;
+        
+        g2d.setColor(new Color(15, 23, 42, 210));
+        g2d.fillRoundRect(boxX, boxY, boxWidth, boxHeight, 10, 10);
+        g2d.setColor(new Color(255, 255, 255, 30));
+        g2d.drawRoundRect(boxX, boxY, boxWidth, boxHeight, 10, 10);
+        
+        int y = boxY + 12 + fm.getAscent();
+        for (int i = 0; i < lines.size(); i++) {
+            g2d.setColor(i == 0 || i == phaseLines.length ? new Color(148, 163, 184) : Color.WHITE);
+            g2d.drawString(lines.get(i), boxX + 10, y);
+            y += lineHeight;
+        }
+        g2d.setColor(new Color(107, 114, 128));
+        g2d.drawString("F5: dump to file", boxX + 10, y);
     }
     
     /**
@@ -341,21 +658,51 @@ public class GamePanel extends JPanel implements KeyListener {
      * Renders the main HUD with professional card-based design
      */
     private void renderMainHUD(Graphics2D g2d) {
+        Tower tower = gameEngine != null ? gameEngine.getTower() : null;
+        
         // Main stats card (top-left)
-        renderStatsCard(g2d);
+        statsCard.invalidateIfChanged(tower != null
+                ? tower.getHeight() * 1_000_000L + (long) (tower.getStabilityPercentage() * 1000) : -1);
+        statsCard.render(g2d, leftPanelWidth() + 20 - CARD_MARGIN, 20 - CARD_MARGIN);
         
         // Tower progress card (top-right)
-        renderTowerProgressCard(g2d);
+        towerCard.invalidateIfChanged(towerCardKey(tower));
+        towerCard.render(g2d, getWidth() - 320 - CARD_MARGIN, 15 - CARD_MARGIN);
         
-        // Lives and combo card (bottom-left)
-        renderGameStatusCard(g2d);
+        // Lives and combo card (bottom-left); the game clock only shows whole seconds
+        statusCard.invalidateIfChanged(gameEngine != null ? gameEngine.getGameTime() / 1000 : -1);
+        statusCard.render(g2d, leftPanelWidth() + 15 - CARD_MARGIN, getHeight() - 120 - CARD_MARGIN);
+    }
+    
+    /**
+     * Marks every HUD card for repainting, after a block lands or a new game starts
+     */
+    private void invalidateHudCards() {
+        statsCard.invalidate();
+        towerCard.invalidate();
+        statusCard.invalidate();
+    }
+    
+    /**
+     * Key of what the tower card shows: stabilities drift between events, so they are part of it
+     */
+    private long towerCardKey(Tower tower) {
+        if (tower == null) {
+            return -1;
+        }
+        int towerHeight = tower.getHeight();
+        long key = towerHeight * 31L + (long) (calculateAverageStability(tower) * 10_000);
+        for (int i = Math.max(0, towerHeight - 10); i < towerHeight; i++) {
+            key = key * 31 + (long) (tower.getBlock(i).getStability() * 10_000);
+        }
+        return key;
     }
     
     /**
-     * Minimalist, clean and cinematic HUD stats card (top-left)
+     * Minimalist, clean and cinematic HUD stats card (top-left), in widget coordinates
      */
-    private void renderStatsCard(Graphics2D g2d) {
-        int cardX = leftPanelWidth() + 20, cardY = 20;
+    private void paintStatsCard(Graphics2D g2d, int widgetWidth, int widgetHeight) {
+        int cardX = CARD_MARGIN, cardY = CARD_MARGIN;
         int cardWidth = 240, cardHeight = 90;
         
         // Minimalist glass container
@@ -368,23 +715,22 @@ public class GamePanel extends JPanel implements KeyListener {
         g2d.drawRoundRect(cardX, cardY, cardWidth, cardHeight, 12, 12);
         
         // Title label
-        g2d.setColor(new Color(148, 163, 184));
-        g2d.setFont(new Font("SansSerif", Font.BOLD, 10));
-        g2d.drawString("ESTADO DE TORRE", cardX + 16, cardY + 22);
+        g2d.setColor(SLATE_TEXT);
+        STATS_TITLE.draw(g2d, cardX + 16, cardY + 22);
         
         // Tower Height
         if (gameEngine != null && gameEngine.getTower() != null) {
             int height = gameEngine.getTower().getHeight();
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("SansSerif", Font.BOLD, 18));
-            String heightText = height + " PISOS";
-            g2d.drawString(heightText, cardX + 16, cardY + 46);
+            int x = FLOORS_DIGITS.drawInt(g2d, height, cardX + 16, cardY + 46);
+            FLOORS_LABEL.draw(g2d, x, cardY + 46);
             
             // Stability label & indicator
             double stability = Math.max(0.0, Math.min(100.0, gameEngine.getTower().getStabilityPercentage()));
-            g2d.setFont(new Font("SansSerif", Font.BOLD, 10));
-            g2d.setColor(new Color(148, 163, 184));
-            g2d.drawString(String.format("ESTABILIDAD: %.0f%%", stability), cardX + 16, cardY + 64);
+            g2d.setColor(SLATE_TEXT);
+            x = (int) STABILITY_PERCENT_LABEL.draw(g2d, cardX + 16, cardY + 64);
+            x = STATS_DIGITS.drawFixed(g2d, stability, 0, x, cardY + 64);
+            STATS_DIGITS.drawChar(g2d, '%', x, cardY + 64);
             
             // Stability progress track
             renderEnhancedProgressBar(g2d, cardX + 16, cardY + 70, 208, (int)stability, 100);
@@ -432,19 +778,17 @@ public class GamePanel extends JPanel implements KeyListener {
         g2d.drawRoundRect(x, y, width, height, height/2, height/2);
         
         // Progress text
-        g2d.setFont(new Font("SF Pro Display", Font.PLAIN, 10));
-        g2d.setColor(Color.WHITE);
-        String progressText = String.format("%.0f%%", progress * 100);
-        FontMetrics fm = g2d.getFontMetrics();
-        int textX = x + (width - fm.stringWidth(progressText)) / 2;
-        g2d.drawString(progressText, textX, y + height - 2);
+        long percent = Math.round(progress * 100);
+        int textWidth = PROGRESS_DIGITS.measureInt(percent, 1) + PROGRESS_DIGITS.measureChar('%');
+        int textX = PROGRESS_DIGITS.drawInt(g2d, percent, x + (width - textWidth) / 2, y + height - 2);
+        PROGRESS_DIGITS.drawChar(g2d, '%', textX, y + height - 2);
     }
     
     /**
-     * Professional tower stability and progress card
+     * Professional tower stability and progress card, in widget coordinates
      */
-    private void renderTowerProgressCard(Graphics2D g2d) {
-        int cardX = getWidth() - 320, cardY = 15;
+    private void paintTowerProgressCard(Graphics2D g2d, int widgetWidth, int widgetHeight) {
+        int cardX = CARD_MARGIN, cardY = CARD_MARGIN;
         int cardWidth = 300, cardHeight = 140;
         
         // Card shadow
@@ -471,8 +815,7 @@ public class GamePanel extends JPanel implements KeyListener {
         
         // Title
         g2d.setColor(new Color(248, 250, 252));
-        g2d.setFont(new Font("SF Pro Display", Font.BOLD, 18));
-        g2d.drawString("🏗️ TOWER STATUS", cardX + 20, cardY + 30);
+        TOWER_STATUS_TITLE.draw(g2d, cardX + 20, cardY + 30);
         
         Tower tower = gameEngine.getTower();
         
@@ -482,7 +825,7 @@ public class GamePanel extends JPanel implements KeyListener {
         
         // Last block stability (most recent)
         if (tower.getHeight() > 0) {
-            Block lastBlock = tower.getBlocks().get(tower.getHeight() - 1);
+            Block lastBlock = tower.getBlock(tower.getHeight() - 1);
             renderLastBlockStatus(g2d, cardX + 20, cardY + 85, lastBlock);
         }
         
@@ -497,8 +840,8 @@ public class GamePanel extends JPanel implements KeyListener {
         if (tower.getHeight() == 0) return 1.0;
         
         double totalStability = 0;
-        for (Block block : tower.getBlocks()) {
-            totalStability += block.getStability();
+        for (int i = 0; i < tower.getHeight(); i++) {
+            totalStability += tower.getBlock(i).getStability();
         }
         return totalStability / tower.getHeight();
     }
@@ -508,9 +851,8 @@ public class GamePanel extends JPanel implements KeyListener {
      */
     private void renderStabilityIndicator(Graphics2D g2d, int x, int y, double stability) {
         // Label
-        g2d.setFont(new Font("SF Pro Display", Font.BOLD, 14));
-        g2d.setColor(new Color(156, 163, 175));
-        g2d.drawString("Overall Stability:", x, y);
+        g2d.setColor(GRAY_TEXT);
+        OVERALL_STABILITY_LABEL.draw(g2d, x, y);
         
         // Stability bar
         int barWidth = 180, barHeight = 8;
@@ -532,41 +874,36 @@ public class GamePanel extends JPanel implements KeyListener {
         g2d.fillRoundRect(barX, barY, fillWidth, barHeight, barHeight/2, barHeight/2);
         
         // Stability text
-        g2d.setFont(new Font("SF Pro Display", Font.BOLD, 12));
         g2d.setColor(Color.WHITE);
-        String stabilityText = String.format("%.1f%% %s", stability * 100, getStabilityLabel(stability));
-        g2d.drawString(stabilityText, x + 185, y);
+        int textX = STABILITY_DIGITS.drawFixed(g2d, stability * 100, 1, x + 185, y);
+        textX = STABILITY_DIGITS.drawChar(g2d, '%', textX, y);
+        STABILITY_LABELS[getStabilityLevel(stability)].draw(g2d, textX, y);
     }
     
     /**
      * Get color based on stability value
      */
     private Color getStabilityColor(double stability) {
-        if (stability >= 0.8) return new Color(34, 197, 94);    // Green - Excellent
-        if (stability >= 0.6) return new Color(59, 130, 246);   // Blue - Good
-        if (stability >= 0.4) return new Color(251, 191, 36);   // Yellow - Fair
-        if (stability >= 0.2) return new Color(249, 115, 22);   // Orange - Poor
-        return new Color(239, 68, 68);                          // Red - Critical
+        return STABILITY_COLORS[getStabilityLevel(stability)];
     }
     
     /**
-     * Get stability label
+     * Stability level, from 0 (CRITICAL) to 4 (EXCELLENT); indexes the colour and label tables
      */
-    private String getStabilityLabel(double stability) {
-        if (stability >= 0.8) return "EXCELLENT";
-        if (stability >= 0.6) return "GOOD";
-        if (stability >= 0.4) return "FAIR";
-        if (stability >= 0.2) return "POOR";
-        return "CRITICAL";
+    private int getStabilityLevel(double stability) {
+        if (stability >= 0.8) return 4;
+        if (stability >= 0.6) return 3;
+        if (stability >= 0.4) return 2;
+        if (stability >= 0.2) return 1;
+        return 0;
     }
     
     /**
      * Show status of the last placed block
      */
     private void renderLastBlockStatus(Graphics2D g2d, int x, int y, Block block) {
-        g2d.setFont(new Font("SF Pro Display", Font.BOLD, 12));
-        g2d.setColor(new Color(156, 163, 175));
-        g2d.drawString("Last Block:", x, y);
+        g2d.setColor(GRAY_TEXT);
+        LAST_BLOCK_LABEL.draw(g2d, x, y);
         
         // Block color indicator
         g2d.setColor(block.getColor());
@@ -576,11 +913,11 @@ public class GamePanel extends JPanel implements KeyListener {
         
         // Block stability
         double blockStability = block.getStability();
-        Color statusColor = getStabilityColor(blockStability);
-        g2d.setColor(statusColor);
-        g2d.setFont(new Font("SF Pro Display", Font.BOLD, 12));
-        String statusText = String.format("%.0f%% %s", blockStability * 100, getStabilityLabel(blockStability));
-        g2d.drawString(statusText, x + 100, y);
+        int level = getStabilityLevel(blockStability);
+        g2d.setColor(STABILITY_COLORS[level]);
+        int textX = STATUS_DIGITS[level].drawFixed(g2d, blockStability * 100, 0, x + 100, y);
+        textX = STATUS_DIGITS[level].drawChar(g2d, '%', textX, y);
+        STABILITY_LABELS[level].draw(g2d, textX, y);
     }
     
     /**
@@ -603,7 +940,7 @@ public class GamePanel extends JPanel implements KeyListener {
         
         for (int i = 0; i < maxBlocks; i++) {
             int blockIndex = towerHeight - maxBlocks + i;
-            Block block = tower.getBlocks().get(blockIndex);
+            Block block = tower.getBlock(blockIndex);
             
             int blockY = y + height - (i + 1) * blockHeight;
             int blockWidth = (int)(width * block.getStability() * 0.8) + (width / 5);
@@ -624,10 +961,10 @@ public class GamePanel extends JPanel implements KeyListener {
     }
     
     /**
-     * Professional game status card (lives, combo, etc)
+     * Professional game status card (lives, combo, etc), in widget coordinates
      */
-    private void renderGameStatusCard(Graphics2D g2d) {
-        int cardX = leftPanelWidth() + 15, cardY = getHeight() - 120;
+    private void paintGameStatusCard(Graphics2D g2d, int widgetWidth, int widgetHeight) {
+        int cardX = CARD_MARGIN, cardY = CARD_MARGIN;
         int cardWidth = 280, cardHeight = 100;
         
         // Card shadow
@@ -652,13 +989,11 @@ public class GamePanel extends JPanel implements KeyListener {
         
         // Title
         g2d.setColor(new Color(248, 250, 252));
-        g2d.setFont(new Font("SF Pro Display", Font.BOLD, 16));
-        g2d.drawString("❤️ GAME STATUS", cardX + 20, cardY + 25);
+        GAME_STATUS_TITLE.draw(g2d, cardX + 20, cardY + 25);
         
         // Lives with enhanced hearts
-        g2d.setFont(new Font("SF Pro Display", Font.BOLD, 14));
-        g2d.setColor(new Color(156, 163, 175));
-        g2d.drawString("Lives:", cardX + 20, cardY + 50);
+        g2d.setColor(GRAY_TEXT);
+        LIVES_LABEL.draw(g2d, cardX + 20, cardY + 50);
         
         for (int i = 0; i < 3; i++) {
             boolean hasLife = gameEngine != null && i < gameEngine.getLives();
@@ -672,16 +1007,18 @@ public class GamePanel extends JPanel implements KeyListener {
         }
         
         // FPS + game time
-        g2d.setFont(new Font("SF Pro Display", Font.PLAIN, 11));
-        g2d.setColor(new Color(107, 114, 128));
-        String perfText = String.format("FPS: %.1f", renderFPS);
+        g2d.setColor(MUTED_TEXT);
+        int x = (int) FPS_LABEL.draw(g2d, cardX + 20, cardY + 85);
+        x = PERF_DIGITS.drawFixed(g2d, renderFPS, 1, x, cardY + 85);
         if (gameEngine != null) {
             long gameTime = gameEngine.getGameTime();
             int minutes = (int) (gameTime / 60000);
             int seconds = (int) ((gameTime % 60000) / 1000);
-            perfText += String.format("  |  Time: %02d:%02d", minutes, seconds);
+            x = (int) TIME_LABEL.draw(g2d, x, cardY + 85);
+            x = PERF_DIGITS.drawInt(g2d, minutes, 2, x, cardY + 85);
+            x = PERF_DIGITS.drawChar(g2d, ':', x, cardY + 85);
+            PERF_DIGITS.drawInt(g2d, seconds, 2, x, cardY + 85);
         }
-        g2d.drawString(perfText, cardX + 20, cardY + 85);
     }
     
     /**
@@ -746,28 +1083,21 @@ public class GamePanel extends JPanel implements KeyListener {
     private void renderComboIndicator(Graphics2D g2d, int x, int y, int combo) {
         if (combo <= 1) {
             // No combo - show potential
-            g2d.setFont(new Font("SF Pro Display", Font.PLAIN, 12));
-            g2d.setColor(new Color(107, 114, 128));
-            g2d.drawString("Perfect placement for combo!", x, y);
+            g2d.setColor(MUTED_TEXT);
+            COMBO_HINT_LABEL.draw(g2d, x, y);
         } else {
             // Active combo with flash effect (static, epilepsy-safe)
-            g2d.setFont(new Font("SF Pro Display", Font.BOLD, 14));
-            
-            // Combo color based on value
-            Color comboColor;
-            if (combo >= 5) comboColor = new Color(168, 85, 247);      // Purple - Amazing
-            else if (combo >= 3) comboColor = new Color(59, 130, 246);  // Blue - Great
-            else comboColor = new Color(34, 197, 94);                   // Green - Good
-            
-            g2d.setColor(comboColor);
-            String comboText = String.format("COMBO x%d", combo);
-            g2d.drawString(comboText, x, y);
+            // Combo color based on value: green (good), blue (great), purple (amazing)
+            int tier = combo >= 5 ? 2 : combo >= 3 ? 1 : 0;
+            g2d.setColor(COMBO_COLORS[tier]);
+            int textX = (int) COMBO_LABEL.draw(g2d, x, y);
+            COMBO_DIGITS[tier].drawInt(g2d, combo, textX, y);
             
             // Combo multiplier indicator
-            g2d.setFont(new Font("SF Pro Display", Font.PLAIN, 11));
-            g2d.setColor(new Color(156, 163, 175));
-            String multiplierText = String.format("+%.0f%% Score Bonus", (combo - 1) * 50.0);
-            g2d.drawString(multiplierText, x + 120, y);
+            g2d.setColor(GRAY_TEXT);
+            textX = BONUS_DIGITS.drawChar(g2d, '+', x + 120, y);
+            textX = BONUS_DIGITS.drawInt(g2d, (combo - 1) * 50L, textX, y);
+            SCORE_BONUS_LABEL.draw(g2d, textX, y);
         }
     }
     
@@ -803,12 +1133,8 @@ public class GamePanel extends JPanel implements KeyListener {
         g2d.setStroke(new BasicStroke(2));
         g2d.drawRoundRect(getWidth()/2 - 100, 10, 200, 30, 15, 15);
         
-        g2d.setFont(new Font("Arial", Font.BOLD, 14));
         g2d.setColor(Color.WHITE);
-        String modeText = "TOWER BLOXX 2005 MODE";
-        FontMetrics fm = g2d.getFontMetrics();
-        int textWidth = fm.stringWidth(modeText);
-        g2d.drawString(modeText, (getWidth() - textWidth) / 2, 30);
+        MODE_LABEL.drawCentered(g2d, getWidth() / 2f, 30);
     }
     
     /**
@@ -817,19 +1143,13 @@ public class GamePanel extends JPanel implements KeyListener {
     private void renderEffects(Graphics2D g2d) {
         // Render score effects
         for (ScoreEffect effect : scoreEffects) {
-            g2d.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 18));
-            
             // Set color with alpha
             Color color = effect.color;
             float alpha = effect.getAlpha();
             g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 
                                  (int)(alpha * 255)));
             
-            String scoreText = "+" + effect.score;
-            FontMetrics fm = g2d.getFontMetrics();
-            int textWidth = fm.stringWidth(scoreText);
-            
-            g2d.drawString(scoreText, effect.x - textWidth / 2, effect.getCurrentY());
+            effect.label.drawCentered(g2d, effect.x, effect.getCurrentY());
         }
         
         // Render combo effects
@@ -838,7 +1158,7 @@ public class GamePanel extends JPanel implements KeyListener {
             float alpha = effect.getAlpha();
             
             Font originalFont = g2d.getFont();
-            Font scaledFont = originalFont.deriveFont(originalFont.getSize2D() * scale);
+            Font scaledFont = MODE_FONT.deriveFont(MODE_FONT.getSize2D() * scale);
             g2d.setFont(scaledFont);
             
             g2d.setColor(new Color(255, 215, 0, (int)(alpha * 255))); // Gold color
@@ -862,7 +1182,7 @@ public class GamePanel extends JPanel implements KeyListener {
         g2d.fillRect(0, 0, getWidth(), getHeight());
         
         // Pause text
-        g2d.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 24));
+        g2d.setFont(OVERLAY_TITLE_FONT);
         g2d.setColor(Color.WHITE);
         
         String pauseText = "JUEGO PAUSADO";
@@ -874,7 +1194,7 @@ public class GamePanel extends JPanel implements KeyListener {
                       (getHeight() - textHeight) / 2);
         
         // Instructions
-        g2d.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 16));
+        g2d.setFont(OVERLAY_FONT);
         g2d.setColor(Color.LIGHT_GRAY);
         
         String[] instructions = {
@@ -900,7 +1220,7 @@ public class GamePanel extends JPanel implements KeyListener {
         g2d.fillRect(0, 0, getWidth(), getHeight());
         
         // Game Over text
-        g2d.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 24));
+        g2d.setFont(OVERLAY_TITLE_FONT);
         g2d.setColor(Color.RED);
         
         String gameOverText = "GAME OVER";
@@ -910,7 +1230,7 @@ public class GamePanel extends JPanel implements KeyListener {
         g2d.drawString(gameOverText, (getWidth() - textWidth) / 2, getHeight() / 2 - 100);
         
         // Reason and score
-        g2d.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 16));
+        g2d.setFont(OVERLAY_FONT);
         g2d.setColor(Color.WHITE);
         
         String[] info = {
@@ -940,7 +1260,7 @@ public class GamePanel extends JPanel implements KeyListener {
         g2d.setColor(Color.BLACK);
         g2d.fillRect(0, 0, getWidth(), getHeight());
         
-        g2d.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 16));
+        g2d.setFont(OVERLAY_FONT);
         g2d.setColor(Color.WHITE);
         
         String loadingText = "Cargando juego...";
@@ -955,6 +1275,9 @@ public class GamePanel extends JPanel implements KeyListener {
     public void keyPressed(KeyEvent e) {
         if (gameEngine == null) return;
         
+        pauseFramePainted = false; // Any key may change what the paused frame shows
+        renderTimer.wake();
+        
         switch (e.getKeyCode()) {
             case KeyEvent.VK_SPACE:
                 if (!gameEngine.isPaused() && !gameOverShown) {
@@ -969,6 +1292,19 @@ public class GamePanel extends JPanel implements KeyListener {
                 }
                 break;
                 
+            case KeyEvent.VK_F1:
+                showPerformanceOverlay = !showPerformanceOverlay;
+                System.out.println("📊 Performance overlay: " + (showPerformanceOverlay ? "ON" : "OFF"));
+                break;
+                
+            case KeyEvent.VK_F5:
+                try {
+                    System.out.println("💾 Latency histograms saved to " + LatencyTracer.getDefault().dump());
+                } catch (IOException ex) {
+                    System.err.println("Error saving latency histograms: " + ex.getMessage());
+                }
+                break;
+                
             case KeyEvent.VK_M:
                 // Open movement recorder (if available)
                 if (!gameOverShown && gameEngine != null) {
@@ -1041,6 +1377,7 @@ public class GamePanel extends JPanel implements KeyListener {
         showPauseOverlay = false;
         scoreEffects.clear();
         comboEffects.clear();
+        invalidateHudCards();
         
         if (professionalEffects != null) {
             professionalEffects.clear();
@@ -1,15 +1,20 @@
 package com.skillparty.towerblox.ui;
 
+import com.skillparty.towerblox.core.FrameScheduler;
 import com.skillparty.towerblox.core.TowerBloxxGame;
 import com.skillparty.towerblox.game.GameEngine;
 import com.skillparty.towerblox.game.GameState;
 import com.skillparty.towerblox.game.DifficultyLevel;
 import com.skillparty.towerblox.game.MovementRecorder;
+import com.skillparty.towerblox.performance.EngineMBeans;
+import com.skillparty.towerblox.performance.JitWarmup;
 import com.skillparty.towerblox.ui.components.FontManager;
+import com.skillparty.towerblox.utils.AssetLoader;
 import com.skillparty.towerblox.utils.Constants;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.AWTEventListener;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 
@@ -26,7 +31,7 @@ public class GameWindow extends JFrame implements GameEngine.GameStateListener {
     private GamePanel gamePanel;
     private ScorePanel scorePanel;
     private HighScorePanel highScorePanel;
-    private MovementPanel movementPanel;
+    private MovementPanel movementPanel; // Created the first time the movements screen opens
     private TowerBloxxGame professionalGame; // Lazily created; PROFESSIONAL difficulty only
 
     // Game engine
@@ -39,6 +44,19 @@ public class GameWindow extends JFrame implements GameEngine.GameStateListener {
     // Window properties
     private static final int WINDOW_WIDTH = Constants.GAME_WIDTH;
     private static final int WINDOW_HEIGHT = Constants.GAME_HEIGHT + 50; // Extra space for title bar
+    private static final String FONTS_ASSET = "fonts";
+    private static final long WARMUP_DELAY_MS = 500; // Let the first menu paint and the preloads finish
+    
+    /**
+     * Starts loading, in parallel, everything the window reads from disk while it is built: fonts,
+     * the menu image and the engine's scores, skyline and patterns. Main calls this before the
+     * console intro so the loads overlap with it and with Swing's own startup.
+     */
+    public static void preloadAssets(AssetLoader loader) {
+        loader.preload(FONTS_ASSET, FontManager::getInstance);
+        loader.preload(MenuPanel.BACKGROUND_ASSET, MenuPanel::readBackgroundImage);
+        GameEngine.preloadAssets(loader);
+    }
     
     public GameWindow() {
         initializeWindow();
@@ -49,6 +67,10 @@ public class GameWindow extends JFrame implements GameEngine.GameStateListener {
         // Show menu initially
         showPanel("MENU");
         
+        // Compile the game's hot paths while the player is still choosing a difficulty
+        FrameScheduler.getDefault().schedule(WARMUP_DELAY_MS,
+            () -> JitWarmup.getDefault().start(GameEngine::createHeadless));
+        
         System.out.println("Tower Bloxx game window initialized");
     }
     
@@ -71,7 +93,7 @@ public class GameWindow extends JFrame implements GameEngine.GameStateListener {
         }
         
         // Initialize font manager
-        fontManager = FontManager.getInstance();
+        fontManager = AssetLoader.getDefault().take(FONTS_ASSET, FontManager::getInstance);
         
         // Set global font
         setUIFont(fontManager.getGameFont());
@@ -83,6 +105,50 @@ public class GameWindow extends JFrame implements GameEngine.GameStateListener {
                 handleWindowClosing();
             }
         });
+        
+        setupIdleScheduling();
+    }
+    
+    /**
+     * Lets the frame scheduler sleep while nobody is looking: minimizing or leaving the
+     * window pauses the game and suspends every timer, and any key or click wakes them
+     */
+    private void setupIdleScheduling() {
+        FrameScheduler scheduler = FrameScheduler.getDefault();
+        
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowIconified(WindowEvent e) {
+                goInactive(scheduler);
+            }
+            
+            @Override
+            public void windowDeiconified(WindowEvent e) {
+                scheduler.setSuspended(false);
+            }
+            
+            @Override
+            public void windowActivated(WindowEvent e) {
+                scheduler.setSuspended(false);
+            }
+            
+            @Override
+            public void windowDeactivated(WindowEvent e) {
+                goInactive(scheduler);
+            }
+        });
+        
+        AWTEventListener inputWaker = event -> scheduler.wake();
+        Toolkit.getDefaultToolkit().addAWTEventListener(inputWaker,
+            AWTEvent.KEY_EVENT_MASK | AWTEvent.MOUSE_EVENT_MASK | AWTEvent.MOUSE_WHEEL_EVENT_MASK);
+    }
+    
+    private void goInactive(FrameScheduler scheduler) {
+        if (gamePanel != null) {
+            gamePanel.pauseForInactiveWindow(); // Swing still paints the pause frame while suspended
+        }
+        scheduler.setSuspended(true);
+        System.out.println("💤 Window inactive - frame scheduler suspended");
     }
     
     /**
@@ -99,14 +165,12 @@ public class GameWindow extends JFrame implements GameEngine.GameStateListener {
         gamePanel = new GamePanel(this);
         scorePanel = new ScorePanel(this);
         highScorePanel = new HighScorePanel(this);
-        movementPanel = new MovementPanel(this);
         
         // Add panels to card layout
         mainPanel.add(menuPanel, "MENU");
         mainPanel.add(gamePanel, "GAME");
         mainPanel.add(scorePanel, "SCORE");
         mainPanel.add(highScorePanel, "HIGH_SCORES");
-        mainPanel.add(movementPanel, "MOVEMENTS");
     }
     
     /**
@@ -149,6 +213,11 @@ public class GameWindow extends JFrame implements GameEngine.GameStateListener {
         gamePanel.setGameEngine(gameEngine);
         scorePanel.setGameEngine(gameEngine);
         highScorePanel.setGameEngine(gameEngine);
+        
+        // Live metrics and tuning for VisualVM / JConsole
+        EngineMBeans.registerEngine(gameEngine);
+        EngineMBeans.registerLoop(gamePanel::getRenderFPS, gamePanel::getFrameBusyPercent,
+            gamePanel::getTargetFps, gamePanel::setTargetFps, gamePanel.getFramePacer());
     }
     
     /**
@@ -185,8 +254,10 @@ public class GameWindow extends JFrame implements GameEngine.GameStateListener {
      * Starts a new game with the specified difficulty
      */
     public void startNewGame(DifficultyLevel difficulty) {
-        // Stop any existing game thread
+        // Stop any existing game thread, and the JIT warm-up: this waits for its tick in flight,
+        // which shares the effect pools and HUD labels with the game about to start
         stopGameThread();
+        JitWarmup.getDefault().stop();
 
         // Start new game
         gameEngine.startNewGame(difficulty);
@@ -207,6 +278,11 @@ public class GameWindow extends JFrame implements GameEngine.GameStateListener {
      * Shows the movement recorder
      */
     public void showMovements() {
+        if (movementPanel == null) {
+            movementPanel = new MovementPanel(this);
+            mainPanel.add(movementPanel, "MOVEMENTS");
+        }
+        
         // Conectar el MovementRecorder del GameEngine con el MovementPanel
         if (gameEngine != null && movementPanel != null) {
             System.out.println("🔗 Conectando MovementRecorder...");
@@ -288,6 +364,7 @@ public class GameWindow extends JFrame implements GameEngine.GameStateListener {
         
         if (option == JOptionPane.YES_OPTION) {
             stopGameThread();
+            gameEngine.dispose();
             System.exit(0);
         }
     }
@@ -356,6 +433,13 @@ public class GameWindow extends JFrame implements GameEngine.GameStateListener {
         });
     }
     
+    @Override
+    public void onLivesChanged(int lives) {
+        SwingUtilities.invokeLater(() -> {
+            gamePanel.showLifeLost(lives);
+        });
+    }
+    
     /**
      * Shows game over dialog for non-qualifying scores
      */
@@ -2,7 +2,9 @@ package com.skillparty.towerblox.ui;
 
 import com.skillparty.towerblox.game.GameEngine;
 import com.skillparty.towerblox.score.HighScore;
+import com.skillparty.towerblox.ui.components.DamageTracker;
 import com.skillparty.towerblox.ui.components.FontManager;
+import com.skillparty.towerblox.ui.components.HudWidget;
 import com.skillparty.towerblox.utils.Constants;
 
 import javax.swing.*;
@@ -16,6 +18,9 @@ import java.util.List;
  */
 public class HighScorePanel extends JPanel implements KeyListener {
     private static final long serialVersionUID = 1L;
+    private static final int TITLE_HEIGHT = 80;
+    private static final int BUTTONS_HEIGHT = 60;
+    private static final String SCORES_AREA = "scores";
     
     private GameWindow parentWindow;
     private FontManager fontManager;
@@ -26,6 +31,10 @@ public class HighScorePanel extends JPanel implements KeyListener {
     private JButton clearButton;
     private List<HighScore> highScores;
     
+    // The table is painted once into a cache per panel size; a refresh repaints only its area
+    private HudWidget scoresLayer;
+    private final DamageTracker damage = new DamageTracker(this);
+    
     public HighScorePanel(GameWindow parentWindow) {
         this.parentWindow = parentWindow;
         this.fontManager = FontManager.getInstance();
@@ -106,7 +115,7 @@ public class HighScorePanel extends JPanel implements KeyListener {
     private JPanel createTitlePanel() {
         JPanel panel = new JPanel(new FlowLayout());
         panel.setBackground(Color.BLACK);
-        panel.setPreferredSize(new Dimension(800, 80));
+        panel.setPreferredSize(new Dimension(800, TITLE_HEIGHT));
         
         JLabel titleLabel = new JLabel("MEJORES PUNTUACIONES");
         titleLabel.setFont(fontManager.getFont(FontManager.LOGO_SIZE, Font.BOLD));
@@ -123,7 +132,7 @@ public class HighScorePanel extends JPanel implements KeyListener {
     private JPanel createButtonPanel() {
         JPanel panel = new JPanel(new FlowLayout());
         panel.setBackground(Color.BLACK);
-        panel.setPreferredSize(new Dimension(800, 60));
+        panel.setPreferredSize(new Dimension(800, BUTTONS_HEIGHT));
         
         panel.add(backButton);
         panel.add(Box.createHorizontalStrut(20));
@@ -167,7 +176,13 @@ public class HighScorePanel extends JPanel implements KeyListener {
         if (gameEngine != null && gameEngine.getScoreStorage() != null) {
             highScores = gameEngine.getScoreStorage().getHighScores();
         }
-        repaint();
+        if (scoresLayer != null) {
+            scoresLayer.invalidate();
+        }
+        // Title and button bars never change: only the table area between them is repainted
+        damage.register(SCORES_AREA, new Rectangle(0, TITLE_HEIGHT, getWidth(),
+                Math.max(0, getHeight() - TITLE_HEIGHT - BUTTONS_HEIGHT)));
+        damage.damage(SCORES_AREA);
     }
     
     /**
@@ -192,9 +207,17 @@ public class HighScorePanel extends JPanel implements KeyListener {
         super.paintComponent(g);
         
         Graphics2D g2d = (Graphics2D) g.create();
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-        
+        if (scoresLayer == null || scoresLayer.getWidth() != getWidth() || scoresLayer.getHeight() != getHeight()) {
+            scoresLayer = new HudWidget(Math.max(1, getWidth()), Math.max(1, getHeight()), this::paintScores);
+        }
+        scoresLayer.render(g2d, 0, 0);
+        g2d.dispose();
+    }
+    
+    /**
+     * Paints the pattern, table and statistics into the cache
+     */
+    private void paintScores(Graphics2D g2d, int width, int height) {
         // Draw background pattern
         drawBackgroundPattern(g2d);
         
@@ -203,8 +226,6 @@ public class HighScorePanel extends JPanel implements KeyListener {
         
         // Draw statistics
         drawStatistics(g2d);
-        
-        g2d.dispose();
     }
     
     /**
@@ -3,6 +3,10 @@ package com.skillparty.towerblox.ui;
 import com.skillparty.towerblox.game.DifficultyLevel;
 import com.skillparty.towerblox.ui.components.FontManager;
 import com.skillparty.towerblox.ui.components.ASCIILogo;
+import com.skillparty.towerblox.ui.components.DamageTracker;
+import com.skillparty.towerblox.ui.components.HudWidget;
+import com.skillparty.towerblox.performance.StartupTimeline;
+import com.skillparty.towerblox.utils.AssetLoader;
 
 import javax.swing.*;
 import javax.imageio.ImageIO;
@@ -26,6 +30,18 @@ public class MenuPanel extends JPanel implements KeyListener {
     private BufferedImage backgroundImage;
     private ASCIILogo asciiLogo;
     
+    // Static layers (background image scaled once per panel size, logo, instructions) and the
+    // button areas repainted on their own when the selection moves
+    private HudWidget backdrop;
+    private final DamageTracker damage = new DamageTracker(this);
+    
+    // Startup progress strip, shown until every preloaded asset has arrived
+    static final String BACKGROUND_ASSET = "menu.background";
+    private static final Object LOADING_KEY = "loading";
+    private static final Rectangle LOADING_BOUNDS = new Rectangle(1280 - 240, 12, 220, 30);
+    private final AssetLoader assetLoader = AssetLoader.getDefault();
+    private final Runnable loadingProgress = () -> SwingUtilities.invokeLater(() -> damage.damage(LOADING_KEY));
+    
     // Professional corporate color palette - elegant and modern
     private static final Color BUTTON_PRIMARY = new Color(59, 130, 246);      // Professional Blue
     private static final Color BUTTON_SECONDARY = new Color(16, 185, 129);    // Success Green
@@ -57,13 +73,31 @@ public class MenuPanel extends JPanel implements KeyListener {
         addKeyListener(this);
     }
     
+    /**
+     * Takes the image Main started decoding (or decodes it in the background) and swaps it in
+     * when ready; until then the backdrop uses the drawn construction-site fallback
+     */
     private void loadBackgroundImage() {
+        damage.register(LOADING_KEY, LOADING_BOUNDS);
+        assetLoader.addProgressListener(loadingProgress);
+        assetLoader.claim(BACKGROUND_ASSET, MenuPanel::readBackgroundImage)
+            .thenAccept(image -> SwingUtilities.invokeLater(() -> {
+                backgroundImage = image;
+                if (backdrop != null) {
+                    backdrop.invalidate();
+                }
+                repaint();
+            }));
+    }
+    
+    static BufferedImage readBackgroundImage() {
         try {
-            backgroundImage = ImageIO.read(new File("public/img/logo_app.png"));
+            BufferedImage image = ImageIO.read(new File("public/img/logo_app.png"));
             System.out.println("Menu background image loaded successfully");
+            return image;
         } catch (IOException e) {
             System.err.println("Could not load background image: " + e.getMessage());
-            backgroundImage = null;
+            return null;
         }
     }
 
@@ -96,6 +130,12 @@ public class MenuPanel extends JPanel implements KeyListener {
         buttonBounds[3] = new Rectangle(secondRowX, secondRowY, actionWidth, blockHeight);
         buttonBounds[4] = new Rectangle(secondRowX + actionWidth + spacing, secondRowY, actionWidth, blockHeight);
         
+        // Damage area: the 3D faces reach 8px up and right, the selection glow ~4px around
+        for (int i = 0; i < buttonBounds.length; i++) {
+            Rectangle b = buttonBounds[i];
+            damage.register(i, new Rectangle(b.x - 4, b.y - 12, b.width + 16, b.height + 16));
+        }
+        
         setupEventHandlers();
     }
 
@@ -134,6 +174,8 @@ public class MenuPanel extends JPanel implements KeyListener {
     // KeyListener implementation
     @Override
     public void keyPressed(KeyEvent e) {
+        int previousButton = selectedButton;
+        
         switch (e.getKeyCode()) {
             case KeyEvent.VK_LEFT:
                 if (selectedButton > 0) {
@@ -181,7 +223,11 @@ public class MenuPanel extends JPanel implements KeyListener {
                 break;
         }
         
-        repaint();
+        // Only the two buttons whose highlight changed are repainted
+        if (selectedButton != previousButton) {
+            damage.damage(previousButton);
+            damage.damage(selectedButton);
+        }
     }
     
     @Override
@@ -202,21 +248,62 @@ public class MenuPanel extends JPanel implements KeyListener {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
         
+        // Static layers come from a cache built once per panel size
+        if (backdrop == null || backdrop.getWidth() != getWidth() || backdrop.getHeight() != getHeight()) {
+            backdrop = new HudWidget(Math.max(1, getWidth()), Math.max(1, getHeight()), this::paintBackdrop);
+        }
+        backdrop.render(g2d, 0, 0);
+        
+        // Draw block-style buttons, skipping those outside the repainted area
+        for (int i = 0; i < buttonBounds.length; i++) {
+            if (damage.needsPaint(g2d, i)) {
+                drawBlockButton(g2d, i);
+            }
+        }
+        
+        if (damage.needsPaint(g2d, LOADING_KEY)) {
+            drawLoadingProgress(g2d);
+        }
+        
+        g2d.dispose();
+        StartupTimeline.getDefault().mark(StartupTimeline.MENU);
+    }
+    
+    /**
+     * Small "loading n/m" bar in the corner; disappears (and stops listening) once all is loaded
+     */
+    private void drawLoadingProgress(Graphics2D g2d) {
+        int total = assetLoader.getSubmittedCount();
+        int done = Math.min(total, assetLoader.getCompletedCount());
+        if (done >= total) {
+            assetLoader.removeProgressListener(loadingProgress);
+            return; // The backdrop underneath was already repainted in this clip
+        }
+        Rectangle r = LOADING_BOUNDS;
+        g2d.setColor(new Color(0, 0, 0, 140));
+        g2d.fillRoundRect(r.x, r.y, r.width, r.height, 8, 8);
+        g2d.setColor(BUTTON_PRIMARY);
+        g2d.fillRect(r.x + 6, r.y + r.height - 8, (r.width - 12) * done / total, 4);
+        g2d.setColor(TITLE_COLOR);
+        g2d.setFont(fontManager.getSmallFont());
+        g2d.drawString("Cargando recursos " + done + "/" + total, r.x + 8, r.y + 15);
+    }
+    
+    /**
+     * Paints everything that doesn't change with the selection into the backdrop cache
+     */
+    private void paintBackdrop(Graphics2D g2d, int width, int height) {
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        
         // Draw professional construction site background
         drawConstructionBackground(g2d);
         
         // Draw ASCII logo with terminal effect only
         drawASCIILogo(g2d);
         
-        // Draw block-style buttons
-        for (int i = 0; i < buttonBounds.length; i++) {
-            drawBlockButton(g2d, i);
-        }
-        
         // Draw construction-themed instructions
         drawInstructions(g2d);
-        
-        g2d.dispose();
     }
     
     /**
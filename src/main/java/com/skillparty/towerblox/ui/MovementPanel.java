@@ -1,5 +1,7 @@
 package com.skillparty.towerblox.ui;
 
+import com.skillparty.towerblox.core.FramePacer;
+import com.skillparty.towerblox.core.GameClock;
 import com.skillparty.towerblox.game.MovementRecorder;
 import com.skillparty.towerblox.game.MovementRecorder.MovementPattern;
 import com.skillparty.towerblox.game.physics.Crane;
@@ -75,7 +77,8 @@ public class MovementPanel extends JPanel implements KeyListener {
     }
     
     private void setupTimer() {
-        Timer timer = new Timer(16, e -> {
+        // Idle while another card is showing: the demo only animates while visible
+        PacedTimer timer = new PacedTimer("MovementPanel-Demo", FramePacer.STANDARD_FPS, this, () -> false, () -> {
             updateDemo();
             repaint();
         });
@@ -191,7 +194,7 @@ public class MovementPanel extends JPanel implements KeyListener {
         if (movementRecorder != null) {
             if (movementRecorder.isRecording()) {
                 // Indicador de grabación parpadeante
-                long time = System.currentTimeMillis();
+                long time = GameClock.getDefault().millis();
                 if ((time / 500) % 2 == 0) {
                     g2d.setColor(RECORDING_COLOR);
                     g2d.fillOval(x, y, 12, 12);
@@ -0,0 +1,112 @@
+package com.skillparty.towerblox.ui;
+
+import com.skillparty.towerblox.core.FramePacer;
+import com.skillparty.towerblox.core.FrameScheduler;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import java.awt.event.HierarchyEvent;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Drop-in replacement for a javax.swing.Timer driving a game panel
+ *
+ * The timer is a client of the shared {@link FrameScheduler}, so ticks follow the
+ * scheduler's absolute deadlines instead of drifting with EDT load. Each tick is
+ * handed to the EDT. If the EDT has not run the previous tick yet, the new one
+ * is skipped (coalesced) rather than queued behind it. With an owner component
+ * the timer is idle while that component is not showing, and also while the
+ * optional idle condition holds, so hidden or static panels cost no wakeups.
+ */
+public class PacedTimer {
+    private final String name;
+    private final Runnable action;
+    private final BooleanSupplier idle;
+    private final FrameScheduler scheduler;
+    private final AtomicBoolean tickPending = new AtomicBoolean(false);
+    private volatile boolean showing = true;
+    private volatile int targetFps;
+    private FrameScheduler.Registration registration;
+
+    public PacedTimer(String name, int targetFps, Runnable action) {
+        this(name, targetFps, null, () -> false, action);
+    }
+
+    /**
+     * Timer that idles while owner is hidden or idle returns true; idle is polled off the EDT
+     */
+    public PacedTimer(String name, int targetFps, JComponent owner, BooleanSupplier idle, Runnable action) {
+        this.name = name;
+        this.targetFps = targetFps;
+        this.idle = idle;
+        this.action = action;
+        this.scheduler = FrameScheduler.getDefault();
+        if (owner != null) {
+            showing = owner.isShowing();
+            owner.addHierarchyListener(e -> {
+                if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) {
+                    showing = owner.isShowing();
+                    wake();
+                }
+            });
+        }
+    }
+
+    public synchronized void start() {
+        if (registration != null) return;
+
+        registration = scheduler.register(name, targetFps, this::isIdle, this::requestTick);
+    }
+
+    public synchronized void stop() {
+        if (registration != null) {
+            registration.cancel();
+            registration = null;
+        }
+    }
+
+    public synchronized boolean isRunning() {
+        return registration != null;
+    }
+
+    /**
+     * Re-checks the idle condition now instead of waiting for the next input event
+     */
+    public void wake() {
+        scheduler.wake();
+    }
+
+    public synchronized void setTargetFps(int fps) {
+        if (registration != null) {
+            registration.setTargetFps(fps);
+        }
+        this.targetFps = fps;
+    }
+
+    public int getTargetFps() {
+        return targetFps;
+    }
+
+    /**
+     * Pacer of the shared scheduler, including its jitter statistics
+     */
+    public FramePacer getPacer() {
+        return scheduler.getFramePacer();
+    }
+
+    private boolean isIdle() {
+        return !showing || idle.getAsBoolean();
+    }
+
+    private void requestTick() {
+        if (tickPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::tick);
+        }
+    }
+
+    private void tick() {
+        tickPending.set(false);
+        action.run();
+    }
+}
@@ -21,6 +21,7 @@ import java.awt.event.KeyListener;
  */
 public class ScorePanel extends JPanel implements KeyListener {
     private static final long serialVersionUID = 1L;
+    private static final Color[] CELEBRATION_COLORS = {Color.YELLOW, Color.ORANGE, Color.CYAN, Color.MAGENTA};
     
     private GameWindow parentWindow;
     private FontManager fontManager;
@@ -475,6 +476,11 @@ public class ScorePanel extends JPanel implements KeyListener {
     private void drawCelebrationEffect(Graphics2D g2d) {
         // CELEBRATION ESTÁTICA - Sin movimiento para EPILEPSY SAFETY
         
+        // Repaints of the text field or labels don't reach the particles: skip them
+        if (!g2d.hitClip(getWidth() / 2 - 110, getHeight() / 2 - 60, 220, 120)) {
+            return;
+        }
+        
         // Draw STATIC particles in fixed positions
         for (int i = 0; i < 20; i++) {
             // Fixed positions instead of animated
@@ -482,8 +488,7 @@ public class ScorePanel extends JPanel implements KeyListener {
             int y = (int) (getHeight() / 2 + (i * 20) % 100 - 50);
             
             // Vary colors
-            Color[] colors = {Color.YELLOW, Color.ORANGE, Color.CYAN, Color.MAGENTA};
-            g2d.setColor(colors[i % colors.length]);
+            g2d.setColor(CELEBRATION_COLORS[i % CELEBRATION_COLORS.length]);
             
             int size = 3 + (i % 3);
             g2d.fillOval(x - size/2, y - size/2, size, size);
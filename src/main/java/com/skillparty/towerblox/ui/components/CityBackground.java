@@ -1,8 +1,11 @@
 package com.skillparty.towerblox.ui.components;
 
-import java.awt.Graphics2D;
+import java.awt.AlphaComposite;
 import java.awt.Color;
+import java.awt.Composite;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 import java.util.Random;
 
 /**
@@ -20,16 +23,32 @@ public class CityBackground {
     private final int[] tallBuildingHeights = new int[6];
     private final int[] skyscraperHeights = new int[5];
     
-    private final int[] cloudX = new int[8];
-    private final int[] cloudY = new int[8];
-    private final int[] cloudW = new int[8];
-    private final int[] cloudH = new int[8];
-    
     private final int[] lightX = new int[40];
     private final int[] lightY = new int[40];
     
-    private final int[] starX = new int[60];
-    private final int[] starY = new int[60];
+    public static final int MAX_LAYERS = 3;
+    private volatile int optionalLayers = MAX_LAYERS; // Clouds, skyscrapers, stars - dropped in reverse order
+    
+    // Pre-rendered layers: each frame is a handful of drawImage calls instead of ~90 primitives
+    private static final int SKY_LUT_SIZE = 101;   // Gradient stops changing at height 100
+    private final BufferedImage[] skyStrips = new BufferedImage[SKY_LUT_SIZE];
+    private BufferedImage smallBuildingLayer;
+    private BufferedImage mediumBuildingLayer;
+    private BufferedImage skyscraperLayer;
+    private final ProceduralSkyline skyline; // Clouds and stars, generated by altitude so they never repeat
+    
+    private static final Color DAY_TOP = new Color(135, 206, 250);
+    private static final Color DAY_BOTTOM = new Color(245, 250, 255);
+    private static final Color SUNSET_TOP = new Color(70, 130, 180);
+    private static final Color SUNSET_BOTTOM = new Color(255, 140, 0);
+    private static final Color NIGHT_TOP = new Color(25, 25, 112);
+    private static final Color NIGHT_BOTTOM = new Color(72, 61, 139);
+    private static final Color SPACE_TOP = new Color(5, 5, 20);
+    private static final Color SPACE_BOTTOM = new Color(15, 15, 45);
+    private static final Color GRASS_COLOR = new Color(34, 139, 34);
+    private static final Color SMALL_BUILDING_COLOR = new Color(150, 150, 160);
+    private static final Color MEDIUM_BUILDING_COLOR = new Color(100, 110, 125, 180);
+    private static final Color SKYSCRAPER_COLOR = new Color(50, 60, 80, 150);
     
     public CityBackground(int gameWidth, int gameHeight, int groundLevel) {
         this.gameWidth = gameWidth;
@@ -38,6 +57,8 @@ public class CityBackground {
         
         Random random = new Random(42); // Seeded for deterministic background layout
         initializeStaticLayout(random);
+        buildLayers();
+        this.skyline = new ProceduralSkyline(gameWidth, gameHeight, 42);
     }
     
     private void initializeStaticLayout(Random random) {
@@ -53,20 +74,10 @@ public class CityBackground {
         for (int i = 0; i < skyscraperHeights.length; i++) {
             skyscraperHeights[i] = 200 + random.nextInt(140);
         }
-        for (int i = 0; i < cloudX.length; i++) {
-            cloudX[i] = (i * gameWidth / cloudX.length) + random.nextInt(30);
-            cloudY[i] = 60 + random.nextInt(200);
-            cloudW[i] = 90 + random.nextInt(40);
-            cloudH[i] = 30 + random.nextInt(15);
-        }
         for (int i = 0; i < lightX.length; i++) {
             lightX[i] = random.nextInt(gameWidth);
             lightY[i] = random.nextInt(gameHeight);
         }
-        for (int i = 0; i < starX.length; i++) {
-            starX[i] = random.nextInt(gameWidth);
-            starY[i] = random.nextInt(gameHeight);
-        }
     }
     
     /**
@@ -74,69 +85,92 @@ public class CityBackground {
      */
     public void render(Graphics2D g2d, int towerHeight, double cameraY) {
         // 1. Sky Gradient based on tower height (Day -> Sunset -> Night -> Stratosphere -> Space)
-        renderDynamicSky(g2d, towerHeight);
+        g2d.drawImage(getSkyStrip(towerHeight), 0, 0, gameWidth, gameHeight, null);
         
-        // 2. Parallax background layers
-        double slowParallax = cameraY * 0.15;
+        // 2. Parallax background layers, each a pre-rendered image drawn at an offset
         double medParallax = cameraY * 0.35;
         double fastParallax = cameraY * 0.85;
+        int layers = optionalLayers;
         
         // Stars in higher altitude / night
-        if (towerHeight > 25) {
-            renderStars(g2d, towerHeight, slowParallax);
+        if (towerHeight > 25 && layers >= 3) {
+            renderStars(g2d, towerHeight, cameraY);
         }
         
         // Distant Skyscrapers / Buildings
-        if (towerHeight > 10) {
-            renderSkyscrapers(g2d, medParallax);
+        if (towerHeight > 10 && layers >= 2) {
+            drawGroundedLayer(g2d, skyscraperLayer, groundLevel + medParallax);
         }
         
         // Mid-rise Buildings
-        renderMediumBuildings(g2d, fastParallax);
+        drawGroundedLayer(g2d, mediumBuildingLayer, groundLevel + fastParallax);
         
-        // Clouds scrolling seamlessly
-        renderClouds(g2d, slowParallax);
+        // Clouds, thinning out with altitude
+        if (layers >= 1) {
+            skyline.render(g2d, ProceduralSkyline.Layer.NEAR, cameraY);
+        }
         
         // Ground Level (scrolls off screen as camera rises)
         double screenGroundY = groundLevel + cameraY;
         if (screenGroundY < gameHeight + 200) {
-            g2d.setColor(new Color(34, 139, 34)); // Grass green
+            g2d.setColor(GRASS_COLOR);
             g2d.fillRect(0, (int)screenGroundY, gameWidth, Math.max(200, gameHeight - (int)screenGroundY));
-            renderSmallBuildings(g2d, screenGroundY);
+            drawGroundedLayer(g2d, smallBuildingLayer, screenGroundY);
         }
     }
     
-    private void renderDynamicSky(Graphics2D g2d, int towerHeight) {
-        Color topColor;
-        Color bottomColor;
-        
+    /**
+     * Number of optional parallax layers to draw (0-3); lower values trade scenery for speed
+     */
+    public void setOptionalLayers(int layers) {
+        this.optionalLayers = Math.max(0, Math.min(MAX_LAYERS, layers));
+    }
+    
+    public int getOptionalLayers() {
+        return optionalLayers;
+    }
+    
+    /**
+     * Sky gradient for a tower height, rendered once into a one-pixel-wide strip and
+     * stretched across the screen. Heights past SKY_LUT_SIZE all share the deep-space strip.
+     */
+    private BufferedImage getSkyStrip(int towerHeight) {
+        int band = Math.max(0, Math.min(SKY_LUT_SIZE - 1, towerHeight));
+        BufferedImage strip = skyStrips[band];
+        if (strip == null) {
+            strip = new BufferedImage(1, gameHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g2d = strip.createGraphics();
+            g2d.setPaint(new GradientPaint(0, 0, skyTopColor(band), 0, gameHeight, skyBottomColor(band)));
+            g2d.fillRect(0, 0, 1, gameHeight);
+            g2d.dispose();
+            skyStrips[band] = strip;
+        }
+        return strip;
+    }
+    
+    private static Color skyTopColor(int towerHeight) {
         if (towerHeight <= 10) {
-            // Day Sky
-            topColor = new Color(135, 206, 250);
-            bottomColor = new Color(245, 250, 255);
+            return DAY_TOP; // Day Sky
         } else if (towerHeight <= 25) {
-            // Sunset Sky
-            float t = (towerHeight - 10) / 15.0f;
-            topColor = interpolateColor(new Color(135, 206, 250), new Color(70, 130, 180), t);
-            bottomColor = interpolateColor(new Color(245, 250, 255), new Color(255, 140, 0), t);
+            return interpolateColor(DAY_TOP, SUNSET_TOP, (towerHeight - 10) / 15.0f); // Sunset Sky
         } else if (towerHeight <= 50) {
-            // Twilight / Night Sky
-            float t = (towerHeight - 25) / 25.0f;
-            topColor = interpolateColor(new Color(70, 130, 180), new Color(25, 25, 112), t);
-            bottomColor = interpolateColor(new Color(255, 140, 0), new Color(72, 61, 139), t);
-        } else {
-            // Stratosphere / Deep Space
-            float t = Math.min(1.0f, (towerHeight - 50) / 50.0f);
-            topColor = interpolateColor(new Color(25, 25, 112), new Color(5, 5, 20), t);
-            bottomColor = interpolateColor(new Color(72, 61, 139), new Color(15, 15, 45), t);
+            return interpolateColor(SUNSET_TOP, NIGHT_TOP, (towerHeight - 25) / 25.0f); // Twilight / Night Sky
         }
-        
-        GradientPaint skyGradient = new GradientPaint(0, 0, topColor, 0, gameHeight, bottomColor);
-        g2d.setPaint(skyGradient);
-        g2d.fillRect(0, 0, gameWidth, gameHeight);
+        return interpolateColor(NIGHT_TOP, SPACE_TOP, Math.min(1.0f, (towerHeight - 50) / 50.0f)); // Deep Space
     }
     
-    private Color interpolateColor(Color c1, Color c2, float ratio) {
+    private static Color skyBottomColor(int towerHeight) {
+        if (towerHeight <= 10) {
+            return DAY_BOTTOM;
+        } else if (towerHeight <= 25) {
+            return interpolateColor(DAY_BOTTOM, SUNSET_BOTTOM, (towerHeight - 10) / 15.0f);
+        } else if (towerHeight <= 50) {
+            return interpolateColor(SUNSET_BOTTOM, NIGHT_BOTTOM, (towerHeight - 25) / 25.0f);
+        }
+        return interpolateColor(NIGHT_BOTTOM, SPACE_BOTTOM, Math.min(1.0f, (towerHeight - 50) / 50.0f));
+    }
+    
+    private static Color interpolateColor(Color c1, Color c2, float ratio) {
         float r = c1.getRed() + ratio * (c2.getRed() - c1.getRed());
         float g = c1.getGreen() + ratio * (c2.getGreen() - c1.getGreen());
         float b = c1.getBlue() + ratio * (c2.getBlue() - c1.getBlue());
@@ -145,58 +179,59 @@ public class CityBackground {
                          Math.max(0, Math.min(255, (int)b)));
     }
     
-    private void renderSmallBuildings(Graphics2D g2d, double screenGroundY) {
-        g2d.setColor(new Color(150, 150, 160));
-        int count = smallBuildingHeights.length;
-        for (int i = 0; i < count; i++) {
-            int x = i * (gameWidth / count);
-            int height = smallBuildingHeights[i];
-            g2d.fillRect(x, (int)screenGroundY - height, gameWidth / count - 6, height);
-        }
+    /**
+     * Pre-renders the static layers; the seeded layout never changes, so this runs once
+     */
+    private void buildLayers() {
+        smallBuildingLayer = createBuildingLayer(smallBuildingHeights, 6, SMALL_BUILDING_COLOR);
+        mediumBuildingLayer = createBuildingLayer(mediumBuildingHeights, 8, MEDIUM_BUILDING_COLOR);
+        skyscraperLayer = createBuildingLayer(skyscraperHeights, 10, SKYSCRAPER_COLOR);
     }
     
-    private void renderMediumBuildings(Graphics2D g2d, double parallaxY) {
-        g2d.setColor(new Color(100, 110, 125, 180));
-        int count = mediumBuildingHeights.length;
+    /**
+     * Row of buildings standing on the bottom edge of the image
+     */
+    private BufferedImage createBuildingLayer(int[] heights, int gap, Color color) {
+        int tallest = 1;
+        for (int height : heights) {
+            tallest = Math.max(tallest, height);
+        }
+        BufferedImage layer = createLayerImage(tallest);
+        Graphics2D g2d = layer.createGraphics();
+        g2d.setColor(color);
+        int count = heights.length;
         for (int i = 0; i < count; i++) {
             int x = i * (gameWidth / count);
-            int height = mediumBuildingHeights[i];
-            int y = (int)(groundLevel + parallaxY - height);
-            if (y < gameHeight) {
-                g2d.fillRect(x, y, gameWidth / count - 8, height);
-            }
+            g2d.fillRect(x, tallest - heights[i], gameWidth / count - gap, heights[i]);
         }
+        g2d.dispose();
+        return layer;
     }
     
-    private void renderSkyscrapers(Graphics2D g2d, double parallaxY) {
-        g2d.setColor(new Color(50, 60, 80, 150));
-        int count = skyscraperHeights.length;
-        for (int i = 0; i < count; i++) {
-            int x = i * (gameWidth / count);
-            int height = skyscraperHeights[i];
-            int y = (int)(groundLevel + parallaxY - height);
-            if (y < gameHeight) {
-                g2d.fillRect(x, y, gameWidth / count - 10, height);
-            }
-        }
+    private BufferedImage createLayerImage(int height) {
+        return new BufferedImage(gameWidth, height, BufferedImage.TYPE_INT_ARGB);
     }
     
-    private void renderClouds(Graphics2D g2d, double parallaxY) {
-        g2d.setColor(new Color(255, 255, 255, 150));
-        for (int i = 0; i < cloudX.length; i++) {
-            int y = (int)((cloudY[i] + parallaxY) % (gameHeight + 100)) - 50;
-            g2d.fillOval(cloudX[i], y, cloudW[i], cloudH[i]);
+    /**
+     * Draws a building layer with its base at baseY, skipping it once it is below the screen
+     */
+    private void drawGroundedLayer(Graphics2D g2d, BufferedImage layer, double baseY) {
+        int top = (int) baseY - layer.getHeight();
+        if (top < gameHeight) {
+            g2d.drawImage(layer, 0, top, null);
         }
     }
     
-    private void renderStars(Graphics2D g2d, int towerHeight, double parallaxY) {
+    private void renderStars(Graphics2D g2d, int towerHeight, double cameraY) {
         int alpha = Math.min(255, Math.max(0, (towerHeight - 20) * 8));
-        g2d.setColor(new Color(255, 255, 255, alpha));
-        for (int i = 0; i < starX.length; i++) {
-            int y = (int)((starY[i] + parallaxY) % gameHeight);
-            if (y < 0) y += gameHeight;
-            g2d.fillOval(starX[i], y, 2, 2);
-        }
+        Composite original = g2d.getComposite();
+        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha / 255f));
+        skyline.render(g2d, ProceduralSkyline.Layer.DEEP, cameraY);
+        g2d.setComposite(original);
+    }
+    
+    public ProceduralSkyline getSkyline() {
+        return skyline;
     }
     
     public void update() {
@@ -0,0 +1,65 @@
+package com.skillparty.towerblox.ui.components;
+
+import javax.swing.JComponent;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Damage tracking for mostly static screens (menu, high scores, score entry)
+ *
+ * Calling repaint() makes Swing repaint the whole panel, so moving a selection
+ * highlight used to redraw 1280x720 pixels. Here, elements that can change
+ * register their bounds once under a key. When one changes, damage(key) asks
+ * Swing for just that rectangle. In paintComponent, needsPaint() tells an
+ * element whether it lies inside the clip Swing is painting, so elements
+ * outside it are skipped entirely.
+ */
+public final class DamageTracker {
+    private final JComponent owner;
+    private final Map<Object, Rectangle> regions = new HashMap<>();
+    private long damagedPixels;
+
+    public DamageTracker(JComponent owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Registers (or moves) the screen area an element can paint into, including shadows and glows
+     */
+    public void register(Object key, Rectangle bounds) {
+        regions.put(key, new Rectangle(bounds));
+    }
+
+    /**
+     * Repaints only the area registered for key; unknown keys repaint nothing
+     */
+    public void damage(Object key) {
+        Rectangle bounds = regions.get(key);
+        if (bounds != null) {
+            damagedPixels += (long) bounds.width * bounds.height;
+            owner.repaint(bounds.x, bounds.y, bounds.width, bounds.height);
+        }
+    }
+
+    /**
+     * Whether the element's area intersects the clip being painted; unregistered elements always paint
+     */
+    public boolean needsPaint(Graphics g, Object key) {
+        Rectangle bounds = regions.get(key);
+        return bounds == null || g.hitClip(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    public Rectangle getBounds(Object key) {
+        Rectangle bounds = regions.get(key);
+        return bounds != null ? new Rectangle(bounds) : null;
+    }
+
+    /**
+     * Total area requested through damage(), for comparing against full-panel repaints
+     */
+    public long getDamagedPixels() {
+        return damagedPixels;
+    }
+}
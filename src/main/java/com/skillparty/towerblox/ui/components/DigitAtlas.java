@@ -0,0 +1,177 @@
+package com.skillparty.towerblox.ui.components;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.image.BufferedImage;
+
+/**
+ * Pre-rasterized digits and number punctuation for one font and colour
+ *
+ * HUD numbers change every few frames, so building them with String.format or
+ * concatenation and shaping them again costs garbage every frame. The atlas
+ * draws each glyph once into an image, then writes numbers digit by digit with
+ * drawImage from that image, without building a String. Glyphs are rasterized
+ * at the device scale (1x, 2x, 3x) so they stay crisp on HiDPI screens.
+ */
+public final class DigitAtlas {
+    public static final String GLYPHS = "0123456789.%+-x:/ ";
+    private static final int MAX_SCALE = 3;
+
+    private final Font font;
+    private final Color color;
+    private final int[] offsets = new int[GLYPHS.length()];
+    private final int[] advances = new int[GLYPHS.length()];
+    private final int ascent;
+    private final int height;
+    private final int atlasWidth;
+    private final BufferedImage[] images = new BufferedImage[MAX_SCALE + 1];
+
+    private FontRenderContext scaleContext;
+    private int scale = 1;
+
+    public DigitAtlas(Font font, Color color) {
+        this.font = font;
+        this.color = color;
+
+        BufferedImage scratch = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = scratch.createGraphics();
+        FontMetrics metrics = g2d.getFontMetrics(font);
+        int x = 0;
+        for (int i = 0; i < GLYPHS.length(); i++) {
+            offsets[i] = x;
+            advances[i] = metrics.charWidth(GLYPHS.charAt(i));
+            x += advances[i] + 1; // 1px gutter so neighbours never bleed when filtered
+        }
+        this.ascent = metrics.getAscent();
+        this.height = metrics.getAscent() + metrics.getDescent();
+        this.atlasWidth = Math.max(1, x);
+        g2d.dispose();
+    }
+
+    /**
+     * Draws an integer with at least minDigits digits (zero padded); returns the x after it
+     */
+    public int drawInt(Graphics2D g2d, long value, int minDigits, int x, int y) {
+        BufferedImage atlas = atlasFor(g2d);
+        if (value < 0) {
+            x = drawGlyph(g2d, atlas, GLYPHS.indexOf('-'), x, y);
+            value = -value;
+        }
+        long divisor = 1;
+        int digits = 1;
+        while (value / divisor >= 10 || digits < minDigits) {
+            divisor *= 10;
+            digits++;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            x = drawGlyph(g2d, atlas, (int) (value / divisor % 10), x, y);
+        }
+        return x;
+    }
+
+    public int drawInt(Graphics2D g2d, long value, int x, int y) {
+        return drawInt(g2d, value, 1, x, y);
+    }
+
+    /**
+     * Draws a value rounded to the given decimals, like String.format("%.Nf")
+     */
+    public int drawFixed(Graphics2D g2d, double value, int decimals, int x, int y) {
+        long factor = 1;
+        for (int i = 0; i < decimals; i++) {
+            factor *= 10;
+        }
+        long scaled = Math.round(Math.abs(value) * factor);
+        if (value < 0 && scaled != 0) {
+            x = drawChar(g2d, '-', x, y);
+        }
+        x = drawInt(g2d, scaled / factor, 1, x, y);
+        if (decimals > 0) {
+            x = drawChar(g2d, '.', x, y);
+            x = drawInt(g2d, scaled % factor, decimals, x, y);
+        }
+        return x;
+    }
+
+    /**
+     * Draws one of the atlas characters (see GLYPHS); other characters are skipped
+     */
+    public int drawChar(Graphics2D g2d, char c, int x, int y) {
+        int index = GLYPHS.indexOf(c);
+        return index >= 0 ? drawGlyph(g2d, atlasFor(g2d), index, x, y) : x;
+    }
+
+    /**
+     * Width of an integer as drawInt() would draw it, for centring and right alignment
+     */
+    public int measureInt(long value, int minDigits) {
+        int width = 0;
+        if (value < 0) {
+            width += advances[GLYPHS.indexOf('-')];
+            value = -value;
+        }
+        int digits = 0;
+        do {
+            width += advances[(int) (value % 10)];
+            value /= 10;
+            digits++;
+        } while (value > 0 || digits < minDigits);
+        return width;
+    }
+
+    /**
+     * Width of one atlas character, 0 for characters outside GLYPHS
+     */
+    public int measureChar(char c) {
+        int index = GLYPHS.indexOf(c);
+        return index >= 0 ? advances[index] : 0;
+    }
+
+    private int drawGlyph(Graphics2D g2d, BufferedImage atlas, int index, int x, int y) {
+        int advance = advances[index];
+        int top = y - ascent;
+        int sx = offsets[index] * scale;
+        g2d.drawImage(atlas, x, top, x + advance, top + height,
+                sx, 0, sx + advance * scale, height * scale, null);
+        return x + advance;
+    }
+
+    /**
+     * Atlas rasterized for the device scale of the target; rebuilt only when that changes
+     */
+    private BufferedImage atlasFor(Graphics2D g2d) {
+        FontRenderContext context = g2d.getFontRenderContext();
+        if (!context.equals(scaleContext)) {
+            double deviceScale = context.getTransform().getScaleX();
+            scale = Math.max(1, Math.min(MAX_SCALE, (int) Math.ceil(deviceScale - 0.01)));
+            scaleContext = context;
+        }
+        BufferedImage atlas = images[scale];
+        if (atlas == null) {
+            atlas = new BufferedImage(atlasWidth * scale, Math.max(1, height * scale), BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = atlas.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.scale(scale, scale);
+            g.setFont(font);
+            g.setColor(color);
+            for (int i = 0; i < GLYPHS.length(); i++) {
+                g.drawString(GLYPHS.substring(i, i + 1), offsets[i], ascent);
+            }
+            g.dispose();
+            images[scale] = atlas;
+        }
+        return atlas;
+    }
+
+    public Font getFont() {
+        return font;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+}
@@ -1,5 +1,6 @@
 package com.skillparty.towerblox.ui.components;
 
+import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontFormatException;
 import java.awt.GraphicsEnvironment;
@@ -15,6 +16,8 @@ public class FontManager {
     private static FontManager instance;
     private Font ubuntuMonoFont;
     private Map<Float, Font> fontCache;
+    private final Map<String, Font> derivedFonts = new HashMap<>();
+    private final Map<String, DigitAtlas> digitAtlases = new HashMap<>();
     private boolean ubuntuMonoLoaded = false;
 
     // Font sizes for different UI elements
@@ -30,9 +33,9 @@ public class FontManager {
     }
 
     /**
-     * Gets the singleton instance of FontManager
+     * Gets the singleton instance of FontManager (synchronized: Main preloads it off the EDT)
      */
-    public static FontManager getInstance() {
+    public static synchronized FontManager getInstance() {
         if (instance == null) {
             instance = new FontManager();
         }
@@ -90,8 +93,31 @@ public class FontManager {
      * @param style Font style (Font.PLAIN, Font.BOLD, Font.ITALIC)
      * @return Font instance with specified size and style
      */
-    public Font getFont(float size, int style) {
-        return ubuntuMonoFont.deriveFont(style, size);
+    public synchronized Font getFont(float size, int style) {
+        return derivedFonts.computeIfAbsent("ubuntu-mono|" + style + "|" + size,
+                key -> ubuntuMonoFont.deriveFont(style, size));
+    }
+
+    /**
+     * Gets a cached font by family, style and size
+     * Deriving a font is not free; HUD code keeps the result in a field instead
+     * of asking again every frame.
+     * @param family Font family (e.g. "Arial", Font.MONOSPACED)
+     * @param style Font style (Font.PLAIN, Font.BOLD, Font.ITALIC)
+     * @param size Font size
+     * @return Shared Font instance
+     */
+    public synchronized Font getFont(String family, int style, float size) {
+        return derivedFonts.computeIfAbsent(family + "|" + style + "|" + size,
+                key -> new Font(family, style, 1).deriveFont(size));
+    }
+
+    /**
+     * Gets the shared digit atlas for a font and colour, for numbers that change every frame
+     */
+    public synchronized DigitAtlas getDigits(Font font, Color color) {
+        return digitAtlases.computeIfAbsent(font.getFontName() + "|" + font.getStyle() + "|"
+                + font.getSize2D() + "|" + color.getRGB(), key -> new DigitAtlas(font, color));
     }
 
     /**
@@ -146,7 +172,9 @@ public class FontManager {
     /**
      * Clears the font cache
      */
-    public void clearCache() {
+    public synchronized void clearCache() {
         fontCache.clear();
+        derivedFonts.clear();
+        digitAtlases.clear();
     }
 }
\ No newline at end of file
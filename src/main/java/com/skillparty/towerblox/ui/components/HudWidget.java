@@ -0,0 +1,127 @@
+package com.skillparty.towerblox.ui.components;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.image.BufferedImage;
+
+/**
+ * Retained-mode HUD widget: a cached image redrawn only when its inputs change
+ *
+ * Most HUD panels show values that only change when a block lands or a life is
+ * lost, yet immediate-mode code fills, strokes and draws text for them every
+ * frame. A widget paints once into its own image. Each frame it is only blitted.
+ * Callers mark it dirty from game events with invalidate(). For values that
+ * drift with no event (stability, the clock) they can pass a cheap key to
+ * invalidateIfChanged(). The image is kept at the device scale so text stays
+ * crisp on HiDPI screens.
+ */
+public final class HudWidget {
+
+    /**
+     * Paints the widget's content in local coordinates, (0, 0) being its top-left corner
+     */
+    @FunctionalInterface
+    public interface Painter {
+        void paint(Graphics2D g2d, int width, int height);
+    }
+
+    private static final int MAX_SCALE = 3;
+
+    private final int width;
+    private final int height;
+    private final Painter painter;
+    private BufferedImage image;
+    private int scale = 1;
+    private FontRenderContext scaleContext;
+    private volatile boolean dirty = true; // Set by game events, possibly off the paint thread
+    private long key = Long.MIN_VALUE;
+    private long rasterCount;
+
+    public HudWidget(int width, int height, Painter painter) {
+        this.width = width;
+        this.height = height;
+        this.painter = painter;
+    }
+
+    /**
+     * Marks the widget for repainting on its next render
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Marks the widget dirty if key differs from the one seen last time
+     */
+    public void invalidateIfChanged(long newKey) {
+        if (newKey != key) {
+            key = newKey;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Draws the widget with its top-left corner at (x, y), repainting the cache first if needed
+     */
+    public void render(Graphics2D g2d, int x, int y) {
+        FontRenderContext context = g2d.getFontRenderContext();
+        if (!context.equals(scaleContext)) {
+            double deviceScale = context.getTransform().getScaleX();
+            int newScale = Math.max(1, Math.min(MAX_SCALE, (int) Math.ceil(deviceScale - 0.01)));
+            if (newScale != scale || image == null) {
+                scale = newScale;
+                image = null;
+                dirty = true;
+            }
+            scaleContext = context;
+        }
+        if (dirty) {
+            rasterize();
+        }
+        if (scale == 1) {
+            g2d.drawImage(image, x, y, null);
+        } else {
+            g2d.drawImage(image, x, y, x + width, y + height, 0, 0, width * scale, height * scale, null);
+        }
+    }
+
+    private void rasterize() {
+        if (image == null) {
+            image = new BufferedImage(width * scale, height * scale, BufferedImage.TYPE_INT_ARGB);
+        }
+        Graphics2D g = image.createGraphics();
+        Composite original = g.getComposite();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.setComposite(original);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.scale(scale, scale);
+        painter.paint(g, width, height);
+        g.dispose();
+        dirty = false;
+        rasterCount++;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Number of times the widget has been repainted into its cache
+     */
+    public long getRasterCount() {
+        return rasterCount;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
@@ -12,6 +12,10 @@ import java.awt.event.KeyEvent;
  * @author joseAlejandro
  */
 public class PauseMenu extends JPanel {
+    private static final Color PANEL_BACKGROUND = new Color(0, 0, 0, 180);
+    private static final Color PANEL_BORDER = new Color(59, 130, 246);
+    private static final Color SCREEN_DIM = new Color(0, 0, 0, 100);
+    
     private JButton resumeButton;
     private JButton optionsButton;
     private JButton mainMenuButton;
@@ -94,11 +98,11 @@ public class PauseMenu extends JPanel {
                 g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                 
                 // Fondo semi-transparente
-                g2d.setColor(new Color(0, 0, 0, 180));
+                g2d.setColor(PANEL_BACKGROUND);
                 g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 20, 20);
                 
                 // Borde
-                g2d.setColor(new Color(59, 130, 246));
+                g2d.setColor(PANEL_BORDER);
                 g2d.setStroke(new BasicStroke(2));
                 g2d.drawRoundRect(1, 1, getWidth()-2, getHeight()-2, 20, 20);
                 
@@ -200,7 +204,9 @@ public class PauseMenu extends JPanel {
         // Toggle visibility of options panel
         Component optionsPanel = ((JPanel)getComponent(0)).getComponent(5);
         optionsPanel.setVisible(!optionsPanel.isVisible());
-        repaint();
+        // Solo cambia el panel central: repintar su área, no toda la pantalla
+        Component mainPanel = optionsPanel.getParent();
+        repaint(mainPanel.getBounds());
     }
     
     private void goToMainMenu() {
@@ -254,7 +260,7 @@ public class PauseMenu extends JPanel {
         if (isVisible) {
             // Fondo semi-transparente que cubre toda la pantalla
             Graphics2D g2d = (Graphics2D) g.create();
-            g2d.setColor(new Color(0, 0, 0, 100));
+            g2d.setColor(SCREEN_DIM);
             g2d.fillRect(0, 0, getWidth(), getHeight());
             g2d.dispose();
         }
@@ -0,0 +1,272 @@
+package com.skillparty.towerblox.ui.components;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Procedural sky content generated in vertical chunks as the camera climbs
+ *
+ * Each chunk is a strip of the sky, CHUNK_HEIGHT pixels tall. Its content comes
+ * from the altitude band the camera is in while the chunk crosses mid-screen
+ * (city, high clouds, stratosphere, space) and from a seed derived from its
+ * index. The same chunk always looks the same, and a tall tower never sees the
+ * sky repeat. A chunk is rasterized once into an image. Images live in an LRU
+ * cache of at most MAX_CACHED_CHUNKS entries, so memory stays bounded at any
+ * height. The chunk above the screen is prefetched on a background thread
+ * before the camera gets there.
+ */
+public class ProceduralSkyline {
+
+    /**
+     * Sky layers with their own parallax speed
+     */
+    public enum Layer {
+        NEAR(0.15, 0x5EEDL),   // Clouds and high-altitude wisps
+        DEEP(0.10, 0xD11FL);   // Stars, planets and nebulae; the caller fades them in with altitude
+
+        final double parallax;
+        final long salt;
+
+        Layer(double parallax, long salt) {
+            this.parallax = parallax;
+            this.salt = salt;
+        }
+    }
+
+    /**
+     * Altitude bands, in camera pixels above the ground
+     */
+    public enum Band {
+        CITY(0),
+        CLOUDS(1000),
+        STRATOSPHERE(2000),
+        SPACE(4000);
+
+        final double minAltitude;
+
+        Band(double minAltitude) {
+            this.minAltitude = minAltitude;
+        }
+
+        public static Band forAltitude(double cameraAltitude) {
+            Band band = CITY;
+            for (Band candidate : values()) {
+                if (cameraAltitude >= candidate.minAltitude) {
+                    band = candidate;
+                }
+            }
+            return band;
+        }
+    }
+
+    public static final int CHUNK_HEIGHT = 240;
+    public static final int MAX_CACHED_CHUNKS = 12; // 2 layers x 4 visible + prefetch; ~1.2 MB each at 1280 wide
+
+    private static final Color CLOUD_COLOR = new Color(255, 255, 255, 150);
+    private static final Color WISP_COLOR = new Color(255, 255, 255, 70);
+    private static final Color[] PLANET_COLORS = {
+        new Color(205, 133, 63), new Color(176, 196, 222), new Color(188, 143, 143), new Color(143, 188, 143)
+    };
+    private static final Color[] NEBULA_COLORS = {
+        new Color(138, 43, 226, 28), new Color(65, 105, 225, 28), new Color(199, 21, 133, 24)
+    };
+
+    // One shared daemon thread: chunks are cheap and every background instance can use it
+    private static final ExecutorService PREFETCHER = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "Skyline-Prefetch");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    private static final BufferedImage EMPTY = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    private final int width;
+    private final int screenHeight;
+    private final long seed;
+    private final Map<Long, BufferedImage> cache = new LinkedHashMap<Long, BufferedImage>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+            return size() > MAX_CACHED_CHUNKS;
+        }
+    };
+    private final Set<Long> pending = new HashSet<>();
+    private long chunksRasterized;
+
+    public ProceduralSkyline(int width, int screenHeight, long seed) {
+        this.width = width;
+        this.screenHeight = screenHeight;
+        this.seed = seed;
+    }
+
+    /**
+     * Draws the visible chunks of a layer for the camera position and prefetches the next one up
+     */
+    public void render(Graphics2D g2d, Layer layer, double cameraY) {
+        double layerAltitude = cameraY * layer.parallax; // Altitude seen at the bottom edge of the screen
+        long lowest = (long) Math.floor(layerAltitude / CHUNK_HEIGHT);
+        long highest = (long) Math.floor((layerAltitude + screenHeight) / CHUNK_HEIGHT);
+
+        for (long index = Math.max(0, lowest); index <= highest; index++) {
+            BufferedImage chunk = getChunk(layer, index);
+            if (chunk != EMPTY) {
+                // Chunk top edge is at altitude (index + 1) * CHUNK_HEIGHT
+                int y = (int) Math.round(screenHeight + layerAltitude - (index + 1) * CHUNK_HEIGHT);
+                g2d.drawImage(chunk, 0, y, null);
+            }
+        }
+        prefetch(layer, highest + 1);
+    }
+
+    /**
+     * Cached image of a chunk, rasterized now if the prefetcher hasn't got to it yet
+     */
+    BufferedImage getChunk(Layer layer, long index) {
+        long key = key(layer, index);
+        BufferedImage chunk;
+        synchronized (cache) {
+            chunk = cache.get(key);
+        }
+        if (chunk == null) {
+            chunk = rasterize(layer, index);
+            synchronized (cache) {
+                cache.put(key, chunk);
+            }
+        }
+        return chunk;
+    }
+
+    private void prefetch(Layer layer, long index) {
+        long key = key(layer, index);
+        synchronized (cache) {
+            if (cache.containsKey(key) || !pending.add(key)) {
+                return;
+            }
+        }
+        PREFETCHER.execute(() -> {
+            BufferedImage chunk = rasterize(layer, index);
+            synchronized (cache) {
+                pending.remove(key);
+                cache.put(key, chunk);
+            }
+        });
+    }
+
+    private static long key(Layer layer, long index) {
+        return index * 2 + layer.ordinal();
+    }
+
+    /**
+     * Band of a chunk: where the camera is while the chunk crosses the middle of the screen
+     */
+    Band bandOf(Layer layer, long index) {
+        double centeredAltitude = index * CHUNK_HEIGHT + CHUNK_HEIGHT / 2.0 - screenHeight / 2.0;
+        return Band.forAltitude(Math.max(0, centeredAltitude) / layer.parallax);
+    }
+
+    /**
+     * Draws one chunk from its seed; the same layer and index always give the same image
+     */
+    BufferedImage rasterize(Layer layer, long index) {
+        Band band = bandOf(layer, index);
+        synchronized (cache) {
+            chunksRasterized++;
+        }
+        if (layer == Layer.NEAR && band == Band.SPACE) {
+            return EMPTY; // Nothing but stars up there, and those live in the deep layer
+        }
+
+        Random random = new Random(seed ^ layer.salt ^ (index * 0x9E3779B97F4A7C15L));
+        BufferedImage image = new BufferedImage(width, CHUNK_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        if (layer == Layer.DEEP) {
+            drawDeepSpace(g2d, random, band);
+        } else if (band == Band.CITY) {
+            drawClouds(g2d, random, 3 + random.nextInt(2));
+        } else if (band == Band.CLOUDS) {
+            drawClouds(g2d, random, 1 + random.nextInt(2));
+            drawWisps(g2d, random, 1);
+        } else {
+            drawWisps(g2d, random, 2);
+        }
+        g2d.dispose();
+        return image;
+    }
+
+    private void drawClouds(Graphics2D g2d, Random random, int count) {
+        g2d.setColor(CLOUD_COLOR);
+        for (int i = 0; i < count; i++) {
+            int w = 90 + random.nextInt(40);
+            int h = 30 + random.nextInt(15);
+            int x = i * width / count + random.nextInt(Math.max(1, width / count - w));
+            g2d.fillOval(x, random.nextInt(CHUNK_HEIGHT - h), w, h);
+        }
+    }
+
+    private void drawWisps(Graphics2D g2d, Random random, int count) {
+        g2d.setColor(WISP_COLOR);
+        for (int i = 0; i < count; i++) {
+            int w = 200 + random.nextInt(120);
+            int h = 8 + random.nextInt(7);
+            g2d.fillOval(random.nextInt(width - w), random.nextInt(CHUNK_HEIGHT - h), w, h);
+        }
+    }
+
+    private void drawStars(Graphics2D g2d, Random random, int count, int minAlpha, int maxSize) {
+        for (int i = 0; i < count; i++) {
+            int size = 1 + random.nextInt(maxSize);
+            int alpha = minAlpha + random.nextInt(256 - minAlpha);
+            g2d.setColor(new Color(255, 255, 255, alpha));
+            g2d.fillOval(random.nextInt(width), random.nextInt(CHUNK_HEIGHT - size), size, size);
+        }
+    }
+
+    private void drawPlanet(Graphics2D g2d, Random random) {
+        int radius = 12 + random.nextInt(18);
+        int x = radius + random.nextInt(width - 2 * radius);
+        int y = radius + random.nextInt(CHUNK_HEIGHT - 2 * radius);
+        Color color = PLANET_COLORS[random.nextInt(PLANET_COLORS.length)];
+        g2d.setColor(color);
+        g2d.fillOval(x - radius, y - radius, radius * 2, radius * 2);
+        g2d.setColor(new Color(0, 0, 0, 90)); // Night side
+        g2d.fillOval(x - radius / 2, y - radius, radius * 2, radius * 2);
+    }
+
+    private void drawDeepSpace(Graphics2D g2d, Random random, Band band) {
+        if (band == Band.SPACE && random.nextInt(6) == 0) {
+            g2d.setColor(NEBULA_COLORS[random.nextInt(NEBULA_COLORS.length)]);
+            int w = 300 + random.nextInt(300);
+            int h = 80 + random.nextInt(CHUNK_HEIGHT - 80);
+            g2d.fillOval(random.nextInt(width - w), (CHUNK_HEIGHT - h) / 2, w, h);
+        }
+        // Denser, brighter and bigger stars the higher the chunk
+        int level = band.ordinal();
+        drawStars(g2d, random, 12 + level * 8, 100 + level * 30, 1 + level / 2);
+        if (band == Band.SPACE && random.nextInt(5) == 0) {
+            drawPlanet(g2d, random);
+        }
+    }
+
+    public int getCachedChunkCount() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getChunksRasterized() {
+        synchronized (cache) {
+            return chunksRasterized;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.skillparty.towerblox.ui.components;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+
+/**
+ * Static HUD text laid out once into a GlyphVector
+ *
+ * drawString() shapes its text again on every call. A label keeps the shaped
+ * glyphs and only rebuilds them when the render context changes (antialiasing
+ * hint or device transform), so drawing it each frame allocates nothing.
+ * Text is drawn in the Graphics2D's current paint.
+ */
+public final class TextLabel {
+    private final Font font;
+    private final String text;
+    private FontRenderContext layoutContext;
+    private GlyphVector glyphs;
+    private float advance;
+
+    public TextLabel(Font font, String text) {
+        this.font = font;
+        this.text = text;
+    }
+
+    /**
+     * Draws the label with its baseline at y, like drawString(); returns the x after the text
+     */
+    public float draw(Graphics2D g2d, float x, float y) {
+        layout(g2d);
+        g2d.drawGlyphVector(glyphs, x, y);
+        return x + advance;
+    }
+
+    /**
+     * Draws the label centered horizontally on centerX
+     */
+    public void drawCentered(Graphics2D g2d, float centerX, float y) {
+        layout(g2d);
+        g2d.drawGlyphVector(glyphs, centerX - advance / 2f, y);
+    }
+
+    public float getAdvance(Graphics2D g2d) {
+        layout(g2d);
+        return advance;
+    }
+
+    private void layout(Graphics2D g2d) {
+        FontRenderContext context = g2d.getFontRenderContext();
+        if (glyphs == null || !context.equals(layoutContext)) {
+            glyphs = font.createGlyphVector(context, text);
+            advance = (float) glyphs.getLogicalBounds().getWidth();
+            layoutContext = context;
+        }
+    }
+
+    public Font getFont() {
+        return font;
+    }
+
+    public String getText() {
+        return text;
+    }
+}
@@ -1,5 +1,6 @@
 package com.skillparty.towerblox.ui.components;
 
+import com.skillparty.towerblox.core.GameClock;
 import com.skillparty.towerblox.game.GameEngine;
 import com.skillparty.towerblox.game.physics.Tower;
 import com.skillparty.towerblox.game.physics.Block;
@@ -84,13 +85,13 @@ public class TowerVisualizationPanel extends JPanel {
             this.color = color;
             this.alpha = 0.7f;
             this.size = (int)(Math.random() * 3) + 1;
-            this.birthTime = System.currentTimeMillis();
+            this.birthTime = GameClock.getDefault().millis();
         }
         
         void update() {
             x += vx;
             y += vy;
-            long age = System.currentTimeMillis() - birthTime;
+            long age = GameClock.getDefault().millis() - birthTime;
             alpha = Math.max(0, 0.7f - age / 5000.0f);
         }
         
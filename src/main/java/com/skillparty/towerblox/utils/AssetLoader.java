@@ -0,0 +1,142 @@
+package com.skillparty.towerblox.utils;
+
+import com.skillparty.towerblox.performance.StartupTimeline;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Loads startup assets concurrently on a small thread pool
+ *
+ * Main preloads assets by name before the window is built: fonts, the menu
+ * image, the city background, saved patterns and high scores. The code that
+ * needs one later claims it by the same name. If it was preloaded, it gets
+ * the running (or finished) task. Otherwise the fallback runs on the caller.
+ * A claimed asset is removed, so the next caller builds a fresh one (tests
+ * create many engines).
+ *
+ * Every task's duration goes to the {@link StartupTimeline}. Progress
+ * listeners fire as tasks finish, so the menu can draw a progress bar. Pool
+ * threads exit after a few idle seconds, so nothing is left running once
+ * startup is over.
+ *
+ * @author joseAlejandro
+ */
+public class AssetLoader {
+    private static final long KEEP_ALIVE_SECONDS = 3;
+
+    private static final AssetLoader defaultLoader = new AssetLoader(Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())));
+
+    private final ThreadPoolExecutor pool;
+    private final Map<String, CompletableFuture<?>> preloaded = new ConcurrentHashMap<>();
+    private final List<Runnable> progressListeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger submitted = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final StartupTimeline timeline;
+
+    public AssetLoader(int threads) {
+        this(threads, StartupTimeline.getDefault());
+    }
+
+    public AssetLoader(int threads, StartupTimeline timeline) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "AssetLoader-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.pool.allowCoreThreadTimeOut(true);
+        this.timeline = timeline;
+    }
+
+    public static AssetLoader getDefault() {
+        return defaultLoader;
+    }
+
+    /**
+     * Starts loading an asset in the background; a second preload of the same name is ignored
+     */
+    public <T> CompletableFuture<T> preload(String name, Supplier<T> task) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<T> future = (CompletableFuture<T>) preloaded.computeIfAbsent(name, key -> submit(key, task));
+        return future;
+    }
+
+    /**
+     * The preloaded asset (removed so it's handed out once), or the fallback loaded in the
+     * background when nothing was preloaded under that name
+     */
+    public <T> CompletableFuture<T> claim(String name, Supplier<T> fallback) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<T> future = (CompletableFuture<T>) preloaded.remove(name);
+        return future != null ? future : submit(name, fallback);
+    }
+
+    /**
+     * Synchronous claim: waits for a preloaded asset, or builds it on the calling thread. A
+     * preload that failed is retried here so the caller always gets a value or the real error.
+     */
+    public <T> T take(String name, Supplier<T> fallback) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<T> future = (CompletableFuture<T>) preloaded.remove(name);
+        if (future != null) {
+            try {
+                return future.join();
+            } catch (RuntimeException e) {
+                System.err.println("Preloading " + name + " failed, loading again: " + e.getMessage());
+            }
+        }
+        return fallback.get();
+    }
+
+    private <T> CompletableFuture<T> submit(String name, Supplier<T> task) {
+        submitted.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                return task.get();
+            } finally {
+                timeline.recordTask(name, System.nanoTime() - start, Thread.currentThread().getName());
+                completed.incrementAndGet();
+                for (Runnable listener : progressListeners) {
+                    listener.run();
+                }
+            }
+        }, pool);
+    }
+
+    /**
+     * Called on a loader thread each time a task finishes
+     */
+    public void addProgressListener(Runnable listener) {
+        progressListeners.add(listener);
+    }
+
+    public void removeProgressListener(Runnable listener) {
+        progressListeners.remove(listener);
+    }
+
+    public int getSubmittedCount() {
+        return submitted.get();
+    }
+
+    public int getCompletedCount() {
+        return completed.get();
+    }
+
+    /**
+     * Whether every task submitted so far has finished
+     */
+    public boolean isDone() {
+        return completed.get() >= submitted.get();
+    }
+}
@@ -2,111 +2,105 @@ package com.skillparty.towerblox.utils;
 
 import com.skillparty.towerblox.game.physics.Block;
 import java.awt.Color;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Object pool for Block instances to reduce garbage collection pressure
  * and improve performance in the game
- * 
+ *
+ * Free blocks live on a stack and blocks in use are tracked in an array whose
+ * index is stored on the block itself, so acquire and release are both O(1).
+ *
  * @author joseAlejandro
  */
 public class BlockPool {
-    private final List<Block> availableBlocks;
-    private final List<Block> usedBlocks;
+    private final Block[] freeBlocks;
+    private int freeCount;
+    private final Block[] usedBlocks;
+    private int usedCount;
     private final int maxSize;
-    
+
+    // Statistics
+    private long hits;
+    private long misses;
+
     // Default values for pooled blocks
     private static final double DEFAULT_WIDTH = 80.0;
     private static final double DEFAULT_HEIGHT = 30.0;
     private static final Color DEFAULT_COLOR = new Color(100, 150, 200);
-    
+
     public BlockPool(int initialSize, int maxSize) {
         this.maxSize = maxSize;
-        this.availableBlocks = new ArrayList<>(initialSize);
-        this.usedBlocks = new ArrayList<>();
-        
+        this.freeBlocks = new Block[maxSize];
+        this.usedBlocks = new Block[maxSize];
+
         // Pre-fill pool with blocks using proper constructor
-        for (int i = 0; i < initialSize; i++) {
-            availableBlocks.add(new Block(0, 0, DEFAULT_WIDTH, DEFAULT_HEIGHT, DEFAULT_COLOR));
+        int prefill = Math.min(initialSize, maxSize);
+        for (int i = 0; i < prefill; i++) {
+            freeBlocks[freeCount++] = new Block(0, 0, DEFAULT_WIDTH, DEFAULT_HEIGHT, DEFAULT_COLOR);
         }
     }
-    
+
     /**
      * Acquire a block from the pool
      */
     public Block acquire(double x, double y, double width, double height, Color color) {
-        Block block;
-        
-        if (!availableBlocks.isEmpty()) {
-            block = availableBlocks.remove(availableBlocks.size() - 1);
-            // Reset block properties
-            resetBlock(block, x, y, width, height, color);
-        } else if (usedBlocks.size() < maxSize) {
-            // Create new block with proper constructor
-            block = new Block(x, y, width, height, color);
-        } else {
-            // Pool is full, reuse oldest block
-            block = usedBlocks.remove(0);
-            resetBlock(block, x, y, width, height, color);
-        }
-        
-        usedBlocks.add(block);
-        return block;
+        return acquire(x, y, width, height, color, Block.BlockType.RESIDENTIAL);
     }
-    
+
     /**
      * Acquire a block with block type specified
      */
     public Block acquire(double x, double y, double width, double height, Color color, Block.BlockType blockType) {
         Block block;
-        
-        if (!availableBlocks.isEmpty()) {
-            block = availableBlocks.remove(availableBlocks.size() - 1);
-            // Reset block properties
-            resetBlock(block, x, y, width, height, color);
-            block.setBlockType(blockType);
-        } else if (usedBlocks.size() < maxSize) {
-            // Create new block with proper constructor
+
+        if (freeCount > 0) {
+            block = freeBlocks[--freeCount];
+            freeBlocks[freeCount] = null;
+            block.reinit(x, y, width, height, color, blockType);
+            hits++;
+        } else {
             block = new Block(x, y, width, height, color, blockType);
+            misses++;
+        }
+
+        // Track it while there is room; untracked blocks are simply left to the GC
+        if (usedCount < maxSize) {
+            usedBlocks[usedCount] = block;
+            block.setPoolSlot(usedCount);
+            usedCount++;
         } else {
-            // Pool is full, reuse oldest block
-            block = usedBlocks.remove(0);
-            resetBlock(block, x, y, width, height, color);
-            block.setBlockType(blockType);
+            block.setPoolSlot(-1);
         }
-        
-        usedBlocks.add(block);
+
         return block;
     }
-    
-    /**
-     * Reset a block's properties for reuse
-     */
-    private void resetBlock(Block block, double x, double y, double width, double height, Color color) {
-        block.setX(x);
-        block.setY(y);
-        block.setColor(color);
-        // Reset velocities to zero
-        block.setVelocityX(0);
-        block.setVelocityY(0);
-        // Note: width and height don't have setters in Block class, so we work with current dimensions
-    }
-    
+
     /**
-     * Release a block back to the pool
+     * Release a block back to the pool. Blocks this pool is not tracking
+     * (already released, or acquired while the pool was full) are ignored.
      */
     public void release(Block block) {
-        if (block != null && usedBlocks.remove(block)) {
-            // Clean up the block state
-            cleanupBlock(block);
-            
-            if (availableBlocks.size() < maxSize) {
-                availableBlocks.add(block);
-            }
+        if (block == null) return;
+
+        int slot = block.getPoolSlot();
+        if (slot < 0 || slot >= usedCount || usedBlocks[slot] != block) {
+            return;
+        }
+
+        // Swap-remove: move the last used block into the freed slot
+        Block last = usedBlocks[--usedCount];
+        usedBlocks[slot] = last;
+        last.setPoolSlot(slot);
+        usedBlocks[usedCount] = null;
+        block.setPoolSlot(-1);
+
+        cleanupBlock(block);
+
+        if (freeCount < maxSize) {
+            freeBlocks[freeCount++] = block;
         }
     }
-    
+
     /**
      * Clean up a block's state when returning to pool
      */
@@ -118,37 +112,58 @@ public class BlockPool {
         block.setY(0);
         block.setColor(DEFAULT_COLOR);
     }
-    
+
     /**
      * Clear all blocks from the pool
      */
     public void clear() {
-        for (Block block : usedBlocks) {
-            cleanupBlock(block);
+        for (int i = 0; i < usedCount; i++) {
+            usedBlocks[i].setPoolSlot(-1);
+            cleanupBlock(usedBlocks[i]);
+            usedBlocks[i] = null;
+        }
+        for (int i = 0; i < freeCount; i++) {
+            freeBlocks[i] = null;
         }
-        usedBlocks.clear();
-        availableBlocks.clear();
+        usedCount = 0;
+        freeCount = 0;
     }
-    
+
     /**
      * Get pool statistics
      */
     public int getAvailableCount() {
-        return availableBlocks.size();
+        return freeCount;
     }
-    
+
     public int getUsedCount() {
-        return usedBlocks.size();
+        return usedCount;
     }
-    
+
     public int getTotalCount() {
-        return availableBlocks.size() + usedBlocks.size();
+        return freeCount + usedCount;
+    }
+
+    public long getHitCount() {
+        return hits;
+    }
+
+    public long getMissCount() {
+        return misses;
     }
-    
+
+    /**
+     * Fraction of acquisitions served from the free list (0-1)
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total > 0 ? (double) hits / total : 0.0;
+    }
+
     /**
-     * Check if pool is running low on available blocks
+     * Check if pool is running low on capacity (new acquisitions will soon go untracked)
      */
     public boolean isLow() {
-        return availableBlocks.size() < maxSize * 0.2; // Less than 20% available
+        return maxSize - usedCount < maxSize * 0.2; // Less than 20% available
     }
 }
@@ -0,0 +1,96 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.performance.StartupTimeline;
+import com.skillparty.towerblox.utils.AssetLoader;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for parallel asset preloading and the startup timeline
+ */
+public class AssetLoaderTest {
+
+    @Test
+    public void testPreloadsRunConcurrently() throws Exception {
+        AssetLoader loader = new AssetLoader(2, new StartupTimeline());
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        for (String name : new String[] {"a", "b"}) {
+            loader.preload(name, () -> {
+                bothStarted.countDown();
+                try {
+                    // Only completes if the other task is running at the same time
+                    return bothStarted.await(5, TimeUnit.SECONDS) ? name : null;
+                } catch (InterruptedException e) {
+                    return null;
+                }
+            });
+        }
+
+        assertEquals("a", loader.take("a", () -> "fallback"));
+        assertEquals("b", loader.take("b", () -> "fallback"));
+    }
+
+    @Test
+    public void testTakeUsesPreloadOnceThenFallback() {
+        AssetLoader loader = new AssetLoader(1, new StartupTimeline());
+        AtomicInteger loads = new AtomicInteger();
+        loader.preload("scores", loads::incrementAndGet);
+        loader.preload("scores", loads::incrementAndGet); // Ignored: already loading
+
+        assertEquals(Integer.valueOf(1), loader.take("scores", () -> -1));
+        assertEquals(Integer.valueOf(-1), loader.take("scores", () -> -1));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testFailedPreloadFallsBackToCaller() {
+        AssetLoader loader = new AssetLoader(1, new StartupTimeline());
+        loader.preload("image", () -> {
+            throw new IllegalStateException("corrupt file");
+        });
+
+        assertEquals("retried", loader.take("image", () -> "retried"));
+    }
+
+    @Test
+    public void testProgressCountsAndListeners() throws Exception {
+        AssetLoader loader = new AssetLoader(2, new StartupTimeline());
+        CountDownLatch finished = new CountDownLatch(3);
+        loader.addProgressListener(finished::countDown);
+
+        loader.preload("one", () -> 1);
+        loader.preload("two", () -> 2);
+        loader.claim("three", () -> 3).get(5, TimeUnit.SECONDS);
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(3, loader.getSubmittedCount());
+        assertEquals(3, loader.getCompletedCount());
+        assertTrue(loader.isDone());
+    }
+
+    @Test
+    public void testTimelineRecordsMilestonesOnce() {
+        StartupTimeline timeline = new StartupTimeline();
+        assertFalse(timeline.hasMark(StartupTimeline.MENU));
+        assertEquals(-1, timeline.getMarkMillis(StartupTimeline.MENU), 0);
+
+        assertTrue(timeline.mark(StartupTimeline.MENU));
+        double first = timeline.getMarkMillis(StartupTimeline.MENU);
+        assertFalse(timeline.mark(StartupTimeline.MENU));
+        assertEquals(first, timeline.getMarkMillis(StartupTimeline.MENU), 0);
+
+        assertTrue(timeline.mark(StartupTimeline.FIRST_GAME_FRAME));
+        assertFalse(timeline.mark(StartupTimeline.FIRST_GAME_FRAME));
+        assertTrue(timeline.getMarkMillis(StartupTimeline.FIRST_GAME_FRAME) >= first);
+
+        timeline.recordTask("fonts", 2_500_000, "AssetLoader-1");
+        String summary = timeline.getSummary();
+        assertTrue(summary.contains(StartupTimeline.MENU));
+        assertTrue(summary.contains("fonts 2.5 ms (AssetLoader-1)"));
+    }
+}
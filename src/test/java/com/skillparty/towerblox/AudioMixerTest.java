@@ -0,0 +1,111 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.audio.AudioMixer;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the software mixer, driven block by block without an audio device
+ */
+public class AudioMixerTest {
+
+    private static final int FRAMES = 64;
+
+    private static short[] constant(short value, int length) {
+        short[] pcm = new short[length];
+        Arrays.fill(pcm, value);
+        return pcm;
+    }
+
+    private static short sampleAt(byte[] block, int frame) {
+        return (short) ((block[frame * 2] & 0xFF) | (block[frame * 2 + 1] << 8));
+    }
+
+    @Test
+    public void testOverlappingSoundsMixInsteadOfRestarting() {
+        AudioMixer mixer = new AudioMixer(2, 4);
+        mixer.setSound(0, constant((short) 1000, FRAMES * 2));
+        mixer.setSound(1, constant((short) 500, FRAMES));
+        byte[] block = new byte[FRAMES * 2];
+
+        assertTrue(mixer.play(0, 1.0f));
+        assertTrue(mixer.play(1, 0.5f));
+        assertEquals(1, mixer.mixBlock(block, FRAMES)); // The shorter sound ends within the block
+        assertEquals(1250, sampleAt(block, 0));
+        assertEquals(1250, sampleAt(block, FRAMES - 1));
+
+        assertEquals(0, mixer.mixBlock(block, FRAMES));
+        assertEquals(1000, sampleAt(block, 0));
+
+        mixer.mixBlock(block, FRAMES);
+        assertEquals(0, sampleAt(block, 0));
+    }
+
+    @Test
+    public void testLimiterPreventsClippingWraparound() {
+        AudioMixer mixer = new AudioMixer(1, 4);
+        mixer.setSound(0, constant((short) 30000, FRAMES));
+        byte[] block = new byte[FRAMES * 2];
+
+        mixer.play(0, 1.0f);
+        mixer.play(0, 1.0f);
+        mixer.play(0, 1.0f);
+        mixer.mixBlock(block, FRAMES);
+
+        for (int i = 0; i < FRAMES; i++) {
+            short sample = sampleAt(block, i);
+            assertTrue("Sample " + i + " wrapped: " + sample, sample > 30000);
+        }
+    }
+
+    @Test
+    public void testOldestVoiceIsStolenWhenPoolIsFull() {
+        AudioMixer mixer = new AudioMixer(3, 2);
+        mixer.setSound(0, constant((short) 100, FRAMES * 4));
+        mixer.setSound(1, constant((short) 200, FRAMES * 4));
+        mixer.setSound(2, constant((short) 400, FRAMES * 4));
+        byte[] block = new byte[FRAMES * 2];
+
+        mixer.play(0, 1.0f);
+        mixer.play(1, 1.0f);
+        mixer.play(2, 1.0f);
+        assertEquals(2, mixer.mixBlock(block, FRAMES));
+        assertEquals(1, mixer.getStolenVoices());
+        assertEquals(600, sampleAt(block, 0)); // The first sound made room
+    }
+
+    @Test
+    public void testStopAllSilencesEveryVoice() {
+        AudioMixer mixer = new AudioMixer(1, 4);
+        mixer.setSound(0, constant((short) 1000, FRAMES * 4));
+        byte[] block = new byte[FRAMES * 2];
+
+        mixer.play(0, 1.0f);
+        mixer.mixBlock(block, FRAMES);
+        mixer.stopAll();
+        assertEquals(0, mixer.mixBlock(block, FRAMES));
+        assertEquals(0, sampleAt(block, 0));
+    }
+
+    @Test
+    public void testFullQueueDropsWithoutBlocking() {
+        AudioMixer mixer = new AudioMixer(1, 4);
+        mixer.setSound(0, constant((short) 1, 1));
+
+        int accepted = 0;
+        for (int i = 0; i < 100; i++) {
+            if (mixer.play(0, 1.0f)) {
+                accepted++;
+            }
+        }
+        assertEquals(64, accepted);
+        assertEquals(36, mixer.getDroppedCommands());
+        assertFalse("Unknown sounds are rejected", mixer.play(5, 1.0f));
+
+        mixer.mixBlock(new byte[FRAMES * 2], FRAMES);
+        assertTrue("Draining frees the queue", mixer.play(0, 1.0f));
+    }
+}
@@ -0,0 +1,116 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.game.physics.Block;
+import com.skillparty.towerblox.game.physics.Tower;
+import com.skillparty.towerblox.utils.BlockPool;
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+import java.awt.Color;
+
+/**
+ * Unit tests for BlockPool reuse and Block reinitialization
+ */
+public class BlockPoolTest {
+    private BlockPool pool;
+    private static final double DELTA = 0.001;
+
+    @Before
+    public void setUp() {
+        pool = new BlockPool(2, 4);
+    }
+
+    @Test
+    public void testAcquireReusesReleasedBlock() {
+        Block first = pool.acquire(10, 20, 50, 30, Color.RED);
+        pool.release(first);
+        Block second = pool.acquire(30, 40, 60, 35, Color.GREEN, Block.BlockType.STEEL);
+
+        assertSame(first, second);
+        assertEquals(30.0, second.getX(), DELTA);
+        assertEquals(40.0, second.getY(), DELTA);
+        assertEquals(60.0, second.getWidth(), DELTA);
+        assertEquals(Color.GREEN, second.getColor());
+        assertEquals(Block.BlockType.STEEL, second.getBlockType());
+    }
+
+    @Test
+    public void testBlocksFallingOffTheTowerReturnToPool() {
+        Tower tower = new Tower(800, 550);
+        tower.setRemovedBlockHandler(pool::release);
+        Block kept = pool.acquire(100, 520, 50, 30, Color.RED);
+        Block lost = pool.acquire(100, 490, 50, 30, Color.RED);
+        tower.addBlock(kept);
+        tower.addBlock(lost);
+
+        lost.setX(900); // Slid off the right edge
+        tower.update(16);
+
+        assertEquals(1, tower.getHeight());
+        assertEquals(1, pool.getUsedCount());
+        assertSame(lost, pool.acquire(0, 0, 50, 30, Color.BLUE));
+    }
+
+    @Test
+    public void testHitAndMissCounting() {
+        pool.acquire(0, 0, 50, 30, Color.RED);
+        pool.acquire(0, 0, 50, 30, Color.RED);
+        pool.acquire(0, 0, 50, 30, Color.RED); // Prefill exhausted
+
+        assertEquals(2, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+        assertEquals(2.0 / 3.0, pool.getHitRate(), DELTA);
+        assertEquals(3, pool.getUsedCount());
+        assertEquals(0, pool.getAvailableCount());
+    }
+
+    @Test
+    public void testDoubleReleaseIsIgnored() {
+        Block a = pool.acquire(0, 0, 50, 30, Color.RED);
+        Block b = pool.acquire(0, 0, 50, 30, Color.RED);
+
+        pool.release(a);
+        pool.release(a);
+
+        assertEquals(1, pool.getUsedCount());
+        assertEquals(1, pool.getAvailableCount());
+
+        // The remaining block must still be releasable after the swap-remove
+        pool.release(b);
+        assertEquals(0, pool.getUsedCount());
+        assertEquals(2, pool.getAvailableCount());
+    }
+
+    @Test
+    public void testFullPoolHandsOutUntrackedBlocks() {
+        Block[] held = new Block[4];
+        for (int i = 0; i < held.length; i++) {
+            held[i] = pool.acquire(0, 0, 50, 30, Color.RED);
+        }
+        Block extra = pool.acquire(0, 0, 50, 30, Color.RED);
+
+        assertEquals(-1, extra.getPoolSlot());
+        assertTrue(pool.isLow());
+        for (Block block : held) {
+            assertNotSame(block, extra);
+        }
+
+        pool.release(extra);
+        assertEquals(4, pool.getUsedCount());
+    }
+
+    @Test
+    public void testReinitClearsDropState() {
+        Block block = pool.acquire(100, 100, 50, 30, Color.BLUE);
+        block.drop();
+        block.setVelocityY(12);
+        block.makeStable();
+        pool.release(block);
+
+        Block reused = pool.acquire(200, 50, 80, 35, Color.ORANGE);
+        assertSame(block, reused);
+        assertFalse(reused.isDropped());
+        assertFalse(reused.isStable());
+        assertEquals(0.0, reused.getVelocityY(), DELTA);
+    }
+}
@@ -1,5 +1,7 @@
 package com.skillparty.towerblox;
 
+import com.skillparty.towerblox.core.GameClock;
+import com.skillparty.towerblox.effects.BlockDropAnimation;
 import com.skillparty.towerblox.game.physics.Block;
 import org.junit.Test;
 import org.junit.Before;
@@ -113,4 +115,44 @@ public class BlockTest {
         // Velocity should decrease due to friction
         assertTrue(block.getVelocityX() < initialVelocityX);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSettleReleasesDropAnimation() {
+        GameClock.ManualTimeSource time = new GameClock.ManualTimeSource();
+        GameClock previous = GameClock.getDefault();
+        GameClock.setDefault(new GameClock(time));
+        try {
+            block.drop();
+            block.makeStable();
+            block.triggerImpactSquash();
+            assertFalse(block.isSettled());
+
+            // Squash still playing: transient state is kept
+            time.advanceMillis(100);
+            block.update();
+            assertFalse(block.isSettled());
+
+            time.advanceMillis(100);
+            int pooledBefore = BlockDropAnimation.getPooledAnimationCount();
+            block.update();
+
+            assertTrue(block.isSettled());
+            assertTrue(BlockDropAnimation.getPooledAnimationCount() >= Math.min(pooledBefore + 1, 8));
+        } finally {
+            GameClock.setDefault(previous);
+        }
+    }
+
+    @Test
+    public void testDropReusesPooledAnimation() {
+        block.drop();
+        block.settle();
+        int pooled = BlockDropAnimation.getPooledAnimationCount();
+        assertTrue(pooled > 0);
+
+        Block next = new Block(0, 0, 50, 30, Color.RED);
+        next.drop();
+        assertEquals(pooled - 1, BlockDropAnimation.getPooledAnimationCount());
+        assertFalse(next.isSettled());
+    }
+}
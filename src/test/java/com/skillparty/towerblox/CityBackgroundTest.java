@@ -0,0 +1,68 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.ui.components.CityBackground;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Unit tests for the cached parallax city background
+ */
+public class CityBackgroundTest {
+    private static final int WIDTH = 1280;
+    private static final int HEIGHT = 720;
+
+    private BufferedImage render(CityBackground background, int towerHeight, double cameraY) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        background.render(g2d, towerHeight, cameraY);
+        g2d.dispose();
+        return image;
+    }
+
+    @Test
+    public void testSkyGradientFollowsTowerHeight() {
+        CityBackground background = new CityBackground(WIDTH, HEIGHT, 600);
+        background.setOptionalLayers(0);
+
+        BufferedImage day = render(background, 0, 0);
+        assertEquals(new Color(135, 206, 250).getRGB(), day.getRGB(WIDTH - 1, 0));
+
+        // Deep space is reached at height 100 and stays the same beyond it
+        BufferedImage space = render(background, 100, 5000);
+        assertEquals(new Color(5, 5, 20).getRGB(), space.getRGB(0, 0));
+        assertEquals(space.getRGB(WIDTH / 2, HEIGHT / 2), render(background, 500, 5000).getRGB(WIDTH / 2, HEIGHT / 2));
+    }
+
+    @Test
+    public void testLayersAreDeterministic() {
+        CityBackground background = new CityBackground(WIDTH, HEIGHT, 600);
+        BufferedImage ground = render(background, 0, 0);
+        assertEquals(new Color(34, 139, 34).getRGB(), ground.getRGB(WIDTH / 2, HEIGHT - 1));
+
+        // The procedural sky is seeded: another background shows exactly the same clouds
+        BufferedImage high = render(background, 20, 3_000);
+        BufferedImage same = render(new CityBackground(WIDTH, HEIGHT, 600), 20, 3_000);
+        for (int y = 0; y < HEIGHT; y += 8) {
+            for (int x = 0; x < WIDTH; x += 8) {
+                assertEquals(high.getRGB(x, y), same.getRGB(x, y));
+            }
+        }
+
+        // Without optional layers the clouds are gone
+        background.setOptionalLayers(0);
+        BufferedImage bare = render(background, 20, 3_000);
+        background.setOptionalLayers(CityBackground.MAX_LAYERS);
+        assertEquals(CityBackground.MAX_LAYERS, background.getOptionalLayers());
+        boolean differs = false;
+        for (int y = 0; y < HEIGHT && !differs; y += 4) {
+            for (int x = 0; x < WIDTH && !differs; x += 4) {
+                differs = bare.getRGB(x, y) != high.getRGB(x, y);
+            }
+        }
+        assertTrue(differs);
+    }
+}
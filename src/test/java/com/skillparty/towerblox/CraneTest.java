@@ -6,6 +6,8 @@ import org.junit.Test;
 import org.junit.Before;
 import static org.junit.Assert.*;
 import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 
 /**
  * Unit tests for Crane class
@@ -30,6 +32,33 @@ public class CraneTest {
         assertTrue(crane.isReadyForNewBlock());
     }
 
+    @Test
+    public void testInterpolatedRenderLeavesModelAlone() {
+        Block block = new Block(0, 0, 60, 40, Color.BLUE, Block.BlockType.RESIDENTIAL);
+        crane.setCurrentBlock(block);
+        double prevX = crane.getX();
+        crane.update(200); // One long step: the trolley moves 80 px
+        double simX = crane.getX();
+        double simBlockX = block.getX();
+        assertEquals(prevX + 80, simX, 1.0);
+
+        BufferedImage image = new BufferedImage(GAME_WIDTH, 300, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        crane.render(g2d, 0.0);
+        g2d.dispose();
+
+        // Drawn at the previous step, while the simulation never saw a shifted position
+        assertTrue("Trolley drawn at the previous X", isTrolleyRed(image.getRGB((int) prevX, 50)));
+        assertFalse("Nothing drawn at the current X yet", isTrolleyRed(image.getRGB((int) simX, 50)));
+        assertEquals(simX, crane.getX(), DELTA);
+        assertEquals(simBlockX, block.getX(), DELTA);
+    }
+
+    private static boolean isTrolleyRed(int rgb) {
+        Color color = new Color(rgb);
+        return color.getRed() > 100 && color.getGreen() < 80;
+    }
+
     @Test
     public void testMovement() {
         double initialX = crane.getX();
@@ -246,4 +275,24 @@ public class CraneTest {
         
         assertTrue(crane.isReadyForNewBlock()); // Should be ready after dropping
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testRewindMatchesPastPosition() {
+        double startX = crane.getX();
+        crane.update(50);
+
+        assertEquals(startX, crane.getXAt(-0.05), DELTA);
+        assertEquals(crane.getX(), crane.getXAt(0), DELTA);
+    }
+
+    @Test
+    public void testGetXAtReflectsAtBounds() {
+        double maxX = crane.getCenterX() + crane.getSwingRange();
+        crane.setX(maxX - 10);
+        assertTrue(crane.isMovingRight());
+
+        // 10 px to the edge and 10 px back
+        double seconds = 20.0 / crane.getHorizontalVelocity();
+        assertEquals(maxX - 10, crane.getXAt(seconds), DELTA);
+    }
+}
@@ -0,0 +1,93 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.game.physics.Block;
+import com.skillparty.towerblox.game.physics.Crane;
+import com.skillparty.towerblox.game.physics.CraneTrajectoryPredictor;
+import com.skillparty.towerblox.game.physics.Tower;
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+import java.awt.Color;
+
+/**
+ * Unit tests for CraneTrajectoryPredictor class
+ */
+public class CraneTrajectoryPredictorTest {
+    private static final int GAME_WIDTH = 1280;
+    private static final int GROUND_LEVEL = 670;
+    private static final double DELTA = 0.5;
+
+    private Crane crane;
+    private Tower tower;
+    private CraneTrajectoryPredictor predictor;
+
+    @Before
+    public void setUp() {
+        crane = new Crane(GAME_WIDTH / 2, 50, GAME_WIDTH);
+        tower = new Tower(GAME_WIDTH, GROUND_LEVEL);
+        predictor = new CraneTrajectoryPredictor();
+        predictor.refresh(crane, tower, GROUND_LEVEL);
+    }
+
+    @Test
+    public void testPredictionMatchesCranePosition() {
+        for (int i = 0; i < 200; i++) {
+            crane.update(16);
+            assertEquals(crane.getX(), predictor.predictLandingCenterX(crane), DELTA);
+        }
+    }
+
+    @Test
+    public void testOnlyRebuiltOnChange() {
+        int rebuilds = predictor.getRebuildCount();
+
+        crane.update(16);
+        assertFalse(predictor.refresh(crane, tower, GROUND_LEVEL));
+        assertEquals(rebuilds, predictor.getRebuildCount());
+
+        crane.setSpeed(crane.getSpeed() + 1.0);
+        assertTrue(predictor.refresh(crane, tower, GROUND_LEVEL));
+
+        crane.updateSwingRange(40);
+        assertTrue(predictor.refresh(crane, tower, GROUND_LEVEL));
+
+        tower.addBlock(new Block(600, GROUND_LEVEL - 40, 100, 40, Color.GRAY, Block.BlockType.FOUNDATION));
+        assertTrue(predictor.refresh(crane, tower, GROUND_LEVEL));
+        assertEquals(rebuilds + 3, predictor.getRebuildCount());
+    }
+
+    @Test
+    public void testOffsetRelativeToTowerTop() {
+        tower.addBlock(new Block(560, GROUND_LEVEL - 40, 100, 40, Color.GRAY, Block.BlockType.FOUNDATION));
+        predictor.refresh(crane, tower, GROUND_LEVEL);
+
+        assertEquals(610.0, predictor.getTargetCenterX(), 0.001);
+        assertEquals(GROUND_LEVEL - 40, predictor.getLandingSurfaceY(), 0.001);
+        assertEquals(crane.getX() - 610.0, predictor.predictOffset(crane), DELTA);
+    }
+
+    @Test
+    public void testSecondsUntilAligned() {
+        tower.addBlock(new Block(560, GROUND_LEVEL - 40, 100, 40, Color.GRAY, Block.BlockType.FOUNDATION));
+        predictor.refresh(crane, tower, GROUND_LEVEL);
+
+        double wait = predictor.secondsUntilAligned(crane);
+        assertTrue(wait >= 0 && wait <= predictor.getPeriodSeconds());
+
+        long waitMs = Math.round(wait * 1000);
+        for (long t = 0; t < waitMs; t++) {
+            crane.update(1);
+        }
+        assertEquals(predictor.getTargetCenterX(), crane.getX(), 2.0);
+    }
+
+    @Test
+    public void testPeriodMatchesCraneSwing() {
+        assertTrue(predictor.getPeriodSeconds() > 0);
+        assertEquals(crane.getSwingPeriod(), predictor.getPeriodSeconds(), 1e-9);
+
+        double x = crane.getX();
+        assertEquals(x, crane.getXAt(predictor.getPeriodSeconds()), DELTA);
+        assertEquals(x, crane.getXAtPhase(crane.getPhase()), DELTA);
+    }
+}
@@ -0,0 +1,87 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.ui.MenuPanel;
+import com.skillparty.towerblox.ui.components.DamageTracker;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import javax.swing.JPanel;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for dirty-rectangle repainting on the static screens
+ */
+public class DamageTrackerTest {
+
+    /**
+     * Panel that records repaint requests instead of queueing them
+     */
+    private static class RecordingPanel extends JPanel {
+        final List<Rectangle> requests = new ArrayList<>();
+
+        @Override
+        public void repaint(long tm, int x, int y, int width, int height) {
+            if (requests != null) { // JPanel's constructor repaints before fields are set
+                requests.add(new Rectangle(x, y, width, height));
+            }
+        }
+    }
+
+    @Test
+    public void testDamageRepaintsOnlyRegisteredArea() {
+        RecordingPanel panel = new RecordingPanel();
+        DamageTracker damage = new DamageTracker(panel);
+        damage.register("button", new Rectangle(10, 20, 30, 40));
+
+        damage.damage("button");
+        damage.damage("unknown");
+        assertEquals(1, panel.requests.size());
+        assertEquals(new Rectangle(10, 20, 30, 40), panel.requests.get(0));
+        assertEquals(30 * 40, damage.getDamagedPixels());
+
+        BufferedImage image = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setClip(100, 100, 50, 50);
+        assertFalse(damage.needsPaint(g2d, "button"));
+        assertTrue(damage.needsPaint(g2d, "unregistered"));
+        g2d.setClip(0, 0, 15, 25);
+        assertTrue(damage.needsPaint(g2d, "button"));
+        g2d.dispose();
+    }
+
+    @Test
+    public void testMenuSelectionRepaintsTwoButtons() {
+        List<Rectangle> requests = new ArrayList<>();
+        MenuPanel menu = new MenuPanel(null) {
+            @Override
+            public void repaint(long tm, int x, int y, int width, int height) {
+                requests.add(new Rectangle(x, y, width, height));
+            }
+        };
+        menu.setSize(1280, 720);
+        requests.clear();
+
+        menu.keyPressed(new KeyEvent(menu, KeyEvent.KEY_PRESSED, 0, 0, KeyEvent.VK_RIGHT, KeyEvent.CHAR_UNDEFINED));
+        assertEquals(2, requests.size());
+        for (Rectangle area : requests) {
+            assertTrue(area.width * area.height < 1280 * 720 / 20);
+        }
+
+        // A key that doesn't move the selection repaints nothing
+        requests.clear();
+        menu.keyPressed(new KeyEvent(menu, KeyEvent.KEY_PRESSED, 0, 0, KeyEvent.VK_F9, KeyEvent.CHAR_UNDEFINED));
+        assertTrue(requests.isEmpty());
+
+        // Painting the same clip twice reuses the cached backdrop
+        BufferedImage image = new BufferedImage(1280, 720, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        menu.paint(g2d);
+        g2d.dispose();
+        assertNotEquals(0, image.getRGB(640, 10) & 0xFFFFFF);
+    }
+}
@@ -0,0 +1,68 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.core.FramePacer;
+import com.skillparty.towerblox.core.FrameScheduler;
+import com.skillparty.towerblox.core.GameClock;
+import com.skillparty.towerblox.game.GameEngine;
+import com.skillparty.towerblox.performance.EngineMBeans;
+import com.skillparty.towerblox.rendering.RenderingEngine;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Unit tests for the JMX metrics and tuning beans
+ */
+public class EngineMBeansTest {
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    @Test
+    public void testEngineBeansReadAndWrite() throws Exception {
+        GameEngine engine = new GameEngine(null);
+        EngineMBeans.registerEngine(engine);
+
+        ObjectName quality = EngineMBeans.nameOf("Quality");
+        assertEquals("HIGH", server.getAttribute(quality, "QualityLevel"));
+        server.setAttribute(quality, new Attribute("QualityLevel", "low"));
+        assertEquals(RenderingEngine.RenderQuality.LOW, engine.getRenderQuality());
+
+        ObjectName particles = EngineMBeans.nameOf("Particles");
+        server.setAttribute(particles, new Attribute("ParticleCap", 50));
+        assertEquals(50, server.getAttribute(particles, "ParticleCap"));
+        assertEquals(50, engine.getAdvancedFeatures().getParticleSystem().getMaxParticles());
+
+        assertEquals(0, server.getAttribute(EngineMBeans.nameOf("Tower"), "Score"));
+        assertTrue((Integer) server.getAttribute(EngineMBeans.nameOf("Pools"), "BlockPoolCapacity") > 0);
+        TabularData p95 = (TabularData) server.getAttribute(EngineMBeans.nameOf("FramePhases"), "P95Millis");
+        assertFalse(p95.isEmpty());
+        engine.dispose();
+    }
+
+    @Test
+    public void testLoopBeanTunesSchedulerClient() throws Exception {
+        FramePacer pacer = new FramePacer(60);
+        FrameScheduler scheduler = new FrameScheduler(new GameClock());
+        FrameScheduler.Registration client = scheduler.register("Test", 60, () -> true, () -> { });
+        ObjectName loop = EngineMBeans.nameOf("Loop");
+        try {
+            EngineMBeans.registerLoop(() -> 59.5, () -> 12.0, client::getTargetFps, client::setTargetFps, pacer);
+
+            assertEquals(59.5, (Double) server.getAttribute(loop, "CurrentFPS"), 0.001);
+            server.setAttribute(loop, new Attribute("TargetFps", 30));
+            assertEquals(30, client.getTargetFps());
+            assertEquals(30, server.getAttribute(loop, "TargetFps"));
+            assertEquals("The shared pacer belongs to the scheduler", 60, pacer.getTargetFps());
+        } finally {
+            scheduler.shutdown();
+        }
+
+        // Registering again replaces the previous bean instead of failing
+        EngineMBeans.registerLoop(() -> 30.0, () -> 5.0, () -> 30, fps -> { }, pacer);
+        assertEquals(30.0, (Double) server.getAttribute(loop, "CurrentFPS"), 0.001);
+    }
+}
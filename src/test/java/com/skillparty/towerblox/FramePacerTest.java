@@ -0,0 +1,63 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.core.FramePacer;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the frame pacer (absolute deadlines and jitter statistics)
+ */
+public class FramePacerTest {
+
+    @Test
+    public void testPeriodForPresets() {
+        assertEquals(33_333_333L, new FramePacer(FramePacer.BATTERY_SAVER_FPS).getPeriodNanos());
+        assertEquals(16_666_666L, new FramePacer(FramePacer.STANDARD_FPS).getPeriodNanos());
+        assertEquals(8_333_333L, new FramePacer(FramePacer.HIGH_REFRESH_FPS).getPeriodNanos());
+        assertEquals(6_944_444L, new FramePacer(FramePacer.GAMING_FPS).getPeriodNanos());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFpsRejected() {
+        new FramePacer(0);
+    }
+
+    @Test
+    public void testPacesAtTargetRate() throws InterruptedException {
+        FramePacer pacer = new FramePacer(FramePacer.HIGH_REFRESH_FPS);
+        int frames = 30;
+
+        long start = pacer.awaitNextFrame();
+        long end = start;
+        for (int i = 0; i < frames; i++) {
+            end = pacer.awaitNextFrame();
+        }
+
+        // Deadlines are absolute, so the run can never finish early
+        long expected = frames * 1_000_000_000L / FramePacer.HIGH_REFRESH_FPS;
+        assertTrue("Finished early: " + (end - start), end - start >= expected);
+        assertTrue("Far too slow: " + (end - start), end - start < expected * 3);
+        assertEquals(frames, pacer.getFrameCount());
+        assertTrue(pacer.getAverageJitterNanos() >= 0);
+        assertTrue(pacer.getMaxJitterNanos() >= pacer.getLastJitterNanos());
+    }
+
+    @Test
+    public void testOverrunIsCountedAsMissed() throws InterruptedException {
+        FramePacer pacer = new FramePacer(FramePacer.GAMING_FPS);
+        pacer.awaitNextFrame();
+
+        // Stall for several periods, the next frame should skip ahead instead of bursting
+        Thread.sleep(60);
+        pacer.awaitNextFrame();
+        long afterStall = pacer.awaitNextFrame();
+
+        assertTrue(pacer.getMissedFrames() >= 1);
+        assertEquals(2, pacer.getFrameCount());
+        assertTrue(afterStall > 0);
+
+        pacer.resetStats();
+        assertEquals(0, pacer.getFrameCount());
+        assertEquals(0, pacer.getMissedFrames());
+    }
+}
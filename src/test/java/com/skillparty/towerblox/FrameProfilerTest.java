@@ -0,0 +1,86 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.core.GameClock;
+import com.skillparty.towerblox.performance.FrameProfiler;
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for per-phase frame timing
+ */
+public class FrameProfilerTest {
+    private GameClock.ManualTimeSource time;
+    private FrameProfiler profiler;
+
+    @Before
+    public void setUp() {
+        time = new GameClock.ManualTimeSource();
+        profiler = new FrameProfiler(new GameClock(time));
+    }
+
+    @Test
+    public void testLapsChainPhases() {
+        long t = profiler.start();
+        time.advanceMillis(2);
+        t = profiler.lap(FrameProfiler.Phase.CRANE, t);
+        time.advanceMillis(5);
+        profiler.lap(FrameProfiler.Phase.TOWER, t);
+
+        FrameProfiler.Snapshot snapshot = profiler.snapshot();
+        assertEquals(1, snapshot.getCount(FrameProfiler.Phase.CRANE));
+        assertEquals(2.0, snapshot.getMaxMillis(FrameProfiler.Phase.CRANE), 0.001);
+        assertEquals(5.0, snapshot.getMaxMillis(FrameProfiler.Phase.TOWER), 0.001);
+        assertEquals(0, snapshot.getCount(FrameProfiler.Phase.PAINT));
+    }
+
+    @Test
+    public void testPercentilesPerPhase() {
+        for (int i = 0; i < 99; i++) {
+            profiler.record(FrameProfiler.Phase.PAINT, 1_000_000L);
+        }
+        profiler.record(FrameProfiler.Phase.PAINT, 40_000_000L); // One hitch
+
+        FrameProfiler.Snapshot snapshot = profiler.snapshot();
+        assertEquals(1.0, snapshot.getP50Millis(FrameProfiler.Phase.PAINT), 0.05);
+        assertEquals(1.0, snapshot.getP95Millis(FrameProfiler.Phase.PAINT), 0.05);
+        assertEquals(40.0, snapshot.getMaxMillis(FrameProfiler.Phase.PAINT), 0.001);
+    }
+
+    @Test
+    public void testWindowedReset() {
+        profiler.record(FrameProfiler.Phase.HUD, 3_000_000L);
+        time.advanceMillis(1000);
+
+        FrameProfiler.Snapshot first = profiler.snapshotAndReset();
+        assertEquals(1, first.getCount(FrameProfiler.Phase.HUD));
+        assertEquals(1.0, first.getWindowSeconds(), 0.001);
+
+        // The snapshot is a copy: later samples and resets don't change it
+        profiler.record(FrameProfiler.Phase.HUD, 1_000_000L);
+        FrameProfiler.Snapshot second = profiler.snapshot();
+        assertEquals(1, first.getCount(FrameProfiler.Phase.HUD));
+        assertEquals(3.0, first.getMaxMillis(FrameProfiler.Phase.HUD), 0.001);
+        assertEquals(1, second.getCount(FrameProfiler.Phase.HUD));
+        assertEquals(1.0, second.getMaxMillis(FrameProfiler.Phase.HUD), 0.001);
+        assertEquals(FrameProfiler.Phase.values().length + 1, second.toLines().length);
+    }
+
+    @Test
+    public void testTotalsSurviveWindowResets() {
+        profiler.record(FrameProfiler.Phase.PAINT, 2_000_000L);
+        time.advanceMillis(1000);
+        profiler.snapshotAndReset(); // What the overlay does every second
+        profiler.record(FrameProfiler.Phase.PAINT, 4_000_000L);
+        time.advanceMillis(1000);
+        profiler.snapshotAndReset();
+
+        FrameProfiler.Snapshot totals = profiler.snapshotTotals();
+        assertEquals(2, totals.getCount(FrameProfiler.Phase.PAINT));
+        assertEquals(4.0, totals.getMaxMillis(FrameProfiler.Phase.PAINT), 0.001);
+        assertEquals(2.0, totals.getWindowSeconds(), 0.001);
+
+        profiler.resetTotals();
+        assertEquals(0, profiler.snapshotTotals().getCount(FrameProfiler.Phase.PAINT));
+    }
+}
@@ -0,0 +1,127 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.core.FramePacer;
+import com.skillparty.towerblox.core.FrameScheduler;
+import com.skillparty.towerblox.core.GameClock;
+import org.junit.After;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the shared frame scheduler (idle clients, suspension, delayed tasks)
+ */
+public class FrameSchedulerTest {
+
+    private final FrameScheduler scheduler = new FrameScheduler(GameClock.getDefault());
+
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testIdleClientsStopAllWakeups() throws InterruptedException {
+        AtomicBoolean idle = new AtomicBoolean(false);
+        AtomicInteger ticks = new AtomicInteger();
+        FrameScheduler.Registration client = scheduler.register("test", FramePacer.HIGH_REFRESH_FPS,
+                idle::get, ticks::incrementAndGet);
+
+        Thread.sleep(100);
+        assertTrue("Active client should tick", ticks.get() > 3);
+
+        // Idle: after the linger time the thread sleeps with no periodic wakeups at all
+        idle.set(true);
+        Thread.sleep(400);
+        long wakeups = scheduler.getWakeups();
+        int idleTicks = ticks.get();
+        Thread.sleep(200);
+        assertEquals(wakeups, scheduler.getWakeups());
+        assertEquals(idleTicks, ticks.get());
+        assertTrue(scheduler.getIdleSleeps() >= 1);
+
+        // Waking resumes immediately
+        idle.set(false);
+        client.wake();
+        Thread.sleep(50);
+        assertTrue(ticks.get() > idleTicks);
+        assertEquals(ticks.get(), client.getFrameCount());
+    }
+
+    @Test
+    public void testDefaultSchedulerIgnoresAManualDefaultClock() throws Exception {
+        // A fresh copy of the core classes, so the manual clock is installed before FrameScheduler loads
+        URL classes = FrameScheduler.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classes}, null)) {
+            Class<?> clockClass = loader.loadClass(GameClock.class.getName());
+            Class<?> manualClass = loader.loadClass(GameClock.ManualTimeSource.class.getName());
+            Object manualClock = clockClass.getConstructor(LongSupplier.class)
+                    .newInstance(manualClass.getConstructor().newInstance());
+            clockClass.getMethod("setDefault", clockClass).invoke(null, manualClock);
+
+            // Frozen time must not stall the shared scheduler's delayed tasks
+            CountDownLatch ran = new CountDownLatch(1);
+            Class<?> schedulerClass = loader.loadClass(FrameScheduler.class.getName());
+            Object scheduler = schedulerClass.getMethod("getDefault").invoke(null);
+            schedulerClass.getMethod("schedule", long.class, Runnable.class).invoke(scheduler, 10L, (Runnable) ran::countDown);
+            try {
+                assertTrue(ran.await(2, TimeUnit.SECONDS));
+            } finally {
+                schedulerClass.getMethod("shutdown").invoke(scheduler);
+            }
+        }
+    }
+
+    @Test
+    public void testSuspendedSchedulerTicksNothing() throws InterruptedException {
+        AtomicInteger ticks = new AtomicInteger();
+        scheduler.register("test", FramePacer.STANDARD_FPS, () -> false, ticks::incrementAndGet);
+        scheduler.setSuspended(true);
+        Thread.sleep(50);
+
+        int suspendedTicks = ticks.get();
+        Thread.sleep(100);
+        assertEquals(suspendedTicks, ticks.get());
+
+        scheduler.setSuspended(false);
+        Thread.sleep(100);
+        assertTrue(ticks.get() > suspendedTicks);
+    }
+
+    @Test
+    public void testSlowerClientTicksAtItsOwnRate() throws InterruptedException {
+        AtomicInteger fast = new AtomicInteger();
+        AtomicInteger slow = new AtomicInteger();
+        scheduler.register("fast", FramePacer.HIGH_REFRESH_FPS, () -> false, fast::incrementAndGet);
+        scheduler.register("slow", FramePacer.BATTERY_SAVER_FPS, () -> false, slow::incrementAndGet);
+
+        Thread.sleep(300);
+        assertTrue("Slow client ran too often: " + slow.get() + " vs " + fast.get(), slow.get() * 2 < fast.get());
+        assertTrue(slow.get() > 0);
+        assertEquals(FramePacer.HIGH_REFRESH_FPS, scheduler.getFramePacer().getTargetFps());
+    }
+
+    @Test
+    public void testDelayedTaskRunsWithNoClients() throws InterruptedException {
+        CountDownLatch ran = new CountDownLatch(1);
+        long start = System.nanoTime();
+        scheduler.schedule(50, ran::countDown);
+
+        assertTrue(ran.await(1, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(0, scheduler.getClientCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFpsRejected() {
+        scheduler.register("test", 0, () -> false, () -> { });
+    }
+}
@@ -1,5 +1,7 @@
 package com.skillparty.towerblox;
 
+import com.skillparty.towerblox.audio.SoundCache;
+import com.skillparty.towerblox.audio.SoundManager;
 import com.skillparty.towerblox.game.DifficultyLevel;
 import com.skillparty.towerblox.game.GameEngine;
 import com.skillparty.towerblox.game.GameState;
@@ -7,7 +9,9 @@ import com.skillparty.towerblox.game.physics.Block;
 import com.skillparty.towerblox.score.HighScore;
 import com.skillparty.towerblox.ui.components.ASCIILogo;
 import com.skillparty.towerblox.ui.components.FontManager;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.Before;
 import org.junit.After;
 import static org.junit.Assert.*;
@@ -19,7 +23,11 @@ import java.awt.image.BufferedImage;
  * Full system integration test to verify all components work together
  */
 public class FullSystemTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private GameEngine gameEngine;
+    private SoundManager soundManager;
     private FontManager fontManager;
     private ASCIILogo asciiLogo;
 
@@ -28,7 +36,9 @@ public class FullSystemTest {
         // Set headless mode for testing
         System.setProperty("java.awt.headless", "true");
         
-        gameEngine = new GameEngine();
+        // Sounds are synthesized into a temporary cache, never the player's ~/.towerblox
+        soundManager = new SoundManager(new SoundCache(folder.getRoot().toPath()));
+        gameEngine = new GameEngine(soundManager);
         fontManager = FontManager.getInstance();
         asciiLogo = new ASCIILogo();
     }
@@ -36,7 +46,7 @@ public class FullSystemTest {
     @After
     public void tearDown() {
         if (gameEngine != null) {
-            gameEngine.stopEngine();
+            gameEngine.dispose(); // Also disposes soundManager
         }
     }
 
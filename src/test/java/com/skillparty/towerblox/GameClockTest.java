@@ -0,0 +1,71 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.core.GameClock;
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the game clock (pause, resume and time scaling)
+ */
+public class GameClockTest {
+    private GameClock.ManualTimeSource time;
+    private GameClock clock;
+
+    @Before
+    public void setUp() {
+        time = new GameClock.ManualTimeSource();
+        clock = new GameClock(time);
+    }
+
+    @Test
+    public void testAdvancesWithSource() {
+        assertEquals(0, clock.nanoTime());
+        time.advanceMillis(16);
+        assertEquals(16, clock.millis());
+        assertEquals(16_000_000L, clock.realNanoTime());
+    }
+
+    @Test
+    public void testPauseFreezesGameTime() {
+        time.advanceMillis(100);
+        clock.pause();
+        time.advanceMillis(5000);
+
+        assertTrue(clock.isPaused());
+        assertEquals(100, clock.millis());
+
+        clock.resume();
+        time.advanceMillis(50);
+        assertEquals(150, clock.millis());
+    }
+
+    @Test
+    public void testTimeScale() {
+        time.advanceMillis(100);
+        clock.setTimeScale(0.5);
+        time.advanceMillis(100);
+        assertEquals(150, clock.millis());
+
+        clock.setTimeScale(2.0);
+        time.advanceMillis(100);
+        assertEquals(350, clock.millis());
+    }
+
+    @Test
+    public void testTimeScaleWhilePaused() {
+        clock.pause();
+        clock.setTimeScale(3.0);
+        time.advanceMillis(100);
+        assertEquals(0, clock.millis());
+
+        clock.resume();
+        time.advanceMillis(10);
+        assertEquals(30, clock.millis());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeScaleRejected() {
+        clock.setTimeScale(-1.0);
+    }
+}
@@ -1,12 +1,23 @@
 package com.skillparty.towerblox;
 
+import com.skillparty.towerblox.audio.SoundCache;
+import com.skillparty.towerblox.audio.SoundManager;
+import com.skillparty.towerblox.core.GameClock;
 import com.skillparty.towerblox.game.DifficultyLevel;
 import com.skillparty.towerblox.game.GameEngine;
 import com.skillparty.towerblox.game.GameState;
+import com.skillparty.towerblox.game.physics.Block;
+import org.junit.After;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.Before;
+import org.junit.rules.TemporaryFolder;
 import static org.junit.Assert.*;
 
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
 /**
  * Unit tests for GameEngine class
  */
@@ -46,13 +57,44 @@ public class GameEngineTest {
         }
     }
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Before
     public void setUp() {
-        gameEngine = new GameEngine();
+        gameEngine = new GameEngine(null);
         stateListener = new TestGameStateListener();
         gameEngine.setStateListener(stateListener);
     }
 
+    @After
+    public void tearDown() {
+        gameEngine.dispose();
+    }
+
+    @Test
+    public void testDisposeEndsTheAudioThread() throws Exception {
+        int before = countThreads("GameAudio");
+        GameEngine engine = new GameEngine(new SoundManager(new SoundCache(folder.getRoot().toPath())));
+        assertEquals(before + 1, countThreads("GameAudio"));
+
+        engine.dispose();
+        for (int i = 0; i < 200 && countThreads("GameAudio") > before; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals("A disposed engine must not leave its audio thread parked", before, countThreads("GameAudio"));
+    }
+
+    private static int countThreads(String name) {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (name.equals(thread.getName()) && thread.isAlive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     @Test
     public void testInitialState() {
         assertEquals(GameState.MENU, gameEngine.getCurrentState());
@@ -239,4 +281,81 @@ public class GameEngineTest {
         
         assertEquals(GameState.MENU, gameEngine.getCurrentState());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGameLoopRunsFixedStepsAndInterpolates() {
+        GameClock.ManualTimeSource time = new GameClock.ManualTimeSource();
+        GameClock previous = GameClock.getDefault();
+        GameClock.setDefault(new GameClock(time));
+        try {
+            GameEngine engine = new GameEngine(null);
+            engine.startNewGame(DifficultyLevel.NORMAL);
+            engine.gameLoop();
+            double startX = engine.getCrane().getX();
+
+            // Half a step: nothing simulated yet, display halfway to the next step
+            time.advanceMillis(8);
+            engine.gameLoop();
+            assertEquals(startX, engine.getCrane().getX(), 0.001);
+            assertEquals(0.5, engine.getRenderAlpha(), 0.01);
+
+            // Completing the step runs exactly one fixed update
+            time.advanceMillis(8);
+            engine.gameLoop();
+            assertNotEquals(startX, engine.getCrane().getX(), 0.001);
+            assertEquals(0.0, engine.getRenderAlpha(), 0.01);
+            engine.dispose();
+        } finally {
+            GameClock.setDefault(previous);
+        }
+    }
+
+    @Test
+    public void testDropUsesCranePhaseOfKeyPress() {
+        GameClock.ManualTimeSource time = new GameClock.ManualTimeSource();
+        GameClock previous = GameClock.getDefault();
+        GameClock.setDefault(new GameClock(time));
+        try {
+            GameEngine engine = new GameEngine(null);
+            engine.startNewGame(DifficultyLevel.NORMAL);
+            engine.gameLoop();
+            time.advanceMillis(16);
+            engine.gameLoop(); // First step attaches a block to the crane
+
+            // Press 4 ms into the next step; the step itself only runs 12 ms later
+            time.advanceMillis(4);
+            double expectedCenter = engine.getCrane().getXAt(0.004);
+            engine.queueDrop(engine.getClock().nanoTime());
+            assertFalse(engine.getCrane().getCurrentBlock().isDropped());
+
+            time.advanceMillis(12);
+            engine.gameLoop();
+
+            Block block = engine.getCrane().getCurrentBlock();
+            assertTrue(block.isDropped());
+            assertEquals(expectedCenter, block.getX() + block.getWidth() / 2.0, 1.0);
+            assertNotEquals(engine.getCrane().getX(), block.getX() + block.getWidth() / 2.0, 1.0);
+            engine.dispose();
+        } finally {
+            GameClock.setDefault(previous);
+        }
+    }
+
+    @Test
+    public void testSceneFillsDownscaledBuffer() {
+        gameEngine.startNewGame(DifficultyLevel.NORMAL);
+        assertTrue(gameEngine.isSceneVisible());
+
+        // Half-resolution buffer, as used at LOW quality: the world must still cover it all
+        BufferedImage buffer = new BufferedImage(640, 360, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = buffer.createGraphics();
+        g2d.setColor(Color.MAGENTA);
+        g2d.fillRect(0, 0, 640, 360);
+        g2d.scale(0.5, 0.5);
+        gameEngine.renderScene(g2d);
+        g2d.dispose();
+
+        assertNotEquals(Color.MAGENTA.getRGB(), buffer.getRGB(0, 0));
+        assertNotEquals(Color.MAGENTA.getRGB(), buffer.getRGB(639, 359));
+    }
+}
@@ -0,0 +1,109 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.game.GameEngine;
+import com.skillparty.towerblox.performance.FrameProfiler;
+import com.skillparty.towerblox.performance.GameEvents;
+import com.skillparty.towerblox.performance.JitWarmup;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the Flight Recorder gameplay events
+ */
+public class GameEventsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testEventsRecorded() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("game.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(GameEvents.FramePhase.class);
+            recording.enable(GameEvents.BlockLanded.class);
+            recording.enable(GameEvents.GameOver.class);
+            recording.start();
+
+            new FrameProfiler().record(FrameProfiler.Phase.CRANE, 1_500_000L);
+            GameEvents.blockLanded(3, 0.9, "PERFECT", 150);
+            GameEvents.gameOver("Tower collapsed!", 3, 450);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent phase = find(events, "com.skillparty.towerblox.FramePhase");
+        assertEquals("Crane", phase.getString("phase"));
+        assertEquals(1_500_000L, phase.getDuration("phaseDuration").toNanos());
+
+        RecordedEvent landed = find(events, "com.skillparty.towerblox.BlockLanded");
+        assertEquals(3, landed.getInt("floor"));
+        assertEquals("PERFECT", landed.getString("quality"));
+        assertEquals(150, landed.getInt("score"));
+
+        RecordedEvent gameOver = find(events, "com.skillparty.towerblox.GameOver");
+        assertEquals("Tower collapsed!", gameOver.getString("reason"));
+        assertEquals(450, gameOver.getInt("score"));
+    }
+
+    @Test
+    public void testNothingRecordedWhenOff() throws Exception {
+        // Without a recording the helpers must be harmless no-ops
+        GameEvents.particleBurst("dust", 12, 100, 500);
+        GameEvents.framePhase("Paint", 1_000L);
+        assertFalse(new GameEvents.ParticleBurst().isEnabled());
+    }
+
+    @Test
+    public void testWarmupLeavesNoEventsInARecording() throws Exception {
+        AtomicInteger warmupEvents = new AtomicInteger();
+        CountDownLatch sentinelSeen = new CountDownLatch(1);
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(GameEvents.FramePhase.class).withThreshold(Duration.ZERO);
+            stream.enable(GameEvents.ParticleBurst.class).withThreshold(Duration.ZERO);
+            stream.onEvent(event -> {
+                if (event.getThread() != null && "JitWarmup".equals(event.getThread().getJavaName())) {
+                    warmupEvents.incrementAndGet();
+                } else if (event.getEventType().getName().endsWith("FramePhase")
+                        && "Sentinel".equals(event.getString("phase"))) {
+                    sentinelSeen.countDown();
+                }
+            });
+            stream.startAsync();
+
+            JitWarmup warmup = new JitWarmup(400);
+            warmup.start(GameEngine::createHeadless);
+            assertTrue(warmup.awaitFinished(30000));
+
+            // Streams deliver in chunks: once an event emitted after the warm-up arrives, all of its did
+            GameEvents.framePhase("Sentinel", 1L);
+            assertTrue(sentinelSeen.await(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals("Simulated frames and particles must not reach a recording", 0, warmupEvents.get());
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                return event;
+            }
+        }
+        fail("No " + name + " event recorded");
+        return null;
+    }
+}
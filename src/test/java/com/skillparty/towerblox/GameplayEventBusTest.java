@@ -0,0 +1,163 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.game.GameplayEventBus;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the gameplay event ring (deferred delivery, back-pressure, async subscribers)
+ */
+public class GameplayEventBusTest {
+
+    private static void publishLanding(GameplayEventBus bus, int floor) {
+        GameplayEventBus.Event event = bus.claim(GameplayEventBus.Type.BLOCK_LANDED);
+        event.floor = floor;
+        bus.publish();
+    }
+
+    @Test
+    public void testFrameSubscribersReceiveEventsOnlyOnDrain() {
+        GameplayEventBus bus = new GameplayEventBus(8);
+        List<Integer> floors = new ArrayList<>();
+        bus.subscribeFrame(event -> floors.add(event.floor));
+
+        publishLanding(bus, 1);
+        publishLanding(bus, 2);
+        GameplayEventBus.Event lost = bus.claim(GameplayEventBus.Type.BLOCK_LOST);
+        lost.lives = 2;
+        bus.publish();
+        assertTrue("Nothing is delivered inside the tick", floors.isEmpty());
+
+        assertEquals(3, bus.drainFrame());
+        assertEquals(Arrays.asList(1, 2, 0), floors);
+        assertEquals(0, bus.drainFrame());
+    }
+
+    @Test
+    public void testSlotsAreReusedWithoutAllocation() {
+        GameplayEventBus bus = new GameplayEventBus(4);
+        bus.subscribeFrame(event -> { });
+
+        GameplayEventBus.Event first = bus.claim(GameplayEventBus.Type.MILESTONE);
+        first.reason = "stale";
+        bus.publish();
+        for (int i = 0; i < 3; i++) {
+            publishLanding(bus, i);
+        }
+        bus.drainFrame();
+
+        // Sequence 4 wraps onto the first slot, cleared for its new type
+        GameplayEventBus.Event wrapped = bus.claim(GameplayEventBus.Type.GAME_OVER);
+        assertSame(first, wrapped);
+        assertNull(wrapped.reason);
+        assertEquals(GameplayEventBus.Type.GAME_OVER, wrapped.type);
+        assertEquals(4, wrapped.sequence);
+    }
+
+    @Test
+    public void testFullRingDropsInsteadOfOverwriting() {
+        GameplayEventBus bus = new GameplayEventBus(4);
+        List<Integer> floors = new ArrayList<>();
+        bus.subscribeFrame(event -> floors.add(event.floor));
+
+        for (int i = 1; i <= 6; i++) {
+            publishLanding(bus, i);
+        }
+        assertEquals(2, bus.getDroppedEvents());
+        assertEquals(4, bus.getPublishedCount());
+
+        bus.drainFrame();
+        assertEquals(Arrays.asList(1, 2, 3, 4), floors);
+
+        // Draining frees the ring again
+        publishLanding(bus, 7);
+        bus.drainFrame();
+        assertEquals(Integer.valueOf(7), floors.get(floors.size() - 1));
+    }
+
+    @Test
+    public void testAsyncSubscriberRunsOnItsOwnThread() throws InterruptedException {
+        GameplayEventBus bus = new GameplayEventBus(64);
+        int events = 200; // More than the ring holds, so the consumer has to keep freeing slots
+        CountDownLatch received = new CountDownLatch(events);
+        AtomicInteger lastFloor = new AtomicInteger();
+        List<String> threads = new ArrayList<>();
+        GameplayEventBus.Subscription subscription = bus.subscribeAsync("TestAudio", event -> {
+            if (threads.isEmpty()) {
+                threads.add(Thread.currentThread().getName());
+            }
+            lastFloor.set(event.floor);
+            received.countDown();
+        });
+
+        for (int i = 1; i <= events; i++) {
+            while (subscription.getLag() >= bus.getCapacity()) {
+                Thread.onSpinWait(); // Keep the test lossless: wait for room before claiming
+            }
+            publishLanding(bus, i);
+        }
+
+        assertTrue(received.await(2, TimeUnit.SECONDS));
+        assertEquals(events, lastFloor.get());
+        assertEquals("TestAudio", threads.get(0));
+        assertEquals(0, bus.getDroppedEvents());
+        assertEquals(0, subscription.getLag());
+        subscription.close();
+    }
+
+    @Test
+    public void testStalledAsyncSubscriberSkipsInsteadOfDroppingFrameEvents() throws InterruptedException {
+        GameplayEventBus bus = new GameplayEventBus(4);
+        List<Integer> frameFloors = new ArrayList<>();
+        bus.subscribeFrame(event -> frameFloors.add(event.floor));
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> asyncFloors = new ArrayList<>();
+        GameplayEventBus.Subscription audio = bus.subscribeAsync("StalledAudio", event -> {
+            synchronized (asyncFloors) {
+                asyncFloors.add(event.floor);
+            }
+            stalled.countDown();
+            try {
+                release.await(); // A blocked sound device
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        publishLanding(bus, 1);
+        assertTrue(stalled.await(2, TimeUnit.SECONDS));
+        for (int i = 2; i <= 12; i++) {
+            publishLanding(bus, i);
+            bus.drainFrame();
+        }
+        assertEquals("The frame subscriber gets every event", 12, frameFloors.size());
+        assertEquals(0, bus.getDroppedEvents());
+
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 2000;
+        while (audio.getLag() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(0, audio.getLag());
+        assertTrue(audio.getSkippedEvents() > 0);
+        synchronized (asyncFloors) {
+            assertEquals(Integer.valueOf(12), asyncFloors.get(asyncFloors.size() - 1));
+            assertEquals(12, asyncFloors.size() + audio.getSkippedEvents());
+        }
+        audio.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacityRejected() {
+        new GameplayEventBus(0);
+    }
+}
@@ -0,0 +1,79 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.ui.components.DigitAtlas;
+import com.skillparty.towerblox.ui.components.FontManager;
+import com.skillparty.towerblox.ui.components.TextLabel;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Unit tests for the cached HUD text: fonts, labels and the digit atlas
+ */
+public class HudTextTest {
+
+    private static boolean hasInk(BufferedImage image, int fromX, int toX) {
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = fromX; x < toX; x++) {
+                if ((image.getRGB(x, y) >>> 24) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void testFontsAndAtlasesAreShared() {
+        FontManager fonts = FontManager.getInstance();
+        Font font = fonts.getFont("SansSerif", Font.BOLD, 12);
+        assertSame(font, fonts.getFont("SansSerif", Font.BOLD, 12));
+        assertEquals(12f, font.getSize2D(), 0.01f);
+        assertTrue(font.isBold());
+        assertSame(fonts.getFont(14f, Font.BOLD), fonts.getFont(14f, Font.BOLD));
+        assertSame(fonts.getDigits(font, Color.WHITE), fonts.getDigits(font, Color.WHITE));
+        assertNotSame(fonts.getDigits(font, Color.WHITE), fonts.getDigits(font, Color.RED));
+    }
+
+    @Test
+    public void testDigitsAdvanceLikeDrawString() {
+        Font font = new Font("SansSerif", Font.BOLD, 16);
+        DigitAtlas digits = new DigitAtlas(font, Color.WHITE);
+        BufferedImage image = new BufferedImage(200, 30, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        FontMetrics metrics = g2d.getFontMetrics(font);
+
+        assertEquals(10 + metrics.stringWidth("12045"), digits.drawInt(g2d, 12045, 10, 20));
+        assertEquals(metrics.stringWidth("12045"), digits.measureInt(12045, 1));
+        assertEquals(metrics.stringWidth("007"), digits.measureInt(7, 3));
+        assertEquals(metrics.stringWidth("-3"), digits.drawInt(g2d, -3, 0, 20));
+        // Rounded like String.format("%.1f") and "%.0f"
+        assertEquals(metrics.stringWidth("2.5"), digits.drawFixed(g2d, 2.46, 1, 0, 20));
+        assertEquals(metrics.stringWidth("100"), digits.drawFixed(g2d, 99.6, 0, 0, 20));
+        assertEquals(0, digits.drawChar(g2d, '#', 0, 20));
+        g2d.dispose();
+    }
+
+    @Test
+    public void testAtlasAndLabelPaint() {
+        Font font = new Font("SansSerif", Font.BOLD, 16);
+        BufferedImage image = new BufferedImage(300, 30, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setColor(Color.WHITE);
+
+        TextLabel label = new TextLabel(font, "Score: ");
+        int x = (int) label.draw(g2d, 0, 20);
+        assertEquals(g2d.getFontMetrics(font).stringWidth("Score: "), label.getAdvance(g2d), 1.0f);
+        int end = new DigitAtlas(font, Color.WHITE).drawInt(g2d, 987, x, 20);
+        g2d.dispose();
+
+        assertTrue(hasInk(image, 0, x));
+        assertTrue(hasInk(image, x, end));
+        assertFalse(hasInk(image, end + 2, image.getWidth()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.ui.components.HudWidget;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Unit tests for the retained-mode HUD widget
+ */
+public class HudWidgetTest {
+    private Color fill = Color.RED;
+    private int paints;
+
+    private HudWidget createWidget() {
+        return new HudWidget(20, 10, (g2d, width, height) -> {
+            paints++;
+            g2d.setColor(fill);
+            g2d.fillRect(0, 0, width, height);
+        });
+    }
+
+    private BufferedImage render(HudWidget widget, double deviceScale) {
+        BufferedImage target = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = target.createGraphics();
+        g2d.scale(deviceScale, deviceScale);
+        widget.render(g2d, 5, 5);
+        g2d.dispose();
+        return target;
+    }
+
+    @Test
+    public void testBlitsCachedImageUntilInvalidated() {
+        HudWidget widget = createWidget();
+        assertEquals(Color.RED.getRGB(), render(widget, 1.0).getRGB(10, 10));
+        assertEquals(0, render(widget, 1.0).getRGB(2, 2));
+
+        // The painter's inputs changed without an invalidation: the cached image is still shown
+        fill = Color.BLUE;
+        assertEquals(Color.RED.getRGB(), render(widget, 1.0).getRGB(10, 10));
+        assertEquals(1, paints);
+
+        widget.invalidate();
+        assertTrue(widget.isDirty());
+        assertEquals(Color.BLUE.getRGB(), render(widget, 1.0).getRGB(10, 10));
+        assertFalse(widget.isDirty());
+        assertEquals(2, widget.getRasterCount());
+    }
+
+    @Test
+    public void testKeyInvalidatesOnlyOnChange() {
+        HudWidget widget = createWidget();
+        widget.invalidateIfChanged(42);
+        render(widget, 1.0);
+        widget.invalidateIfChanged(42);
+        render(widget, 1.0);
+        assertEquals(1, paints);
+
+        widget.invalidateIfChanged(43);
+        render(widget, 1.0);
+        assertEquals(2, paints);
+    }
+
+    @Test
+    public void testRepaintsAtDeviceScale() {
+        HudWidget widget = createWidget();
+        render(widget, 1.0);
+        BufferedImage hidpi = render(widget, 2.0);
+        assertEquals(2, paints);
+        // 20x10 logical pixels at (5, 5) cover (10, 10)-(50, 30) on a 2x device
+        assertEquals(Color.RED.getRGB(), hidpi.getRGB(49, 29));
+        assertEquals(0, hidpi.getRGB(51, 29));
+
+        render(widget, 2.0);
+        assertEquals(2, paints);
+    }
+}
@@ -1,5 +1,7 @@
 package com.skillparty.towerblox;
 
+import com.skillparty.towerblox.audio.SoundCache;
+import com.skillparty.towerblox.audio.SoundManager;
 import com.skillparty.towerblox.game.DifficultyLevel;
 import com.skillparty.towerblox.game.GameEngine;
 import com.skillparty.towerblox.game.GameState;
@@ -7,7 +9,9 @@ import com.skillparty.towerblox.game.physics.Block;
 import com.skillparty.towerblox.score.HighScore;
 import com.skillparty.towerblox.score.ScoreStorage;
 import com.skillparty.towerblox.ui.components.FontManager;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.Before;
 import org.junit.After;
 import static org.junit.Assert.*;
@@ -20,13 +24,19 @@ import java.nio.file.Path;
  * Integration tests for the complete Tower Bloxx game system
  */
 public class IntegrationTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private GameEngine gameEngine;
+    private SoundManager soundManager;
     private ScoreStorage scoreStorage;
     private FontManager fontManager;
 
     @Before
     public void setUp() {
-        gameEngine = new GameEngine();
+        // Sounds are synthesized into a temporary cache, never the player's ~/.towerblox
+        soundManager = new SoundManager(new SoundCache(folder.getRoot().toPath()));
+        gameEngine = new GameEngine(soundManager);
         scoreStorage = new ScoreStorage();
         fontManager = FontManager.getInstance();
     }
@@ -34,7 +44,7 @@ public class IntegrationTest {
     @After
     public void tearDown() {
         if (gameEngine != null) {
-            gameEngine.stopEngine();
+            gameEngine.dispose(); // Also disposes soundManager
         }
     }
 
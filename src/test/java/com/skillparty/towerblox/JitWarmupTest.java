@@ -0,0 +1,85 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.core.GameClock;
+import com.skillparty.towerblox.game.GameEngine;
+import com.skillparty.towerblox.game.GameState;
+import com.skillparty.towerblox.performance.FrameProfiler;
+import com.skillparty.towerblox.performance.JitWarmup;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the background JIT warm-up and the headless engine it drives
+ */
+public class JitWarmupTest {
+
+    @Test
+    public void testWarmupRunsTicksAndOffscreenRenders() throws Exception {
+        JitWarmup warmup = new JitWarmup(400);
+        warmup.start(GameEngine::createHeadless);
+
+        assertTrue(warmup.awaitFinished(30000));
+        assertEquals(400, warmup.getCompletedTicks());
+        assertEquals(100, warmup.getCompletedRenders());
+        assertEquals("The C2 report is opt-in", -1, warmup.report());
+    }
+
+    @Test
+    public void testCompilationReportWhenEnabled() throws Exception {
+        JitWarmup warmup = new JitWarmup(200, true);
+        warmup.start(GameEngine::createHeadless);
+
+        assertTrue(warmup.awaitFinished(30000));
+        assertTrue(warmup.report() >= 0);
+        assertEquals("Reported once", -1, warmup.report());
+    }
+
+    @Test
+    public void testStopBeforeStartSkipsWarmup() throws Exception {
+        JitWarmup warmup = new JitWarmup(400);
+        AtomicInteger enginesCreated = new AtomicInteger();
+        warmup.stop();
+        warmup.start(() -> {
+            enginesCreated.incrementAndGet();
+            return GameEngine.createHeadless();
+        });
+
+        assertTrue(warmup.awaitFinished(1000));
+        assertEquals(0, enginesCreated.get());
+        assertEquals(0, warmup.getCompletedTicks());
+        assertEquals(-1, warmup.report());
+    }
+
+    @Test
+    public void testStopEndsARunningWarmup() throws Exception {
+        JitWarmup warmup = new JitWarmup(Integer.MAX_VALUE);
+        warmup.start(GameEngine::createHeadless);
+        while (warmup.getCompletedTicks() == 0) {
+            Thread.sleep(5);
+        }
+        warmup.stop();
+        int ticksAtStop = warmup.getCompletedTicks();
+        Thread.sleep(50);
+
+        assertEquals("No tick runs once stop() returns", ticksAtStop, warmup.getCompletedTicks());
+        assertTrue(warmup.awaitFinished(10000));
+        assertTrue(warmup.isStopped());
+    }
+
+    @Test
+    public void testHeadlessEngineLeavesSharedStateAlone() {
+        GameClock.getDefault().pause();
+        try {
+            GameEngine engine = GameEngine.createHeadless();
+            assertTrue("A headless engine must not unpause the game clock", GameClock.getDefault().isPaused());
+            assertNotSame(FrameProfiler.getDefault(), engine.getProfiler());
+            assertNull(engine.getMovementRecorder());
+            assertEquals(GameState.MENU, engine.getCurrentState());
+        } finally {
+            GameClock.getDefault().resume();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.core.GameClock;
+import com.skillparty.towerblox.core.InputEventQueue;
+import com.skillparty.towerblox.performance.LatencyHistogram;
+import com.skillparty.towerblox.performance.LatencyTracer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.Before;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Unit tests for input-to-photon latency tracing
+ */
+public class LatencyTracerTest {
+    private GameClock.ManualTimeSource time;
+    private LatencyTracer tracer;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        time = new GameClock.ManualTimeSource();
+        tracer = new LatencyTracer(new GameClock(time));
+    }
+
+    @Test
+    public void testStagesRecordedInOrder() {
+        long id = tracer.begin();
+        time.advanceMillis(3);
+        tracer.mark(id, LatencyTracer.Stage.SIMULATION_CONSUME);
+        time.advanceMillis(1);
+        tracer.markPending(LatencyTracer.Stage.SNAPSHOT_PUBLISH);
+        time.advanceMillis(5);
+        tracer.markPending(LatencyTracer.Stage.PAINT_START);
+        time.advanceMillis(2);
+        tracer.markPending(LatencyTracer.Stage.PRESENT);
+
+        assertFalse(tracer.hasOpenTraces());
+        assertEquals(1, tracer.getCompletedTraces());
+        assertEquals(3.0, tracer.getStageHistogram(LatencyTracer.Stage.SIMULATION_CONSUME).getMeanMillis(), 0.001);
+        assertEquals(5.0, tracer.getStageHistogram(LatencyTracer.Stage.PAINT_START).getMeanMillis(), 0.001);
+        assertEquals(11.0, tracer.getTotalHistogram().getMeanMillis(), 0.001);
+    }
+
+    @Test
+    public void testQueueKeepsTimestampsAndTraceIdsApart() {
+        GameClock clock = new GameClock(time);
+        InputEventQueue queue = new InputEventQueue(clock);
+        time.advanceMillis(10);
+        long pressedAt = clock.nanoTime() - 4_000_000L;
+
+        queue.post(32, pressedAt);
+        queue.postTraced(32, 7L);
+
+        InputEventQueue.InputEvent timed = queue.pollUntil(clock.nanoTime());
+        assertEquals(pressedAt, timed.getTimestampNanos());
+        assertEquals(InputEventQueue.NO_TRACE, timed.getTraceId());
+
+        InputEventQueue.InputEvent traced = queue.pollUntil(clock.nanoTime());
+        assertEquals(clock.nanoTime(), traced.getTimestampNanos());
+        assertEquals(7L, traced.getTraceId());
+    }
+
+    @Test
+    public void testFrameStagesWaitForConsume() {
+        tracer.begin();
+
+        // Frames painted before the simulation consumed the press don't count
+        tracer.markPending(LatencyTracer.Stage.SNAPSHOT_PUBLISH);
+        tracer.markPending(LatencyTracer.Stage.PAINT_START);
+        tracer.markPending(LatencyTracer.Stage.PRESENT);
+
+        assertTrue(tracer.hasOpenTraces());
+        assertEquals(0, tracer.getCompletedTraces());
+    }
+
+    @Test
+    public void testAbandonedTracesTimeOut() {
+        tracer.begin();
+        time.advanceMillis(5000);
+        tracer.markPending(LatencyTracer.Stage.PAINT_START);
+
+        assertFalse(tracer.hasOpenTraces());
+        assertEquals(1, tracer.getAbandonedTraces());
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+
+        assertEquals(100, histogram.getCount());
+        // Log-linear buckets: within ~3% of the exact value
+        assertEquals(50.0, histogram.getPercentileMillis(50), 50.0 * 0.04);
+        assertEquals(99.0, histogram.getPercentileMillis(99), 99.0 * 0.04);
+        assertEquals(100.0, histogram.getMaxMillis(), 0.001);
+
+        histogram.record(10_000_000_000L);
+        assertEquals(10_000.0, histogram.getMaxMillis(), 0.001);
+    }
+
+    @Test
+    public void testHistogramBucketsAreContiguous() {
+        for (int i = 1; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            assertEquals(LatencyHistogram.getBucketUpperNanos(i - 1), LatencyHistogram.getBucketLowerNanos(i));
+        }
+
+        // Sub-millisecond values keep microsecond resolution
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(17_000L);
+        assertEquals(0.017, histogram.getPercentileMillis(100), 0.0001);
+    }
+
+    @Test
+    public void testDumpWritesHistograms() throws Exception {
+        long id = tracer.begin();
+        time.advanceMillis(2);
+        tracer.mark(id, LatencyTracer.Stage.SIMULATION_CONSUME);
+        tracer.markPending(LatencyTracer.Stage.SNAPSHOT_PUBLISH);
+        tracer.markPending(LatencyTracer.Stage.PAINT_START);
+        tracer.markPending(LatencyTracer.Stage.PRESENT);
+
+        Path file = folder.getRoot().toPath().resolve("latency.csv");
+        tracer.dump(file);
+
+        List<String> lines = Files.readAllLines(file);
+        assertTrue(lines.contains("stage,bucket_start_ms,bucket_end_ms,count"));
+        assertTrue(lines.contains("total,1.984,2.016,1"));
+    }
+}
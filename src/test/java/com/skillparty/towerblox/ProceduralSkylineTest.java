@@ -0,0 +1,73 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.ui.components.ProceduralSkyline;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Unit tests for the chunked procedural skyline
+ */
+public class ProceduralSkylineTest {
+    private static final int WIDTH = 1280;
+    private static final int HEIGHT = 720;
+
+    private BufferedImage render(ProceduralSkyline skyline, ProceduralSkyline.Layer layer, double cameraY) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        skyline.render(g2d, layer, cameraY);
+        g2d.dispose();
+        return image;
+    }
+
+    private static boolean sameImage(BufferedImage a, BufferedImage b) {
+        for (int y = 0; y < a.getHeight(); y++) {
+            for (int x = 0; x < a.getWidth(); x++) {
+                if (a.getRGB(x, y) != b.getRGB(x, y)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Test
+    public void testChunksAreSeedDeterministic() {
+        BufferedImage first = render(new ProceduralSkyline(WIDTH, HEIGHT, 42), ProceduralSkyline.Layer.DEEP, 30_000);
+        BufferedImage again = render(new ProceduralSkyline(WIDTH, HEIGHT, 42), ProceduralSkyline.Layer.DEEP, 30_000);
+        BufferedImage otherSeed = render(new ProceduralSkyline(WIDTH, HEIGHT, 7), ProceduralSkyline.Layer.DEEP, 30_000);
+
+        assertTrue(sameImage(first, again));
+        assertFalse(sameImage(first, otherSeed));
+    }
+
+    @Test
+    public void testSkyDoesNotRepeatWithAltitude() {
+        ProceduralSkyline skyline = new ProceduralSkyline(WIDTH, HEIGHT, 42);
+        // One full screen of the deep layer higher up shows different stars
+        double screen = HEIGHT / 0.10;
+        assertFalse(sameImage(render(skyline, ProceduralSkyline.Layer.DEEP, 50_000),
+                render(skyline, ProceduralSkyline.Layer.DEEP, 50_000 + screen)));
+    }
+
+    @Test
+    public void testCacheStaysBoundedWhileClimbing() {
+        ProceduralSkyline skyline = new ProceduralSkyline(WIDTH, HEIGHT, 42);
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        for (double cameraY = 0; cameraY < 200_000; cameraY += 500) {
+            skyline.render(g2d, ProceduralSkyline.Layer.NEAR, cameraY);
+            skyline.render(g2d, ProceduralSkyline.Layer.DEEP, cameraY);
+            assertTrue(skyline.getCachedChunkCount() <= ProceduralSkyline.MAX_CACHED_CHUNKS);
+        }
+        g2d.dispose();
+        assertTrue(skyline.getChunksRasterized() > ProceduralSkyline.MAX_CACHED_CHUNKS);
+
+        // Clouds thin out: up in space the near layer has nothing left to draw
+        assertEquals(ProceduralSkyline.Band.SPACE, ProceduralSkyline.Band.forAltitude(200_000));
+        BufferedImage space = render(skyline, ProceduralSkyline.Layer.NEAR, 200_000);
+        assertEquals(0, space.getRGB(WIDTH / 2, HEIGHT / 2) >>> 24);
+    }
+}
@@ -0,0 +1,110 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.effects.BlockDropAnimation;
+import com.skillparty.towerblox.game.GameEngine;
+import com.skillparty.towerblox.performance.FrameProfiler;
+import com.skillparty.towerblox.performance.QualityGovernor;
+import com.skillparty.towerblox.rendering.RenderingEngine.RenderQuality;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the adaptive quality governor
+ */
+public class QualityGovernorTest {
+    private static final double BUDGET = 16.7;
+
+    private QualityGovernor governor;
+
+    @Before
+    public void setUp() {
+        governor = new QualityGovernor();
+    }
+
+    @Test
+    public void testDowngradesAfterSustainedOverBudget() {
+        assertEquals(RenderQuality.HIGH, governor.evaluate(20.0, BUDGET, RenderQuality.HIGH));
+        assertEquals(RenderQuality.MEDIUM, governor.evaluate(20.0, BUDGET, RenderQuality.HIGH));
+
+        // Cooldown: no further change right after a step, however slow
+        for (int i = 0; i < QualityGovernor.COOLDOWN_WINDOWS; i++) {
+            assertEquals(RenderQuality.MEDIUM, governor.evaluate(40.0, BUDGET, RenderQuality.MEDIUM));
+        }
+        governor.evaluate(40.0, BUDGET, RenderQuality.MEDIUM);
+        assertEquals(RenderQuality.LOW, governor.evaluate(40.0, BUDGET, RenderQuality.MEDIUM));
+
+        // Never below the floor
+        governor.reset();
+        governor.evaluate(40.0, BUDGET, RenderQuality.LOW);
+        assertEquals(RenderQuality.LOW, governor.evaluate(40.0, BUDGET, RenderQuality.LOW));
+    }
+
+    @Test
+    public void testHysteresisBandHoldsLevel() {
+        // Between 55% and 90% of the budget nothing changes, and the streaks restart
+        for (int i = 0; i < 20; i++) {
+            assertEquals(RenderQuality.MEDIUM, governor.evaluate(12.0, BUDGET, RenderQuality.MEDIUM));
+        }
+        governor.evaluate(20.0, BUDGET, RenderQuality.MEDIUM);
+        governor.evaluate(12.0, BUDGET, RenderQuality.MEDIUM);
+        assertEquals(RenderQuality.MEDIUM, governor.evaluate(20.0, BUDGET, RenderQuality.MEDIUM));
+    }
+
+    @Test
+    public void testUpgradesSlowlyUpToCeiling() {
+        for (int i = 1; i < QualityGovernor.UPGRADE_WINDOWS; i++) {
+            assertEquals(RenderQuality.LOW, governor.evaluate(4.0, BUDGET, RenderQuality.LOW));
+        }
+        assertEquals(RenderQuality.MEDIUM, governor.evaluate(4.0, BUDGET, RenderQuality.LOW));
+
+        governor.reset();
+        for (int i = 0; i < 20; i++) {
+            assertEquals(RenderQuality.HIGH, governor.evaluate(4.0, BUDGET, RenderQuality.HIGH));
+        }
+
+        governor.setEnabled(false);
+        governor.evaluate(40.0, BUDGET, RenderQuality.HIGH);
+        assertEquals(RenderQuality.HIGH, governor.evaluate(40.0, BUDGET, RenderQuality.HIGH));
+    }
+
+    @Test
+    public void testSnapshotNeedsEnoughFrames() {
+        FrameProfiler profiler = new FrameProfiler();
+        for (int i = 0; i < 5; i++) {
+            profiler.record(FrameProfiler.Phase.PAINT, 30_000_000L);
+        }
+        FrameProfiler.Snapshot window = profiler.snapshot();
+        assertEquals(RenderQuality.HIGH, governor.evaluate(window, BUDGET, RenderQuality.HIGH));
+        assertEquals(RenderQuality.HIGH, governor.evaluate(window, BUDGET, RenderQuality.HIGH));
+
+        for (int i = 0; i < 20; i++) {
+            profiler.record(FrameProfiler.Phase.PAINT, 30_000_000L);
+        }
+        window = profiler.snapshot();
+        assertEquals(30.0, QualityGovernor.estimateFrameCostMillis(window), 30.0 * 0.04);
+        governor.evaluate(window, BUDGET, RenderQuality.HIGH);
+        assertEquals(RenderQuality.MEDIUM, governor.evaluate(window, BUDGET, RenderQuality.HIGH));
+    }
+
+    @Test
+    public void testEngineAppliesQualityBetweenFrames() {
+        GameEngine engine = new GameEngine(null);
+        try {
+            engine.setRenderQuality(RenderQuality.LOW);
+            // Nothing changes until the next frame begins
+            assertEquals(RenderQuality.HIGH.particleCap,
+                    engine.getAdvancedFeatures().getParticleSystem().getMaxParticles());
+
+            assertEquals(RenderQuality.LOW, engine.beginFrameQuality());
+            assertFalse(BlockDropAnimation.isShadowEffectsEnabled());
+            assertEquals(RenderQuality.LOW.particleCap,
+                    engine.getAdvancedFeatures().getParticleSystem().getMaxParticles());
+        } finally {
+            engine.setRenderQuality(RenderQuality.HIGH);
+            engine.beginFrameQuality();
+            engine.dispose();
+        }
+        assertTrue(BlockDropAnimation.isShadowEffectsEnabled());
+    }
+}
@@ -0,0 +1,82 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.audio.SoundCache;
+import com.skillparty.towerblox.audio.SoundManager;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the on-disk PCM cache and background sound loading
+ */
+public class SoundCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testStoreAndLoadRoundTrip() throws Exception {
+        SoundCache cache = new SoundCache(folder.getRoot().toPath().resolve("cache"));
+        short[] pcm = {0, 1, -1, Short.MAX_VALUE, Short.MIN_VALUE, 12345};
+        String key = SoundCache.key(1, 44100, 400, 150);
+
+        assertNull(cache.load(key));
+        assertTrue(cache.store(key, pcm));
+        assertArrayEquals(pcm, cache.load(key));
+    }
+
+    @Test
+    public void testKeyDependsOnEveryParameter() {
+        String key = SoundCache.key(1, 44100, 400, 150);
+        assertEquals(key, SoundCache.key(1, 44100, 400, 150));
+        assertNotEquals(key, SoundCache.key(2, 44100, 400, 150));
+        assertNotEquals(key, SoundCache.key(1, 48000, 400, 150));
+        assertNotEquals(key, SoundCache.key(1, 44100, 400, 151));
+        assertEquals(32, key.length());
+    }
+
+    @Test
+    public void testTruncatedFileIsAMiss() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        SoundCache cache = new SoundCache(directory);
+        String key = SoundCache.key("broken");
+        Files.write(directory.resolve(key + ".pcm"), new byte[] {1, 2, 3});
+
+        assertNull(cache.load(key));
+    }
+
+    @Test
+    public void testSoundManagerFillsCacheInBackground() throws Exception {
+        File directory = folder.newFolder("sounds");
+        SoundManager first = new SoundManager(new SoundCache(directory.toPath()));
+        assertTrue(first.awaitLoaded(5000));
+        first.dispose();
+
+        String[] files = directory.list((dir, name) -> name.endsWith(".pcm"));
+        assertNotNull(files);
+        assertEquals(SoundManager.SoundType.values().length, files.length);
+
+        // A second launch reads the same files instead of synthesizing
+        long modified = new File(directory, files[0]).lastModified();
+        SoundManager second = new SoundManager(new SoundCache(directory.toPath()));
+        assertTrue(second.awaitLoaded(5000));
+        second.dispose();
+        assertEquals(modified, new File(directory, files[0]).lastModified());
+    }
+
+    @Test
+    public void testDisposeWhileLoadingNeverOpensTheLine() throws Exception {
+        SoundManager manager = new SoundManager(new SoundCache(folder.newFolder("early").toPath()));
+        manager.dispose();
+        assertTrue(manager.awaitLoaded(5000));
+
+        assertFalse("A disposed manager must not start the mixer", manager.getMixer().isRunning());
+        assertFalse(manager.isSoundEnabled());
+    }
+}
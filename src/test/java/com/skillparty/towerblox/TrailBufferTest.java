@@ -0,0 +1,56 @@
+package com.skillparty.towerblox;
+
+import com.skillparty.towerblox.effects.TrailBuffer;
+import org.junit.Test;
+import org.junit.Before;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the ring-buffer trail used by falling blocks
+ */
+public class TrailBufferTest {
+    private TrailBuffer trail;
+    private static final double DELTA = 0.001;
+
+    @Before
+    public void setUp() {
+        trail = new TrailBuffer(4);
+    }
+
+    @Test
+    public void testAddKeepsOldestFirst() {
+        trail.add(1, 10, 100);
+        trail.add(2, 20, 200);
+
+        assertEquals(2, trail.size());
+        assertEquals(1.0, trail.getX(0), DELTA);
+        assertEquals(20.0, trail.getY(1), DELTA);
+        assertEquals(200, trail.getTime(1));
+    }
+
+    @Test
+    public void testFullBufferOverwritesOldest() {
+        for (int i = 0; i < 6; i++) {
+            trail.add(i, i, i * 10L);
+        }
+
+        assertEquals(4, trail.size());
+        assertEquals(2.0, trail.getX(0), DELTA);
+        assertEquals(5.0, trail.getX(3), DELTA);
+    }
+
+    @Test
+    public void testExpireDropsOldSamples() {
+        trail.add(0, 0, 0);
+        trail.add(1, 1, 300);
+        trail.add(2, 2, 600);
+
+        trail.expire(700, 500);
+
+        assertEquals(2, trail.size());
+        assertEquals(1.0, trail.getX(0), DELTA);
+
+        trail.expire(2000, 500);
+        assertTrue(trail.isEmpty());
+    }
+}